@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.civil.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDetailsBuilder;
+
+import java.time.LocalDateTime;
+
+import static uk.gov.hmcts.reform.civil.enums.CaseState.AWAITING_APPLICATION_PAYMENT;
+
+/**
+ * Realistic GA payloads for the benchmarks, built with the sampledata builders of the unit tests.
+ * Benchmarks take the payload name as a {@code @Param} so results can be compared per payload.
+ */
+public final class GaPayloads {
+
+    public static final String DRAFT = "draft";
+    public static final String WITH_NOTICE = "withNotice";
+    public static final String JUDGE_FINAL_ORDER = "judgeFinalOrder";
+    public static final String WRITTEN_REPRESENTATIONS = "writtenRepresentations";
+
+    private GaPayloads() {
+    }
+
+    /**
+     * Object mapper configured the way Spring Boot configures the application's mapper.
+     */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    public static CaseData caseData(String payload) {
+        return switch (payload) {
+            case WITH_NOTICE -> CaseDataBuilder.builder().withNoticeCaseData();
+            case JUDGE_FINAL_ORDER -> CaseDataBuilder.builder().judgeFinalOrderApplication().build();
+            case WRITTEN_REPRESENTATIONS -> CaseDataBuilder.builder().writtenRepresentationSequentialApplication().build();
+            case DRAFT -> CaseDataBuilder.builder().build();
+            default -> throw new IllegalArgumentException("Unknown payload " + payload);
+        };
+    }
+
+    public static CaseDetails caseDetails(String payload) {
+        return CaseDetailsBuilder.builder()
+            .data(caseData(payload))
+            .id(1234L)
+            .state(AWAITING_APPLICATION_PAYMENT)
+            .createdDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+            .build();
+    }
+}
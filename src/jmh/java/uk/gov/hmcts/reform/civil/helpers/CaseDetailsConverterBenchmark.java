@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.civil.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.benchmark.GaPayloads;
+import uk.gov.hmcts.reform.civil.enums.CaseState;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a GA callback payload into case data: the previous {@code convertValue} path,
+ * the token buffer path and a callback request converting the same payload three times.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CaseDetailsConverterBenchmark {
+
+    @Param({GaPayloads.DRAFT, GaPayloads.WITH_NOTICE, GaPayloads.JUDGE_FINAL_ORDER})
+    private String payload;
+
+    private ObjectMapper objectMapper;
+    private CaseDetailsConverter caseDetailsConverter;
+    private CaseDetails caseDetails;
+
+    @Setup
+    public void setUp() {
+        objectMapper = GaPayloads.objectMapper();
+        caseDetailsConverter = new CaseDetailsConverter(objectMapper);
+        caseDetails = GaPayloads.caseDetails(payload);
+    }
+
+    @Benchmark
+    public CaseData convertValue() {
+        Map<String, Object> data = new HashMap<>(caseDetails.getData());
+        data.put("ccdCaseReference", caseDetails.getId());
+        data.put("ccdState", CaseState.valueOf(caseDetails.getState()));
+        data.put("createdDate", caseDetails.getCreatedDate());
+        return objectMapper.convertValue(data, CaseData.class);
+    }
+
+    @Benchmark
+    public CaseData tokenBuffer() {
+        return caseDetailsConverter.convert(caseDetails);
+    }
+
+    @Benchmark
+    public void callbackRequest(Blackhole blackhole) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            for (int conversion = 0; conversion < 3; conversion++) {
+                blackhole.consume(caseDetailsConverter.toCaseData(caseDetails));
+            }
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
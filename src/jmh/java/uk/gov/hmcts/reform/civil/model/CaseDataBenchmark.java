@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.civil.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.civil.benchmark.GaPayloads;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialising case data back into the map submitted to CCD.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CaseDataBenchmark {
+
+    @Param({GaPayloads.DRAFT, GaPayloads.WITH_NOTICE, GaPayloads.JUDGE_FINAL_ORDER})
+    private String payload;
+
+    private ObjectMapper objectMapper;
+    private CaseData caseData;
+
+    @Setup
+    public void setUp() {
+        objectMapper = GaPayloads.objectMapper();
+        caseData = GaPayloads.caseData(payload);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return caseData.toMap(objectMapper);
+    }
+}
@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.civil.service.bankholidays.PublicHolidaysCollection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Response deadlines over the usual GA notice periods, across the Christmas bank holidays.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeadlinesCalculatorBenchmark {
+
+    @Param({"5", "14", "28"})
+    private int daysToAdd;
+
+    private DeadlinesCalculator deadlinesCalculator;
+    private LocalDateTime responseDate;
+
+    @Setup
+    public void setUp() {
+        PublicHolidaysCollection publicHolidaysCollection = mock(PublicHolidaysCollection.class);
+        when(publicHolidaysCollection.getPublicHolidays()).thenReturn(Set.of(
+            LocalDate.of(2024, 12, 25),
+            LocalDate.of(2024, 12, 26),
+            LocalDate.of(2025, 1, 1)
+        ));
+        deadlinesCalculator = new DeadlinesCalculator(new WorkingDayIndicator(publicHolidaysCollection));
+        responseDate = LocalDateTime.of(2024, 12, 20, 16, 30);
+    }
+
+    @Benchmark
+    public LocalDateTime calculateApplicantResponseDeadline() {
+        return deadlinesCalculator.calculateApplicantResponseDeadline(responseDate, daysToAdd);
+    }
+}
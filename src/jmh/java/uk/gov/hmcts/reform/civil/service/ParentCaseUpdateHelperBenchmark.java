@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.civil.benchmark.GaPayloads;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.common.Element;
+import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDocumentBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+import static uk.gov.hmcts.reform.civil.utils.ElementUtils.element;
+
+/**
+ * Copying GA order documents onto the civil case, where the civil case already holds the documents
+ * of earlier updates. This is the steady state of every parent case update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParentCaseUpdateHelperBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int documents;
+
+    private ParentCaseUpdateHelper parentCaseUpdateHelper;
+    private CaseData civilCaseData;
+    private CaseData generalAppCaseData;
+
+    @Setup
+    public void setUp() {
+        parentCaseUpdateHelper = new ParentCaseUpdateHelper(
+            new CaseDetailsConverter(GaPayloads.objectMapper()),
+            mock(CoreCaseDataService.class),
+            mock(FeatureToggleService.class)
+        );
+        List<Element<CaseDocument>> gaDocuments = IntStream.range(0, documents)
+            .mapToObj(index -> element(CaseDocumentBuilder.builder().documentName("order-" + index + ".pdf").build()))
+            .toList();
+        generalAppCaseData = CaseData.builder().directionOrderDocument(new ArrayList<>(gaDocuments)).build();
+        civilCaseData = CaseData.builder().directionOrderDocStaff(new ArrayList<>(gaDocuments)).build();
+    }
+
+    @Benchmark
+    public Map<String, Object> updateCaseDocumentByType() throws Exception {
+        Map<String, Object> updateMap = new HashMap<>();
+        parentCaseUpdateHelper.updateCaseDocumentByType(updateMap, "directionOrder", "Staff", civilCaseData, generalAppCaseData);
+        return updateMap;
+    }
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.civil.service.flowstate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.benchmark.GaPayloads;
+import uk.gov.hmcts.reform.civil.config.FlowStateCacheConfiguration;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static uk.gov.hmcts.reform.civil.callback.CaseEvent.INITIATE_GENERAL_APPLICATION;
+
+/**
+ * The check made for every callback: convert the payload, evaluate the flow and look up the event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlowStateAllowedEventServiceBenchmark {
+
+    @Param({GaPayloads.DRAFT, GaPayloads.WITH_NOTICE, GaPayloads.JUDGE_FINAL_ORDER})
+    private String payload;
+
+    private FlowStateAllowedEventService flowStateAllowedEventService;
+    private CaseDetails caseDetails;
+    private CaseDetails storedCaseDetails;
+
+    @Setup
+    public void setUp() {
+        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(GaPayloads.objectMapper());
+        StateFlowEngine stateFlowEngine = new StateFlowEngine(caseDetailsConverter, mock(FeatureToggleService.class));
+        flowStateAllowedEventService = new FlowStateAllowedEventService(
+            stateFlowEngine, caseDetailsConverter, new FlowStateCacheConfiguration(Duration.ofMinutes(5), 100));
+        caseDetails = GaPayloads.caseDetails(payload);
+        storedCaseDetails = GaPayloads.caseDetails(payload);
+        storedCaseDetails.setId(1L);
+        storedCaseDetails.setVersion(1);
+    }
+
+    @Benchmark
+    public boolean isAllowed() {
+        return flowStateAllowedEventService.isAllowed(caseDetails, INITIATE_GENERAL_APPLICATION);
+    }
+
+    /**
+     * Callbacks after the first for the same version of a stored case.
+     */
+    @Benchmark
+    public boolean isAllowedOnUnchangedVersion() {
+        return flowStateAllowedEventService.isAllowed(storedCaseDetails, INITIATE_GENERAL_APPLICATION);
+    }
+}
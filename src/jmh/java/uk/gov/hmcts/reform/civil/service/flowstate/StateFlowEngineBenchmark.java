@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.civil.service.flowstate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.civil.benchmark.GaPayloads;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Evaluation of the GA flow against case data that is already converted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StateFlowEngineBenchmark {
+
+    @Param({GaPayloads.DRAFT, GaPayloads.WITH_NOTICE, GaPayloads.JUDGE_FINAL_ORDER})
+    private String payload;
+
+    private StateFlowEngine stateFlowEngine;
+    private CaseData caseData;
+
+    @Setup
+    public void setUp() {
+        stateFlowEngine = new StateFlowEngine(
+            new CaseDetailsConverter(GaPayloads.objectMapper()),
+            mock(FeatureToggleService.class)
+        );
+        caseData = GaPayloads.caseData(payload);
+    }
+
+    @Benchmark
+    public StateFlow evaluate() {
+        return stateFlowEngine.evaluate(caseData);
+    }
+}
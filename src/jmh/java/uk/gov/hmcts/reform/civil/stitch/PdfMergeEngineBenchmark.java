@@ -0,0 +1,162 @@
+package uk.gov.hmcts.reform.civil.stitch;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.graphics.image.JPEGFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.civil.config.PdfMergeConfiguration;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges a bundle of three scanned-looking documents of 1 to 200 pages each, with PDFBox held to
+ * main memory and with a 1MB budget spilling to temporary files. Besides the time per merge, each
+ * iteration reports the heap high-water mark: {@code heapPeakBytes} sums the peak of every heap
+ * pool, and {@code retainedPeakBytes} leaves out the young generation so it tracks what the merge
+ * keeps alive.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class PdfMergeEngineBenchmark {
+
+    private static final int DOCUMENTS = 3;
+
+    @Param({"1", "10", "50", "200"})
+    private int pages;
+
+    @Param({"MAIN_MEMORY", "BUDGETED"})
+    private String memory;
+
+    private Path tempDir;
+    private PdfMergeEngine engine;
+    private final List<SpooledDocument> documents = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("pdf-merge-benchmark-");
+        boolean budgeted = "BUDGETED".equals(memory);
+        engine = budgeted
+            ? new PdfMergeEngine(new PdfMergeConfiguration(DataSize.ofMegabytes(1), tempDir.toString()))
+            : new PdfMergeEngine(MemoryUsageSetting.setupMainMemoryOnly());
+        Random random = new Random(42);
+        for (int i = 0; i < DOCUMENTS; i++) {
+            byte[] pdf = scannedDocument(pages, random);
+            documents.add(budgeted
+                              ? SpooledDocument.spool(new ByteArrayInputStream(pdf), DataSize.ofMegabytes(1).toBytes(), tempDir)
+                              : SpooledDocument.of(pdf));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        documents.forEach(SpooledDocument::close);
+        documents.clear();
+        FileSystemUtils.deleteRecursively(tempDir);
+    }
+
+    @Benchmark
+    public int merge(HeapHighWater heap) {
+        try (PdfMerge merge = engine.start("benchmark")) {
+            documents.forEach(merge::append);
+            merge.writeTo(OutputStream.nullOutputStream());
+            heap.sample();
+            return merge.documents();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapHighWater {
+
+        public long heapPeakBytes;
+        public long retainedPeakBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            heapPeakBytes = 0L;
+            retainedPeakBytes = 0L;
+            ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        void sample() {
+            long heap = 0L;
+            long retained = 0L;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() != MemoryType.HEAP) {
+                    continue;
+                }
+                long peak = pool.getPeakUsage().getUsed();
+                heap += peak;
+                if (!pool.getName().contains("Eden") && !pool.getName().contains("Survivor")) {
+                    retained += peak;
+                }
+            }
+            heapPeakBytes = Math.max(heapPeakBytes, heap);
+            retainedPeakBytes = Math.max(retainedPeakBytes, retained);
+        }
+    }
+
+    private static byte[] scannedDocument(int pages, Random random) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            for (int i = 0; i < pages; i++) {
+                PDPage page = new PDPage(PDRectangle.A4);
+                document.addPage(page);
+                PDImageXObject scan = JPEGFactory.createFromImage(document, noise(random), 0.75f);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.drawImage(scan, 0, 0, PDRectangle.A4.getWidth(), PDRectangle.A4.getHeight());
+                }
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            document.save(output);
+            return output.toByteArray();
+        }
+    }
+
+    private static BufferedImage noise(Random random) {
+        BufferedImage image = new BufferedImage(420, 595, BufferedImage.TYPE_BYTE_GRAY);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int grey = 200 + random.nextInt(56);
+                image.setRGB(x, y, grey << 16 | grey << 8 | grey);
+            }
+        }
+        return image;
+    }
+}
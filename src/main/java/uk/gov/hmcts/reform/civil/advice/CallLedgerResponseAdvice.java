@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.civil.advice;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import uk.gov.hmcts.reform.civil.config.CallLedgerConfiguration;
+import uk.gov.hmcts.reform.civil.service.calls.CallLedger;
+
+/**
+ * Adds the summary of the {@link CallLedger} to slow responses, before their body is written.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class CallLedgerResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String DOWNSTREAM_CALLS_HEADER = "X-Downstream-Calls";
+
+    private final CallLedgerConfiguration configuration;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        CallLedger.current()
+            .filter(ledger -> ledger.elapsed().compareTo(configuration.getSlowThreshold()) >= 0)
+            .ifPresent(ledger -> response.getHeaders().add(DOWNSTREAM_CALLS_HEADER, ledger.summary()));
+        return body;
+    }
+}
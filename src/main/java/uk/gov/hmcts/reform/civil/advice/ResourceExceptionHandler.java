@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import uk.gov.hmcts.reform.civil.callback.CallbackException;
+import uk.gov.hmcts.reform.civil.exceptions.DownstreamDeadlineExceededException;
 
 @Slf4j
 @ControllerAdvice
@@ -17,4 +18,10 @@ public class ResourceExceptionHandler {
         log.debug(exception.getMessage(), exception);
         return new ResponseEntity<>(exception.getMessage(), new HttpHeaders(), HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(value = DownstreamDeadlineExceededException.class)
+    public ResponseEntity<Object> deadlineExceeded(Exception exception) {
+        log.error(exception.getMessage());
+        return new ResponseEntity<>(exception.getMessage(), new HttpHeaders(), HttpStatus.GATEWAY_TIMEOUT);
+    }
 }
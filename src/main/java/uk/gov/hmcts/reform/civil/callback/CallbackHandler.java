@@ -61,18 +61,22 @@ public abstract class CallbackHandler {
             handledEvent -> handlers.put(handledEvent.name(), this));
     }
 
+    /**
+     * Runs the callback for the version, type and page of the request, or the default callback when
+     * the version has none. Callbacks dispatched by {@link CallbackHandlerFactory} are looked up in
+     * its route table instead, without calling this method.
+     */
     public CallbackResponse handle(CallbackParams callbackParams) {
-        String callbackKey;
-
-        callbackKey = callbackKey(callbackParams.getVersion(), callbackParams.getType(), callbackParams.getPageId());
+        Map<String, Callback> callbacks = callbacks();
+        String callbackKey = callbackKey(callbackParams.getVersion(), callbackParams.getType(), callbackParams.getPageId());
 
-        if (ofNullable(callbacks().get(callbackKey)).isEmpty()) {
+        if (!callbacks.containsKey(callbackKey)) {
             String logInfo = String.format("No implementation found for %s, falling back to default", callbackKey);
             LOG.info(logInfo);
             callbackKey = callbackKey(callbackParams.getType(), callbackParams.getPageId());
         }
 
-        return Optional.ofNullable(callbacks().get(callbackKey))
+        return Optional.ofNullable(callbacks.get(callbackKey))
             .map(callback -> callback.execute(callbackParams))
             .orElseThrow(() -> new CallbackException(
                 String.format(
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.civil.callback;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -10,24 +12,92 @@ import uk.gov.hmcts.reform.civil.aspect.EventEmitter;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import static java.util.Optional.ofNullable;
 
+/**
+ * Sends each CCD callback to the handler of its event. The callbacks of every handler are read once
+ * at startup into a route table keyed by event, version, type and page id, in which a version the
+ * handler does not implement already points at its default callback. Handlers must therefore
+ * return the same callbacks every time; a callback that depends on a feature toggle checks the
+ * toggle when it runs.
+ */
 @Service
 @Slf4j
 public class CallbackHandlerFactory {
 
-    private final HashMap<String, CallbackHandler> eventHandlers = new HashMap<>();
+    static final String HANDLER_METRIC = "ga.callback.handler";
+    private static final List<CallbackType> EXPECTED_TYPES = List.of(
+        CallbackType.ABOUT_TO_START, CallbackType.ABOUT_TO_SUBMIT, CallbackType.SUBMITTED);
+
+    private final Map<String, CallbackHandler> eventHandlers;
+    private final Map<CallbackRoute, Callback> routes;
     private final CaseDetailsConverter caseDetailsConverter;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public CallbackHandlerFactory(CaseDetailsConverter caseDetailsConverter, CallbackHandler... beans) {
+    public CallbackHandlerFactory(CaseDetailsConverter caseDetailsConverter, MeterRegistry meterRegistry, CallbackHandler... beans) {
         this.caseDetailsConverter = caseDetailsConverter;
-        Arrays.asList(beans).forEach(bean -> bean.register(eventHandlers));
+        this.meterRegistry = meterRegistry;
+        HashMap<String, CallbackHandler> handlers = new HashMap<>();
+        Arrays.asList(beans).forEach(bean -> {
+            bean.handledEvents().stream()
+                .filter(event -> handlers.containsKey(event.name()) && handlers.get(event.name()) != bean)
+                .forEach(event -> log.warn("Event {} is handled by both {} and {}, the latter is used", event,
+                                           handlers.get(event.name()).getClass().getName(), bean.getClass().getName()));
+            bean.register(handlers);
+        });
+        this.eventHandlers = Map.copyOf(handlers);
+        this.routes = Map.copyOf(routeTable(eventHandlers));
+    }
+
+    private static Map<CallbackRoute, Callback> routeTable(Map<String, CallbackHandler> eventHandlers) {
+        Map<CallbackRoute, Callback> routes = new HashMap<>();
+        Map<CallbackHandler, Map<String, Callback>> callbacksByHandler = new IdentityHashMap<>();
+        Map<String, List<String>> unmapped = new TreeMap<>();
+        eventHandlers.forEach((eventId, handler) -> {
+            Map<String, Callback> callbacks = callbacksByHandler.computeIfAbsent(
+                handler, h -> Optional.ofNullable(h.callbacks()).orElse(Map.of()));
+            if (callbacks.isEmpty()) {
+                log.warn("{} maps no callbacks for event {}", handler.getClass().getName(), eventId);
+            }
+            List<CallbackRoute> defaults = new ArrayList<>();
+            callbacks.forEach((callbackKey, callback) -> {
+                Optional<CallbackRoute> route = CallbackRoute.fromCallbackKey(eventId, callbackKey);
+                if (route.isEmpty()) {
+                    log.warn("Callback key '{}' of {} is not a callback route and is ignored",
+                             callbackKey, handler.getClass().getName());
+                    return;
+                }
+                routes.put(route.get(), callback);
+                if (route.get().version() == null) {
+                    defaults.add(route.get());
+                }
+            });
+            defaults.forEach(route -> Arrays.stream(CallbackVersion.values())
+                .forEach(version -> routes.putIfAbsent(route.withVersion(version), routes.get(route))));
+            List<String> missing = EXPECTED_TYPES.stream()
+                .filter(type -> routes.keySet().stream().noneMatch(
+                    route -> route.eventId().equals(eventId) && route.type() == type))
+                .map(CallbackType::getValue)
+                .toList();
+            if (!missing.isEmpty()) {
+                unmapped.put(eventId, missing);
+            }
+        });
+        log.info("Callback route table holds {} routes for {} events", routes.size(), eventHandlers.size());
+        if (!unmapped.isEmpty()) {
+            log.info("Callbacks without a route, answered with an error if CCD calls them: {}", unmapped);
+        }
+        return routes;
     }
 
     @EventAllowed
@@ -46,7 +116,35 @@ public class CallbackHandlerFactory {
             .map(businessProcess -> handler.isEventAlreadyProcessed(businessProcess))
             .filter(isProcessed -> isProcessed)
             .map(isProcessed -> eventAlreadyProcessedResponse(eventId))
-            .orElse(handler.handle(callbackParams));
+            .orElse(timedHandle(callbackParams, eventId));
+    }
+
+    private CallbackResponse timedHandle(CallbackParams callbackParams, String eventId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Callback callback = routes.get(CallbackRoute.of(callbackParams));
+            if (callback == null) {
+                throw new CallbackException(String.format(
+                    "Callback for event %s, version %s, type %s and page id %s not implemented",
+                    eventId,
+                    callbackParams.getVersion(),
+                    callbackParams.getType(),
+                    callbackParams.getPageId()
+                ));
+            }
+            CallbackResponse response = callback.execute(callbackParams);
+            outcome = "success";
+            return response;
+        } finally {
+            sample.stop(Timer.builder(HANDLER_METRIC)
+                            .description("Time spent handling a CCD callback")
+                            .tag("event", eventId)
+                            .tag("type", callbackParams.getType() == null ? "none" : callbackParams.getType().getValue())
+                            .tag("page", callbackParams.getPageId() == null ? "none" : callbackParams.getPageId())
+                            .tag("outcome", outcome)
+                            .register(meterRegistry));
+        }
     }
 
     private CallbackResponse eventAlreadyProcessedResponse(String eventId) {
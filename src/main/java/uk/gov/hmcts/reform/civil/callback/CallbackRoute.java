@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.civil.callback;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Where a callback is sent: the event, the callback version, the callback type and the page of a
+ * mid event callback. Version and page id are null when the callback does not name them.
+ */
+record CallbackRoute(String eventId, CallbackVersion version, CallbackType type, String pageId) {
+
+    private static final List<CallbackType> TYPES_LONGEST_FIRST = Arrays.stream(CallbackType.values())
+        .sorted(Comparator.comparingInt((CallbackType type) -> type.getValue().length()).reversed())
+        .toList();
+
+    static CallbackRoute of(CallbackParams callbackParams) {
+        return new CallbackRoute(
+            callbackParams.getRequest().getEventId(),
+            callbackParams.getVersion(),
+            callbackParams.getType(),
+            callbackParams.getPageId()
+        );
+    }
+
+    CallbackRoute withVersion(CallbackVersion version) {
+        return new CallbackRoute(eventId, version, type, pageId);
+    }
+
+    /**
+     * Reads a key made by {@link CallbackHandler#callbackKey(CallbackVersion, CallbackType, String)}
+     * back into the route it stands for.
+     */
+    static Optional<CallbackRoute> fromCallbackKey(String eventId, String callbackKey) {
+        CallbackVersion version = null;
+        String rest = callbackKey;
+        for (CallbackVersion candidate : CallbackVersion.values()) {
+            if (callbackKey.startsWith(candidate + "-")) {
+                version = candidate;
+                rest = callbackKey.substring(candidate.toString().length() + 1);
+                break;
+            }
+        }
+        for (CallbackType type : TYPES_LONGEST_FIRST) {
+            if (rest.equals(type.getValue())) {
+                return Optional.of(new CallbackRoute(eventId, version, type, null));
+            }
+            if (rest.startsWith(type.getValue() + "-")) {
+                return Optional.of(new CallbackRoute(eventId, version, type, rest.substring(type.getValue().length() + 1)));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -25,9 +25,13 @@ public abstract class DashboardCallbackHandler extends CallbackHandler {
 
     @Override
     protected Map<String, Callback> callbacks() {
+        return Map.of(callbackKey(ABOUT_TO_SUBMIT), this::configureDashboardScenarioWhenEnabled);
+    }
+
+    private CallbackResponse configureDashboardScenarioWhenEnabled(CallbackParams callbackParams) {
         return featureToggleService.isGaForLipsEnabled()
-            ? Map.of(callbackKey(ABOUT_TO_SUBMIT), this::configureDashboardScenario)
-            : Map.of(callbackKey(ABOUT_TO_SUBMIT), this::emptyCallbackResponse);
+            ? configureDashboardScenario(callbackParams)
+            : emptyCallbackResponse(callbackParams);
     }
 
     protected abstract String getScenario(CaseData caseData);
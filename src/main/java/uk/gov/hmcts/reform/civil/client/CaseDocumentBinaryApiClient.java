@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.civil.client;
+
+import feign.Response;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cloud.openfeign.FeignClientProperties;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.UUID;
+
+/**
+ * Downloads document binaries from CCD case document AM as an unbuffered response, so the body
+ * can be streamed instead of being read into memory by the decoder.
+ */
+@FeignClient(name = "case-document-binary", url = "${case_document_am.url}", configuration =
+    FeignClientProperties.FeignClientConfiguration.class)
+public interface CaseDocumentBinaryApiClient {
+
+    @GetMapping("/cases/documents/{documentId}/binary")
+    Response getDocumentBinary(
+        @RequestHeader("Authorization") String authorisation,
+        @RequestHeader("ServiceAuthorization") String serviceAuthorization,
+        @PathVariable("documentId") UUID documentId
+    );
+}
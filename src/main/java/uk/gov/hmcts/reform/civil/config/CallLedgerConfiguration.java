@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+public class CallLedgerConfiguration {
+
+    private final Duration deadline;
+    private final Duration slowThreshold;
+
+    public CallLedgerConfiguration(@Value("${callLedger.deadline:PT55S}") Duration deadline,
+                                   @Value("${callLedger.slowThreshold:PT5S}") Duration slowThreshold) {
+        this.deadline = deadline;
+        this.slowThreshold = slowThreshold;
+    }
+}
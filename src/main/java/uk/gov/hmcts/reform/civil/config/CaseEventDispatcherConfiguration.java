@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+public class CaseEventDispatcherConfiguration {
+
+    private final int workers;
+    private final int queueCapacity;
+    private final int maxInFlightCcd;
+    private final int maxInFlightDashboard;
+
+    public CaseEventDispatcherConfiguration(
+            @Value("${caseEventDispatcher.workers:8}") int workers,
+            @Value("${caseEventDispatcher.queueCapacity:40}") int queueCapacity,
+            @Value("${caseEventDispatcher.maxInFlight.ccd:8}") int maxInFlightCcd,
+            @Value("${caseEventDispatcher.maxInFlight.dashboard:4}") int maxInFlightDashboard) {
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.maxInFlightCcd = maxInFlightCcd;
+        this.maxInFlightDashboard = maxInFlightDashboard;
+    }
+}
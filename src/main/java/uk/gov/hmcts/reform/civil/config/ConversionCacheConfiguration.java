@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Configuration
+public class ConversionCacheConfiguration {
+
+    private final DataSize maximumSize;
+    private final String parentDirectory;
+
+    public ConversionCacheConfiguration(@Value("${conversionCache.maximumSize:256MB}") DataSize maximumSize,
+                                        @Value("${conversionCache.parentDirectory:${java.io.tmpdir}}") String parentDirectory) {
+        this.maximumSize = maximumSize;
+        this.parentDirectory = parentDirectory;
+    }
+}
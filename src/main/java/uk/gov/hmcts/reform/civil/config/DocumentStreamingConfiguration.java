@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Configuration
+public class DocumentStreamingConfiguration {
+
+    private final DataSize spillThreshold;
+    private final String tempDirectory;
+
+    public DocumentStreamingConfiguration(
+            @Value("${documentStreaming.spillThreshold:8MB}") DataSize spillThreshold,
+            @Value("${documentStreaming.tempDirectory:${java.io.tmpdir}/civil-documents}") String tempDirectory) {
+        this.spillThreshold = spillThreshold;
+        this.tempDirectory = tempDirectory;
+    }
+}
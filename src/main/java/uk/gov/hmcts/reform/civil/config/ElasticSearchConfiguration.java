@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.search.ConcurrentSearchPageFetcher;
+import uk.gov.hmcts.reform.civil.service.search.SearchAfterPageFetcher;
+import uk.gov.hmcts.reform.civil.service.search.SearchPageFetcher;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Data
+@Configuration
+public class ElasticSearchConfiguration {
+
+    private final int pageSize;
+    private final int maxConcurrentPages;
+    private final boolean searchAfter;
+
+    public ElasticSearchConfiguration(
+            @Value("${elasticsearch.search.pageSize:10}") int pageSize,
+            @Value("${elasticsearch.search.maxConcurrentPages:4}") int maxConcurrentPages,
+            @Value("${elasticsearch.search.searchAfter:false}") boolean searchAfter) {
+        this.pageSize = pageSize;
+        this.maxConcurrentPages = maxConcurrentPages;
+        this.searchAfter = searchAfter;
+    }
+
+    /**
+     * Workers fetching search pages, shared by every concurrent search and shut down with the context.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService searchPageExecutor() {
+        return Executors.newFixedThreadPool(maxConcurrentPages, new CustomizableThreadFactory("search-pages-"));
+    }
+
+    @Bean
+    public SearchPageFetcher searchPageFetcher(CoreCaseDataService coreCaseDataService,
+                                               @Qualifier("searchPageExecutor") ExecutorService searchPageExecutor) {
+        return searchAfter
+            ? new SearchAfterPageFetcher(coreCaseDataService, pageSize)
+            : new ConcurrentSearchPageFetcher(coreCaseDataService, pageSize, maxConcurrentPages, searchPageExecutor);
+    }
+}
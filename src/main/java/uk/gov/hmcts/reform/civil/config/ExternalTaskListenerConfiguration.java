@@ -1,39 +1,49 @@
 package uk.gov.hmcts.reform.civil.config;
 
 import org.camunda.bpm.client.ExternalTaskClient;
-import org.camunda.bpm.client.backoff.ExponentialBackoffStrategy;
+import org.camunda.bpm.client.ExternalTaskClientBuilder;
 import org.camunda.bpm.client.interceptor.ClientRequestContext;
 import org.camunda.bpm.client.interceptor.ClientRequestInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.EnableRetry;
 import uk.gov.hmcts.reform.authorisation.filters.ServiceAuthFilter;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.civil.service.tasklisteners.ExternalTaskWorkerPool;
 
 @Configuration
-@EnableRetry
 public class ExternalTaskListenerConfiguration {
 
     private final String baseUrl;
     private final AuthTokenGenerator authTokenGenerator;
+    private final ExternalTaskWorkerConfiguration workerConfiguration;
+    private final ExternalTaskWorkerPool workerPool;
 
     @Autowired
     public ExternalTaskListenerConfiguration(@Value("${feign.client.config.remoteRuntimeService.url}") String baseUrl,
-                                             AuthTokenGenerator authTokenGenerator) {
+                                             AuthTokenGenerator authTokenGenerator,
+                                             ExternalTaskWorkerConfiguration workerConfiguration,
+                                             ExternalTaskWorkerPool workerPool) {
         this.baseUrl = baseUrl;
         this.authTokenGenerator = authTokenGenerator;
+        this.workerConfiguration = workerConfiguration;
+        this.workerPool = workerPool;
     }
 
     @Bean
     public ExternalTaskClient client() {
-        return ExternalTaskClient.create()
+        ExternalTaskClientBuilder builder = ExternalTaskClient.create();
+        if (!workerConfiguration.getWorkerId().isBlank()) {
+            // kept across restarts, so outcomes journaled before a restart can still be delivered
+            builder.workerId(workerConfiguration.getWorkerId());
+        }
+        return builder
             .addInterceptor(new ServiceAuthProvider())
             .asyncResponseTimeout(29000)
-            .maxTasks(1)
-            .backoffStrategy(new ExponentialBackoffStrategy(0, 0, 0))
-            .lockDuration(33L * 60L * 1000L) //wait for 33min to finish task before it gets picked by other client
+            .maxTasks(workerConfiguration.getMaxTasks())
+            .backoffStrategy(workerPool) // polls again straight away unless the pool had to turn tasks away
+            .lockDuration(workerConfiguration.getLockDuration().toMillis()) // extended by the pool while the task is held
             .baseUrl(baseUrl)
             .build();
     }
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+public class ExternalTaskWorkerConfiguration {
+
+    private final String workerId;
+    private final int maxTasks;
+    private final int workers;
+    private final int defaultTopicConcurrency;
+    private final Map<String, Integer> topicConcurrency;
+    private final int queuedPerTopic;
+    private final Duration lockDuration;
+    private final Duration lockExtendInterval;
+    private final Duration rejectionBackoff;
+
+    public ExternalTaskWorkerConfiguration(
+            @Value("${externalTask.worker.workerId:${HOSTNAME:}}") String workerId,
+            @Value("${externalTask.worker.maxTasks:8}") int maxTasks,
+            @Value("${externalTask.worker.workers:8}") int workers,
+            @Value("${externalTask.worker.topicConcurrency.default:4}") int defaultTopicConcurrency,
+            @Value("${externalTask.worker.topicConcurrency.topics:}") String topicConcurrency,
+            @Value("${externalTask.worker.queuedPerTopic:4}") int queuedPerTopic,
+            @Value("${externalTask.worker.lockDuration:PT33M}") Duration lockDuration,
+            @Value("${externalTask.worker.lockExtendInterval:PT10M}") Duration lockExtendInterval,
+            @Value("${externalTask.worker.rejectionBackoff:PT1S}") Duration rejectionBackoff) {
+        if (!lockExtendInterval.minus(lockDuration).isNegative()) {
+            throw new IllegalArgumentException("externalTask.worker.lockExtendInterval must be shorter than lockDuration");
+        }
+        this.workerId = workerId;
+        this.maxTasks = maxTasks;
+        this.workers = workers;
+        this.defaultTopicConcurrency = defaultTopicConcurrency;
+        this.topicConcurrency = parseTopicConcurrency(topicConcurrency);
+        this.queuedPerTopic = queuedPerTopic;
+        this.lockDuration = lockDuration;
+        this.lockExtendInterval = lockExtendInterval;
+        this.rejectionBackoff = rejectionBackoff;
+    }
+
+    /**
+     * How many tasks of the topic may run at once on this instance.
+     */
+    public int concurrencyFor(String topic) {
+        return topicConcurrency.getOrDefault(topic, defaultTopicConcurrency);
+    }
+
+    /**
+     * Reads limits written as {@code topic=limit} pairs separated by commas.
+     */
+    private static Map<String, Integer> parseTopicConcurrency(String topicConcurrency) {
+        Map<String, Integer> limits = new HashMap<>();
+        for (String entry : topicConcurrency.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] topicAndLimit = entry.split("=");
+            if (topicAndLimit.length != 2) {
+                throw new IllegalArgumentException("Topic concurrency '" + entry + "' is not of the form topic=limit");
+            }
+            limits.put(topicAndLimit[0].trim(), Integer.parseInt(topicAndLimit[1].trim()));
+        }
+        return Map.copyOf(limits);
+    }
+}
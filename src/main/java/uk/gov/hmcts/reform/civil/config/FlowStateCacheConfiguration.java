@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+public class FlowStateCacheConfiguration {
+
+    private final Duration timeToLive;
+    private final long maximumSize;
+
+    public FlowStateCacheConfiguration(@Value("${flowStateCache.timeToLive:PT5M}") Duration timeToLive,
+                                       @Value("${flowStateCache.maximumSize:5000}") long maximumSize) {
+        this.timeToLive = timeToLive;
+        this.maximumSize = maximumSize;
+    }
+}
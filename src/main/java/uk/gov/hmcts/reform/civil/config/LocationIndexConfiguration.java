@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+public class LocationIndexConfiguration {
+
+    private final Duration refreshAfter;
+
+    public LocationIndexConfiguration(
+            @Value("${location.index.refreshAfter:PT30M}") Duration refreshAfter) {
+        this.refreshAfter = refreshAfter;
+    }
+}
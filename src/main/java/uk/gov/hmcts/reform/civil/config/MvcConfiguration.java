@@ -1,15 +1,21 @@
 package uk.gov.hmcts.reform.civil.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import uk.gov.hmcts.reform.civil.controllers.testingsupport.RequestInterceptor;
+import uk.gov.hmcts.reform.civil.service.calls.CallLedgerInterceptor;
 
 @Configuration
+@RequiredArgsConstructor
 public class MvcConfiguration implements WebMvcConfigurer {
 
+    private final CallLedgerInterceptor callLedgerInterceptor;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(new RequestInterceptor()).addPathPatterns("/cases/callbacks/**");
+        registry.addInterceptor(callLedgerInterceptor).addPathPatterns("/cases/callbacks/**");
     }
 }
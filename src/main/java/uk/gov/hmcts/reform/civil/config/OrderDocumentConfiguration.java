@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+public class OrderDocumentConfiguration {
+
+    private final int workers;
+    private final Duration deadline;
+
+    public OrderDocumentConfiguration(@Value("${orderDocuments.workers:8}") int workers,
+                                      @Value("${orderDocuments.deadline:PT50S}") Duration deadline) {
+        this.workers = workers;
+        this.deadline = deadline;
+    }
+}
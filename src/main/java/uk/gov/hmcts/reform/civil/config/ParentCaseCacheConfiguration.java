@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+public class ParentCaseCacheConfiguration {
+
+    private final Duration timeToLive;
+    private final long maximumSize;
+
+    public ParentCaseCacheConfiguration(@Value("${parentCaseCache.timeToLive:PT30S}") Duration timeToLive,
+                                        @Value("${parentCaseCache.maximumSize:1000}") long maximumSize) {
+        this.timeToLive = timeToLive;
+        this.maximumSize = maximumSize;
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Configuration
+public class PdfMergeConfiguration {
+
+    private final DataSize memoryBudget;
+    private final String tempDirectory;
+
+    public PdfMergeConfiguration(@Value("${pdfMerge.memoryBudget:16MB}") DataSize memoryBudget,
+                                 @Value("${pdfMerge.tempDirectory:${java.io.tmpdir}/civil-documents}") String tempDirectory) {
+        this.memoryBudget = memoryBudget;
+        this.tempDirectory = tempDirectory;
+    }
+}
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+public class SchedulerPipelineConfiguration {
+
+    private final long lockExpiryMarginSeconds;
+
+    public SchedulerPipelineConfiguration(
+            @Value("${scheduler.pipeline.lockExpiryMarginSeconds:120}") long lockExpiryMarginSeconds) {
+        this.lockExpiryMarginSeconds = lockExpiryMarginSeconds;
+    }
+}
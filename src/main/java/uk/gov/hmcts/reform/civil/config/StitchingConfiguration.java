@@ -4,13 +4,24 @@ import lombok.Data;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Data
 @Configuration
 public class StitchingConfiguration {
 
     private final String stitchingUrl;
+    private final int workers;
+    private final int attempts;
+    private final Duration deadline;
 
-    public StitchingConfiguration(@Value("${stitching.api.url}") String stitchingUrl) {
+    public StitchingConfiguration(@Value("${stitching.api.url}") String stitchingUrl,
+                                  @Value("${stitching.workers:6}") int workers,
+                                  @Value("${stitching.attempts:3}") int attempts,
+                                  @Value("${stitching.deadline:PT50S}") Duration deadline) {
         this.stitchingUrl = stitchingUrl;
+        this.workers = workers;
+        this.attempts = attempts;
+        this.deadline = deadline;
     }
 }
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+public class TaskCompletionOutboxConfiguration {
+
+    private final int capacity;
+    private final String journalDirectory;
+    private final int maxAttempts;
+    private final Duration initialDelay;
+    private final double multiplier;
+    private final Duration maxDelay;
+
+    public TaskCompletionOutboxConfiguration(
+            @Value("${taskCompletionOutbox.capacity:1000}") int capacity,
+            @Value("${taskCompletionOutbox.journalDirectory:}") String journalDirectory,
+            @Value("${taskCompletionOutbox.maxAttempts:6}") int maxAttempts,
+            @Value("${taskCompletionOutbox.initialDelay:PT5S}") Duration initialDelay,
+            @Value("${taskCompletionOutbox.multiplier:3}") double multiplier,
+            @Value("${taskCompletionOutbox.maxDelay:PT5M}") Duration maxDelay) {
+        this.capacity = capacity;
+        this.journalDirectory = journalDirectory;
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.multiplier = multiplier;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * How long to wait before the given retry, counting the first retry as 1.
+     */
+    public Duration delayBeforeRetry(int retry) {
+        double millis = initialDelay.toMillis() * Math.pow(multiplier, retry - 1.0);
+        return millis >= maxDelay.toMillis() ? maxDelay : Duration.ofMillis((long) millis);
+    }
+}
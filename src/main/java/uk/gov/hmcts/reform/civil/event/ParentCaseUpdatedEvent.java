@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.civil.event;
+
+import lombok.Value;
+
+@Value
+public class ParentCaseUpdatedEvent {
+
+    Long caseId;
+    Integer version;
+}
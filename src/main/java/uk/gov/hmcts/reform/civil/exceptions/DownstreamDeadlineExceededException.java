@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.civil.exceptions;
+
+public class DownstreamDeadlineExceededException extends RuntimeException {
+
+    public DownstreamDeadlineExceededException(String message) {
+        super(message);
+    }
+}
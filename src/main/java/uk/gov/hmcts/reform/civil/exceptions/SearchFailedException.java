@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.civil.exceptions;
+
+public class SearchFailedException extends RuntimeException {
+
+    public SearchFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
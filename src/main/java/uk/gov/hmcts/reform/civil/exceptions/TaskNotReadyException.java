@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.civil.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Thrown by an external task handler when the task cannot finish yet because it waits on another
+ * case. The task is handed back to Camunda to be fetched again after {@code retryAfter}, at most
+ * {@code attempts} times in all, after which the process is sent {@code timeoutErrorCode}.
+ */
+@Getter
+public class TaskNotReadyException extends RuntimeException {
+
+    private final Duration retryAfter;
+    private final int attempts;
+    private final String timeoutErrorCode;
+
+    public TaskNotReadyException(String message, Duration retryAfter, int attempts, String timeoutErrorCode) {
+        super(message);
+        this.retryAfter = retryAfter;
+        this.attempts = attempts;
+        this.timeoutErrorCode = timeoutErrorCode;
+    }
+}
@@ -39,9 +39,13 @@ public class ApplicationSubmittedDashboardNotificationHandler extends CallbackHa
 
     @Override
     protected Map<String, Callback> callbacks() {
+        return Map.of(callbackKey(ABOUT_TO_SUBMIT), this::configureDashboardScenarioWhenEnabled);
+    }
+
+    private CallbackResponse configureDashboardScenarioWhenEnabled(CallbackParams callbackParams) {
         return featureToggleService.isGaForLipsEnabled()
-            ? Map.of(callbackKey(ABOUT_TO_SUBMIT), this::configureDashboardScenario)
-            : Map.of(callbackKey(ABOUT_TO_SUBMIT), this::emptyCallbackResponse);
+            ? configureDashboardScenario(callbackParams)
+            : emptyCallbackResponse(callbackParams);
     }
 
     @Override
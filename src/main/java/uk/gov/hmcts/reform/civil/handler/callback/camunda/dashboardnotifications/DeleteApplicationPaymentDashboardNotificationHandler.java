@@ -34,9 +34,13 @@ public class DeleteApplicationPaymentDashboardNotificationHandler extends Callba
 
     @Override
     protected Map<String, Callback> callbacks() {
-        return  featureToggleService.isGaForWelshEnabled()
-            ? Map.of(callbackKey(ABOUT_TO_SUBMIT), this::deletePaymentDashboardNotification)
-            : Map.of(callbackKey(ABOUT_TO_SUBMIT), this::emptyCallbackResponse);
+        return Map.of(callbackKey(ABOUT_TO_SUBMIT), this::deletePaymentDashboardNotificationWhenEnabled);
+    }
+
+    private CallbackResponse deletePaymentDashboardNotificationWhenEnabled(CallbackParams callbackParams) {
+        return featureToggleService.isGaForWelshEnabled()
+            ? deletePaymentDashboardNotification(callbackParams)
+            : emptyCallbackResponse(callbackParams);
     }
 
     @Override
@@ -11,13 +11,12 @@ import uk.gov.hmcts.reform.civil.callback.CallbackHandler;
 import uk.gov.hmcts.reform.civil.callback.CallbackParams;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
 import uk.gov.hmcts.reform.civil.enums.welshenhancements.PreTranslationGaDocumentType;
-import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.common.Element;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
-import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 import uk.gov.hmcts.reform.civil.service.GaForLipService;
+import uk.gov.hmcts.reform.civil.service.ParentCaseSnapshotCache;
 import uk.gov.hmcts.reform.civil.service.SendFinalOrderPrintService;
 import uk.gov.hmcts.reform.civil.service.docmosis.hearingorder.HearingFormGenerator;
 import uk.gov.hmcts.reform.civil.service.flowstate.FlowFlag;
@@ -50,8 +49,7 @@ public class GenerateHearingNoticeDocumentCallbackHandler extends CallbackHandle
 
     private final GaForLipService gaForLipService;
 
-    private final CaseDetailsConverter caseDetailsConverter;
-    private final CoreCaseDataService coreCaseDataService;
+    private final ParentCaseSnapshotCache parentCaseSnapshotCache;
     private final SendFinalOrderPrintService sendFinalOrderPrintService;
     private final FeatureToggleService featureToggleService;
 
@@ -119,9 +117,7 @@ public class GenerateHearingNoticeDocumentCallbackHandler extends CallbackHandle
     private void postHearingFormWithCoverLetterLip(CallbackParams callbackParams, CaseData caseData) {
         CaseData civilCaseData = CaseData.builder().build();
         if (gaForLipService.isGaForLip(caseData)) {
-            civilCaseData = caseDetailsConverter
-                .toCaseData(coreCaseDataService
-                                .getCase(Long.parseLong(caseData.getGeneralAppParentCaseLink().getCaseReference())));
+            civilCaseData = parentCaseSnapshotCache.getParentCaseData(caseData);
 
         }
 
@@ -14,15 +14,16 @@ import uk.gov.hmcts.reform.civil.callback.CaseEvent;
 import uk.gov.hmcts.reform.civil.enums.dq.GAJudgeDecisionOption;
 import uk.gov.hmcts.reform.civil.enums.dq.GAJudgeRequestMoreInfoOption;
 import uk.gov.hmcts.reform.civil.enums.welshenhancements.PreTranslationGaDocumentType;
-import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.common.Element;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
 import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialRequestMoreInfo;
-import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 import uk.gov.hmcts.reform.civil.service.GaForLipService;
+import uk.gov.hmcts.reform.civil.service.ParentCaseSnapshotCache;
 import uk.gov.hmcts.reform.civil.service.SendFinalOrderPrintService;
+import uk.gov.hmcts.reform.civil.service.docmosis.OrderDocumentFanOut;
+import uk.gov.hmcts.reform.civil.service.docmosis.OrderDocumentFanOut.OrderDocuments;
 import uk.gov.hmcts.reform.civil.service.docmosis.consentorder.ConsentOrderGenerator;
 import uk.gov.hmcts.reform.civil.service.docmosis.directionorder.DirectionOrderGenerator;
 import uk.gov.hmcts.reform.civil.service.docmosis.dismissalorder.DismissalOrderGenerator;
@@ -42,6 +43,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static java.util.Optional.ofNullable;
@@ -85,9 +88,9 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
     private final AssignCategoryId assignCategoryId;
     private final GaForLipService gaForLipService;
 
-    private final CaseDetailsConverter caseDetailsConverter;
-    private final CoreCaseDataService coreCaseDataService;
+    private final ParentCaseSnapshotCache parentCaseSnapshotCache;
     private final FeatureToggleService featureToggleService;
+    private final OrderDocumentFanOut orderDocumentFanOut;
 
     @Value("${print.service.enabled}")
     public String printServiceEnabled;
@@ -119,22 +122,18 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
         CaseData caseData = callbackParams.getCaseData();
         log.info("Create PDF document for case: {}", caseData.getCcdCaseReference());
 
-        CaseData civilCaseData = CaseData.builder().build();
-        if (gaForLipService.isGaForLip(caseData)) {
-            civilCaseData = caseDetailsConverter
-                .toCaseData(coreCaseDataService
-                                .getCase(Long.parseLong(caseData.getGeneralAppParentCaseLink().getCaseReference())));
-
-        }
+        String authorisation = callbackParams.getParams().get(BEARER_TOKEN).toString();
+        CaseData civilCaseData = gaForLipService.isGaForLip(caseData)
+            ? parentCaseSnapshotCache.getParentCaseData(caseData)
+            : CaseData.builder().build();
 
         CaseData.CaseDataBuilder caseDataBuilder = caseData.toBuilder();
         CaseDocument decision = null;
-        CaseDocument postJudgeOrderToLipApplicant = null;
-        CaseDocument postJudgeOrderToLipRespondent = null;
+        OrderDocuments orderDocuments = null;
         if (Objects.nonNull(caseData.getApproveConsentOrder())) {
             decision = consentOrderGenerator.generate(
                 caseDataBuilder.build(),
-                callbackParams.getParams().get(BEARER_TOKEN).toString()
+                authorisation
             );
 
             List<Element<CaseDocument>> consentOrderDocumentList =
@@ -147,68 +146,22 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
                                                           AssignCategoryId.ORDER_DOCUMENTS);
             caseDataBuilder.consentOrderDocument(consentOrderDocumentList);
         } else if (Objects.nonNull(caseData.getFinalOrderSelection())) {
+            CaseData orderData = caseDataBuilder.build();
             if (caseData.getFinalOrderSelection().equals(FREE_FORM_ORDER)) {
-                decision = freeFormOrderGenerator.generate(
-                        caseDataBuilder.build(),
-                        callbackParams.getParams().get(BEARER_TOKEN).toString()
+                orderDocuments = generateOrderDocuments(
+                    caseData,
+                    () -> freeFormOrderGenerator.generate(orderData, authorisation),
+                    lipUserType -> generateFreeFormSendLetterDoc(civilCaseData, caseData, authorisation, lipUserType)
                 );
-
-                /*
-                 * Generate Judge Request for Information order document with LIP Applicant Post Address
-                 * */
-                if (gaForLipService.isLipApp(caseData)
-                    && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-
-                    postJudgeOrderToLipApplicant = generateFreeFormSendLetterDocForApplicant(
-                        civilCaseData,
-                        caseData,
-                        callbackParams.getParams().get(BEARER_TOKEN).toString());
-                }
-
-                /*
-                 * Generate Judge Request for Information order document with LIP Respondent Post Address
-                 * */
-                if (gaForLipService.isLipResp(caseData)
-                    && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-
-                    postJudgeOrderToLipRespondent = generateFreeFormSendLetterDocForRespondent(
-                        civilCaseData,
-                        caseData,
-                        callbackParams.getParams().get(BEARER_TOKEN).toString());
-                }
+                decision = orderDocuments.decision();
 
             } else if (caseData.getFinalOrderSelection().equals(ASSISTED_ORDER)) {
-
-                decision = assistedOrderFormGenerator.generate(
-                        caseDataBuilder.build(),
-                        callbackParams.getParams().get(BEARER_TOKEN).toString()
+                orderDocuments = generateOrderDocuments(
+                    caseData,
+                    () -> assistedOrderFormGenerator.generate(orderData, authorisation),
+                    lipUserType -> assistedOrderFormGenerator.generate(civilCaseData, caseData, authorisation, lipUserType)
                 );
-
-                /*
-                 * Generate Judge Request for Information order document with LIP Applicant Post Address
-                 * */
-                if (gaForLipService.isLipApp(caseData)
-                    && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                    postJudgeOrderToLipApplicant = assistedOrderFormGenerator.generate(
-                        civilCaseData,
-                        caseData,
-                        callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                        FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT
-                    );
-                }
-
-                /*
-                 * Generate Judge Request for Information order document with LIP Respondent Post Address
-                 * */
-                if (gaForLipService.isLipResp(caseData)
-                    && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                    postJudgeOrderToLipRespondent = assistedOrderFormGenerator.generate(
-                        civilCaseData,
-                        caseData,
-                        callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                        FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT
-                    );
-                }
+                decision = orderDocuments.decision();
             }
             if (featureToggleService.isGaForWelshEnabled() && caseData.isApplicationBilingual()) {
                 setPreTranslationDocument(
@@ -231,34 +184,14 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
                 caseDataBuilder.generalOrderDocument(newGeneralOrderDocumentList);
             }
         } else if (isGeneralOrder(caseData)) {
-            decision = generalOrderGenerator.generate(
-                caseDataBuilder.build(),
-                callbackParams.getParams().get(BEARER_TOKEN).toString()
+            CaseData orderData = caseDataBuilder.build();
+            orderDocuments = generateOrderDocuments(
+                caseData,
+                () -> generalOrderGenerator.generate(orderData, authorisation),
+                lipUserType -> generalOrderGenerator.generate(civilCaseData, orderData, authorisation, lipUserType)
             );
+            decision = orderDocuments.decision();
 
-            /*
-             * Generate Judge Request for Information order document with LIP Applicant Post Address
-             * */
-            if (gaForLipService.isLipApp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipApplicant = generalOrderGenerator.generate(civilCaseData,
-                    caseDataBuilder.build(),
-                    callbackParams.getParams().get(BEARER_TOKEN).toString(), FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT
-                );
-            }
-
-            /*
-             * Generate Judge Request for Information order document with LIP Respondent Post Address
-             * */
-            if (gaForLipService.isLipResp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipRespondent = generalOrderGenerator
-                    .generate(civilCaseData,
-                              caseDataBuilder.build(),
-                              callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                              FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT
-                );
-            }
             if (featureToggleService.isGaForWelshEnabled() && caseData.isApplicationBilingual()) {
                 setPreTranslationDocument(
                     caseData,
@@ -276,37 +209,13 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
                 caseDataBuilder.generalOrderDocument(wrapElements(decision));
             }
         } else if (isDirectionOrder(caseData)) {
-            decision = directionOrderGenerator.generate(
-                caseDataBuilder.build(),
-                callbackParams.getParams().get(BEARER_TOKEN).toString()
+            CaseData orderData = caseDataBuilder.build();
+            orderDocuments = generateOrderDocuments(
+                caseData,
+                () -> directionOrderGenerator.generate(orderData, authorisation),
+                lipUserType -> directionOrderGenerator.generate(civilCaseData, orderData, authorisation, lipUserType)
             );
-
-            /*
-             * Generate Judge Request for Information order document with LIP Applicant Post Address
-             * */
-            if (gaForLipService.isLipApp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipApplicant = directionOrderGenerator
-                    .generate(civilCaseData,
-                              caseDataBuilder.build(),
-                              callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                              FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT
-                );
-            }
-
-            /*
-             * Generate Judge Request for Information order document with LIP Respondent Post Address
-             * if GA is with notice
-             * */
-            if (gaForLipService.isLipResp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipRespondent = directionOrderGenerator
-                    .generate(civilCaseData,
-                              caseDataBuilder.build(),
-                              callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                              FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT
-                    );
-            }
+            decision = orderDocuments.decision();
 
             if (featureToggleService.isGaForWelshEnabled() && caseData.isApplicationBilingual()) {
                 setPreTranslationDocument(
@@ -330,37 +239,14 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
             }
 
         } else if (isDismissalOrder(caseData)) {
-            decision = dismissalOrderGenerator.generate(
-                caseDataBuilder.build(),
-                callbackParams.getParams().get(BEARER_TOKEN).toString()
+            CaseData orderData = caseDataBuilder.build();
+            orderDocuments = generateOrderDocuments(
+                caseData,
+                () -> dismissalOrderGenerator.generate(orderData, authorisation),
+                lipUserType -> dismissalOrderGenerator.generate(civilCaseData, orderData, authorisation, lipUserType)
             );
+            decision = orderDocuments.decision();
 
-            /*
-             * Generate Judge Request for Information order document with LIP Applicant Post Address
-             * if GA is with notice
-             * */
-            if (gaForLipService.isLipApp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipApplicant = dismissalOrderGenerator
-                    .generate(civilCaseData,
-                              caseDataBuilder.build(),
-                              callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                              FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT
-                );
-            }
-
-            /*
-             * Generate Judge Request for Information order document with LIP Respondent Post Address
-             * */
-            if (gaForLipService.isLipResp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipRespondent = dismissalOrderGenerator
-                    .generate(civilCaseData,
-                              caseDataBuilder.build(),
-                              callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                              FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT
-                    );
-            }
             if (featureToggleService.isGaForWelshEnabled() && caseData.isApplicationBilingual()) {
                 setPreTranslationDocument(
                     caseData,
@@ -376,36 +262,13 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
             }
 
         } else if (isHearingOrder(caseData)) {
-            decision = hearingOrderGenerator.generate(
-                caseDataBuilder.build(),
-                callbackParams.getParams().get(BEARER_TOKEN).toString()
+            CaseData orderData = caseDataBuilder.build();
+            orderDocuments = generateOrderDocuments(
+                caseData,
+                () -> hearingOrderGenerator.generate(orderData, authorisation),
+                lipUserType -> hearingOrderGenerator.generate(civilCaseData, orderData, authorisation, lipUserType)
             );
-
-            /*
-             * Generate Judge Request for Information order document with LIP Applicant Post Address
-             * */
-            if (gaForLipService.isLipApp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipApplicant = hearingOrderGenerator
-                    .generate(civilCaseData,
-                              caseDataBuilder.build(),
-                              callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                              FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT);
-            }
-
-            /*
-             * Generate Judge Request for Information order document with LIP Respondent Post Address
-             * if GA is with notice
-             * */
-            if (gaForLipService.isLipResp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipRespondent = hearingOrderGenerator
-                    .generate(civilCaseData,
-                              caseDataBuilder.build(),
-                              callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                              FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT
-                    );
-            }
+            decision = orderDocuments.decision();
 
             if (featureToggleService.isGaForWelshEnabled() && caseData.isApplicationBilingual()) {
                 setPreTranslationDocument(
@@ -423,37 +286,14 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
                 caseDataBuilder.hearingOrderDocument(wrapElements(decision));
             }
         } else if (isWrittenRepSeqOrder(caseData)) {
-            decision = writtenRepresentationSequentailOrderGenerator.generate(
-                    caseDataBuilder.build(),
-                    callbackParams.getParams().get(BEARER_TOKEN).toString()
-                );
-
-            /*
-             * Generate Judge Request for Information order document with LIP Applicant Post Address
-             * if GA is with notice
-             * */
-            if (gaForLipService.isLipApp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipApplicant = writtenRepresentationSequentailOrderGenerator
-                    .generate(civilCaseData,
-                              caseDataBuilder.build(),
-                              callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                              FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT
-                );
-            }
+            CaseData orderData = caseDataBuilder.build();
+            orderDocuments = generateOrderDocuments(
+                caseData,
+                () -> writtenRepresentationSequentailOrderGenerator.generate(orderData, authorisation),
+                lipUserType -> writtenRepresentationSequentailOrderGenerator.generate(civilCaseData, orderData, authorisation, lipUserType)
+            );
+            decision = orderDocuments.decision();
 
-            /*
-             * Generate Judge Request for Information order document with LIP Respondent Post Address
-             * */
-            if (gaForLipService.isLipResp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipRespondent = writtenRepresentationSequentailOrderGenerator
-                    .generate(civilCaseData,
-                              caseDataBuilder.build(),
-                              callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                              FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT
-                    );
-            }
             if (featureToggleService.isGaForWelshEnabled() && caseData.isApplicationBilingual()) {
                 setPreTranslationDocument(
                     caseData,
@@ -475,35 +315,13 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
                 caseDataBuilder.writtenRepSequentialDocument(newWrittenRepSequentialDocumentList);
             }
         } else if (isWrittenRepConOrder(caseData)) {
-            decision = writtenRepresentationConcurrentOrderGenerator.generate(
-                caseDataBuilder.build(),
-                callbackParams.getParams().get(BEARER_TOKEN).toString()
+            CaseData orderData = caseDataBuilder.build();
+            orderDocuments = generateOrderDocuments(
+                caseData,
+                () -> writtenRepresentationConcurrentOrderGenerator.generate(orderData, authorisation),
+                lipUserType -> writtenRepresentationConcurrentOrderGenerator.generate(civilCaseData, orderData, authorisation, lipUserType)
             );
-
-            /*
-             * Generate Judge Request for Information order document with LIP Applicant Post Address
-             * */
-            if (gaForLipService.isLipApp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipApplicant = writtenRepresentationConcurrentOrderGenerator
-                    .generate(civilCaseData,
-                              caseDataBuilder.build(),
-                              callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                              FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT);
-            }
-
-            /*
-             * Generate Judge Request for Information order document with LIP Respondent Post Address
-             * */
-            if (gaForLipService.isLipResp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipRespondent = writtenRepresentationConcurrentOrderGenerator
-                    .generate(civilCaseData,
-                              caseDataBuilder.build(),
-                              callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                              FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT
-                    );
-            }
+            decision = orderDocuments.decision();
 
             if (featureToggleService.isGaForWelshEnabled() && caseData.isApplicationBilingual()) {
                 setPreTranslationDocument(
@@ -529,10 +347,13 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
         } else if (isRequestMoreInfo(caseData) || isRequestMoreInfoAndSendAppToOtherParty(caseData)) {
             GAJudgeRequestMoreInfoOption gaJudgeRequestMoreInfoOption = Optional.ofNullable(caseData.getJudicialDecisionRequestMoreInfo()).map(
                 GAJudicialRequestMoreInfo::getRequestMoreInfoOption).orElse(null);
-            decision = requestForInformationGenerator.generate(
-                caseDataBuilder.build(),
-                callbackParams.getParams().get(BEARER_TOKEN).toString()
+            CaseData orderData = caseDataBuilder.build();
+            orderDocuments = generateOrderDocuments(
+                caseData,
+                () -> requestForInformationGenerator.generate(orderData, authorisation),
+                lipUserType -> requestForInformationGenerator.generate(civilCaseData, caseData, authorisation, lipUserType)
             );
+            decision = orderDocuments.decision();
 
             if (featureToggleService.isGaForWelshEnabled() && caseData.isApplicationBilingual()
                 && gaJudgeRequestMoreInfoOption != GAJudgeRequestMoreInfoOption.SEND_APP_TO_OTHER_PARTY) {
@@ -555,67 +376,19 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
                 );
                 caseDataBuilder.requestForInformationDocument(newRequestForInfoDocumentList);
             }
-            /*
-            * Generate Judge Request for Information order document with LIP Applicant Post Address
-            * */
-
-            if (gaForLipService.isLipApp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipApplicant = requestForInformationGenerator.generate(
-                    civilCaseData,
-                    caseData,
-                    callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                    FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT
-                );
-            }
-
-            /*
-             * Generate Judge Request for Information order document with LIP Respondent Post Address
-             * */
-            if (gaForLipService.isLipResp(caseData)
-                && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-                postJudgeOrderToLipRespondent = requestForInformationGenerator.generate(
-                    civilCaseData,
-                    caseData,
-                    callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                    FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT
-                );
-            }
 
         } else if (Objects.nonNull(caseData.getJudicialDecision())) {
             if (caseData.getJudicialDecision().getDecision().equals(GAJudgeDecisionOption.FREE_FORM_ORDER)) {
-
-                /*
-                 * Generate Judge Request for Information order document with LIP Respondent Post Address
-                 * */
-                if (gaForLipService.isLipResp(caseData)
-                    && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-
-                    postJudgeOrderToLipRespondent = generateFreeFormSendLetterDocForRespondent(
-                        civilCaseData,
-                        caseData,
-                        callbackParams.getParams().get(BEARER_TOKEN).toString());
-                }
-
-                /*
-                 * Generate Judge Request for Information order document with LIP Applicant Post Address
-                 * */
-                if (gaForLipService.isLipApp(caseData)
-                    && (!featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual())) {
-
-                    postJudgeOrderToLipApplicant = generateFreeFormSendLetterDocForApplicant(
-                        civilCaseData,
-                        caseData,
-                        callbackParams.getParams().get(BEARER_TOKEN).toString());
-                }
-
                 List<Element<CaseDocument>> documentList =
                     ofNullable(caseData.getGeneralOrderDocument()).orElse(newArrayList());
 
-                decision = freeFormOrderGenerator.generate(
-                    caseDataBuilder.build(),
-                    callbackParams.getParams().get(BEARER_TOKEN).toString()
+                CaseData orderData = caseDataBuilder.build();
+                orderDocuments = generateOrderDocuments(
+                    caseData,
+                    () -> freeFormOrderGenerator.generate(orderData, authorisation),
+                    lipUserType -> generateFreeFormSendLetterDoc(civilCaseData, caseData, authorisation, lipUserType)
                 );
+                decision = orderDocuments.decision();
                 if (featureToggleService.isGaForWelshEnabled() && caseData.isApplicationBilingual()) {
                     setPreTranslationDocument(
                         caseData,
@@ -638,19 +411,21 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
         /*
         * Send Judge order document to Lip Applicant
         * */
-        if (printServiceEnabled.equals("true") && Objects.nonNull(postJudgeOrderToLipApplicant)) {
+        if (printServiceEnabled.equals("true") && Objects.nonNull(orderDocuments)
+            && Objects.nonNull(orderDocuments.postToLipApplicant())) {
             sendJudgeFinalOrderPrintService(
-                callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                postJudgeOrderToLipApplicant, caseData, civilCaseData, FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT);
+                authorisation,
+                orderDocuments.postToLipApplicant(), caseData, civilCaseData, FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT);
         }
 
         /*
          * Send Judge order document to Lip Respondent
          * */
-        if (printServiceEnabled.equals("true") && Objects.nonNull(postJudgeOrderToLipRespondent)) {
+        if (printServiceEnabled.equals("true") && Objects.nonNull(orderDocuments)
+            && Objects.nonNull(orderDocuments.postToLipRespondent())) {
             sendJudgeFinalOrderPrintService(
-                callbackParams.getParams().get(BEARER_TOKEN).toString(),
-                postJudgeOrderToLipRespondent, caseData, civilCaseData, FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT);
+                authorisation,
+                orderDocuments.postToLipRespondent(), caseData, civilCaseData, FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT);
         }
 
         return AboutToStartOrSubmitCallbackResponse.builder()
@@ -673,32 +448,29 @@ public class GeneratePDFDocumentCallbackHandler extends CallbackHandler {
         caseDataBuilder.preTranslationGaDocumentType(doctype);
     }
 
-    private CaseDocument generateFreeFormSendLetterDocForApplicant(CaseData civilCaseData, CaseData caseData, String auth) {
-
-        /*
-         * Generate Judge Request for Information order document with LIP Applicant Post Address
-         * */
-        log.info("Generate Judge Request for Information order document with LIP Applicant Post Address for case: {}", caseData.getCcdCaseReference());
-        return freeFormOrderGenerator.generate(
-            civilCaseData,
-            caseData,
-            auth,
-            FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT
+    /**
+     * Generates the decision together with its postal copies for LiP parties, which are not sent
+     * while the application is waiting for a Welsh translation.
+     */
+    private OrderDocuments generateOrderDocuments(CaseData caseData, Supplier<CaseDocument> decision,
+                                                  Function<FlowFlag, CaseDocument> postToLip) {
+        boolean postToLipParties = !featureToggleService.isGaForWelshEnabled() || !caseData.isApplicationBilingual();
+        return orderDocumentFanOut.generate(
+            decision,
+            postToLipParties && gaForLipService.isLipApp(caseData)
+                ? () -> postToLip.apply(FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT) : null,
+            postToLipParties && gaForLipService.isLipResp(caseData)
+                ? () -> postToLip.apply(FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT) : null
         );
     }
 
-    private CaseDocument generateFreeFormSendLetterDocForRespondent(CaseData civilCaseData, CaseData caseData, String auth) {
-
-        /*
-         * Generate Judge Request for Information order document with LIP Respondent Post Address
-         * if GA is with notice
-         * */
-        log.info("Generate Judge Request for Information order document with LIP Respondent Post Address if GA is with notice for case: {}", caseData.getCcdCaseReference());
+    private CaseDocument generateFreeFormSendLetterDoc(CaseData civilCaseData, CaseData caseData, String auth, FlowFlag lipUserType) {
+        log.info("Generate free form order document with {} post address for case: {}", lipUserType, caseData.getCcdCaseReference());
         return freeFormOrderGenerator.generate(
             civilCaseData,
             caseData,
             auth,
-            FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT
+            lipUserType
         );
     }
 
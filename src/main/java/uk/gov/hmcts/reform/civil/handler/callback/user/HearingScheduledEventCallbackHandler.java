@@ -31,7 +31,6 @@ import java.util.Optional;
 
 import static java.lang.String.format;
 import static java.util.Objects.nonNull;
-import static uk.gov.hmcts.reform.civil.callback.CallbackParams.Params.BEARER_TOKEN;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_START;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.MID;
@@ -68,8 +67,7 @@ public class HearingScheduledEventCallbackHandler extends CallbackHandler {
         CaseData caseData = callbackParams.getCaseData();
         CaseData.CaseDataBuilder caseDataBuilder = caseData.toBuilder();
 
-        String authToken = callbackParams.getParams().get(BEARER_TOKEN).toString();
-        DynamicList dynamicLocationList = getLocationsFromList(locationRefDataService.getCourtLocations(authToken));
+        DynamicList dynamicLocationList = getLocationsFromList(locationRefDataService.getCourtLocations());
         if (!caseData.getCcdState().equals(CaseState.ORDER_MADE)
             && Objects.nonNull(caseData.getJudicialListForHearing())
             && Objects.nonNull(caseData.getJudicialListForHearing().getHearingPreferredLocation())
@@ -311,8 +311,7 @@ public class JudicialDecisionHandler extends CallbackHandler {
                 && checkIfAppAndRespHaveSameSupportReq(caseData))
                 ? YES : NO;
 
-        String authToken = callbackParams.getParams().get(BEARER_TOKEN).toString();
-        DynamicList dynamicLocationList = getLocationsFromList(locationRefDataService.getCourtLocations(authToken));
+        DynamicList dynamicLocationList = getLocationsFromList(locationRefDataService.getCourtLocations());
 
         boolean isAppAndRespSameCourtLocPref = helper.isApplicantAndRespondentLocationPrefSame(caseData);
         if (isAppAndRespSameCourtLocPref) {
@@ -268,8 +268,7 @@ public class JudicialFinalDecisionHandler extends CallbackHandler {
                                                                                                  .defendantTwoPartyName(caseData.getDefendant2PartyName()).build()).build());
         }
 
-        String authToken = callbackParams.getParams().get(BEARER_TOKEN).toString();
-        DynamicList dynamicLocationList = getLocationsFromList(locationRefDataService.getCourtLocations(authToken));
+        DynamicList dynamicLocationList = getLocationsFromList(locationRefDataService.getCourtLocations());
         caseDataBuilder.assistedOrderFurtherHearingDetails(
             AssistedOrderFurtherHearingDetails
                 .builder()
@@ -126,7 +126,6 @@ public class RespondToApplicationHandler extends CallbackHandler {
     private AboutToStartOrSubmitCallbackResponse applicationValidation(CallbackParams callbackParams) {
         CaseData caseData = callbackParams.getCaseData();
         CaseData.CaseDataBuilder caseDataBuilder = caseData.toBuilder();
-        String authToken = callbackParams.getParams().get(BEARER_TOKEN).toString();
 
         if (caseData.getGeneralAppType().getTypes().contains(GeneralApplicationTypes.VARY_PAYMENT_TERMS_OF_JUDGMENT)
             && caseData.getParentClaimantIsApplicant().equals(NO)) {
@@ -142,7 +141,7 @@ public class RespondToApplicationHandler extends CallbackHandler {
                 GAHearingDetails
                     .builder()
                     .hearingPreferredLocation(getLocationsFromList(locationRefDataService
-                                                                       .getCourtLocations(authToken)))
+                                                                       .getCourtLocations()))
                     .build());
 
         return AboutToStartOrSubmitCallbackResponse.builder()
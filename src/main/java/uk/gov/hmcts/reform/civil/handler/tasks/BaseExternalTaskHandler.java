@@ -8,12 +8,12 @@ import org.camunda.bpm.engine.delegate.BpmnError;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.beans.factory.annotation.Autowired;
 import uk.gov.hmcts.reform.civil.exceptions.CompleteTaskException;
 import uk.gov.hmcts.reform.civil.exceptions.NotRetryableException;
+import uk.gov.hmcts.reform.civil.exceptions.TaskNotReadyException;
 import uk.gov.hmcts.reform.civil.model.ExternalTaskData;
+import uk.gov.hmcts.reform.civil.service.tasklisteners.TaskCompletionOutbox;
 
 import java.util.Arrays;
 
@@ -29,6 +29,16 @@ public abstract class BaseExternalTaskHandler implements ExternalTaskHandler {
 
     Logger log = LoggerFactory.getLogger(BaseExternalTaskHandler.class);
 
+    private TaskCompletionOutbox completionOutbox;
+
+    /**
+     * Outcomes are handed to the outbox when there is one, and otherwise sent to Camunda on the calling thread.
+     */
+    @Autowired(required = false)
+    void setCompletionOutbox(TaskCompletionOutbox completionOutbox) {
+        this.completionOutbox = completionOutbox;
+    }
+
     /**
      * Executed for each fetched and locked task.
      *
@@ -52,7 +62,12 @@ public abstract class BaseExternalTaskHandler implements ExternalTaskHandler {
             log.error("Bpmn error for external task '{}' with processInstanceId '{}'",
                       topicName, processInstanceId, e
             );
-            externalTaskService.handleBpmnError(externalTask, e.getErrorCode());
+            sendBpmnError(externalTask, externalTaskService, e.getErrorCode());
+        } catch (TaskNotReadyException e) {
+            log.info("External task '{}' with processInstanceId '{}' is not ready: {}",
+                     topicName, processInstanceId, e.getMessage()
+            );
+            handleNotReady(externalTask, externalTaskService, e);
         } catch (NotRetryableException e) {
             log.error("External task '{}' errored  with processInstanceId '{}'",
                       topicName, processInstanceId, e
@@ -70,12 +85,18 @@ public abstract class BaseExternalTaskHandler implements ExternalTaskHandler {
         }
     }
 
-    //Total possible waiting time 16 minutes - if changing this, change lockDuration in ExternalTaskListenerConfiguration
-    @Retryable(value = CompleteTaskException.class, maxAttempts = 3, backoff = @Backoff(delay = 60000, multiplier = 15))
+    /**
+     * Completes the task. With an outbox the completion is retried there, off this thread, and a completion that keeps
+     * failing becomes a failure with no retries left.
+     */
     protected void completeTask(ExternalTask externalTask, ExternalTaskService externalTaskService, ExternalTaskData data) throws CompleteTaskException {
         String topicName = externalTask.getTopicName();
         String processInstanceId = externalTask.getProcessInstanceId();
 
+        if (completionOutbox != null) {
+            completionOutbox.complete(externalTask, externalTaskService, getVariableMap(data));
+            return;
+        }
         try {
             externalTaskService.complete(externalTask, getVariableMap(data));
             log.info("External task '{}' finished with processInstanceId '{}'",
@@ -89,14 +110,6 @@ public abstract class BaseExternalTaskHandler implements ExternalTaskHandler {
         }
     }
 
-    @Recover
-    void recover(CompleteTaskException exception, ExternalTask externalTask, ExternalTaskService externalTaskService) {
-        log.error("All attempts to completing task '{}' failed  with processInstanceId '{}' with error message '{}'",
-                  externalTask.getTopicName(), externalTask.getProcessInstanceId(), exception.getMessage()
-        );
-        handleFailureNotRetryable(externalTask, externalTaskService, exception);
-    }
-
     /**
      * Called when an exception arises from the {@link BaseExternalTaskHandler handleTask(externalTask)} method.
      *
@@ -107,7 +120,8 @@ public abstract class BaseExternalTaskHandler implements ExternalTaskHandler {
     void handleFailure(ExternalTask externalTask, ExternalTaskService externalTaskService, Exception e) {
         int maxRetries = getMaxAttempts();
         log.info("maxRetries {}", maxRetries);
-        int remainingRetries = externalTask.getRetries() == null ? maxRetries : externalTask.getRetries();
+        // a task that waited for another case may hold more retries than its failures are allowed
+        int remainingRetries = externalTask.getRetries() == null ? maxRetries : Math.min(externalTask.getRetries(), maxRetries);
         log.info(
             "Handle failure externalTask.getRetries() is null ?? '{}' processInstanceId: '{}' " +
                 "remainingRetries value : '{}' externalTask.getRetries() value: '{}' maxRetries: '{}'",
@@ -118,8 +132,9 @@ public abstract class BaseExternalTaskHandler implements ExternalTaskHandler {
             maxRetries
         );
         log.error("Error occurred {} remainingRetries {}", e.getMessage(), remainingRetries, e);
-        externalTaskService.handleFailure(
+        sendFailure(
             externalTask,
+            externalTaskService,
             e.getMessage(),
             getStackTrace(e),
             remainingRetries - 1,
@@ -128,6 +143,34 @@ public abstract class BaseExternalTaskHandler implements ExternalTaskHandler {
         );
     }
 
+    /**
+     * Called when the {@link BaseExternalTaskHandler handleTask(externalTask)} method finds the task cannot finish yet.
+     * The task is unlocked with a retry timeout rather than holding a worker while it waits, and its retries count
+     * down the attempts left. Once the last attempt has been used the process is sent the timeout error instead.
+     *
+     * @param externalTask        the external task to be handled.
+     * @param externalTaskService to interact with fetched and locked tasks.
+     * @param e                   the exception describing how long and how often to wait.
+     */
+    void handleNotReady(ExternalTask externalTask, ExternalTaskService externalTaskService, TaskNotReadyException e) {
+        int attemptsLeft = externalTask.getRetries() == null ? e.getAttempts() : externalTask.getRetries();
+        if (attemptsLeft <= 1) {
+            log.error("External task '{}' with processInstanceId '{}' timed out waiting: {}",
+                      externalTask.getTopicName(), externalTask.getProcessInstanceId(), e.getMessage()
+            );
+            sendBpmnError(externalTask, externalTaskService, e.getTimeoutErrorCode());
+            return;
+        }
+        sendFailure(
+            externalTask,
+            externalTaskService,
+            e.getMessage(),
+            null,
+            attemptsLeft - 1,
+            e.getRetryAfter().toMillis()
+        );
+    }
+
     /**
      * Called when an exception arises and retry is not required from the {@link BaseExternalTaskHandler handleTask(externalTask)} method.
      *
@@ -142,8 +185,9 @@ public abstract class BaseExternalTaskHandler implements ExternalTaskHandler {
             externalTask.getProcessInstanceId() != null ? externalTask.getProcessInstanceId() : "Instance id is null"
         );
 
-        externalTaskService.handleFailure(
+        sendFailure(
             externalTask,
+            externalTaskService,
             e.getMessage(),
             getStackTrace(e),
             remainingRetries,
@@ -151,6 +195,23 @@ public abstract class BaseExternalTaskHandler implements ExternalTaskHandler {
         );
     }
 
+    private void sendFailure(ExternalTask externalTask, ExternalTaskService externalTaskService,
+                             String errorMessage, String errorDetails, int retries, long retryTimeout) {
+        if (completionOutbox != null) {
+            completionOutbox.handleFailure(externalTask, externalTaskService, errorMessage, errorDetails, retries, retryTimeout);
+        } else {
+            externalTaskService.handleFailure(externalTask, errorMessage, errorDetails, retries, retryTimeout);
+        }
+    }
+
+    private void sendBpmnError(ExternalTask externalTask, ExternalTaskService externalTaskService, String errorCode) {
+        if (completionOutbox != null) {
+            completionOutbox.handleBpmnError(externalTask, externalTaskService, errorCode);
+        } else {
+            externalTaskService.handleBpmnError(externalTask, errorCode);
+        }
+    }
+
     private String getStackTrace(Throwable throwable) {
         if (throwable instanceof FeignException feignexception) {
             return feignexception.contentUTF8();
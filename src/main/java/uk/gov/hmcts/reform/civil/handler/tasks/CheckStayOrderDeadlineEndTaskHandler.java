@@ -1,31 +1,32 @@
 package uk.gov.hmcts.reform.civil.handler.tasks;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.enums.YesOrNo;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.ExternalTaskData;
 import uk.gov.hmcts.reform.civil.model.genapplication.GAApproveConsentOrder;
 import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialMakeAnOrder;
+import uk.gov.hmcts.reform.civil.model.search.Query;
+import uk.gov.hmcts.reform.civil.service.CaseEventSequence;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.scheduler.CaseEventPipeline;
+import uk.gov.hmcts.reform.civil.service.scheduler.PipelineReport;
 import uk.gov.hmcts.reform.civil.service.search.CaseStateSearchService;
+import uk.gov.hmcts.reform.civil.service.search.DeadlineQueries;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.function.Predicate;
 
-import static java.time.LocalDate.now;
-import static java.util.Objects.nonNull;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.END_SCHEDULER_CHECK_STAY_ORDER_DEADLINE;
 import static uk.gov.hmcts.reform.civil.enums.CaseState.ORDER_MADE;
 import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.STAY_THE_CLAIM;
+import static uk.gov.hmcts.reform.civil.service.Downstream.CCD;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -33,29 +34,41 @@ import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.STAY_TH
 @ConditionalOnExpression("${judge.revisit.stayOrder.event.emitter.enabled:true}")
 public class CheckStayOrderDeadlineEndTaskHandler extends BaseExternalTaskHandler {
 
+    /**
+     * The search returns only the orders the deadline is read from; the update sent back carries
+     * just the order marked as processed and is merged into the rest of the case when the event is submitted.
+     */
+    private static final List<String> ORDER_FIELDS = Query.dataFields("judicialDecisionMakeOrder", "approveConsentOrder");
+
     private final CaseStateSearchService caseSearchService;
 
     private final CoreCaseDataService coreCaseDataService;
 
     private final CaseDetailsConverter caseDetailsConverter;
-    private final ObjectMapper mapper;
+    private final CaseEventPipeline caseEventPipeline;
 
     @Override
     public ExternalTaskData handleTask(ExternalTask externalTask) {
-        List<CaseData> cases = getOrderMadeCasesThatAreEndingToday();
-        log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.size());
-
-        cases.forEach(this::fireEventForStateChange);
+        DeadlineQueries deadlines = DeadlineQueries.at(LocalDateTime.now());
+        PipelineReport report = caseEventPipeline.run(
+            externalTask.getTopicName(),
+            externalTask.getLockExpirationTime(),
+            pageConsumer -> caseSearchService
+                .streamOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM, deadlines.stayOrderExpired(), ORDER_FIELDS,
+                                                    pageConsumer),
+            caseDetailsConverter::toCaseData,
+            caseData -> isStayOrderDeadlineExpired(caseData, deadlines),
+            this::stateChangeEvents
+        );
+        if (report.firstFailure() != null) {
+            throw report.firstFailure();
+        }
         return ExternalTaskData.builder().build();
     }
 
-    private List<CaseData> getOrderMadeCasesThatAreEndingToday() {
-        Set<CaseDetails> orderMadeCases = caseSearchService
-            .getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM);
-        return orderMadeCases.stream()
-            .map(caseDetailsConverter::toCaseData)
-            .filter(isJudgeOrderStayDeadlineExpired.or(isConsentOrderStayDeadlineExpired))
-            .toList();
+    private CaseEventSequence stateChangeEvents(CaseData caseData) {
+        return CaseEventSequence.forCase(caseData.getCcdCaseReference())
+            .step(END_SCHEDULER_CHECK_STAY_ORDER_DEADLINE.name(), CCD, () -> fireEventForStateChange(caseData));
     }
 
     private void fireEventForStateChange(CaseData caseData) {
@@ -65,39 +78,25 @@ public class CheckStayOrderDeadlineEndTaskHandler extends BaseExternalTaskHandle
                      + "for caseId: {}", caseId);
 
         coreCaseDataService.triggerGaEvent(caseId, END_SCHEDULER_CHECK_STAY_ORDER_DEADLINE,
-                                           getUpdatedCaseDataMapper(updateCaseData(caseData)));
+                                           processedOrder(caseData));
         log.info("Checking state for caseId: {}", caseId);
     }
 
-    private CaseData updateCaseData(CaseData caseData) {
+    private Map<String, Object> processedOrder(CaseData caseData) {
         if (caseData.getApproveConsentOrder() != null) {
             GAApproveConsentOrder consentOrder = caseData.getApproveConsentOrder();
-            caseData = caseData.toBuilder()
-                .approveConsentOrder(
-                    consentOrder.toBuilder().isOrderProcessedByStayScheduler(YesOrNo.YES).build())
-                .build();
-
-        } else {
-            GAJudicialMakeAnOrder judicialDecisionMakeOrder = caseData.getJudicialDecisionMakeOrder();
-            caseData = caseData.toBuilder()
-                .judicialDecisionMakeOrder(
-                    judicialDecisionMakeOrder.toBuilder().isOrderProcessedByStayScheduler(YesOrNo.YES).build())
-                .build();
+            return Map.of("approveConsentOrder",
+                          consentOrder.toBuilder().isOrderProcessedByStayScheduler(YesOrNo.YES).build());
         }
-        return caseData;
+        GAJudicialMakeAnOrder judicialDecisionMakeOrder = caseData.getJudicialDecisionMakeOrder();
+        return Map.of("judicialDecisionMakeOrder",
+                      judicialDecisionMakeOrder.toBuilder().isOrderProcessedByStayScheduler(YesOrNo.YES).build());
     }
 
-    private final  Predicate<CaseData> isJudgeOrderStayDeadlineExpired = caseData ->
-        caseData.getJudicialDecisionMakeOrder() != null
-            && caseData.getJudicialDecisionMakeOrder().getJudgeApproveEditOptionDate() != null
-            && (!now().isBefore(caseData.getJudicialDecisionMakeOrder().getJudgeApproveEditOptionDate()));
-
-    private final Predicate<CaseData> isConsentOrderStayDeadlineExpired = caseData ->
-        caseData.getApproveConsentOrder() != null
-            && (nonNull(caseData.getApproveConsentOrder().getConsentOrderDateToEnd()))
-            && (!now().isBefore(caseData.getApproveConsentOrder().getConsentOrderDateToEnd()));
-
-    private Map<String, Object> getUpdatedCaseDataMapper(CaseData caseData) {
-        return caseData.toMap(mapper);
+    protected boolean isStayOrderDeadlineExpired(CaseData caseData, DeadlineQueries deadlines) {
+        return caseData.getJudicialDecisionMakeOrder() != null
+            && deadlines.reached(caseData.getJudicialDecisionMakeOrder().getJudgeApproveEditOptionDate())
+            || caseData.getApproveConsentOrder() != null
+            && deadlines.reached(caseData.getApproveConsentOrder().getConsentOrderDateToEnd());
     }
 }
@@ -1,28 +1,31 @@
 package uk.gov.hmcts.reform.civil.handler.tasks;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.enums.YesOrNo;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.ExternalTaskData;
 import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialMakeAnOrder;
+import uk.gov.hmcts.reform.civil.model.search.Query;
+import uk.gov.hmcts.reform.civil.service.CaseEventSequence;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.scheduler.CaseEventPipeline;
+import uk.gov.hmcts.reform.civil.service.scheduler.PipelineReport;
 import uk.gov.hmcts.reform.civil.service.search.CaseStateSearchService;
+import uk.gov.hmcts.reform.civil.service.search.DeadlineQueries;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
-import static java.time.LocalDate.now;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.END_SCHEDULER_CHECK_UNLESS_ORDER_DEADLINE;
 import static uk.gov.hmcts.reform.civil.enums.CaseState.ORDER_MADE;
 import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.UNLESS_ORDER;
+import static uk.gov.hmcts.reform.civil.service.Downstream.CCD;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -30,34 +33,47 @@ import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.UNLESS_
 @ConditionalOnExpression("${judge.revisit.unlessOrder.event.emitter.enabled:true}")
 public class CheckUnlessOrderDeadlineEndTaskHandler extends BaseExternalTaskHandler {
 
+    /**
+     * The search returns only the order the deadline is read from; the update sent back carries
+     * just that order marked as processed and is merged into the rest of the case when the event is submitted.
+     */
+    private static final List<String> ORDER_FIELDS = Query.dataFields("judicialDecisionMakeOrder");
+
     private final CaseStateSearchService caseSearchService;
 
     private final CoreCaseDataService coreCaseDataService;
 
     private final CaseDetailsConverter caseDetailsConverter;
-    private final ObjectMapper mapper;
+    private final CaseEventPipeline caseEventPipeline;
 
     @Override
     public ExternalTaskData handleTask(ExternalTask externalTask) {
-        List<CaseData> cases = getUnlessOrderCasesThatAreEndingToday();
-        log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.size());
-
-        cases.forEach(this::fireEventForStateChange);
+        DeadlineQueries deadlines = DeadlineQueries.at(LocalDateTime.now());
+        PipelineReport report = caseEventPipeline.run(
+            externalTask.getTopicName(),
+            externalTask.getLockExpirationTime(),
+            pageConsumer -> caseSearchService
+                .streamOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER, deadlines.unlessOrderExpired(), ORDER_FIELDS,
+                                                    pageConsumer),
+            caseDetailsConverter::toCaseData,
+            caseData -> isUnlessOrderEndingToday(caseData, deadlines),
+            this::stateChangeEvents
+        );
+        if (report.firstFailure() != null) {
+            throw report.firstFailure();
+        }
         return ExternalTaskData.builder().build();
     }
 
-    private List<CaseData> getUnlessOrderCasesThatAreEndingToday() {
-        Set<CaseDetails> unlessOrderCases = caseSearchService
-            .getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER);
-        return unlessOrderCases.stream()
-            .map(caseDetailsConverter::toCaseData)
-            .filter(caseData -> caseData.getJudicialDecisionMakeOrder()
-                .getJudgeApproveEditOptionDateForUnlessOrder() != null
-                && caseData.getJudicialDecisionMakeOrder().getIsOrderProcessedByUnlessScheduler() != null
-                && caseData.getJudicialDecisionMakeOrder().getIsOrderProcessedByUnlessScheduler().equals(YesOrNo.NO)
-                && (!now().isBefore(caseData.getJudicialDecisionMakeOrder()
-                                        .getJudgeApproveEditOptionDateForUnlessOrder()))
-            ).toList();
+    protected boolean isUnlessOrderEndingToday(CaseData caseData, DeadlineQueries deadlines) {
+        return caseData.getJudicialDecisionMakeOrder().getIsOrderProcessedByUnlessScheduler() != null
+            && caseData.getJudicialDecisionMakeOrder().getIsOrderProcessedByUnlessScheduler().equals(YesOrNo.NO)
+            && deadlines.reached(caseData.getJudicialDecisionMakeOrder().getJudgeApproveEditOptionDateForUnlessOrder());
+    }
+
+    private CaseEventSequence stateChangeEvents(CaseData caseData) {
+        return CaseEventSequence.forCase(caseData.getCcdCaseReference())
+            .step(END_SCHEDULER_CHECK_UNLESS_ORDER_DEADLINE.name(), CCD, () -> fireEventForStateChange(caseData));
     }
 
     private void fireEventForStateChange(CaseData caseData) {
@@ -67,20 +83,13 @@ public class CheckUnlessOrderDeadlineEndTaskHandler extends BaseExternalTaskHand
                      + "for caseId: {}", caseId);
 
         coreCaseDataService.triggerGaEvent(caseId, END_SCHEDULER_CHECK_UNLESS_ORDER_DEADLINE,
-                                           getUpdatedCaseDataMapper(updateCaseData(caseData)));
+                                           processedOrder(caseData));
         log.info("Checking state for caseId: {}", caseId);
     }
 
-    private CaseData updateCaseData(CaseData caseData) {
+    private Map<String, Object> processedOrder(CaseData caseData) {
         GAJudicialMakeAnOrder judicialDecisionMakeOrder = caseData.getJudicialDecisionMakeOrder();
-        caseData = caseData.toBuilder()
-            .judicialDecisionMakeOrder(
-                judicialDecisionMakeOrder.toBuilder().isOrderProcessedByUnlessScheduler(YesOrNo.YES).build())
-            .build();
-        return caseData;
-    }
-
-    private Map<String, Object> getUpdatedCaseDataMapper(CaseData caseData) {
-        return caseData.toMap(mapper);
+        return Map.of("judicialDecisionMakeOrder",
+                      judicialDecisionMakeOrder.toBuilder().isOrderProcessedByUnlessScheduler(YesOrNo.YES).build());
     }
 }
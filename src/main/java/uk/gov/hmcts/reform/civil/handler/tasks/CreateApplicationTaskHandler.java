@@ -27,6 +27,7 @@ import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
 import uk.gov.hmcts.reform.civil.utils.DocUploadUtils;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -64,6 +65,7 @@ public class CreateApplicationTaskHandler extends BaseExternalTaskHandler {
         CaseData caseData = caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails());
         var generalApplications = caseData.getGeneralApplications();
         CaseData generalAppCaseData = null;
+        Map<String, Object> updateMap = new HashMap<>();
 
         if (generalApplications != null && !generalApplications.isEmpty()) {
 
@@ -87,13 +89,17 @@ public class CreateApplicationTaskHandler extends BaseExternalTaskHandler {
 
                 caseData = withoutNoticeNoConsent(generalApplication, caseData, generalAppCaseData);
 
+                updateMap.put("generalApplications", caseData.getGeneralApplications());
+                updateMap.put("claimantGaAppDetails", caseData.getClaimantGaAppDetails());
+                updateMap.put("respondentSolGaAppDetails", caseData.getRespondentSolGaAppDetails());
+                updateMap.put("respondentSolTwoGaAppDetails", caseData.getRespondentSolTwoGaAppDetails());
             }
         }
 
         var parentCaseData = coreCaseDataService.submitUpdate(caseId,
-                                                              coreCaseDataService.caseDataContentFromStartEventResponse(
+                                                              coreCaseDataService.caseDataContentWithChanges(
                                                                   startEventResponse,
-                                                                  caseData.toMap(mapper)));
+                                                                  updateMap));
         return ExternalTaskData.builder()
             .caseData(parentCaseData)
             .generalApplicationCaseData(generalAppCaseData)
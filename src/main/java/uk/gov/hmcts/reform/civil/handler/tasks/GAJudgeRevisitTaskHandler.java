@@ -6,18 +6,25 @@ import org.camunda.bpm.client.task.ExternalTask;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.callback.CaseEvent;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.model.ExternalTaskData;
+import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialMakeAnOrder;
+import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialRequestMoreInfo;
+import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialWrittenRepresentations;
+import uk.gov.hmcts.reform.civil.service.CaseEventSequence;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 import uk.gov.hmcts.reform.civil.service.DocUploadDashboardNotificationService;
 import uk.gov.hmcts.reform.civil.service.GaForLipService;
+import uk.gov.hmcts.reform.civil.service.scheduler.CaseEventPipeline;
 import uk.gov.hmcts.reform.civil.service.search.CaseStateSearchService;
+import uk.gov.hmcts.reform.civil.service.search.DeadlineQueries;
 
-import java.time.LocalDate;
-import java.util.List;
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.function.Function;
 
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.DELETE_CLAIMANT_WRITTEN_REPS_NOTIFICATION;
@@ -30,6 +37,8 @@ import static uk.gov.hmcts.reform.civil.enums.CaseState.AWAITING_WRITTEN_REPRESE
 import static uk.gov.hmcts.reform.civil.enums.dq.GAJudgeMakeAnOrderOption.GIVE_DIRECTIONS_WITHOUT_HEARING;
 import static uk.gov.hmcts.reform.civil.enums.dq.GAJudgeWrittenRepresentationsOptions.CONCURRENT_REPRESENTATIONS;
 import static uk.gov.hmcts.reform.civil.enums.dq.GAJudgeWrittenRepresentationsOptions.SEQUENTIAL_REPRESENTATIONS;
+import static uk.gov.hmcts.reform.civil.service.Downstream.CCD;
+import static uk.gov.hmcts.reform.civil.service.Downstream.DASHBOARD;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -46,193 +55,168 @@ public class GAJudgeRevisitTaskHandler extends BaseExternalTaskHandler {
     private final DocUploadDashboardNotificationService dashboardNotificationService;
 
     private final FeatureToggleService featureToggleService;
+    private final CaseEventPipeline caseEventPipeline;
 
     @Override
     public ExternalTaskData handleTask(ExternalTask externalTask) {
-        Set<CaseDetails> writtenRepresentationCases = caseStateSearchService
-            .getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS);
-        List<CaseDetails> claimantNotificationCases = filterForClaimantWrittenRepExpired(writtenRepresentationCases);
-        log.info("Job '{}' found {} written representation case(s) with claimant deadline expired {}",
-                 externalTask.getTopicName(), claimantNotificationCases.size(), claimantNotificationCases.stream().map(CaseDetails::getId).sorted().toList());
-        if (featureToggleService.isGaForLipsEnabled()) {
-            claimantNotificationCases.forEach(this::fireEventForDeleteClaimantNotification);
-        }
+        String jobName = externalTask.getTopicName();
+        Date lockExpirationTime = externalTask.getLockExpirationTime();
+        boolean gaForLipsEnabled = featureToggleService.isGaForLipsEnabled();
+        DeadlineQueries cutoff = DeadlineQueries.at(LocalDateTime.now());
+
+        caseEventPipeline.run(
+            jobName,
+            lockExpirationTime,
+            pageConsumer -> caseStateSearchService
+                .streamGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS, cutoff.writtenRepresentationsExpired(), pageConsumer),
+            caseDetails -> toWrittenRepDeadlines(caseDetails, cutoff),
+            deadlines -> deadlines.claimantExpired() || deadlines.defendantExpired(),
+            deadlines -> writtenRepEvents(deadlines, gaForLipsEnabled)
+        );
+        caseEventPipeline.run(
+            jobName,
+            lockExpirationTime,
+            pageConsumer -> caseStateSearchService
+                .streamGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS, cutoff.directionsResponseDue(), pageConsumer),
+            Function.identity(),
+            caseDetails -> isDirectionOrderReadyToJudgeRevisit(caseDetails, cutoff),
+            caseDetails -> judgeRevisitEvents(caseDetails, gaForLipsEnabled)
+        );
+        caseEventPipeline.run(
+            jobName,
+            lockExpirationTime,
+            pageConsumer -> caseStateSearchService
+                .streamGeneralApplications(AWAITING_ADDITIONAL_INFORMATION, cutoff.moreInformationDue(), pageConsumer),
+            Function.identity(),
+            caseDetails -> isRequestForInformationReadyToJudgeRevisit(caseDetails, cutoff),
+            caseDetails -> judgeRevisitEvents(caseDetails, gaForLipsEnabled)
+        );
+        return ExternalTaskData.builder().build();
+    }
 
-        List<CaseDetails> defendantNotificationCases = filterForDefendantWrittenRepExpired(writtenRepresentationCases);
-        log.info("Job '{}' found {} written representation case(s) with defendant deadline expired {}",
-                 externalTask.getTopicName(), defendantNotificationCases.size(), defendantNotificationCases.stream().map(CaseDetails::getId).sorted().toList());
-        if (featureToggleService.isGaForLipsEnabled()) {
-            defendantNotificationCases.forEach(this::fireEventForDeleteDefendantNotification);
+    private CaseEventSequence writtenRepEvents(WrittenRepDeadlines deadlines, boolean gaForLipsEnabled) {
+        CaseDetails caseDetails = deadlines.caseDetails();
+        Long caseId = caseDetails.getId();
+        CaseEventSequence events = CaseEventSequence.forCase(caseId);
+        if (gaForLipsEnabled && deadlines.claimantExpired()) {
+            events.step(DELETE_CLAIMANT_WRITTEN_REPS_NOTIFICATION.name(), CCD,
+                        () -> triggerEvent(caseId, DELETE_CLAIMANT_WRITTEN_REPS_NOTIFICATION));
         }
-
-        // Change state for all cases where both deadlines have passed
-        claimantNotificationCases.stream().filter(defendantNotificationCases::contains)
-            .forEach(casDetails -> {
-                fireEventForStateChange(casDetails);
-                fireEventForUpdatingTaskList(casDetails);
-
-            });
-        List<CaseDetails> directionOrderCases = getDirectionOrderCaseReadyToJudgeRevisit();
-        log.info("Job '{}' found {} direction order case(s) {}",
-                 externalTask.getTopicName(), directionOrderCases.size(), directionOrderCases.stream().map(CaseDetails::getId).sorted().toList());
-        directionOrderCases.forEach(this::fireEventForStateChange);
-
-        if (featureToggleService.isGaForLipsEnabled()) {
-            directionOrderCases.forEach(this::fireEventForUpdatingTaskList);
+        if (gaForLipsEnabled && deadlines.defendantExpired()) {
+            events.step(DELETE_DEFENDANT_WRITTEN_REPS_NOTIFICATION.name(), CCD,
+                        () -> triggerEvent(caseId, DELETE_DEFENDANT_WRITTEN_REPS_NOTIFICATION));
         }
-        List<CaseDetails> requestForInformationCases = getRequestForInformationCaseReadyToJudgeRevisit();
-        log.info("Job '{}' found {} request for information case(s) {}",
-                 externalTask.getTopicName(), requestForInformationCases.size(), requestForInformationCases.stream().map(CaseDetails::getId).sorted().toList());
-        requestForInformationCases.forEach(this::fireEventForStateChange);
-        if (featureToggleService.isGaForLipsEnabled()) {
-            requestForInformationCases.forEach(this::fireEventForUpdatingTaskList);
+        // Change state once both deadlines have passed
+        if (deadlines.claimantExpired() && deadlines.defendantExpired()) {
+            CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
+            addStateChangeEvents(events, caseId, caseData);
+            addTaskListEvents(events, caseId, caseData);
         }
-        return ExternalTaskData.builder().build();
+        return events;
     }
 
-    protected void fireEventForStateChange(CaseDetails caseDetails) {
+    private CaseEventSequence judgeRevisitEvents(CaseDetails caseDetails, boolean gaForLipsEnabled) {
         Long caseId = caseDetails.getId();
-        log.info("Firing event CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED "
-                     + "for caseId: {}", caseId);
         CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
-        try {
-            coreCaseDataService.triggerEvent(caseId, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
-            // Generate Dashboard Notification for Lip Party
-            if (gaForLipService.isGaForLip(caseData)) {
+        CaseEventSequence events = CaseEventSequence.forCase(caseId);
+        addStateChangeEvents(events, caseId, caseData);
+        if (gaForLipsEnabled) {
+            addTaskListEvents(events, caseId, caseData);
+        }
+        return events;
+    }
+
+    private void addStateChangeEvents(CaseEventSequence events, Long caseId, CaseData caseData) {
+        events.step(CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED.name(), CCD,
+                    () -> triggerEvent(caseId, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED));
+        // Generate Dashboard Notification for Lip Party
+        if (gaForLipService.isGaForLip(caseData)) {
+            events.dependentStep("RESPONSE_DASHBOARD_NOTIFICATION", DASHBOARD, () -> {
                 String userToken = coreCaseDataService.getSystemUpdateUserToken();
                 dashboardNotificationService.createResponseDashboardNotification(caseData, "APPLICANT", userToken);
                 dashboardNotificationService.createResponseDashboardNotification(caseData, "RESPONDENT", userToken);
-
-            }
-        } catch (Exception exception) {
-            log.error("Error in GAJudgeRevisitTaskHandler::fireEventForStateChange: " + exception);
+            });
         }
     }
 
-    protected void fireEventForDeleteClaimantNotification(CaseDetails caseDetails) {
-        Long caseId = caseDetails.getId();
-        log.info("Firing event DELETE_CLAIMANT_WRITTEN_REPS_NOTIFICATION to delete "
-                     + "written representations notification"
-                     + "for caseId: {}", caseId);
-        try {
-            coreCaseDataService.triggerEvent(caseId, DELETE_CLAIMANT_WRITTEN_REPS_NOTIFICATION);
-        } catch (Exception exception) {
-            log.error("Error in GAJudgeRevisitTaskHandler::fireEventForDeleteClaimantNotification: " + exception);
+    private void addTaskListEvents(CaseEventSequence events, Long caseId, CaseData caseData) {
+        if (gaForLipService.isGaForLip(caseData)) {
+            events.step(UPDATE_CLAIMANT_TASK_LIST_GA.name(), CCD,
+                        () -> triggerEvent(caseId, UPDATE_CLAIMANT_TASK_LIST_GA))
+                .dependentStep(UPDATE_RESPONDENT_TASK_LIST_GA.name(), CCD,
+                               () -> triggerEvent(caseId, UPDATE_RESPONDENT_TASK_LIST_GA));
         }
     }
 
-    protected void fireEventForDeleteDefendantNotification(CaseDetails caseDetails) {
-        Long caseId = caseDetails.getId();
-        log.info("Firing event DELETE_DEFENDANT_WRITTEN_REPS_NOTIFICATION to delete "
-                     + "written representations notification"
-                     + "for caseId: {}", caseId);
-        try {
-            coreCaseDataService.triggerEvent(caseId, DELETE_DEFENDANT_WRITTEN_REPS_NOTIFICATION);
-        } catch (Exception exception) {
-            log.error("Error in GAJudgeRevisitTaskHandler::fireEventForDeleteDefendantNotification: " + exception);
-        }
+    private void triggerEvent(Long caseId, CaseEvent event) {
+        log.info("Firing event {} for caseId: {}", event, caseId);
+        coreCaseDataService.triggerEvent(caseId, event);
     }
 
-    protected void fireEventForUpdatingTaskList(CaseDetails caseDetails) {
-        Long caseId = caseDetails.getId();
-        log.info("Firing event UPDATE_CLAIMANT_TASK_LIST_GA "
-                     + "for judge direction order"
-                     + "for caseId: {}", caseId);
-        try {
-            CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
-            if (gaForLipService.isGaForLip(caseData)) {
-                coreCaseDataService.triggerEvent(caseId, UPDATE_CLAIMANT_TASK_LIST_GA);
-                coreCaseDataService.triggerEvent(caseId, UPDATE_RESPONDENT_TASK_LIST_GA);
-            }
-        } catch (Exception exception) {
-            log.error("Error in GAJudgeRevisitTaskHandler::fireEventForUpdatingClaimantTaskList: " + exception);
-        }
+    private WrittenRepDeadlines toWrittenRepDeadlines(CaseDetails caseDetails, DeadlineQueries cutoff) {
+        return new WrittenRepDeadlines(
+            caseDetails,
+            isClaimantWrittenRepExpired(caseDetails, cutoff),
+            isDefendantWrittenRepExpired(caseDetails, cutoff)
+        );
     }
 
-    protected List<CaseDetails> filterForClaimantWrittenRepExpired(Set<CaseDetails> writtenRepCases) {
-        return writtenRepCases.stream()
-            .filter(a -> {
-                try {
-                    return (caseDetailsConverter.toCaseData(a).getJudicialDecisionMakeAnOrderForWrittenRepresentations()
-                        .getWrittenOption().equals(CONCURRENT_REPRESENTATIONS))
-                        && (!LocalDate.now().isBefore(caseDetailsConverter.toCaseData(a)
-                                                          .getJudicialDecisionMakeAnOrderForWrittenRepresentations()
-                                                          .getWrittenConcurrentRepresentationsBy()))
-                        || caseDetailsConverter.toCaseData(a).getJudicialDecisionMakeAnOrderForWrittenRepresentations()
-                        .getWrittenOption().equals(SEQUENTIAL_REPRESENTATIONS)
-                        && (!LocalDate.now().isBefore(caseDetailsConverter.toCaseData(a)
-                                                          .getJudicialDecisionMakeAnOrderForWrittenRepresentations()
-                                                          .getSequentialApplicantMustRespondWithin()));
-                } catch (Exception e) {
-                    log.error("Error GAJudgeRevisitTaskHandler::getWrittenRepCaseReadyToJudgeRevisit : " + e);
-                }
-                return false;
-            }).toList();
+    protected boolean isClaimantWrittenRepExpired(CaseDetails caseDetails, DeadlineQueries cutoff) {
+        try {
+            GAJudicialWrittenRepresentations writtenRepresentations = caseDetailsConverter.toCaseData(caseDetails)
+                .getJudicialDecisionMakeAnOrderForWrittenRepresentations();
+            return writtenRepresentations.getWrittenOption().equals(CONCURRENT_REPRESENTATIONS)
+                && cutoff.reached(writtenRepresentations.getWrittenConcurrentRepresentationsBy())
+                || writtenRepresentations.getWrittenOption().equals(SEQUENTIAL_REPRESENTATIONS)
+                && cutoff.reached(writtenRepresentations.getSequentialApplicantMustRespondWithin());
+        } catch (Exception e) {
+            log.error("Error GAJudgeRevisitTaskHandler::getWrittenRepCaseReadyToJudgeRevisit : " + e);
+        }
+        return false;
     }
 
-    protected List<CaseDetails> filterForDefendantWrittenRepExpired(Set<CaseDetails> writtenRepCases) {
-        return writtenRepCases.stream()
-            .filter(a -> {
-                try {
-                    return (caseDetailsConverter.toCaseData(a).getJudicialDecisionMakeAnOrderForWrittenRepresentations()
-                        .getWrittenOption().equals(CONCURRENT_REPRESENTATIONS))
-                        && (LocalDate.now().compareTo(caseDetailsConverter.toCaseData(a)
-                                                          .getJudicialDecisionMakeAnOrderForWrittenRepresentations()
-                                                          .getWrittenConcurrentRepresentationsBy()) >= 0)
-                        || caseDetailsConverter.toCaseData(a).getJudicialDecisionMakeAnOrderForWrittenRepresentations()
-                        .getWrittenOption().equals(SEQUENTIAL_REPRESENTATIONS)
-                        && (LocalDate.now().compareTo(caseDetailsConverter.toCaseData(a)
-                                                          .getJudicialDecisionMakeAnOrderForWrittenRepresentations()
-                                                          .getWrittenSequentailRepresentationsBy()) >= 0);
-                } catch (Exception e) {
-                    log.error("Error GAJudgeRevisitTaskHandler::getWrittenRepCaseReadyToJudgeRevisit : " + e);
-                }
-                return false;
-            }).toList();
+    protected boolean isDefendantWrittenRepExpired(CaseDetails caseDetails, DeadlineQueries cutoff) {
+        try {
+            GAJudicialWrittenRepresentations writtenRepresentations = caseDetailsConverter.toCaseData(caseDetails)
+                .getJudicialDecisionMakeAnOrderForWrittenRepresentations();
+            return writtenRepresentations.getWrittenOption().equals(CONCURRENT_REPRESENTATIONS)
+                && cutoff.reached(writtenRepresentations.getWrittenConcurrentRepresentationsBy())
+                || writtenRepresentations.getWrittenOption().equals(SEQUENTIAL_REPRESENTATIONS)
+                && cutoff.reached(writtenRepresentations.getWrittenSequentailRepresentationsBy());
+        } catch (Exception e) {
+            log.error("Error GAJudgeRevisitTaskHandler::getWrittenRepCaseReadyToJudgeRevisit : " + e);
+        }
+        return false;
     }
 
-    protected List<CaseDetails> getDirectionOrderCaseReadyToJudgeRevisit() {
-        Set<CaseDetails> judgeReadyToRevisitDirectionOrderCases = caseStateSearchService
-            .getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS);
-
-        return judgeReadyToRevisitDirectionOrderCases.stream()
-            .filter(a -> {
-                try {
-                    return (caseDetailsConverter.toCaseData(a).getJudicialDecisionMakeOrder().getMakeAnOrder()
-                        .equals(GIVE_DIRECTIONS_WITHOUT_HEARING))
-                        && (!LocalDate.now().isBefore(caseDetailsConverter.toCaseData(a)
-                                                          .getJudicialDecisionMakeOrder()
-                                                          .getDirectionsResponseByDate()));
-                } catch (Exception e) {
-                    log.error("Error GAJudgeRevisitTaskHandler::getDirectionOrderCaseReadyToJudgeRevisit : " + e);
-                }
-                return false;
-            }).toList();
+    protected boolean isDirectionOrderReadyToJudgeRevisit(CaseDetails caseDetails, DeadlineQueries cutoff) {
+        try {
+            GAJudicialMakeAnOrder makeAnOrder = caseDetailsConverter.toCaseData(caseDetails)
+                .getJudicialDecisionMakeOrder();
+            return makeAnOrder.getMakeAnOrder().equals(GIVE_DIRECTIONS_WITHOUT_HEARING)
+                && cutoff.reached(makeAnOrder.getDirectionsResponseByDate());
+        } catch (Exception e) {
+            log.error("Error GAJudgeRevisitTaskHandler::getDirectionOrderCaseReadyToJudgeRevisit : " + e);
+        }
+        return false;
     }
 
-    protected List<CaseDetails> getRequestForInformationCaseReadyToJudgeRevisit() {
-        Set<CaseDetails> judgeReadyToRevisitRequestForInfoCases = caseStateSearchService
-            .getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION);
-
-        return judgeReadyToRevisitRequestForInfoCases.stream()
-            .filter(a -> {
-                try {
-                    return caseDetailsConverter.toCaseData(a)
-                        .getJudicialDecisionRequestMoreInfo()
-                        .getJudgeRequestMoreInfoByDate() != null
-                        && (!LocalDate.now().isBefore(caseDetailsConverter.toCaseData(a)
-                                                          .getJudicialDecisionRequestMoreInfo()
-                                                          .getJudgeRequestMoreInfoByDate()));
-                } catch (Exception e) {
-                    log.error("GAJudgeRevisitTaskHandler failed: " + e);
-                }
-                return false;
-            })
-            .toList();
+    protected boolean isRequestForInformationReadyToJudgeRevisit(CaseDetails caseDetails, DeadlineQueries cutoff) {
+        try {
+            GAJudicialRequestMoreInfo requestMoreInfo = caseDetailsConverter.toCaseData(caseDetails)
+                .getJudicialDecisionRequestMoreInfo();
+            return cutoff.reached(requestMoreInfo.getJudgeRequestMoreInfoByDate());
+        } catch (Exception e) {
+            log.error("GAJudgeRevisitTaskHandler failed: " + e);
+        }
+        return false;
     }
 
     @Override
     public int getMaxAttempts() {
         return 1;
     }
+
+    private record WrittenRepDeadlines(CaseDetails caseDetails, boolean claimantExpired, boolean defendantExpired) {
+    }
 }
@@ -6,18 +6,19 @@ import org.camunda.bpm.client.task.ExternalTask;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
-import uk.gov.hmcts.reform.civil.enums.YesOrNo;
+import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
-import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.ExternalTaskData;
+import uk.gov.hmcts.reform.civil.model.search.ResponseDeadlineView;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 import uk.gov.hmcts.reform.civil.service.search.CaseStateSearchService;
+import uk.gov.hmcts.reform.civil.service.search.DeadlineQueries;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import static java.time.LocalDateTime.now;
-import static java.util.stream.Collectors.toSet;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.CHANGE_STATE_TO_AWAITING_JUDICIAL_DECISION;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.RESPONDENT_RESPONSE_DEADLINE_CHECK;
 import static uk.gov.hmcts.reform.civil.enums.CaseState.APPLICATION_SUBMITTED_AWAITING_JUDICIAL_DECISION;
@@ -37,26 +38,25 @@ public class GAResponseDeadlineTaskHandler extends BaseExternalTaskHandler {
 
     @Override
     public ExternalTaskData handleTask(ExternalTask externalTask) {
-        Set<CaseDetails> cases = getAwaitingResponseCasesThatArePastDueDate();
-        List<Long> ids = cases.stream().map(CaseDetails::getId).toList();
+        Set<ResponseDeadlineView> cases = getAwaitingResponseCasesThatArePastDueDate();
+        List<Long> ids = cases.stream().map(ResponseDeadlineView::ccdCaseReference).toList();
         log.info("GAResponseDeadlineTaskHandler Job '{}' found {} case(s) with ids {}", externalTask.getTopicName(), cases.size(), ids);
 
         cases.forEach(this::deleteDashboardNotifications);
         cases.forEach(this::fireEventForStateChange);
 
-        Set<CaseDetails> caseList = getUrgentApplicationCasesThatArePastDueDate();
-        List<Long> ids2 = caseList.stream().map(CaseDetails::getId).toList();
+        Set<ResponseDeadlineView> caseList = getUrgentApplicationCasesThatArePastDueDate();
+        List<Long> ids2 = caseList.stream().map(ResponseDeadlineView::ccdCaseReference).toList();
         log.info("GAResponseDeadlineTaskHandler Job '{}' found {} case(s) with ids {}", externalTask.getTopicName(), caseList.size(), ids2);
         caseList.forEach(this::deleteDashboardNotifications);
 
         return ExternalTaskData.builder().build();
     }
 
-    private void deleteDashboardNotifications(CaseDetails caseDetails) {
-        Long caseId = caseDetails.getId();
-        CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
+    private void deleteDashboardNotifications(ResponseDeadlineView caseView) {
+        Long caseId = caseView.ccdCaseReference();
         log.info("Firing Event to delete dashboard notification caseId: {}", caseId);
-        if (YesOrNo.YES == caseData.getIsGaApplicantLip() || YesOrNo.YES == caseData.getIsGaRespondentOneLip()) {
+        if (caseView.hasLipParty()) {
             try {
                 log.info("calling triggerEvent");
                 coreCaseDataService.triggerEvent(caseId, RESPONDENT_RESPONSE_DEADLINE_CHECK);
@@ -66,8 +66,8 @@ public class GAResponseDeadlineTaskHandler extends BaseExternalTaskHandler {
         }
     }
 
-    private void fireEventForStateChange(CaseDetails caseDetails) {
-        Long caseId = caseDetails.getId();
+    private void fireEventForStateChange(ResponseDeadlineView caseView) {
+        Long caseId = caseView.ccdCaseReference();
         log.info("Firing event CHANGE_STATE_TO_AWAITING_JUDICIAL_DECISION to change the state from "
                      + "AWAITING_RESPONDENT_RESPONSE to APPLICATION_SUBMITTED_AWAITING_JUDICIAL_DECISION "
                      + "for caseId: {}", caseId);
@@ -78,40 +78,30 @@ public class GAResponseDeadlineTaskHandler extends BaseExternalTaskHandler {
         }
     }
 
-    protected Set<CaseDetails> getAwaitingResponseCasesThatArePastDueDate() {
-        Set<CaseDetails> awaitingResponseCases = caseSearchService
-            .getGeneralApplications(AWAITING_RESPONDENT_RESPONSE);
-
-        return awaitingResponseCases.stream()
-            .filter(a -> {
-                try {
-                    return caseDetailsConverter.toCaseData(a).getGeneralAppNotificationDeadlineDate() != null
-                        && now().isAfter(
-                        caseDetailsConverter.toCaseData(a).getGeneralAppNotificationDeadlineDate());
-                } catch (Exception e) {
-                    log.error("GAResponseDeadlineTaskHandler failed: " + e);
-                }
-                return false;
-            })
-            .collect(toSet());
+    protected Set<ResponseDeadlineView> getAwaitingResponseCasesThatArePastDueDate() {
+        return casesPastDueDate(AWAITING_RESPONDENT_RESPONSE);
+    }
+
+    protected Set<ResponseDeadlineView> getUrgentApplicationCasesThatArePastDueDate() {
+        return casesPastDueDate(APPLICATION_SUBMITTED_AWAITING_JUDICIAL_DECISION);
     }
 
-    protected Set<CaseDetails> getUrgentApplicationCasesThatArePastDueDate() {
-        Set<CaseDetails> awaitingResponseCases = caseSearchService
-            .getGeneralApplications(APPLICATION_SUBMITTED_AWAITING_JUDICIAL_DECISION);
-
-        return awaitingResponseCases.stream()
-            .filter(a -> {
-                try {
-                    return caseDetailsConverter.toCaseData(a).getGeneralAppNotificationDeadlineDate() != null
-                        && now().isAfter(
-                        caseDetailsConverter.toCaseData(a).getGeneralAppNotificationDeadlineDate());
-                } catch (Exception e) {
-                    log.error("GAResponseDeadlineTaskHandler failed: " + e);
+    private Set<ResponseDeadlineView> casesPastDueDate(CaseState caseState) {
+        DeadlineQueries deadlines = DeadlineQueries.at(now());
+        Set<CaseDetails> cases = caseSearchService
+            .getGeneralApplications(caseState, deadlines.responseDeadlinePassed(), ResponseDeadlineView.FIELDS);
+        Set<ResponseDeadlineView> casesPastDueDate = new HashSet<>();
+        for (CaseDetails caseDetails : cases) {
+            try {
+                ResponseDeadlineView caseView = caseDetailsConverter.toView(caseDetails, ResponseDeadlineView.class);
+                if (caseView.isPastDeadline(deadlines.now())) {
+                    casesPastDueDate.add(caseView);
                 }
-                return false;
-            })
-            .collect(toSet());
+            } catch (Exception e) {
+                log.error("GAResponseDeadlineTaskHandler failed: " + e);
+            }
+        }
+        return casesPastDueDate;
     }
 
     @Override
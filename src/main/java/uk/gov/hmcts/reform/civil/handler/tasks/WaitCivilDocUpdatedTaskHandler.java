@@ -7,9 +7,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.client.task.ExternalTask;
-import org.camunda.bpm.engine.delegate.BpmnError;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
+import uk.gov.hmcts.reform.civil.exceptions.TaskNotReadyException;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.model.CaseData;
@@ -20,11 +20,11 @@ import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 import uk.gov.hmcts.reform.civil.service.GaForLipService;
 import uk.gov.hmcts.reform.civil.service.data.ExternalTaskInput;
 
+import java.time.Duration;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.google.common.collect.Lists.newArrayList;
@@ -50,32 +50,32 @@ public class WaitCivilDocUpdatedTaskHandler extends BaseExternalTaskHandler {
                 ExternalTaskInput.class);
         String caseId = externalTaskInput.getCaseId();
         CaseEvent eventType = externalTaskInput.getCaseEvent();
-        StartEventResponse startEventResponse = coreCaseDataService
-            .startGaUpdate(caseId, eventType);
-        CaseData gaCaseData = caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails());
-        log.info("Started GA update for Case ID: {}, Event Type: {}", caseId, eventType);
+        // read without starting an event, so a task that is not ready yet opens nothing in CCD
+        CaseData gaCaseData = caseDetailsConverter.toCaseData(coreCaseDataService.getCase(Long.valueOf(caseId)));
 
         if (!gaForLipService.isGaForLip(gaCaseData)) {
             boolean civilUpdated = checkCivilDocUpdated(gaCaseData);
-            int wait = maxWait;
-            log.info("Civil Doc update = {}, event {}, try {}", civilUpdated, eventType.name(), wait);
-            while (!civilUpdated && wait > 0) {
-                wait--;
-                TimeUnit.SECONDS.sleep(waitGap);
-                civilUpdated = checkCivilDocUpdated(gaCaseData);
-                log.info("Civil Doc update = {}, event {}, try {}", civilUpdated, eventType.name(), wait);
-            }
+            log.info("Civil Doc update = {}, event {}, retries left {}", civilUpdated, eventType.name(),
+                     externalTask.getRetries());
             if (!civilUpdated) {
-                log.error("Civil draft document update wait time out");
-                throw new BpmnError("ABORT");
+                // checked again once the task is fetched after waitGap, rather than holding the worker
+                throw new TaskNotReadyException(
+                    "Civil draft document not yet updated for case " + caseId,
+                    Duration.ofSeconds(waitGap),
+                    maxWait,
+                    "ABORT"
+                );
             }
-        } else {
-
-            CaseDataContent caseDataContent = gaCaseDataContent(startEventResponse, gaCaseData);
-            var caseData = coreCaseDataService.submitGaUpdate(caseId, caseDataContent);
-            return ExternalTaskData.builder().caseData(caseData).build();
+            return ExternalTaskData.builder().build();
         }
-        return ExternalTaskData.builder().build();
+
+        StartEventResponse startEventResponse = coreCaseDataService
+            .startGaUpdate(caseId, eventType);
+        log.info("Started GA update for Case ID: {}, Event Type: {}", caseId, eventType);
+        CaseDataContent caseDataContent = gaCaseDataContent(
+            startEventResponse, caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails()));
+        var caseData = coreCaseDataService.submitGaUpdate(caseId, caseDataContent);
+        return ExternalTaskData.builder().caseData(caseData).build();
     }
 
     private Map<String, Object> getUpdatedCaseData(CaseData gaCaseData) {
@@ -1,34 +1,234 @@
 package uk.gov.hmcts.reform.civil.helpers;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class CaseDetailsConverter {
 
+    private static final String MEMO_ATTRIBUTE = CaseDetailsConverter.class.getName() + ".memo";
+
     private final ObjectMapper objectMapper;
+    private final ObjectReader caseDataReader;
+    private final Map<Class<?>, ObjectReader> viewReaders = new ConcurrentHashMap<>();
 
     public CaseDetailsConverter(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
         this.objectMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        this.caseDataReader = objectMapper.readerFor(CaseData.class);
     }
 
+    /**
+     * Converts the case details into case data. While serving an HTTP request the token stream the
+     * payload is written into is remembered against the case details instance, so the callback
+     * controller, the handler factory and the handlers walk the same payload once. Every caller
+     * reads its own case data from that stream, so no two callers share any part of it. The memo is
+     * dropped when the id, state, created date or any value of the data map no longer equals what
+     * was converted.
+     */
     public CaseData toCaseData(CaseDetails caseDetails) {
-        Map<String, Object> data = new HashMap<>(caseDetails.getData());
-        data.put("ccdCaseReference", caseDetails.getId());
-        if (caseDetails.getState() != null) {
-            data.put("ccdState", CaseState.valueOf(caseDetails.getState()));
+        Map<CaseDetails, Conversion> memo = requestMemo();
+        if (memo == null) {
+            return convert(caseDetails);
+        }
+        Conversion conversion = memo.get(caseDetails);
+        if (conversion == null || !conversion.content().matches(caseDetails)) {
+            conversion = new Conversion(Content.of(caseDetails), tokens(caseDetails));
+            memo.put(caseDetails, conversion);
+        }
+        return read(conversion.tokens(), caseDataReader);
+    }
+
+    /**
+     * Reads a projection of the case details, such as the few fields a scheduler searched for,
+     * into a record named after those fields. Fields the record does not name are ignored.
+     */
+    public <T extends Record> T toView(CaseDetails caseDetails, Class<T> viewType) {
+        ObjectReader reader = viewReaders.computeIfAbsent(
+            viewType,
+            type -> objectMapper.readerFor(type).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        );
+        return read(caseDetails, reader);
+    }
+
+    CaseData convert(CaseDetails caseDetails) {
+        return read(caseDetails, caseDataReader);
+    }
+
+    private <T> T read(CaseDetails caseDetails, ObjectReader reader) {
+        try (TokenBuffer buffer = tokens(caseDetails)) {
+            return read(buffer, reader);
+        }
+    }
+
+    private <T> T read(TokenBuffer tokens, ObjectReader reader) {
+        try {
+            return reader.readValue(tokens.asParser(objectMapper));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the data map straight into a token buffer to read case data from. This gives the same
+     * result as {@link ObjectMapper#convertValue(Object, Class)} on the map, including dropping empty
+     * map entries, without looking up a serializer for every value of the map.
+     */
+    private TokenBuffer tokens(CaseDetails caseDetails) {
+        boolean hasState = caseDetails.getState() != null;
+        boolean hasCreatedDate = caseDetails.getCreatedDate() != null;
+        TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+        try {
+            buffer.writeStartObject();
+            for (Map.Entry<String, Object> entry : caseDetails.getData().entrySet()) {
+                String key = entry.getKey();
+                if (!"ccdCaseReference".equals(key)
+                    && !(hasState && "ccdState".equals(key))
+                    && !(hasCreatedDate && "createdDate".equals(key))) {
+                    writeField(buffer, key, entry.getValue());
+                }
+            }
+            writeField(buffer, "ccdCaseReference", caseDetails.getId());
+            if (hasState) {
+                writeField(buffer, "ccdState", CaseState.valueOf(caseDetails.getState()));
+            }
+            if (hasCreatedDate) {
+                writeField(buffer, "createdDate", caseDetails.getCreatedDate());
+            }
+            buffer.writeEndObject();
+            return buffer;
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private void writeField(TokenBuffer buffer, String name, Object value) throws IOException {
+        if (!isEmpty(value)) {
+            buffer.writeFieldName(name);
+            writeValue(buffer, value);
+        }
+    }
+
+    private void writeValue(TokenBuffer buffer, Object value) throws IOException {
+        if (value == null) {
+            buffer.writeNull();
+        } else if (value instanceof String text) {
+            buffer.writeString(text);
+        } else if (value instanceof Map<?, ?> map) {
+            buffer.writeStartObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeField(buffer, String.valueOf(entry.getKey()), entry.getValue());
+            }
+            buffer.writeEndObject();
+        } else if (value instanceof Collection<?> collection) {
+            buffer.writeStartArray();
+            for (Object element : collection) {
+                writeValue(buffer, element);
+            }
+            buffer.writeEndArray();
+        } else if (value instanceof Boolean bool) {
+            buffer.writeBoolean(bool);
+        } else if (value instanceof Integer number) {
+            buffer.writeNumber(number);
+        } else if (value instanceof Long number) {
+            buffer.writeNumber(number);
+        } else if (value instanceof Double number) {
+            buffer.writeNumber(number);
+        } else if (value instanceof BigDecimal number) {
+            buffer.writeNumber(number);
+        } else if (value instanceof BigInteger number) {
+            buffer.writeNumber(number);
+        } else {
+            objectMapper.writeValue(buffer, value);
+        }
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value == null
+            || value instanceof String text && text.isEmpty()
+            || value instanceof Map<?, ?> map && map.isEmpty()
+            || value instanceof Collection<?> collection && collection.isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<CaseDetails, Conversion> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object memo = attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new IdentityHashMap<CaseDetails, Conversion>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
         }
-        if (caseDetails.getCreatedDate() != null) {
-            data.put("createdDate", caseDetails.getCreatedDate());
+        return (Map<CaseDetails, Conversion>) memo;
+    }
+
+    private record Conversion(Content content, TokenBuffer tokens) {
+    }
+
+    /**
+     * What a conversion was made from. The data map is copied down to its nested maps and
+     * collections, so a value edited in place no longer equals the copy. Other values are compared
+     * by equality; CCD payloads hold only strings, numbers and booleans.
+     */
+    private record Content(Long id, String state, LocalDateTime createdDate, Map<String, Object> data) {
+
+        static Content of(CaseDetails caseDetails) {
+            return new Content(caseDetails.getId(), caseDetails.getState(), caseDetails.getCreatedDate(),
+                               copyMap(caseDetails.getData()));
+        }
+
+        boolean matches(CaseDetails caseDetails) {
+            return Objects.equals(id, caseDetails.getId())
+                && Objects.equals(state, caseDetails.getState())
+                && Objects.equals(createdDate, caseDetails.getCreatedDate())
+                && data.equals(caseDetails.getData());
+        }
+
+        private static Map<String, Object> copyMap(Map<?, ?> map) {
+            Map<String, Object> copy = new HashMap<>(map.size() * 2);
+            map.forEach((key, value) -> copy.put(String.valueOf(key), copyValue(value)));
+            return copy;
+        }
+
+        private static Object copyValue(Object value) {
+            if (value instanceof Map<?, ?> map) {
+                return copyMap(map);
+            } else if (value instanceof Set<?> set) {
+                Set<Object> copy = new HashSet<>();
+                set.forEach(element -> copy.add(copyValue(element)));
+                return copy;
+            } else if (value instanceof Collection<?> collection) {
+                List<Object> copy = new ArrayList<>(collection.size());
+                collection.forEach(element -> copy.add(copyValue(element)));
+                return copy;
+            }
+            return value;
         }
-        return objectMapper.convertValue(data, CaseData.class);
     }
 }
@@ -2,36 +2,104 @@ package uk.gov.hmcts.reform.civil.model.search;
 
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import static net.minidev.json.JSONValue.toJSONString;
+import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
 
 public class Query {
 
+    private static final String SORT_BY_REFERENCE = "[{\"reference.keyword\": \"asc\"}]";
+    private static final List<String> CASE_METADATA = List.of("reference", "state");
+
     private final QueryBuilder queryBuilder;
     private final List<String> dataToReturn;
     private final int startIndex;
+    private final Integer size;
+    private final boolean sortedByReference;
+    private final List<Object> searchAfterValues;
 
     public Query(QueryBuilder queryBuilder, List<String> dataToReturn, int startIndex) {
-        Objects.requireNonNull(queryBuilder, "QueryBuilder cannot be null in search");
-        if (startIndex < 0) {
-            throw new IllegalArgumentException("Start index cannot be less than 0");
-        }
-        this.queryBuilder = queryBuilder;
-        this.dataToReturn = dataToReturn;
-        this.startIndex = startIndex;
+        this(queryBuilder, dataToReturn, startIndex, null, false, null);
     }
 
     public Query(BoolQueryBuilder queryBuilder, List<String> dataToReturn, int startIndex) {
+        this((QueryBuilder) queryBuilder, dataToReturn, startIndex, null, false, null);
+    }
+
+    private Query(QueryBuilder queryBuilder, List<String> dataToReturn, int startIndex, Integer size,
+                  boolean sortedByReference, List<Object> searchAfterValues) {
         Objects.requireNonNull(queryBuilder, "QueryBuilder cannot be null in search");
         if (startIndex < 0) {
             throw new IllegalArgumentException("Start index cannot be less than 0");
         }
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException("Size cannot be less than 1");
+        }
         this.queryBuilder = queryBuilder;
         this.dataToReturn = dataToReturn;
         this.startIndex = startIndex;
+        this.size = size;
+        this.sortedByReference = sortedByReference;
+        this.searchAfterValues = searchAfterValues;
+    }
+
+    /**
+     * Lists the {@code _source} fields for a search that reads only the given case data fields. The
+     * case reference and state are always returned, as paging and the case details rely on them.
+     */
+    public static List<String> dataFields(String... fieldNames) {
+        List<String> fields = new ArrayList<>(CASE_METADATA);
+        for (String fieldName : fieldNames) {
+            fields.add("data." + fieldName);
+        }
+        return List.copyOf(fields);
+    }
+
+    /**
+     * Returns a copy of this query that only matches cases the filter also matches. The filter
+     * does not score hits, so Elasticsearch can cache it across pages.
+     */
+    public Query filteredBy(QueryBuilder filter) {
+        return new Query(boolQuery().must(queryBuilder).filter(filter), dataToReturn, startIndex, size,
+                         sortedByReference, searchAfterValues);
+    }
+
+    /**
+     * Returns a copy of this query returning only the given {@code _source} fields of each case.
+     */
+    public Query returning(List<String> dataToReturn) {
+        return new Query(queryBuilder, dataToReturn, startIndex, size, sortedByReference, searchAfterValues);
+    }
+
+    /**
+     * Returns a copy of this query limited to the given number of hits per page.
+     */
+    public Query withSize(int size) {
+        return new Query(queryBuilder, dataToReturn, startIndex, size, sortedByReference, searchAfterValues);
+    }
+
+    /**
+     * Returns a copy of this query sorted by case reference and, when sort values are given,
+     * starting after the hit they were taken from. Paging by search_after keeps results stable
+     * while cases change state during a scan, so it always starts from the first hit.
+     *
+     * @param sortValues the {@link #sortValues(CaseDetails) sort values} of the last hit seen, or null for the first page.
+     */
+    public Query searchAfter(List<Object> sortValues) {
+        return new Query(queryBuilder, dataToReturn, 0, size, true, sortValues == null ? null : List.copyOf(sortValues));
+    }
+
+    /**
+     * Returns the values a hit of a {@link #searchAfter sorted} query was sorted on, in sort order.
+     * The only sort key is {@code reference.keyword}, which CCD hands back as the case details id.
+     */
+    public static List<Object> sortValues(CaseDetails hit) {
+        return List.of(String.valueOf(hit.getId()));
     }
 
     @Override
@@ -40,6 +108,9 @@ public class Query {
             + "\"query\": " + queryBuilder.toString() + ", "
             + "\"_source\": " + toJSONString(dataToReturn) + ", "
             + "\"from\": " + startIndex
+            + (size != null ? ", \"size\": " + size : "")
+            + (sortedByReference ? ", \"sort\": " + SORT_BY_REFERENCE : "")
+            + (searchAfterValues != null ? ", \"search_after\": " + toJSONString(searchAfterValues) : "")
             + "}";
     }
 }
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.civil.model.search;
+
+import uk.gov.hmcts.reform.civil.enums.YesOrNo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The few fields of a general application the response deadline scheduler reads. Its searches
+ * ask CCD for these fields only, rather than for the whole case.
+ */
+public record ResponseDeadlineView(Long ccdCaseReference,
+                                   LocalDateTime generalAppNotificationDeadlineDate,
+                                   YesOrNo isGaApplicantLip,
+                                   YesOrNo isGaRespondentOneLip) {
+
+    public static final List<String> FIELDS = Query.dataFields(
+        "generalAppNotificationDeadlineDate",
+        "isGaApplicantLip",
+        "isGaRespondentOneLip"
+    );
+
+    public boolean isPastDeadline(LocalDateTime now) {
+        return generalAppNotificationDeadlineDate != null && now.isAfter(generalAppNotificationDeadlineDate);
+    }
+
+    public boolean hasLipParty() {
+        return YesOrNo.YES == isGaApplicantLip || YesOrNo.YES == isGaRespondentOneLip;
+    }
+}
@@ -6,10 +6,17 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 import uk.gov.hmcts.reform.sendletter.api.LetterWithPdfsRequest;
 import uk.gov.hmcts.reform.sendletter.api.SendLetterApi;
 import uk.gov.hmcts.reform.sendletter.api.SendLetterResponse;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
@@ -34,14 +41,42 @@ public class BulkPrintService {
         )
     )
     public SendLetterResponse printLetter(byte[] letterContent, String claimId, String claimReference, String letterType, List<String> personList) {
+        return sendLetter(Base64.getEncoder().encodeToString(letterContent), claimId, claimReference, letterType, personList);
+    }
+
+    /**
+     * Prints a letter read from a spooled document, encoding it straight from the document's stream
+     * so the only full copy in memory is the encoded letter the request needs.
+     */
+    @Retryable(
+        value = {RuntimeException.class},
+        backoff = @Backoff(
+            delay = 200L
+        )
+    )
+    public SendLetterResponse printLetter(SpooledDocument letterContent, String claimId, String claimReference, String letterType, List<String> personList) {
+        return sendLetter(encode(letterContent), claimId, claimReference, letterType, personList);
+    }
+
+    private SendLetterResponse sendLetter(String encodedLetter, String claimId, String claimReference, String letterType, List<String> personList) {
         String authorisation = this.authTokenGenerator.generate();
-        LetterWithPdfsRequest letter = this.generateLetter(this.additionalInformation(claimId, claimReference, letterType, personList), letterContent);
+        LetterWithPdfsRequest letter = this.generateLetter(this.additionalInformation(claimId, claimReference, letterType, personList), encodedLetter);
         return this.sendLetterApi.sendLetter(authorisation, letter);
     }
 
-    private LetterWithPdfsRequest generateLetter(Map<String, Object> letterParams, byte[] letterContent) {
-        String templateLetter = Base64.getEncoder().encodeToString(letterContent);
-        return new LetterWithPdfsRequest(List.of(templateLetter), XEROX_TYPE_PARAMETER, letterParams);
+    private LetterWithPdfsRequest generateLetter(Map<String, Object> letterParams, String encodedLetter) {
+        return new LetterWithPdfsRequest(List.of(encodedLetter), XEROX_TYPE_PARAMETER, letterParams);
+    }
+
+    private static String encode(SpooledDocument letterContent) {
+        long encodedSize = 4 * ((letterContent.size() + 2) / 3);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream((int) Math.min(encodedSize, Integer.MAX_VALUE - 8));
+        try (InputStream in = letterContent.openStream(); OutputStream out = Base64.getEncoder().wrap(encoded)) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read letter content", e);
+        }
+        return encoded.toString(StandardCharsets.ISO_8859_1);
     }
 
     private Map<String, Object> additionalInformation(String claimId, String claimReference, String letterType, List<String> personList) {
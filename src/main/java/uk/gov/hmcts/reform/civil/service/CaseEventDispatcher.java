@@ -0,0 +1,186 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.config.CaseEventDispatcherConfiguration;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the events of many cases in parallel on a bounded pool of workers.
+ * The steps of one case always run in order on a single worker, while different cases run
+ * concurrently. Every step holds a permit of its {@link Downstream} while it runs, so no more than
+ * the configured number of calls are in flight to each service, whichever job they come from.
+ * Submitting a case blocks once {@code workers + queueCapacity} cases are waiting or running.
+ * Step failures are gathered per case into the {@link DispatchSummary} of the run.
+ */
+@Slf4j
+@Service
+public class CaseEventDispatcher {
+
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    private final ExecutorService executor;
+    private final Semaphore queued;
+    private final Map<Downstream, Semaphore> inFlight = new EnumMap<>(Downstream.class);
+
+    public CaseEventDispatcher(CaseEventDispatcherConfiguration configuration) {
+        this.executor = Executors.newFixedThreadPool(
+            configuration.getWorkers(),
+            new CustomizableThreadFactory("case-event-dispatcher-")
+        );
+        this.queued = new Semaphore(configuration.getWorkers() + configuration.getQueueCapacity());
+        inFlight.put(Downstream.CCD, new Semaphore(configuration.getMaxInFlightCcd()));
+        inFlight.put(Downstream.DASHBOARD, new Semaphore(configuration.getMaxInFlightDashboard()));
+    }
+
+    /**
+     * Starts a run. Cases submitted to it after {@code stopBy} has passed, or still waiting for a
+     * worker by then, are skipped.
+     *
+     * @param jobName name used in log messages, usually the task topic.
+     * @param stopBy  when to stop starting cases, or null when there is no limit.
+     */
+    public Dispatch start(String jobName, Instant stopBy) {
+        return new Dispatch(jobName, stopBy);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public class Dispatch {
+
+        private final String jobName;
+        private final Instant stopBy;
+        private final long startedAt = System.currentTimeMillis();
+        private final Phaser pending = new Phaser(1);
+        private final AtomicInteger cases = new AtomicInteger();
+        private final AtomicInteger completedCases = new AtomicInteger();
+        private final AtomicInteger failedCases = new AtomicInteger();
+        private final AtomicInteger skippedCases = new AtomicInteger();
+        private final AtomicInteger skippedSteps = new AtomicInteger();
+        private final List<DispatchSummary.Failure> failures = Collections.synchronizedList(new ArrayList<>());
+
+        private Dispatch(String jobName, Instant stopBy) {
+            this.jobName = jobName;
+            this.stopBy = stopBy;
+        }
+
+        public void submit(CaseEventSequence sequence) {
+            if (sequence.isEmpty()) {
+                return;
+            }
+            cases.incrementAndGet();
+            try {
+                queued.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                skippedCases.incrementAndGet();
+                return;
+            }
+            pending.register();
+            try {
+                executor.execute(() -> {
+                    try {
+                        run(sequence);
+                    } finally {
+                        queued.release();
+                        pending.arriveAndDeregister();
+                    }
+                });
+            } catch (RuntimeException e) {
+                queued.release();
+                pending.arriveAndDeregister();
+                throw e;
+            }
+        }
+
+        public boolean isPastStopBy() {
+            return stopBy != null && !Instant.now().isBefore(stopBy);
+        }
+
+        /**
+         * Waits for every submitted case to finish and logs the summary of the run.
+         */
+        public DispatchSummary awaitCompletion() {
+            pending.arriveAndAwaitAdvance();
+            DispatchSummary summary = new DispatchSummary(
+                cases.get(), completedCases.get(), failedCases.get(), skippedCases.get(), skippedSteps.get(),
+                List.copyOf(failures), System.currentTimeMillis() - startedAt
+            );
+            log.info("Job '{}' dispatched {} case(s) in {} ms: {} completed, {} failed, {} skipped",
+                     jobName, summary.cases(), summary.elapsedMillis(), summary.completedCases(),
+                     summary.failedCases(), summary.skippedCases());
+            if (!summary.failures().isEmpty()) {
+                log.error("Job '{}' failed on case(s) {}: {}", jobName, summary.failedCaseIds(),
+                          summary.failures().stream()
+                              .map(failure -> failure.caseId() + " " + failure.step() + ": " + failure.exception())
+                              .toList());
+            }
+            return summary;
+        }
+
+        private void run(CaseEventSequence sequence) {
+            if (isPastStopBy()) {
+                skippedCases.incrementAndGet();
+                return;
+            }
+            boolean failed = false;
+            boolean previousSucceeded = true;
+            for (CaseEventSequence.Step step : sequence.getSteps()) {
+                if (step.dependent() && !previousSucceeded) {
+                    skippedSteps.incrementAndGet();
+                    continue;
+                }
+                previousSucceeded = runStep(sequence.getCaseId(), step);
+                failed |= !previousSucceeded;
+            }
+            if (failed) {
+                failedCases.incrementAndGet();
+            } else {
+                completedCases.incrementAndGet();
+            }
+        }
+
+        private boolean runStep(Long caseId, CaseEventSequence.Step step) {
+            Semaphore permits = inFlight.get(step.downstream());
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recordFailure(caseId, step, new IllegalStateException("Interrupted before calling " + step.downstream()));
+                return false;
+            }
+            try {
+                log.debug("Firing {} for caseId: {}", step.name(), caseId);
+                step.call().run();
+                return true;
+            } catch (RuntimeException e) {
+                recordFailure(caseId, step, e);
+                return false;
+            } finally {
+                permits.release();
+            }
+        }
+
+        private void recordFailure(Long caseId, CaseEventSequence.Step step, RuntimeException exception) {
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(new DispatchSummary.Failure(caseId, step.name(), exception));
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ordered calls to make for one case, run one after the other by {@link CaseEventDispatcher}.
+ * A failed step does not stop the steps after it, except for dependent steps, which are skipped
+ * when the step before them failed or was skipped.
+ */
+public class CaseEventSequence {
+
+    private final Long caseId;
+    private final List<Step> steps = new ArrayList<>();
+
+    private CaseEventSequence(Long caseId) {
+        this.caseId = caseId;
+    }
+
+    public static CaseEventSequence forCase(Long caseId) {
+        return new CaseEventSequence(caseId);
+    }
+
+    public CaseEventSequence step(String name, Downstream downstream, Runnable call) {
+        steps.add(new Step(name, downstream, call, false));
+        return this;
+    }
+
+    public CaseEventSequence dependentStep(String name, Downstream downstream, Runnable call) {
+        steps.add(new Step(name, downstream, call, true));
+        return this;
+    }
+
+    public Long getCaseId() {
+        return caseId;
+    }
+
+    public List<Step> getSteps() {
+        return List.copyOf(steps);
+    }
+
+    public boolean isEmpty() {
+        return steps.isEmpty();
+    }
+
+    public record Step(String name, Downstream downstream, Runnable call, boolean dependent) {
+    }
+}
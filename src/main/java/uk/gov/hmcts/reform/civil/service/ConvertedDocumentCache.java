@@ -0,0 +1,175 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import uk.gov.hmcts.reform.civil.config.ConversionCacheConfiguration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps converted PDFs on disk, keyed by the source document's hash token or binary URL, so a
+ * document stitched into several orders is sent to Docmosis once. The files live in a directory
+ * created for this process with owner-only permissions and removed on shutdown. Once their total
+ * size passes {@code conversionCache.maximumSize} the least used are deleted. Concurrent requests
+ * for the same document share one conversion. Hits and misses are exposed through the Caffeine
+ * cache metrics, tagged {@code cache=convertedDocuments}.
+ */
+@Slf4j
+@Component
+public class ConvertedDocumentCache {
+
+    static final String CACHE_NAME = "convertedDocuments";
+    static final String SHARED_METRIC = "ga.document.conversion.shared";
+
+    private final Path directory;
+    private final Cache<String, Entry> entries;
+    private final ConcurrentMap<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private final Counter shared;
+
+    public ConvertedDocumentCache(ConversionCacheConfiguration configuration, MeterRegistry meterRegistry) {
+        this.directory = createDirectory(Paths.get(configuration.getParentDirectory()));
+        this.entries = Caffeine.newBuilder()
+            .maximumWeight(configuration.getMaximumSize().toBytes())
+            .weigher((String key, Entry entry) -> (int) Math.min(entry.size(), Integer.MAX_VALUE))
+            .removalListener((String key, Entry entry, RemovalCause cause) -> delete(entry == null ? null : entry.file()))
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+        this.shared = meterRegistry.counter(SHARED_METRIC);
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+    }
+
+    /**
+     * Returns the converted document stored under the key, or runs the conversion and stores its
+     * result. A caller asking for a document that is already being converted waits for that
+     * conversion instead. A failed conversion is not stored, and its waiters get the same exception.
+     */
+    public byte[] get(String key, Supplier<byte[]> conversion) {
+        byte[] cached = read(key, entries.getIfPresent(key));
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<byte[]> flight = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            shared.increment();
+            return join(running);
+        }
+        try {
+            // another caller may have stored it between the lookup and claiming the conversion
+            byte[] converted = read(key, entries.asMap().get(key));
+            if (converted == null) {
+                converted = conversion.get();
+                store(key, converted);
+            }
+            flight.complete(converted);
+            return converted;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        entries.invalidateAll();
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            log.warn("Could not delete conversion cache directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private byte[] read(String key, Entry entry) {
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(entry.file());
+        } catch (IOException e) {
+            log.warn("Could not read cached conversion {}: {}", entry.file(), e.getMessage());
+            entries.asMap().remove(key, entry);
+            return null;
+        }
+    }
+
+    private void store(String key, byte[] converted) {
+        if (converted == null) {
+            return;
+        }
+        Path file = null;
+        try {
+            file = Files.createTempFile(directory, "converted-", ".pdf");
+            Files.write(file, converted);
+            entries.put(key, new Entry(file, converted.length));
+        } catch (IOException e) {
+            log.warn("Could not cache converted document: {}", e.getMessage());
+            delete(file);
+        }
+    }
+
+    private static byte[] join(CompletableFuture<byte[]> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static void delete(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete cached conversion {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Path createDirectory(Path parent) {
+        try {
+            Files.createDirectories(parent);
+            return Files.createTempDirectory(parent, "civil-conversions-");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create conversion cache directory in " + parent, e);
+        }
+    }
+
+    private record Entry(Path file, long size) {
+    }
+}
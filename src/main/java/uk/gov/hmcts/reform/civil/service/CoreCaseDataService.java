@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.civil.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
@@ -13,6 +14,7 @@ import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
 import uk.gov.hmcts.reform.civil.config.SystemUpdateUserConfiguration;
+import uk.gov.hmcts.reform.civil.event.ParentCaseUpdatedEvent;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.LocationRefData;
@@ -42,6 +44,7 @@ public class CoreCaseDataService {
     private final AuthTokenGenerator authTokenGenerator;
     private final CaseDetailsConverter caseDetailsConverter;
     private final GeneralAppLocationRefDataService locationRefDataService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     private static final String RETRY_MSG = "retry with fresh token";
 
@@ -128,9 +131,15 @@ public class CoreCaseDataService {
                 true,
                 caseDataContent
         );
+        publishParentCaseUpdated(caseId, caseDetails);
         return caseDetailsConverter.toCaseData(caseDetails);
     }
 
+    private void publishParentCaseUpdated(String caseId, CaseDetails caseDetails) {
+        Integer version = caseDetails == null ? null : caseDetails.getVersion();
+        applicationEventPublisher.publishEvent(new ParentCaseUpdatedEvent(Long.valueOf(caseId), version));
+    }
+
     public CaseData submitGaUpdate(String caseId, CaseDataContent caseDataContent) {
         UserAuthContent systemUpdateUser = getSystemUpdateUser();
         try {
@@ -284,6 +293,21 @@ public class CoreCaseDataService {
             .build();
     }
 
+    /**
+     * Builds the content for submitting only the given top-level fields. CCD merges them into the
+     * stored case data, so the fields left out keep their current value.
+     */
+    public CaseDataContent caseDataContentWithChanges(
+        StartEventResponse startEventResponse, Map<String, Object> changes) {
+        return CaseDataContent.builder()
+            .eventToken(startEventResponse.getToken())
+            .event(Event.builder()
+                       .id(startEventResponse.getEventId())
+                       .build())
+            .data(new HashMap<>(changes))
+            .build();
+    }
+
     public StartEventResponse startCaseForCaseworker(String eventId) {
         UserAuthContent systemUpdateUser = getSystemUpdateUser();
         try {
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import java.util.List;
+
+/**
+ * Outcome of a {@link CaseEventDispatcher} run.
+ * Cases are completed when every step succeeded, failed when at least one step failed and skipped
+ * when the run stopped before they started.
+ */
+public record DispatchSummary(int cases, int completedCases, int failedCases, int skippedCases,
+                              int skippedSteps, List<Failure> failures, long elapsedMillis) {
+
+    public List<Long> failedCaseIds() {
+        return failures.stream().map(Failure::caseId).distinct().sorted().toList();
+    }
+
+    public RuntimeException firstFailure() {
+        return failures.isEmpty() ? null : failures.get(0).exception();
+    }
+
+    public record Failure(Long caseId, String step, RuntimeException exception) {
+    }
+}
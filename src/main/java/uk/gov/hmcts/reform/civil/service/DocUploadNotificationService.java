@@ -4,7 +4,6 @@ import lombok.extern.slf4j.Slf4j;
 import uk.gov.hmcts.reform.civil.config.NotificationsSignatureConfiguration;
 import uk.gov.hmcts.reform.civil.config.properties.notification.NotificationsProperties;
 import uk.gov.hmcts.reform.civil.handler.callback.camunda.notification.NotificationData;
-import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 
@@ -31,16 +30,14 @@ public class DocUploadNotificationService implements NotificationData {
     private static final String EMPTY_SOLICITOR_REFERENCES_1V1 = "Claimant Reference: Not provided - Defendant Reference: Not provided";
     private final GaForLipService gaForLipService;
     private final Map<String, String> customProps = new HashMap<>();
-    private final CoreCaseDataService coreCaseDataService;
-    private final CaseDetailsConverter caseDetailsConverter;
+    private final ParentCaseSnapshotCache parentCaseSnapshotCache;
     private final FeatureToggleService featureToggleService;
     private final NotificationsSignatureConfiguration configuration;
 
     public void notifyApplicantEvidenceUpload(CaseData caseData) throws NotificationException {
         log.info("Starting applicant evidence upload notification for Case ID: {}", caseData.getCcdCaseReference());
         String email = caseData.getGeneralAppApplnSolicitor().getEmail();
-        CaseData civilCaseData = caseDetailsConverter.toCaseData(coreCaseDataService
-                                                                     .getCase(Long.parseLong(caseData.getGeneralAppParentCaseLink().getCaseReference())));
+        CaseData civilCaseData = parentCaseSnapshotCache.getParentCaseData(caseData);
         if (null != email) {
             notificationService.sendMail(
                     email,
@@ -59,8 +56,7 @@ public class DocUploadNotificationService implements NotificationData {
     public void notifyRespondentEvidenceUpload(CaseData caseData) throws NotificationException {
 
         log.info("Starting respondent evidence upload notification for Case ID: {}", caseData.getCcdCaseReference());
-        CaseData civilCaseData = caseDetailsConverter.toCaseData(coreCaseDataService
-                            .getCase(Long.parseLong(caseData.getGeneralAppParentCaseLink().getCaseReference())));
+        CaseData civilCaseData = parentCaseSnapshotCache.getParentCaseData(caseData);
 
         caseData.getGeneralAppRespondentSolicitors().forEach(
                 respondentSolicitor -> {
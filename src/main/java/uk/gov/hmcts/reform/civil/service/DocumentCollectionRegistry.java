@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import org.springframework.util.StringUtils;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.common.Element;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Getters of the GA document collections that are copied onto the civil case, compiled once into
+ * plain functions. A GA collection is named after its type, a civil collection after its type and
+ * the role that can see it. Building the registry fails when any of these getters is missing from
+ * {@link CaseData}, so renaming a collection stops the application from starting.
+ */
+class DocumentCollectionRegistry {
+
+    private static final String GA_EVIDENCE = "gaEvidence";
+    private static final String GA_ADDL = "gaAddl";
+    private static final String CIVIL_GA_EVIDENCE = "generalAppEvidence";
+    private static final Function<CaseData, List<Element<?>>> MISSING = caseData -> null;
+
+    private final Map<String, DocumentCollection> gaCollections = new HashMap<>();
+    private final Map<String, DocumentCollection> civilCollections = new HashMap<>();
+
+    DocumentCollectionRegistry(Collection<String> types, Collection<String> roles) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<String> missing = new ArrayList<>();
+        for (String type : types) {
+            String gaCollectionName = gaCollectionName(type);
+            gaCollections.put(type, new DocumentCollection(gaCollectionName, compile(lookup, gaCollectionName, missing)));
+            for (String role : roles) {
+                String civilCollectionName = civilCollectionName(type, role);
+                civilCollections.put(civilCollectionName,
+                                     new DocumentCollection(civilCollectionName, compile(lookup, civilCollectionName, missing)));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("CaseData has no document collection getter for " + missing);
+        }
+    }
+
+    DocumentCollection ga(String type) {
+        DocumentCollection collection = gaCollections.get(type);
+        return collection != null ? collection : new DocumentCollection(gaCollectionName(type), MISSING);
+    }
+
+    DocumentCollection civil(String type, String role) {
+        String civilCollectionName = civilCollectionName(type, role);
+        DocumentCollection collection = civilCollections.get(civilCollectionName);
+        return collection != null ? collection : new DocumentCollection(civilCollectionName, MISSING);
+    }
+
+    private static String gaCollectionName(String type) {
+        if (type.equals(GA_EVIDENCE)) {
+            return CIVIL_GA_EVIDENCE + "Document";
+        }
+        if (type.equals(GA_ADDL)) {
+            return type + "Doc";
+        }
+        return type + "Document";
+    }
+
+    private static String civilCollectionName(String type, String role) {
+        return type + "Doc" + role;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<CaseData, List<Element<?>>> compile(MethodHandles.Lookup lookup, String collectionName,
+                                                                List<String> missing) {
+        String getterName = "get" + StringUtils.capitalize(collectionName);
+        try {
+            MethodHandle getter = lookup.findVirtual(CaseData.class, getterName, MethodType.methodType(List.class));
+            CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                getter,
+                MethodType.methodType(List.class, CaseData.class)
+            );
+            return (Function<CaseData, List<Element<?>>>) callSite.getTarget().invoke();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            missing.add(getterName);
+            return MISSING;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to compile getter " + getterName, e);
+        }
+    }
+
+    record DocumentCollection(String name, Function<CaseData, List<Element<?>>> getter) {
+
+        List<Element<?>> get(CaseData caseData) {
+            return getter.apply(caseData);
+        }
+    }
+}
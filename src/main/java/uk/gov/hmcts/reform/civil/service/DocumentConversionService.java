@@ -1,11 +1,11 @@
 package uk.gov.hmcts.reform.civil.service;
 
-import com.google.common.io.Files;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.tika.Tika;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -18,8 +18,10 @@ import uk.gov.hmcts.reform.civil.config.DocmosisConfiguration;
 import uk.gov.hmcts.reform.civil.exceptions.DocumentConversionException;
 import uk.gov.hmcts.reform.civil.model.documents.Document;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentManagementService;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentSpool;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 @Service
@@ -37,6 +39,10 @@ public class DocumentConversionService {
 
     private final DocumentManagementService documentManagementService;
 
+    private final ConvertedDocumentCache convertedDocumentCache;
+
+    private final DocumentSpool documentSpool;
+
     public byte[] convertDocumentToPdf(Document sourceDocument, Long caseId, String auth) {
         if (PDF_MIME_TYPE.equalsIgnoreCase(tika.detect(sourceDocument.getDocumentFileName()))) {
             return documentManagementService.downloadDocument(auth, sourceDocument.getDocumentUrl());
@@ -45,21 +51,49 @@ public class DocumentConversionService {
         return convert(sourceDocument, caseId, auth);
     }
 
+    /**
+     * Like {@link #convertDocumentToPdf}, but returns the PDF as a {@link SpooledDocument} that moves
+     * to a temporary file once it is large. A PDF is streamed from the document store without being
+     * held in memory whole; other documents come back from Docmosis as a byte array and are spooled
+     * from there. The caller must close the result.
+     */
+    public SpooledDocument convertDocumentToSpooledPdf(Document sourceDocument, Long caseId, String auth) {
+        if (PDF_MIME_TYPE.equalsIgnoreCase(tika.detect(sourceDocument.getDocumentFileName()))) {
+            return documentManagementService.downloadDocumentContent(auth, sourceDocument.getDocumentUrl());
+        }
+        log.info("Converting document to pdf for caseId {}", caseId);
+        try {
+            return documentSpool.spool(new ByteArrayInputStream(convert(sourceDocument, caseId, auth)));
+        } catch (IOException e) {
+            throw new DocumentConversionException("Error spooling converted document for caseId " + caseId, e);
+        }
+    }
+
     public String getConvertedFilename(String filename) {
         return FilenameUtils.getBaseName(filename) + ".pdf";
     }
 
+    /**
+     * Converts the document through Docmosis, reusing an earlier conversion of the same document when
+     * it has a hash token or binary URL to identify it by.
+     */
     public byte[] convert(Document sourceDocument, Long caseId, String auth) {
+        String cacheKey = cacheKey(sourceDocument);
+        if (cacheKey == null) {
+            return convertWithDocmosis(sourceDocument, caseId, auth);
+        }
+        return convertedDocumentCache.get(cacheKey, () -> convertWithDocmosis(sourceDocument, caseId, auth));
+    }
+
+    private byte[] convertWithDocmosis(Document sourceDocument, Long caseId, String auth) {
         try {
             String filename = getConvertedFilename(sourceDocument.getDocumentFileName());
             byte[] docInBytes = documentManagementService.downloadDocument(auth, sourceDocument.getDocumentUrl());
-            File file = new File(filename);
-            Files.write(docInBytes, file);
 
             return restTemplate
                 .postForObject(
                     docmosisConfiguration.getUrl() + "/rs/convert",
-                    createRequest(file, filename),
+                    createRequest(docInBytes, filename),
                     byte[].class
                 );
 
@@ -69,17 +103,21 @@ public class DocumentConversionService {
                 "Error converting document to pdf for caseId " + caseId,
                 clientEx
             );
-        } catch (IOException ex) {
-            log.error("Error creating temp file while converting for caseId {}", caseId, ex);
-            throw new DocumentConversionException(
-                "Error creating temp file for caseId " + caseId,
-                ex
-            );
         }
     }
 
+    private static String cacheKey(Document sourceDocument) {
+        if (StringUtils.isNotBlank(sourceDocument.getDocumentHash())) {
+            return "hash:" + sourceDocument.getDocumentHash();
+        }
+        if (StringUtils.isNotBlank(sourceDocument.getDocumentBinaryUrl())) {
+            return "url:" + sourceDocument.getDocumentBinaryUrl();
+        }
+        return null;
+    }
+
     private HttpEntity<MultiValueMap<String, Object>> createRequest(
-        File file,
+        byte[] document,
         String outputFilename
     ) {
         HttpHeaders headers = new HttpHeaders();
@@ -88,7 +126,12 @@ public class DocumentConversionService {
         MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
         body.add("accessKey", docmosisConfiguration.getAccessKey());
         body.add("outputName", outputFilename);
-        body.add("file", new FileSystemResource(file));
+        body.add("file", new ByteArrayResource(document) {
+            @Override
+            public String getFilename() {
+                return outputFilename;
+            }
+        });
 
         return new HttpEntity<>(body, headers);
     }
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.civil.service;
+
+/**
+ * Services called by {@link CaseEventDispatcher} steps, each with its own limit on calls in flight.
+ */
+public enum Downstream {
+    CCD,
+    DASHBOARD
+}
@@ -1,84 +1,177 @@
 package uk.gov.hmcts.reform.civil.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.civil.client.LocationReferenceDataApiClient;
+import uk.gov.hmcts.reform.civil.config.LocationIndexConfiguration;
+import uk.gov.hmcts.reform.civil.config.SystemUpdateUserConfiguration;
 import uk.gov.hmcts.reform.civil.model.LocationRefData;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Court locations from location reference data, held in memory as indexes built once per venue
+ * list. An index is refreshed in the background when it is read after the configured refresh
+ * period; while reference data is unavailable the last index keeps being served. Indexes are
+ * shared by every caller, so they are loaded with the system update user's token and the caller's
+ * token is only used for lookups that bypass them.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class GeneralAppLocationRefDataService {
 
     public static final String CIVIL_NATIONAL_BUSINESS_CENTRE = "Civil National Business Centre";
     public static final String COUNTY_COURT_MONEY_CLAIMS_CENTRE = "County Court Money Claims Centre";
+    static final String HEARING_COURTS = "Hearing courts";
+    static final String INDEX_AGE_METRIC = "ga.location.index.age";
     private final LocationReferenceDataApiClient locationReferenceDataApiClient;
     private final AuthTokenGenerator authTokenGenerator;
+    private final UserService userService;
+    private final SystemUpdateUserConfiguration systemUserConfig;
+    private final Ticker ticker;
+    private final LoadingCache<String, CourtLocationIndex> courtLocationIndexes;
     private static final String DATA_LOOKUP_FAILED = "Location Reference Data Lookup Failed - ";
 
-    public List<LocationRefData> getCourtLocations(String authToken) {
+    @Autowired
+    public GeneralAppLocationRefDataService(LocationReferenceDataApiClient locationReferenceDataApiClient,
+                                            AuthTokenGenerator authTokenGenerator,
+                                            UserService userService,
+                                            SystemUpdateUserConfiguration systemUserConfig,
+                                            MeterRegistry meterRegistry,
+                                            LocationIndexConfiguration locationIndexConfiguration) {
+        this(locationReferenceDataApiClient, authTokenGenerator, userService, systemUserConfig, meterRegistry,
+             locationIndexConfiguration, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    GeneralAppLocationRefDataService(LocationReferenceDataApiClient locationReferenceDataApiClient,
+                                     AuthTokenGenerator authTokenGenerator,
+                                     UserService userService,
+                                     SystemUpdateUserConfiguration systemUserConfig,
+                                     MeterRegistry meterRegistry,
+                                     LocationIndexConfiguration locationIndexConfiguration,
+                                     Ticker ticker,
+                                     Executor refreshExecutor) {
+        this.locationReferenceDataApiClient = locationReferenceDataApiClient;
+        this.authTokenGenerator = authTokenGenerator;
+        this.userService = userService;
+        this.systemUserConfig = systemUserConfig;
+        this.ticker = ticker;
+        this.courtLocationIndexes = Caffeine.newBuilder()
+            .refreshAfterWrite(locationIndexConfiguration.getRefreshAfter())
+            .ticker(ticker)
+            .executor(refreshExecutor)
+            .build(this::loadIndex);
+        for (String venues : List.of(HEARING_COURTS, COUNTY_COURT_MONEY_CLAIMS_CENTRE, CIVIL_NATIONAL_BUSINESS_CENTRE)) {
+            Gauge.builder(INDEX_AGE_METRIC, this, service -> service.indexAgeSeconds(venues))
+                .description("Seconds since the court location index was loaded from location reference data")
+                .baseUnit("seconds")
+                .tag("venues", venues)
+                .register(meterRegistry);
+        }
+    }
+
+    public List<LocationRefData> getCourtLocations() {
+        return index(HEARING_COURTS)
+            .map(CourtLocationIndex::locations)
+            .orElseGet(ArrayList::new);
+    }
+
+    public Optional<LocationRefData> getCourtLocation(String epimmsId) {
+        return byEpimmsId(HEARING_COURTS, epimmsId);
+    }
+
+    public List<LocationRefData> getCourtLocationsByRegion(String region) {
+        if (region == null) {
+            return new ArrayList<>();
+        }
+        return index(HEARING_COURTS)
+            .map(index -> index.byRegion().getOrDefault(region, List.of()))
+            .orElseGet(ArrayList::new);
+    }
+
+    public List<LocationRefData> getCcmccLocation() {
+        return index(COUNTY_COURT_MONEY_CLAIMS_CENTRE)
+            .map(CourtLocationIndex::locations)
+            .orElse(null);
+    }
+
+    public List<LocationRefData> getCnbcLocation() {
+        return index(CIVIL_NATIONAL_BUSINESS_CENTRE)
+            .map(CourtLocationIndex::locations)
+            .orElse(null);
+    }
+
+    public Optional<LocationRefData> getCnbcLocation(String epimmsId) {
+        return byEpimmsId(CIVIL_NATIONAL_BUSINESS_CENTRE, epimmsId);
+    }
+
+    public List<LocationRefData> getCourtLocationsByEpimmsId(String authToken, String epimmsId) {
         try {
-            List<LocationRefData> responseEntity =
-                locationReferenceDataApiClient.getCourtVenue(
+            return locationReferenceDataApiClient.getCourtVenueByEpimmsId(
                     authTokenGenerator.generate(),
-                    authToken,
-                    "Y",
-                    "10",
-                    "Court"
-
+                    authToken, epimmsId, "10"
                 );
-            return onlyEnglandAndWalesLocations(responseEntity)
-                .stream().sorted(Comparator.comparing(LocationRefData::getSiteName)).toList();
         } catch (Exception e) {
             log.error(DATA_LOOKUP_FAILED + e.getMessage(), e);
         }
         return new ArrayList<>();
     }
 
-    public List<LocationRefData> getCcmccLocation(String authToken) {
-        List<LocationRefData> ccmccLocations = null;
+    private Optional<LocationRefData> byEpimmsId(String venues, String epimmsId) {
+        if (epimmsId == null) {
+            return Optional.empty();
+        }
+        return index(venues).map(index -> index.byEpimmsId().get(epimmsId));
+    }
+
+    private Optional<CourtLocationIndex> index(String venues) {
         try {
-            ccmccLocations = locationReferenceDataApiClient.getCourtVenueByName(
-                authTokenGenerator.generate(),
-                authToken,
-                COUNTY_COURT_MONEY_CLAIMS_CENTRE
-            );
+            return Optional.ofNullable(courtLocationIndexes.get(venues));
         } catch (Exception e) {
             log.error(DATA_LOOKUP_FAILED + e.getMessage(), e);
         }
-        return ccmccLocations;
+        return Optional.empty();
     }
 
-    public List<LocationRefData> getCnbcLocation(String authToken) {
-        List<LocationRefData> cnbcLocations = null;
-        try {
-            cnbcLocations = locationReferenceDataApiClient.getCourtVenueByName(
+    private CourtLocationIndex loadIndex(String venues) {
+        String authToken = userService.getAccessToken(systemUserConfig.getUserName(), systemUserConfig.getPassword());
+        List<LocationRefData> locations;
+        if (HEARING_COURTS.equals(venues)) {
+            locations = onlyEnglandAndWalesLocations(locationReferenceDataApiClient.getCourtVenue(
                 authTokenGenerator.generate(),
                 authToken,
-                CIVIL_NATIONAL_BUSINESS_CENTRE
-            );
-        } catch (Exception e) {
-            log.error(DATA_LOOKUP_FAILED + e.getMessage(), e);
+                "Y",
+                "10",
+                "Court"
+            )).stream().sorted(Comparator.comparing(LocationRefData::getSiteName)).toList();
+        } else {
+            locations = Optional.ofNullable(locationReferenceDataApiClient.getCourtVenueByName(
+                authTokenGenerator.generate(),
+                authToken,
+                venues
+            )).orElse(List.of()).stream().toList();
         }
-        return cnbcLocations;
+        return CourtLocationIndex.of(locations, ticker.read());
     }
 
-    public List<LocationRefData> getCourtLocationsByEpimmsId(String authToken, String epimmsId) {
-        try {
-            return locationReferenceDataApiClient.getCourtVenueByEpimmsId(
-                    authTokenGenerator.generate(),
-                    authToken, epimmsId, "10"
-                );
-        } catch (Exception e) {
-            log.error(DATA_LOOKUP_FAILED + e.getMessage(), e);
-        }
-        return new ArrayList<>();
+    private double indexAgeSeconds(String venues) {
+        CourtLocationIndex index = courtLocationIndexes.getIfPresent(venues);
+        return index == null ? Double.NaN : (double) (ticker.read() - index.loadedAt()) / TimeUnit.SECONDS.toNanos(1);
     }
 
     private List<LocationRefData> onlyEnglandAndWalesLocations(List<LocationRefData> locationRefData) {
@@ -87,4 +180,25 @@ public class GeneralAppLocationRefDataService {
             : locationRefData.stream().filter(location -> !"Scotland".equals(location.getRegion()))
             .toList();
     }
+
+    private record CourtLocationIndex(List<LocationRefData> locations,
+                                      Map<String, LocationRefData> byEpimmsId,
+                                      Map<String, List<LocationRefData>> byRegion,
+                                      long loadedAt) {
+
+        static CourtLocationIndex of(List<LocationRefData> locations, long loadedAt) {
+            Map<String, LocationRefData> byEpimmsId = new HashMap<>();
+            Map<String, List<LocationRefData>> byRegion = new HashMap<>();
+            for (LocationRefData location : locations) {
+                if (location.getEpimmsId() != null) {
+                    byEpimmsId.putIfAbsent(location.getEpimmsId(), location);
+                }
+                if (location.getRegion() != null) {
+                    byRegion.computeIfAbsent(location.getRegion(), region -> new ArrayList<>()).add(location);
+                }
+            }
+            byRegion.replaceAll((region, regionLocations) -> List.copyOf(regionLocations));
+            return new CourtLocationIndex(locations, Map.copyOf(byEpimmsId), Map.copyOf(byRegion), loadedAt);
+        }
+    }
 }
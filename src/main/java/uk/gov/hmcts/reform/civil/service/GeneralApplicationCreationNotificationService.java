@@ -9,7 +9,6 @@ import uk.gov.hmcts.reform.civil.config.properties.notification.NotificationsPro
 import uk.gov.hmcts.reform.civil.enums.PaymentStatus;
 import uk.gov.hmcts.reform.civil.handler.callback.camunda.notification.NotificationData;
 import uk.gov.hmcts.reform.civil.handler.callback.user.JudicialFinalDecisionHandler;
-import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.helpers.DateFormatHelper;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.model.CaseData;
@@ -40,8 +39,7 @@ public class GeneralApplicationCreationNotificationService  implements Notificat
     private final NotificationService notificationService;
     private final NotificationsProperties notificationProperties;
 
-    private final CaseDetailsConverter caseDetailsConverter;
-    private final CoreCaseDataService coreCaseDataService;
+    private final ParentCaseSnapshotCache parentCaseSnapshotCache;
     private final GaForLipService gaForLipService;
 
     private final SolicitorEmailValidation solicitorEmailValidation;
@@ -54,9 +52,7 @@ public class GeneralApplicationCreationNotificationService  implements Notificat
 
         var caseReference = caseData.getCcdCaseReference();
         log.info("Initiating notification process for Case ID: {}", caseReference);
-        CaseData civilCaseData = caseDetailsConverter
-            .toCaseData(coreCaseDataService
-                            .getCase(Long.parseLong(caseData.getGeneralAppParentCaseLink().getCaseReference())));
+        CaseData civilCaseData = parentCaseSnapshotCache.getParentCaseData(caseData);
 
         CaseData updatedCaseData = solicitorEmailValidation.validateSolicitorEmail(civilCaseData, caseData);
 
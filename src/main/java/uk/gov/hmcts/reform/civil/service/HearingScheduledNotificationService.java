@@ -8,7 +8,6 @@ import uk.gov.hmcts.reform.civil.config.NotificationsSignatureConfiguration;
 import uk.gov.hmcts.reform.civil.config.properties.notification.NotificationsProperties;
 import uk.gov.hmcts.reform.civil.handler.callback.camunda.notification.NotificationData;
 import uk.gov.hmcts.reform.civil.handler.callback.user.JudicialFinalDecisionHandler;
-import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.helpers.DateFormatHelper;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.model.CaseData;
@@ -31,10 +30,9 @@ public class HearingScheduledNotificationService implements NotificationData {
 
     private final ObjectMapper objectMapper;
     private final NotificationService notificationService;
-    private final CaseDetailsConverter caseDetailsConverter;
+    private final ParentCaseSnapshotCache parentCaseSnapshotCache;
     private final NotificationsProperties notificationProperties;
     private final SolicitorEmailValidation solicitorEmailValidation;
-    private final CoreCaseDataService coreCaseDataService;
     private final FeatureToggleService featureToggleService;
     private final NotificationsSignatureConfiguration configuration;
     private final Map<String, String> customProps = new HashMap<>();
@@ -104,9 +102,7 @@ public class HearingScheduledNotificationService implements NotificationData {
 
     public CaseData sendNotificationForClaimant(CaseData caseData) throws NotificationException {
 
-        CaseData civilCaseData = caseDetailsConverter
-            .toCaseData(coreCaseDataService
-                            .getCase(Long.parseLong(caseData.getGeneralAppParentCaseLink().getCaseReference())));
+        CaseData civilCaseData = parentCaseSnapshotCache.getParentCaseData(caseData);
 
         caseData = solicitorEmailValidation.validateSolicitorEmail(civilCaseData, caseData);
 
@@ -135,9 +131,7 @@ public class HearingScheduledNotificationService implements NotificationData {
 
     public CaseData sendNotificationForDefendant(CaseData caseData) throws NotificationException {
 
-        CaseData civilCaseData = caseDetailsConverter
-            .toCaseData(coreCaseDataService
-                            .getCase(Long.parseLong(caseData.getGeneralAppParentCaseLink().getCaseReference())));
+        CaseData civilCaseData = parentCaseSnapshotCache.getParentCaseData(caseData);
 
         caseData = solicitorEmailValidation.validateSolicitorEmail(civilCaseData, caseData);
 
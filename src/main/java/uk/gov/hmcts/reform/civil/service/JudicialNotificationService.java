@@ -8,7 +8,6 @@ import uk.gov.hmcts.reform.civil.config.NotificationsSignatureConfiguration;
 import uk.gov.hmcts.reform.civil.config.properties.notification.NotificationsProperties;
 import uk.gov.hmcts.reform.civil.handler.callback.camunda.notification.NotificationData;
 import uk.gov.hmcts.reform.civil.handler.callback.user.JudicialFinalDecisionHandler;
-import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.helpers.DateFormatHelper;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.model.BusinessProcess;
@@ -50,8 +49,7 @@ public class JudicialNotificationService implements NotificationData {
 
     private final DeadlinesCalculator deadlinesCalculator;
     private static final int NUMBER_OF_DEADLINE_DAYS = 5;
-    private final CaseDetailsConverter caseDetailsConverter;
-    private final CoreCaseDataService coreCaseDataService;
+    private final ParentCaseSnapshotCache parentCaseSnapshotCache;
     private final GaForLipService gaForLipService;
 
     private final SolicitorEmailValidation solicitorEmailValidation;
@@ -61,9 +59,7 @@ public class JudicialNotificationService implements NotificationData {
     private final NotificationsSignatureConfiguration configuration;
 
     public CaseData sendNotification(CaseData caseData, String solicitorType) throws NotificationException {
-        CaseData civilCaseData = caseDetailsConverter
-            .toCaseData(coreCaseDataService
-                            .getCase(Long.parseLong(caseData.getGeneralAppParentCaseLink().getCaseReference())));
+        CaseData civilCaseData = parentCaseSnapshotCache.getParentCaseData(caseData);
 
         caseData = solicitorEmailValidation.validateSolicitorEmail(civilCaseData, caseData);
 
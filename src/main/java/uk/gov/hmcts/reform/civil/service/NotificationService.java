@@ -1,32 +1,46 @@
 package uk.gov.hmcts.reform.civil.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.service.calls.CallLedger;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
 
+import java.time.Duration;
 import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final String NOTIFY = "notify";
     private final NotificationClient notificationClient;
     private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
 
+    @Timed(value = "ga.notify.send", description = "Time spent sending an email through GOV.UK Notify")
     public void sendMail(
         String targetEmail,
         String emailTemplate,
         Map<String, String> parameters,
         String reference
     ) {
+        CallLedger.current().ifPresent(ledger -> ledger.checkDeadline(NOTIFY));
+        long startedAt = System.nanoTime();
+        int status = 0;
         try {
             log.info("NotificationService::sendMail::templateID: {}", emailTemplate);
             notificationClient.sendEmail(emailTemplate, targetEmail, parameters, reference);
+            status = 201;
         } catch (NotificationClientException e) {
+            status = e.getHttpResult();
             throw new NotificationException(e);
+        } finally {
+            int httpStatus = status;
+            CallLedger.current().ifPresent(ledger -> ledger.record(
+                NOTIFY, "sendEmail", httpStatus, Duration.ofNanos(System.nanoTime() - startedAt), -1L));
         }
     }
 }
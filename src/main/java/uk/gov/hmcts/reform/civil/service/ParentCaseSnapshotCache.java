@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.config.ParentCaseCacheConfiguration;
+import uk.gov.hmcts.reform.civil.event.ParentCaseUpdatedEvent;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+
+/**
+ * Keeps the parent civil case as fetched from CCD for a short while, so the notification and
+ * document steps of one process fetch it once. Snapshots are keyed on the case id and the CCD
+ * version, and only the snapshot of the latest version seen for a case is read: an event this
+ * service submits to the case moves that version on, so snapshots fetched before it are no longer
+ * read. Cases updated elsewhere are seen once their snapshot expires. Every read converts the
+ * snapshot again, so callers never share case data. Case details without a CCD version are
+ * converted but never kept.
+ */
+@Service
+public class ParentCaseSnapshotCache {
+
+    static final String CACHE_NAME = "parentCaseSnapshots";
+
+    private final CoreCaseDataService coreCaseDataService;
+    private final CaseDetailsConverter caseDetailsConverter;
+    private final Cache<SnapshotKey, CaseDetails> snapshots;
+    private final Cache<Long, Integer> latestVersions;
+
+    @Autowired
+    public ParentCaseSnapshotCache(CoreCaseDataService coreCaseDataService,
+                                   CaseDetailsConverter caseDetailsConverter,
+                                   ParentCaseCacheConfiguration configuration,
+                                   MeterRegistry meterRegistry) {
+        this(coreCaseDataService, caseDetailsConverter, configuration, meterRegistry, Ticker.systemTicker());
+    }
+
+    ParentCaseSnapshotCache(CoreCaseDataService coreCaseDataService,
+                            CaseDetailsConverter caseDetailsConverter,
+                            ParentCaseCacheConfiguration configuration,
+                            MeterRegistry meterRegistry,
+                            Ticker ticker) {
+        this.coreCaseDataService = coreCaseDataService;
+        this.caseDetailsConverter = caseDetailsConverter;
+        this.snapshots = Caffeine.newBuilder()
+            .expireAfterWrite(configuration.getTimeToLive())
+            .maximumSize(configuration.getMaximumSize())
+            .ticker(ticker)
+            .recordStats()
+            .build();
+        this.latestVersions = Caffeine.newBuilder()
+            .expireAfterWrite(configuration.getTimeToLive())
+            .maximumSize(configuration.getMaximumSize())
+            .ticker(ticker)
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, CACHE_NAME);
+    }
+
+    public CaseData getParentCaseData(CaseData generalApplication) {
+        return getCaseData(Long.parseLong(generalApplication.getGeneralAppParentCaseLink().getCaseReference()));
+    }
+
+    public CaseData getCaseData(Long caseId) {
+        CaseDetails caseDetails = snapshots.getIfPresent(new SnapshotKey(caseId, latestVersions.getIfPresent(caseId)));
+        if (caseDetails == null) {
+            caseDetails = load(caseId);
+        }
+        return caseDetailsConverter.toCaseData(caseDetails);
+    }
+
+    @EventListener
+    public void onParentCaseUpdated(ParentCaseUpdatedEvent event) {
+        if (event.getVersion() != null) {
+            latestVersions.asMap().merge(event.getCaseId(), event.getVersion(), Math::max);
+        } else {
+            latestVersions.invalidate(event.getCaseId());
+        }
+    }
+
+    /**
+     * Keeps the fetched case unless a later version has been seen in the meantime.
+     */
+    private CaseDetails load(Long caseId) {
+        CaseDetails caseDetails = coreCaseDataService.getCase(caseId);
+        Integer version = caseDetails == null ? null : caseDetails.getVersion();
+        if (version != null && version.equals(latestVersions.asMap().merge(caseId, version, Math::max))) {
+            snapshots.put(new SnapshotKey(caseId, version), caseDetails);
+        }
+        return caseDetails;
+    }
+
+    private record SnapshotKey(Long caseId, Integer version) {
+    }
+}
@@ -1,12 +1,9 @@
 package uk.gov.hmcts.reform.civil.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.util.ReflectionUtils;
-import org.springframework.util.StringUtils;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
@@ -32,14 +29,18 @@ import uk.gov.hmcts.reform.civil.model.genapplication.GAUrgencyRequirement;
 import uk.gov.hmcts.reform.civil.model.genapplication.GeneralApplication;
 import uk.gov.hmcts.reform.civil.model.genapplication.GeneralApplicationsDetails;
 
-import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static java.util.Optional.ofNullable;
@@ -63,7 +64,6 @@ public class ParentCaseUpdateHelper {
     private final CaseDetailsConverter caseDetailsConverter;
     private final CoreCaseDataService coreCaseDataService;
     private final FeatureToggleService featureToggleService;
-    private final ObjectMapper mapper;
 
     private static final Logger log = LoggerFactory.getLogger(ParentCaseUpdateHelper.class);
 
@@ -81,10 +81,13 @@ public class ParentCaseUpdateHelper {
     private static final String CLAIMANT_ROLE = "Claimant";
     private static final String RESPONDENTSOL_ROLE = "RespondentSol";
     private static final String RESPONDENTSOL_TWO_ROLE = "RespondentSolTwo";
+    private static final String STAFF_ROLE = "Staff";
     private String[] roles = {CLAIMANT_ROLE, RESPONDENTSOL_ROLE, RESPONDENTSOL_TWO_ROLE};
     private static final String GA_EVIDENCE = "gaEvidence";
-    private static final String GA_ADDL = "gaAddl";
-    private static final String CIVIL_GA_EVIDENCE = "generalAppEvidence";
+    private static final DocumentCollectionRegistry DOCUMENT_COLLECTIONS = new DocumentCollectionRegistry(
+        Stream.concat(Arrays.stream(DOCUMENT_TYPES), Stream.of(GA_EVIDENCE)).toList(),
+        List.of(CLAIMANT_ROLE, RESPONDENTSOL_ROLE, RESPONDENTSOL_TWO_ROLE, STAFF_ROLE)
+    );
     private static final String FREE_KEYWORD = "FREE";
 
     protected static List<CaseState> DOCUMENT_STATES = Arrays.asList(
@@ -171,7 +174,7 @@ public class ParentCaseUpdateHelper {
             newState,
             applicationId
         );
-        docVisibilityRoles[3] = "Staff";
+        docVisibilityRoles[3] = STAFF_ROLE;
 
         List<Element<GeneralApplication>> civilGeneralApplications = caseData.getGeneralApplications();
 
@@ -199,7 +202,7 @@ public class ParentCaseUpdateHelper {
                 );
         }
 
-        Map<String, Object> updateMap = getUpdatedCaseData(caseData, civilGeneralApplications, generalApplications,
+        Map<String, Object> updateMap = getUpdatedCaseData(civilGeneralApplications, generalApplications,
                 respondentSpecficGADetails,
                 respondentSpecficGADetailsTwo,
                 gaDetailsMasterCollection);
@@ -212,7 +215,7 @@ public class ParentCaseUpdateHelper {
             && !generalAppCaseData.getGaDraftDocument().isEmpty())) {
             updateEvidence(updateMap, caseData, generalAppCaseData, docVisibilityRoles);
         }
-        coreCaseDataService.submitUpdate(parentCaseId, coreCaseDataService.caseDataContentFromStartEventResponse(
+        coreCaseDataService.submitUpdate(parentCaseId, coreCaseDataService.caseDataContentWithChanges(
             startEventResponse, updateMap));
     }
 
@@ -332,7 +335,7 @@ public class ParentCaseUpdateHelper {
             );
         }
 
-        Map<String, Object> updateMap = getUpdatedCaseData(parentCaseData, parentCaseData.getGeneralApplications(),
+        Map<String, Object> updateMap = getUpdatedCaseData(parentCaseData.getGeneralApplications(),
                                                            gaClaimantDetails,
                                                            gaDetailsRespondentSol,
                                                            gaDetailsRespondentSol2,
@@ -340,7 +343,7 @@ public class ParentCaseUpdateHelper {
         );
         removeApplicationFromTranslationCollection(parentCaseData, updateMap, applicationId);
 
-        CaseDataContent caseDataContent = coreCaseDataService.caseDataContentFromStartEventResponse(
+        CaseDataContent caseDataContent = coreCaseDataService.caseDataContentWithChanges(
             startEventResponse, updateMap);
 
         coreCaseDataService.submitUpdate(parentCaseId, caseDataContent);
@@ -458,13 +461,13 @@ public class ParentCaseUpdateHelper {
 
         }
 
-        Map<String, Object> updateMap = getUpdatedCaseData(parentCaseData, parentCaseData.getGeneralApplications(),
+        Map<String, Object> updateMap = getUpdatedCaseData(parentCaseData.getGeneralApplications(),
                                                            gaClaimantDetails,
                                                            gaDetailsRespondentSol,
                                                            gaDetailsRespondentSol2,
                                                            gaMasterDetails);
         removeApplicationFromTranslationCollection(parentCaseData, updateMap, applicationId);
-        CaseDataContent caseDataContent = coreCaseDataService.caseDataContentFromStartEventResponse(
+        CaseDataContent caseDataContent = coreCaseDataService.caseDataContentWithChanges(
             startEventResponse, updateMap);
 
         coreCaseDataService.submitUpdate(parentCaseId, caseDataContent);
@@ -495,8 +498,8 @@ public class ParentCaseUpdateHelper {
                 gaDetailsRespondentSol
             );
         }
-        Map<String, Object> updateMap = getUpdateCaseDataForCollection(parentCaseData, gaTranslationDetails);
-        CaseDataContent caseDataContent = coreCaseDataService.caseDataContentFromStartEventResponse(
+        Map<String, Object> updateMap = getUpdateCaseDataForCollection(gaTranslationDetails);
+        CaseDataContent caseDataContent = coreCaseDataService.caseDataContentWithChanges(
             startEventResponse, updateMap);
 
         coreCaseDataService.submitUpdate(parentCaseId, caseDataContent);
@@ -742,7 +745,7 @@ public class ParentCaseUpdateHelper {
                 newState,
                 applicationId
             );
-            Map<String, Object> updateMap = getUpdatedCaseData(caseData, caseData.getGeneralApplications(),
+            Map<String, Object> updateMap = getUpdatedCaseData(caseData.getGeneralApplications(),
                                                                gaDetailsClaimant,
                                                                gaDetailsRespondentSol,
                                                                gaDetailsRespondentSolTwo,
@@ -754,7 +757,7 @@ public class ParentCaseUpdateHelper {
                 roles[2] = null;
             }
             updateCaseDocument(updateMap, caseData, generalAppCaseData, roles);
-            CaseDataContent caseDataContent = coreCaseDataService.caseDataContentFromStartEventResponse(
+            CaseDataContent caseDataContent = coreCaseDataService.caseDataContentWithChanges(
                 startEventResponse, updateMap);
 
             coreCaseDataService.submitUpdate(parentCaseId, caseDataContent);
@@ -796,32 +799,16 @@ public class ParentCaseUpdateHelper {
      * @param role role name. to be added with type to make the ga getter
      *
      */
-    @SuppressWarnings("unchecked")
     protected void updateCaseDocumentByType(Map<String, Object> updateMap, String type, String role,
                                     CaseData civilCaseData, CaseData generalAppCaseData) throws Exception {
         if (Objects.isNull(role)) {
             return;
         }
-        String gaCollectionName = type + "Document";
-        if (type.equals(GA_EVIDENCE)) {
-            gaCollectionName = CIVIL_GA_EVIDENCE + "Document";
-        }
-        if (type.equals(GA_ADDL)) {
-            gaCollectionName = type + "Doc";
-        }
-
-        String civilCollectionName = type + "Doc" + role;
-        Method gaGetter = ReflectionUtils.findMethod(CaseData.class,
-                "get" + StringUtils.capitalize(gaCollectionName));
-        List<Element<?>> gaDocs =
-                (List<Element<?>>) (gaGetter != null ? gaGetter.invoke(generalAppCaseData) : null);
-        Method civilGetter = ReflectionUtils.findMethod(CaseData.class,
-                "get" + StringUtils.capitalize(civilCollectionName));
-        List<Element<?>> civilDocs =
-                (List<Element<?>>) ofNullable(civilGetter != null ? civilGetter.invoke(civilCaseData) : null)
-                        .orElse(newArrayList());
+        DocumentCollectionRegistry.DocumentCollection civilCollection = DOCUMENT_COLLECTIONS.civil(type, role);
+        List<Element<?>> gaDocs = DOCUMENT_COLLECTIONS.ga(type).get(generalAppCaseData);
+        List<Element<?>> civilDocs = ofNullable(civilCollection.get(civilCaseData)).orElse(newArrayList());
         if (gaDocs != null && !(type.equals(GA_DRAFT_FORM))) {
-            List<UUID> ids = civilDocs.stream().map(Element::getId).toList();
+            Set<UUID> ids = civilDocs.stream().map(Element::getId).collect(Collectors.toCollection(HashSet::new));
             for (Element<?> gaDoc : gaDocs) {
                 if (!ids.contains(gaDoc.getId())) {
                     civilDocs.add(gaDoc);
@@ -831,7 +818,7 @@ public class ParentCaseUpdateHelper {
             && checkIfDocumentExists(civilDocs, gaDocs) < 1) {
             civilDocs.addAll(gaDocs);
         }
-        updateMap.put(civilCollectionName, civilDocs.isEmpty() ? null : civilDocs);
+        updateMap.put(civilCollection.name(), civilDocs.isEmpty() ? null : civilDocs);
     }
 
     @SuppressWarnings("unchecked")
@@ -1023,15 +1010,14 @@ public class ParentCaseUpdateHelper {
             && applicationId.equals(gaDetails.getValue().getCaseLink().getCaseReference());
     }
 
-    private Map<String, Object> getUpdatedCaseData(CaseData caseData,
-                                                   List<Element<GeneralApplication>> civilGeneralApplications,
+    private Map<String, Object> getUpdatedCaseData(List<Element<GeneralApplication>> civilGeneralApplications,
                                                    List<Element<GeneralApplicationsDetails>> claimantGaAppDetails,
                                                    List<Element<GADetailsRespondentSol>> respondentSolGaAppDetails,
                                                    List<Element<GADetailsRespondentSol>>
                                                        respondentSolTwoGaAppDetails,
                                                    List<Element<GeneralApplicationsDetails>>
                                                        gaDetailsMasterCollection) {
-        Map<String, Object> output = caseData.toMap(mapper);
+        Map<String, Object> output = new HashMap<>();
         output.put("generalApplications", civilGeneralApplications);
         output.put(GENERAL_APPLICATIONS_DETAILS_FOR_CLAIMANT, claimantGaAppDetails);
         output.put(GENERAL_APPLICATIONS_DETAILS_FOR_RESP_SOL, respondentSolGaAppDetails);
@@ -1040,10 +1026,9 @@ public class ParentCaseUpdateHelper {
         return output;
     }
 
-    private Map<String, Object> getUpdateCaseDataForCollection(CaseData caseData,
-                                                               List<Element<GeneralApplicationsDetails>>
+    private Map<String, Object> getUpdateCaseDataForCollection(List<Element<GeneralApplicationsDetails>>
                                                                    gaDetailsTranslationCollection) {
-        Map<String, Object> output = caseData.toMap(mapper);
+        Map<String, Object> output = new HashMap<>();
         output.put(GENERAL_APPLICATIONS_DETAILS_FOR_WELSH, gaDetailsTranslationCollection);
         return output;
     }
@@ -6,7 +6,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
-import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.PostOrderCoverLetter;
@@ -16,13 +15,12 @@ import uk.gov.hmcts.reform.civil.model.documents.DocumentMetaData;
 import uk.gov.hmcts.reform.civil.model.documents.DocumentType;
 import uk.gov.hmcts.reform.civil.model.documents.PDF;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
-import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentDownloadException;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentDownloadService;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentManagementService;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 import uk.gov.hmcts.reform.civil.service.flowstate.FlowFlag;
 import uk.gov.hmcts.reform.civil.stitch.service.CivilStitchService;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -44,8 +42,7 @@ public class SendFinalOrderPrintService {
     private final DocumentManagementService documentManagementService;
     private final DocumentGeneratorService documentGeneratorService;
 
-    private final CaseDetailsConverter caseDetailsConverter;
-    private final CoreCaseDataService coreCaseDataService;
+    private final ParentCaseSnapshotCache parentCaseSnapshotCache;
 
     private final CivilStitchService civilStitchService;
 
@@ -62,15 +59,6 @@ public class SendFinalOrderPrintService {
         String documentUrl = postJudgeOrderDocument.getDocumentUrl();
         String documentId = documentUrl.substring(documentUrl.lastIndexOf("/") + 1);
 
-        byte[] letterContent;
-
-        try {
-            letterContent = documentDownloadService.downloadDocument(authorisation, documentId).file().getInputStream().readAllBytes();
-        } catch (IOException e) {
-            log.error("Failed getting letter content for Pip Stitched Letter ");
-            throw new DocumentDownloadException(postJudgeOrderDocument.getDocumentFileName(), e);
-        }
-
         if (lipUserType.equals(FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT) && Objects.nonNull(caseData.getClaimant1PartyName())) {
             recipients.add(caseData.getPartyName(parentClaimantIsApplicant, lipUserType, civilCaseData));
 
@@ -81,17 +69,17 @@ public class SendFinalOrderPrintService {
             recipients.add(caseData.getPartyName(parentClaimantIsApplicant, lipUserType, civilCaseData));
         }
 
-        bulkPrintService.printLetter(letterContent, caseData.getGeneralAppParentCaseLink().getCaseReference(),
-                                     civilCaseData.getLegacyCaseReference(),
-                                     SendFinalOrderPrintService.FINAL_ORDER_PACK_LETTER_TYPE, recipients);
+        try (SpooledDocument letterContent = documentDownloadService.downloadDocumentContent(authorisation, documentId)) {
+            bulkPrintService.printLetter(letterContent, caseData.getGeneralAppParentCaseLink().getCaseReference(),
+                                         civilCaseData.getLegacyCaseReference(),
+                                         SendFinalOrderPrintService.FINAL_ORDER_PACK_LETTER_TYPE, recipients);
+        }
 
     }
 
     public void sendJudgeTranslatedOrderToPrintForLIP(String authorisation, Document originalDocument, Document translatedDocument, CaseData caseData, CaseEvent caseEvent) {
 
-        CaseData civilCaseData = caseDetailsConverter
-            .toCaseData(coreCaseDataService
-                            .getCase(Long.parseLong(caseData.getGeneralAppParentCaseLink().getCaseReference())));
+        CaseData civilCaseData = parentCaseSnapshotCache.getParentCaseData(caseData);
 
         DocmosisDocument coverLetter = generate(caseData, civilCaseData, caseEvent);
 
@@ -129,19 +117,10 @@ public class SendFinalOrderPrintService {
         String documentUrl = stitchedDocument.getDocumentLink().getDocumentUrl();
         String documentId = documentUrl.substring(documentUrl.lastIndexOf("/") + 1);
 
-        byte[] letterContent;
-
-        try {
-            letterContent = documentDownloadService.downloadDocument(
-                authorisation,
-                documentId
-            ).file().getInputStream().readAllBytes();
-        } catch (IOException e) {
-            log.error("Failed getting letter content for Pip Stitched Letter ");
-            throw new DocumentDownloadException(stitchedDocument.getDocumentLink().getDocumentFileName(), e);
-        }
         List<String> recipients = getRecipients(caseData, caseEvent, civilCaseData);
-        sendBulkPrint(letterContent, caseData, civilCaseData, recipients);
+        try (SpooledDocument letterContent = documentDownloadService.downloadDocumentContent(authorisation, documentId)) {
+            sendBulkPrint(letterContent, caseData, civilCaseData, recipients);
+        }
     }
 
     private List<String> getRecipients(CaseData caseData, CaseEvent caseEvent, CaseData civilCaseData) {
@@ -162,7 +141,7 @@ public class SendFinalOrderPrintService {
         return recipients;
     }
 
-    private void sendBulkPrint(byte[] letterContent, CaseData caseData, CaseData civilCaseData, List<String> recipients) {
+    private void sendBulkPrint(SpooledDocument letterContent, CaseData caseData, CaseData civilCaseData, List<String> recipients) {
 
         bulkPrintService.printLetter(letterContent, caseData.getGeneralAppParentCaseLink().getCaseReference(),
                                      civilCaseData.getLegacyCaseReference(),
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.civil.service.calls;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+import uk.gov.hmcts.reform.civil.exceptions.DownstreamDeadlineExceededException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * A pool for downstream calls a callback hands to other threads and then waits for. At most
+ * {@code workers} tasks run and as many wait; when the pool is full a task runs on the calling
+ * thread instead. Tasks run with the callback's {@link CallLedger} as the current one, and a
+ * {@link Batch} waits for them until its deadline or the time left on that ledger, whichever is
+ * sooner.
+ */
+public final class BoundedFanOut {
+
+    private final ExecutorService executor;
+
+    public BoundedFanOut(String threadNamePrefix, int workers) {
+        this(new ThreadPoolExecutor(
+            workers, workers, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(workers),
+            new CustomizableThreadFactory(threadNamePrefix),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        ));
+    }
+
+    public BoundedFanOut(ExecutorService executor) {
+        this.executor = executor;
+        if (executor instanceof ThreadPoolExecutor pool) {
+            pool.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    /**
+     * Starts a batch of tasks on behalf of the current callback.
+     *
+     * @param description what the tasks produce, in plural, as used in error messages.
+     * @param deadline    the longest the batch may take when the callback has more time left.
+     */
+    public Batch start(String description, Duration deadline) {
+        return new Batch(description, CallLedger.current(), deadline);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public final class Batch {
+
+        private final String description;
+        private final Optional<CallLedger> ledger;
+        private final long deadlineAt;
+        private final List<Future<?>> submitted = new ArrayList<>();
+
+        private Batch(String description, Optional<CallLedger> ledger, Duration deadline) {
+            this.description = description;
+            this.ledger = ledger;
+            this.deadlineAt = System.nanoTime() + ledger.map(CallLedger::remaining)
+                .filter(remaining -> remaining.compareTo(deadline) < 0)
+                .orElse(deadline)
+                .toNanos();
+        }
+
+        /**
+         * Starts the task on the pool. A null task is not started and gives a null future.
+         */
+        public <T> Future<T> submit(Supplier<T> task) {
+            if (task == null) {
+                return null;
+            }
+            Future<T> future = executor.submit(() -> ledger.isPresent() ? ledger.get().callWith(task) : task.get());
+            submitted.add(future);
+            return future;
+        }
+
+        /**
+         * Waits for the task until the batch deadline and returns its result, rethrowing its failure.
+         * A null future gives null.
+         */
+        public <T> T await(Future<T> task) {
+            if (task == null) {
+                return null;
+            }
+            try {
+                return task.get(Math.max(0L, deadlineAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for " + description, e);
+            } catch (TimeoutException e) {
+                throw new DownstreamDeadlineExceededException(
+                    StringUtils.capitalize(description) + " were not ready within the deadline");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("Failed to produce " + description, e.getCause());
+            }
+        }
+
+        /**
+         * Cancels every task of the batch that has not finished yet.
+         */
+        public void cancel() {
+            submitted.forEach(task -> task.cancel(true));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.civil.service.calls;
+
+import uk.gov.hmcts.reform.civil.exceptions.DownstreamDeadlineExceededException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The downstream calls made while handling one CCD callback, and the time left for making them.
+ * A ledger is opened for the thread handling the request and closed when the response is sent;
+ * calls made on other threads are only recorded when run through {@link #callWith}. A call started once the deadline has passed fails
+ * straight away with {@link DownstreamDeadlineExceededException} rather than keeping CCD waiting
+ * for a response it will no longer accept.
+ */
+public final class CallLedger {
+
+    private static final ThreadLocal<CallLedger> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt;
+    private final long deadlineAt;
+    private final List<Call> calls = new ArrayList<>();
+
+    private CallLedger(long startedAt, Duration deadline) {
+        this.startedAt = startedAt;
+        this.deadlineAt = startedAt + deadline.toNanos();
+    }
+
+    public static CallLedger open(Duration deadline) {
+        CallLedger ledger = new CallLedger(System.nanoTime(), deadline);
+        CURRENT.set(ledger);
+        return ledger;
+    }
+
+    public static Optional<CallLedger> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Runs work handed to another thread on behalf of the request with this ledger as the current one.
+     */
+    public <T> T callWith(Supplier<T> task) {
+        CallLedger previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startedAt);
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(deadlineAt - System.nanoTime());
+    }
+
+    /**
+     * Fails when the deadline has passed, before a call to the client is made.
+     */
+    public void checkDeadline(String client) {
+        if (remaining().isNegative() || remaining().isZero()) {
+            throw new DownstreamDeadlineExceededException(
+                "Deadline passed before calling " + client + " after " + summary());
+        }
+    }
+
+    public synchronized void record(String client, String method, int status, Duration latency, long bytes) {
+        calls.add(new Call(client, method, status, latency, bytes));
+    }
+
+    public synchronized List<Call> calls() {
+        return List.copyOf(calls);
+    }
+
+    /**
+     * One line for logs and headers: the time taken so far and, per client with the slowest first,
+     * the number of calls and the time spent in them.
+     */
+    public String summary() {
+        Map<String, List<Call>> byClient = calls().stream().collect(Collectors.groupingBy(Call::client));
+        String perClient = byClient.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().stream()
+                .map(Call::latency)
+                .reduce(Duration.ZERO, Duration::plus)))
+            .sorted(Map.Entry.<String, Duration>comparingByValue(Comparator.reverseOrder()))
+            .map(entry -> entry.getKey() + " " + byClient.get(entry.getKey()).size() + "x " + entry.getValue().toMillis() + "ms")
+            .collect(Collectors.joining(", "));
+        int count = byClient.values().stream().mapToInt(List::size).sum();
+        return elapsed().toMillis() + "ms, " + count + " call(s)" + (perClient.isEmpty() ? "" : ": " + perClient);
+    }
+
+    public record Call(String client, String method, int status, Duration latency, long bytes) {
+    }
+}
@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.civil.service.calls;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records every Feign call made while a {@link CallLedger} is open. A call is refused once the
+ * ledger's deadline has passed, and is given no longer than the time left to read its response.
+ */
+@Component
+public class CallLedgerFeignCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Optional<CallLedger> current = CallLedger.current();
+            if (current.isEmpty()) {
+                return client.execute(request, options);
+            }
+            CallLedger ledger = current.get();
+            String clientName = request.requestTemplate().feignTarget().name();
+            ledger.checkDeadline(clientName);
+            long startedAt = System.nanoTime();
+            int status = 0;
+            long bytes = request.length();
+            try {
+                Response response = client.execute(request, withinDeadline(options, ledger.remaining()));
+                status = response.status();
+                if (response.body() != null && response.body().length() != null) {
+                    bytes += response.body().length();
+                }
+                return response;
+            } finally {
+                ledger.record(
+                    clientName,
+                    request.requestTemplate().methodMetadata().configKey(),
+                    status,
+                    Duration.ofNanos(System.nanoTime() - startedAt),
+                    bytes
+                );
+            }
+        };
+    }
+
+    private static Request.Options withinDeadline(Request.Options options, Duration remaining) {
+        long readTimeout = Math.max(1L, Math.min(options.readTimeoutMillis(), remaining.toMillis()));
+        return new Request.Options(
+            options.connectTimeoutMillis(), TimeUnit.MILLISECONDS,
+            readTimeout, TimeUnit.MILLISECONDS,
+            options.isFollowRedirects()
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.civil.service.calls;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import uk.gov.hmcts.reform.civil.config.CallLedgerConfiguration;
+
+/**
+ * Opens a {@link CallLedger} for each request it intercepts and logs the ledger of slow ones.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CallLedgerInterceptor implements HandlerInterceptor {
+
+    private final CallLedgerConfiguration configuration;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CallLedger.open(configuration.getDeadline());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        CallLedger.current()
+            .filter(ledger -> ledger.elapsed().compareTo(configuration.getSlowThreshold()) >= 0)
+            .ifPresent(ledger -> log.warn("Slow request {} {}: {}", request.getMethod(), request.getRequestURI(), ledger.summary()));
+        CallLedger.close();
+    }
+}
@@ -10,8 +10,8 @@ import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.LocationRefData;
 import uk.gov.hmcts.reform.civil.service.GeneralAppLocationRefDataService;
 
-import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService.DATE_FORMATTER;
 
@@ -25,25 +25,13 @@ public class DocmosisService {
     private String cnbcEpimmId;
 
     public LocationRefData getCaseManagementLocationVenueName(CaseData caseData, String authorisation) {
-        List<LocationRefData> courtLocations = null;
-        Boolean cnbcCourt = checkIfCnbc(caseData);
-        if (cnbcCourt) {
-            courtLocations = generalAppLocationRefDataService.getCnbcLocation(authorisation);
-        } else {
-            courtLocations = generalAppLocationRefDataService.getCourtLocations(authorisation);
-        }
-        assert courtLocations != null;
-        var matchingLocations =
-            courtLocations
-                .stream()
-                .filter(location -> location.getEpimmsId()
-                    .equals(caseData.getCaseManagementLocation().getBaseLocation())).toList();
+        String baseLocation = caseData.getCaseManagementLocation().getBaseLocation();
+        Optional<LocationRefData> matchingLocation = checkIfCnbc(caseData)
+            ? generalAppLocationRefDataService.getCnbcLocation(baseLocation)
+            : generalAppLocationRefDataService.getCourtLocation(baseLocation);
 
-        if (!matchingLocations.isEmpty()) {
-            return matchingLocations.get(0);
-        } else {
-            throw new IllegalArgumentException("Court Name is not found in location data");
-        }
+        return matchingLocation
+            .orElseThrow(() -> new IllegalArgumentException("Court Name is not found in location data"));
     }
 
     public YesOrNo reasonAvailable(CaseData caseData) {
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.civil.service.docmosis;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.config.OrderDocumentConfiguration;
+import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.civil.service.calls.BoundedFanOut;
+import uk.gov.hmcts.reform.civil.service.calls.CallLedger;
+
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Generates the judge's order and its LiP postal copies at the same time. Each copy is rendered by
+ * Docmosis and uploaded on its own, so the step takes about as long as the slowest document.
+ * The decision is generated on the calling thread and the copies on a {@link BoundedFanOut}. When
+ * the pool is busy a copy is generated on the calling thread instead. All documents must be ready within
+ * {@code orderDocuments.deadline}, or the time left on the callback's {@link CallLedger} if that is
+ * sooner. Once the deadline passes or any document fails, the remaining ones are cancelled.
+ */
+@Component
+public class OrderDocumentFanOut {
+
+    private final OrderDocumentConfiguration configuration;
+    private final BoundedFanOut fanOut;
+
+    @Autowired
+    public OrderDocumentFanOut(OrderDocumentConfiguration configuration) {
+        this(configuration, new BoundedFanOut("order-documents-", configuration.getWorkers()));
+    }
+
+    OrderDocumentFanOut(OrderDocumentConfiguration configuration, BoundedFanOut fanOut) {
+        this.configuration = configuration;
+        this.fanOut = fanOut;
+    }
+
+    /**
+     * Generates the given documents. A null supplier means that copy is not needed, and its
+     * document is null in the result.
+     */
+    public OrderDocuments generate(Supplier<CaseDocument> decision,
+                                   Supplier<CaseDocument> postToLipApplicant,
+                                   Supplier<CaseDocument> postToLipRespondent) {
+        BoundedFanOut.Batch copies = fanOut.start("order documents", configuration.getDeadline());
+        try {
+            Future<CaseDocument> applicantCopy = copies.submit(postToLipApplicant);
+            Future<CaseDocument> respondentCopy = copies.submit(postToLipRespondent);
+            CaseDocument generatedDecision = decision == null ? null : decision.get();
+            return new OrderDocuments(
+                generatedDecision,
+                copies.await(applicantCopy),
+                copies.await(respondentCopy)
+            );
+        } catch (RuntimeException e) {
+            copies.cancel();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdown();
+    }
+
+    public record OrderDocuments(CaseDocument decision, CaseDocument postToLipApplicant, CaseDocument postToLipRespondent) {
+    }
+}
@@ -14,4 +14,9 @@ public class DocumentDownloadService {
         String documentPath = String.format("documents/%s", documentId);
         return documentManagementService.downloadDocumentWithMetaData(authorisation, documentPath);
     }
+
+    public SpooledDocument downloadDocumentContent(String authorisation, String documentId) {
+        String documentPath = String.format("documents/%s", documentId);
+        return documentManagementService.downloadDocumentContent(authorisation, documentPath);
+    }
 }
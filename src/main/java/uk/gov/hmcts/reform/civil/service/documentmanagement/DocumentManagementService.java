@@ -10,6 +10,12 @@ public interface DocumentManagementService {
 
     byte[] downloadDocument(String authorisation, String documentPath);
 
+    /**
+     * Downloads a document without holding it in memory once it passes the spill threshold.
+     * The caller must close the returned document.
+     */
+    SpooledDocument downloadDocumentContent(String authorisation, String documentPath);
+
     DownloadedDocumentResponse downloadDocumentWithMetaData(String authorisation, String documentPath);
 
 }
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.civil.service.documentmanagement;
+
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.config.DocumentStreamingConfiguration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Creates {@link SpooledDocument}s with the configured threshold and temporary directory.
+ */
+@Component
+public class DocumentSpool {
+
+    private final long threshold;
+    private final Path directory;
+
+    public DocumentSpool(DocumentStreamingConfiguration configuration) {
+        this.threshold = configuration.getSpillThreshold().toBytes();
+        this.directory = Paths.get(configuration.getTempDirectory());
+    }
+
+    public SpooledDocument spool(InputStream in) throws IOException {
+        return SpooledDocument.spool(in, threshold, directory);
+    }
+
+    public SpooledDocument.Output output() {
+        return SpooledDocument.output(threshold, directory);
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.service.documentmanagement;
 
+import feign.Response;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ByteArrayResource;
@@ -15,6 +16,7 @@ import uk.gov.hmcts.reform.ccd.document.am.model.Classification;
 import uk.gov.hmcts.reform.ccd.document.am.model.Document;
 import uk.gov.hmcts.reform.ccd.document.am.model.DocumentUploadRequest;
 import uk.gov.hmcts.reform.ccd.document.am.model.UploadResponse;
+import uk.gov.hmcts.reform.civil.client.CaseDocumentBinaryApiClient;
 import uk.gov.hmcts.reform.civil.config.DocumentManagementConfiguration;
 import uk.gov.hmcts.reform.civil.helpers.LocalDateTimeHelper;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
@@ -25,6 +27,7 @@ import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
 import uk.gov.hmcts.reform.document.utils.InMemoryMultipartFile;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.time.ZoneId;
 import java.util.Collections;
@@ -47,6 +50,8 @@ public class SecuredDocumentManagementService implements DocumentManagementServi
     private final UserService userService;
     private final DocumentManagementConfiguration documentManagementConfiguration;
     private final CaseDocumentClientApi caseDocumentClientApi;
+    private final CaseDocumentBinaryApiClient caseDocumentBinaryApiClient;
+    private final DocumentSpool documentSpool;
 
     @Retryable(value = {DocumentUploadException.class}, backoff = @Backoff(delay = 200))
     @Override
@@ -132,6 +137,27 @@ public class SecuredDocumentManagementService implements DocumentManagementServi
         }
     }
 
+    @Retryable(value = DocumentDownloadException.class, backoff = @Backoff(delay = 200))
+    @Override
+    public SpooledDocument downloadDocumentContent(String authorisation, String documentPath) {
+        log.info("Streaming document {}", documentPath);
+        try (Response response = caseDocumentBinaryApiClient.getDocumentBinary(
+            authorisation,
+            authTokenGenerator.generate(),
+            UUID.fromString(documentPath.substring(documentPath.lastIndexOf("/") + 1))
+        )) {
+            if (response.status() / 100 != 2 || response.body() == null) {
+                throw new IllegalStateException("Document binary request returned status " + response.status());
+            }
+            try (InputStream body = response.body().asInputStream()) {
+                return documentSpool.spool(body);
+            }
+        } catch (Exception ex) {
+            log.error("Failed downloading document {}", documentPath, ex);
+            throw new DocumentDownloadException(documentPath, ex);
+        }
+    }
+
     @Retryable(value = DocumentDownloadException.class, backoff = @Backoff(delay = 200))
     @Override
     public DownloadedDocumentResponse downloadDocumentWithMetaData(String authorisation, String documentPath) {
@@ -0,0 +1,168 @@
+package uk.gov.hmcts.reform.civil.service.documentmanagement;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The content of a document, held in memory while it is small and in a temporary file once it
+ * grows past a threshold. Closing it deletes the file, so it should be used in try-with-resources
+ * and read through {@link #openStream()} rather than copied into a byte array.
+ */
+@Slf4j
+public final class SpooledDocument implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final byte[] bytes;
+    private final Path file;
+    private final long size;
+
+    private SpooledDocument(byte[] bytes, Path file, long size) {
+        this.bytes = bytes;
+        this.file = file;
+        this.size = size;
+    }
+
+    public static SpooledDocument of(byte[] bytes) {
+        return new SpooledDocument(bytes, null, bytes.length);
+    }
+
+    /**
+     * Reads the stream to its end, spilling to a file in {@code directory} once more than
+     * {@code threshold} bytes have been read. The stream is not closed.
+     */
+    public static SpooledDocument spool(InputStream in, long threshold, Path directory) throws IOException {
+        try (Output output = output(threshold, directory)) {
+            in.transferTo(output);
+            return output.toDocument();
+        }
+    }
+
+    public static Output output(long threshold, Path directory) {
+        return new Output(threshold, directory);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isInMemory() {
+        return file == null;
+    }
+
+    public InputStream openStream() throws IOException {
+        return isInMemory() ? new ByteArrayInputStream(bytes) : Files.newInputStream(file);
+    }
+
+    /**
+     * Random access to the content for PDFBox, reading from the file rather than loading it.
+     */
+    public RandomAccessRead openRandomAccess() throws IOException {
+        return isInMemory() ? new RandomAccessReadBuffer(bytes) : new RandomAccessReadBufferedFile(file.toFile());
+    }
+
+    /**
+     * Copies the content into memory, for clients that only accept a byte array.
+     */
+    public byte[] toByteArray() throws IOException {
+        return isInMemory() ? bytes : Files.readAllBytes(file);
+    }
+
+    @Override
+    public void close() {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete spooled document {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Collects written content in memory, moving it to a temporary file once it passes the threshold.
+     * Closing the output without calling {@link #toDocument()} deletes the file.
+     */
+    public static final class Output extends OutputStream {
+
+        private final long threshold;
+        private final Path directory;
+        private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        private Path file;
+        private OutputStream fileStream;
+        private long size;
+        private boolean handedOver;
+
+        private Output(long threshold, Path directory) {
+            this.threshold = threshold;
+            this.directory = directory;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            spillIfNeeded(1);
+            target().write(b);
+            size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            spillIfNeeded(len);
+            target().write(b, off, len);
+            size += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target().flush();
+        }
+
+        /**
+         * The content written so far. The output must not be written to afterwards.
+         */
+        public SpooledDocument toDocument() throws IOException {
+            handedOver = true;
+            if (file == null) {
+                return new SpooledDocument(memory.toByteArray(), null, size);
+            }
+            fileStream.close();
+            return new SpooledDocument(null, file, size);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (fileStream != null) {
+                fileStream.close();
+                if (!handedOver) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+
+        private OutputStream target() {
+            return file == null ? memory : fileStream;
+        }
+
+        private void spillIfNeeded(int length) throws IOException {
+            if (file != null || size + length <= threshold) {
+                return;
+            }
+            Files.createDirectories(directory);
+            file = Files.createTempFile(directory, "document-", ".tmp");
+            fileStream = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+            memory.writeTo(fileStream);
+            memory = null;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package uk.gov.hmcts.reform.civil.service.flowstate;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
+import uk.gov.hmcts.reform.civil.config.FlowStateCacheConfiguration;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -65,13 +69,14 @@ import static uk.gov.hmcts.reform.civil.service.flowstate.FlowState.Main.PROCEED
 import static uk.gov.hmcts.reform.civil.service.flowstate.FlowState.Main.ORDER_MADE;
 
 @Service
-@RequiredArgsConstructor
 public class FlowStateAllowedEventService {
 
     private final StateFlowEngine stateFlowEngine;
 
     private final CaseDetailsConverter caseDetailsConverter;
 
+    private final Cache<EvaluationKey, FlowStateSnapshot> evaluations;
+
     private static final Map<String, List<CaseEvent>> ALLOWED_EVENTS_ON_FLOW_STATE = Map.ofEntries(
         entry(DRAFT.fullName(), List.of(INITIATE_GENERAL_APPLICATION)),
 
@@ -189,14 +194,37 @@ public class FlowStateAllowedEventService {
         )
     );
 
+    public FlowStateAllowedEventService(StateFlowEngine stateFlowEngine,
+                                        CaseDetailsConverter caseDetailsConverter,
+                                        FlowStateCacheConfiguration configuration) {
+        this.stateFlowEngine = stateFlowEngine;
+        this.caseDetailsConverter = caseDetailsConverter;
+        this.evaluations = Caffeine.newBuilder()
+            .expireAfterWrite(configuration.getTimeToLive())
+            .maximumSize(configuration.getMaximumSize())
+            .build();
+    }
+
     public FlowState getFlowState(CaseData caseData) {
         StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
         return FlowState.fromFullName(stateFlow.getState().getName());
     }
 
     public boolean isAllowed(CaseDetails caseDetails, CaseEvent caseEvent) {
-        StateFlow stateFlow = stateFlowEngine.evaluate(caseDetails);
-        return isAllowedOnState(stateFlow.getState().getName(), caseEvent);
+        return isAllowedOnState(getFlowStateSnapshot(caseDetails).state(), caseEvent);
+    }
+
+    /**
+     * The flow state of a case, evaluated once per stored version of the case and set of feature toggles.
+     * Only pass case details as stored in CCD, such as those sent to about-to-start callbacks; case
+     * details without an id or version are evaluated every time.
+     */
+    public FlowStateSnapshot getFlowStateSnapshot(CaseDetails caseDetails) {
+        if (caseDetails.getId() == null || caseDetails.getVersion() == null) {
+            return FlowStateSnapshot.of(stateFlowEngine.evaluate(caseDetails));
+        }
+        EvaluationKey key = new EvaluationKey(caseDetails.getId(), caseDetails.getVersion(), stateFlowEngine.featureToggles());
+        return evaluations.get(key, k -> FlowStateSnapshot.of(stateFlowEngine.evaluate(caseDetails)));
     }
 
     public boolean isAllowedOnState(String stateFullName, CaseEvent caseEvent) {
@@ -204,4 +232,18 @@ public class FlowStateAllowedEventService {
             .getOrDefault(stateFullName, emptyList())
             .contains(caseEvent);
     }
+
+    public record FlowStateSnapshot(String state, Map<String, Boolean> flags) {
+
+        static FlowStateSnapshot of(StateFlow stateFlow) {
+            Map<String, Boolean> flags = stateFlow.getFlags();
+            return new FlowStateSnapshot(
+                stateFlow.getState().getName(),
+                flags == null ? Map.of() : Collections.unmodifiableMap(new HashMap<>(flags))
+            );
+        }
+    }
+
+    private record EvaluationKey(Long caseId, Integer version, List<Boolean> featureToggles) {
+    }
 }
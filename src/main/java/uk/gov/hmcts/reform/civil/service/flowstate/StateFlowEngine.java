@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.civil.service.flowstate;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
@@ -8,8 +7,12 @@ import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
 import uk.gov.hmcts.reform.civil.stateflow.StateFlowBuilder;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlowDefinition;
+import uk.gov.hmcts.reform.civil.stateflow.grammar.Build;
 import uk.gov.hmcts.reform.civil.stateflow.model.State;
 
+import java.util.List;
+
 import static uk.gov.hmcts.reform.civil.service.flowstate.FlowPredicate.isFreeFeeWelshApplication;
 import static uk.gov.hmcts.reform.civil.service.flowstate.FlowPredicate.isLipApplication;
 import static uk.gov.hmcts.reform.civil.service.flowstate.FlowPredicate.isLipRespondent;
@@ -37,13 +40,23 @@ import static uk.gov.hmcts.reform.civil.service.flowstate.FlowState.Main.PROCEED
 import static uk.gov.hmcts.reform.civil.service.flowstate.FlowState.Main.ORDER_MADE;
 
 @Component
-@RequiredArgsConstructor
 public class StateFlowEngine {
 
     private final CaseDetailsConverter caseDetailsConverter;
     private final FeatureToggleService featureToggleService;
+    private final StateFlowDefinition stateFlowDefinition;
+
+    public StateFlowEngine(CaseDetailsConverter caseDetailsConverter, FeatureToggleService featureToggleService) {
+        this.caseDetailsConverter = caseDetailsConverter;
+        this.featureToggleService = featureToggleService;
+        this.stateFlowDefinition = flow().compile();
+    }
 
     public StateFlow build() {
+        return flow().build();
+    }
+
+    private Build flow() {
         return StateFlowBuilder.<FlowState.Main>flow(FLOW_NAME)
             .initial(DRAFT)
             .transitionTo(APPLICATION_SUBMITTED)
@@ -108,8 +121,15 @@ public class StateFlowEngine {
             .state(ADDITIONAL_INFO)
             .state(JUDGE_DIRECTIONS)
             .state(JUDGE_WRITTEN_REPRESENTATION)
-            .state(ORDER_MADE)
-            .build();
+            .state(ORDER_MADE);
+    }
+
+    /**
+     * The feature toggles read while evaluating the flow. Evaluating the same case under the same
+     * toggles gives the same state and flags.
+     */
+    public List<Boolean> featureToggles() {
+        return List.of(featureToggleService.isGaForWelshEnabled());
     }
 
     public StateFlow evaluate(CaseDetails caseDetails) {
@@ -117,7 +137,7 @@ public class StateFlowEngine {
     }
 
     public StateFlow evaluate(CaseData caseData) {
-        return build().evaluate(caseData);
+        return stateFlowDefinition.evaluate(caseData);
     }
 
     public boolean hasTransitionedTo(CaseDetails caseDetails, FlowState.Main state) {
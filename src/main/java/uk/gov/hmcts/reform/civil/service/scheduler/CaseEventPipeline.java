@@ -0,0 +1,150 @@
+package uk.gov.hmcts.reform.civil.service.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.config.SchedulerPipelineConfiguration;
+import uk.gov.hmcts.reform.civil.service.CaseEventDispatcher;
+import uk.gov.hmcts.reform.civil.service.CaseEventSequence;
+import uk.gov.hmcts.reform.civil.service.DispatchSummary;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Streams the cases of a scheduler search through a filter and into the {@link CaseEventDispatcher}.
+ * Search pages are filtered as they arrive and the events of matching cases are dispatched straight
+ * away, so they go out while later pages are still loading. Dispatching blocks while the dispatcher
+ * queue is full, which in turn holds back the search, keeping memory flat however many cases match.
+ * When the Camunda lock expiration time is known the run stops taking new cases once it is within
+ * the configured margin of it, lets the cases in progress finish and reports the rest as skipped.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CaseEventPipeline {
+
+    private final SchedulerPipelineConfiguration configuration;
+    private final CaseEventDispatcher caseEventDispatcher;
+
+    @FunctionalInterface
+    public interface CaseSource {
+
+        void stream(Consumer<List<CaseDetails>> pageConsumer);
+    }
+
+    /**
+     * Runs the pipeline and waits for the events of every matched case to be dispatched.
+     * Failures of the mapper are counted and logged per case without stopping the run, as are
+     * failed events in the dispatch summary; the first failure is kept on the report so callers
+     * can fail the task once the run is over.
+     * A failure of the search itself is rethrown after the cases already dispatched are done.
+     *
+     * @param jobName            name used in log messages, usually the task topic.
+     * @param lockExpirationTime when the external task lock expires, or null when there is no limit.
+     * @param source             streams the search pages.
+     * @param mapper             maps each case before filtering, a null result does not match.
+     * @param filter             selects the cases to process.
+     * @param events             builds the events to fire for a matched case.
+     */
+    public <T> PipelineReport run(String jobName, Date lockExpirationTime, CaseSource source,
+                                  Function<CaseDetails, T> mapper, Predicate<T> filter,
+                                  Function<T, CaseEventSequence> events) {
+        Instant stopBy = lockExpirationTime == null
+            ? null
+            : lockExpirationTime.toInstant().minusSeconds(configuration.getLockExpiryMarginSeconds());
+        PipelineReport report = new Run<>(jobName, stopBy, mapper, filter, events).execute(source);
+
+        String message = "Job '{}' fetched {} case(s) in {} ms, matched {}, failed to map {}, "
+            + "finished in {} ms ({} cases/s)";
+        Object[] arguments = {jobName, report.fetched(), report.searchMillis(), report.matched(),
+            report.mappingFailures(), report.totalMillis(), String.format("%.1f", report.casesPerSecond())};
+        if (report.stopped()) {
+            log.warn(message + ", stopped before the task lock expires", arguments);
+        } else {
+            log.info(message, arguments);
+        }
+        return report;
+    }
+
+    private class Run<T> {
+
+        private final String jobName;
+        private final Function<CaseDetails, T> mapper;
+        private final Predicate<T> filter;
+        private final Function<T, CaseEventSequence> events;
+        private final CaseEventDispatcher.Dispatch dispatch;
+        private final AtomicLong fetched = new AtomicLong();
+        private final AtomicLong matched = new AtomicLong();
+        private final AtomicLong mappingFailures = new AtomicLong();
+        private final AtomicReference<RuntimeException> firstMappingFailure = new AtomicReference<>();
+
+        Run(String jobName, Instant stopBy, Function<CaseDetails, T> mapper, Predicate<T> filter,
+            Function<T, CaseEventSequence> events) {
+            this.jobName = jobName;
+            this.mapper = mapper;
+            this.filter = filter;
+            this.events = events;
+            this.dispatch = caseEventDispatcher.start(jobName, stopBy);
+        }
+
+        PipelineReport execute(CaseSource source) {
+            long start = System.currentTimeMillis();
+            long searchMillis;
+            boolean stopped = false;
+            DispatchSummary summary;
+            try {
+                source.stream(this::acceptPage);
+            } catch (PipelineStoppedException e) {
+                stopped = true;
+            } finally {
+                searchMillis = System.currentTimeMillis() - start;
+                summary = dispatch.awaitCompletion();
+            }
+            RuntimeException firstFailure = firstMappingFailure.get() != null
+                ? firstMappingFailure.get()
+                : summary.firstFailure();
+            return new PipelineReport(fetched.get(), matched.get(), mappingFailures.get(), searchMillis,
+                                      System.currentTimeMillis() - start, stopped || summary.skippedCases() > 0,
+                                      summary, firstFailure);
+        }
+
+        private void acceptPage(List<CaseDetails> page) {
+            fetched.addAndGet(page.size());
+            for (CaseDetails caseDetails : page) {
+                if (dispatch.isPastStopBy()) {
+                    throw new PipelineStoppedException();
+                }
+                CaseEventSequence sequence;
+                try {
+                    T item = mapper.apply(caseDetails);
+                    if (item == null || !filter.test(item)) {
+                        continue;
+                    }
+                    sequence = events.apply(item);
+                } catch (RuntimeException e) {
+                    mappingFailures.incrementAndGet();
+                    firstMappingFailure.compareAndSet(null, e);
+                    log.error("Job '{}' failed to process case {}: {}", jobName, caseDetails.getId(), e.toString());
+                    continue;
+                }
+                matched.incrementAndGet();
+                dispatch.submit(sequence);
+            }
+        }
+    }
+
+    private static class PipelineStoppedException extends RuntimeException {
+
+        PipelineStoppedException() {
+            super(null, null, false, false);
+        }
+    }
+}
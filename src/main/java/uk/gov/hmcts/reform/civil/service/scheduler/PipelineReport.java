@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.civil.service.scheduler;
+
+import uk.gov.hmcts.reform.civil.service.DispatchSummary;
+
+/**
+ * Per-stage counts and timings of a {@link CaseEventPipeline} run.
+ * Cases are counted as fetched by the search stage and matched by the filter stage; what happened
+ * to the events of matched cases is in the dispatch summary. Cases the dispatcher skipped were
+ * matched but not processed because the run stopped before their turn, the next scheduled run
+ * picks them up again.
+ */
+public record PipelineReport(long fetched, long matched, long mappingFailures, long searchMillis, long totalMillis,
+                             boolean stopped, DispatchSummary dispatch, RuntimeException firstFailure) {
+
+    public double casesPerSecond() {
+        long processed = dispatch.completedCases() + dispatch.failedCases();
+        return totalMillis == 0 ? processed : processed * 1000.0 / totalMillis;
+    }
+}
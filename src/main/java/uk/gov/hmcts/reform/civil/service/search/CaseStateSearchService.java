@@ -20,8 +20,8 @@ import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.UNLESS_
 @Service
 public class CaseStateSearchService extends ElasticSearchService {
 
-    public CaseStateSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public CaseStateSearchService(CoreCaseDataService coreCaseDataService, SearchPageFetcher searchPageFetcher) {
+        super(coreCaseDataService, searchPageFetcher);
     }
 
     @Override
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.civil.service.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
+import uk.gov.hmcts.reform.civil.exceptions.SearchFailedException;
+import uk.gov.hmcts.reform.civil.model.search.Query;
+import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Fetches the first page to learn the total number of hits, then requests the remaining pages by
+ * start index with at most {@code maxConcurrentPages} requests in flight. Pages are handed over in
+ * start index order, so no more than {@code maxConcurrentPages} pages are held in memory at once.
+ * Pages are fetched on an executor shared by every search.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrentSearchPageFetcher implements SearchPageFetcher {
+
+    private final CoreCaseDataService coreCaseDataService;
+    private final int pageSize;
+    private final int maxConcurrentPages;
+    private final ExecutorService executor;
+
+    @Override
+    public SearchStatistics fetch(IntFunction<Query> queryForStartIndex, Consumer<List<CaseDetails>> pageConsumer) {
+        TimedPage firstPage = fetchPage(queryForStartIndex, 0);
+        SearchStatistics statistics = SearchStatistics.empty()
+            .addPage(firstPage.cases().size(), firstPage.latencyMillis());
+        pageConsumer.accept(firstPage.cases());
+
+        int pages = (firstPage.total() + pageSize - 1) / pageSize;
+        Deque<Future<TimedPage>> inFlight = new ArrayDeque<>();
+        try {
+            int nextPage = 1;
+            while (nextPage < pages || !inFlight.isEmpty()) {
+                while (nextPage < pages && inFlight.size() < maxConcurrentPages) {
+                    int startIndex = nextPage++ * pageSize;
+                    inFlight.add(executor.submit(() -> fetchPage(queryForStartIndex, startIndex)));
+                }
+                TimedPage page = await(inFlight.poll());
+                statistics = statistics.addPage(page.cases().size(), page.latencyMillis());
+                pageConsumer.accept(page.cases());
+            }
+        } finally {
+            inFlight.forEach(page -> page.cancel(true));
+        }
+
+        log.info("Search fetched {} case(s) in {} page(s), total page latency {} ms, slowest page {} ms",
+                 statistics.cases(), statistics.pages(), statistics.totalLatencyMillis(),
+                 statistics.slowestPageMillis());
+        return statistics;
+    }
+
+    private TimedPage fetchPage(IntFunction<Query> queryForStartIndex, int startIndex) {
+        long start = System.currentTimeMillis();
+        SearchResult result = coreCaseDataService
+            .searchGeneralApplication(queryForStartIndex.apply(startIndex).withSize(pageSize));
+        return new TimedPage(result.getCases(), result.getTotal(), System.currentTimeMillis() - start);
+    }
+
+    private TimedPage await(Future<TimedPage> page) {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchFailedException("Interrupted while waiting for search page", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SearchFailedException("Failed to fetch search page", e.getCause());
+        }
+    }
+
+    private record TimedPage(List<CaseDetails> cases, int total, long latencyMillis) {
+    }
+}
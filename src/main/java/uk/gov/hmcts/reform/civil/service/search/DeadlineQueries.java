@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.civil.service.search;
+
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.RangeQueryBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
+import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
+import static org.elasticsearch.index.query.QueryBuilders.rangeQuery;
+import static uk.gov.hmcts.reform.civil.enums.dq.GAJudgeMakeAnOrderOption.GIVE_DIRECTIONS_WITHOUT_HEARING;
+import static uk.gov.hmcts.reform.civil.enums.dq.GAJudgeWrittenRepresentationsOptions.CONCURRENT_REPRESENTATIONS;
+import static uk.gov.hmcts.reform.civil.enums.dq.GAJudgeWrittenRepresentationsOptions.SEQUENTIAL_REPRESENTATIONS;
+import static uk.gov.hmcts.reform.civil.service.DeadlinesCalculator.END_OF_BUSINESS_DAY;
+
+/**
+ * The deadline rules of the general application schedulers as Elasticsearch clauses, so a search
+ * returns only the applications whose deadline has passed rather than every application in a state.
+ * Every clause built from one instance is measured against the same cutoff: the moment it was
+ * created, the day of that moment, and the business day, which moves on to the next day once
+ * business closes at 4pm.
+ */
+public final class DeadlineQueries {
+
+    private static final String WRITTEN_REPRESENTATIONS = "judicialDecisionMakeAnOrderForWrittenRepresentations.";
+    private static final String MAKE_AN_ORDER = "judicialDecisionMakeOrder.";
+
+    private final LocalDateTime now;
+
+    private DeadlineQueries(LocalDateTime now) {
+        this.now = now.truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    public static DeadlineQueries at(LocalDateTime now) {
+        return new DeadlineQueries(now);
+    }
+
+    /**
+     * The cutoff instant, to milliseconds as Elasticsearch stores dates. In-memory checks that back
+     * up a search should compare against this rather than the clock.
+     */
+    public LocalDateTime now() {
+        return now;
+    }
+
+    public LocalDate today() {
+        return now.toLocalDate();
+    }
+
+    public LocalDate businessDay() {
+        return now.toLocalTime().isAfter(END_OF_BUSINESS_DAY) ? today().plusDays(1) : today();
+    }
+
+    /**
+     * The date is today or earlier: the in-memory check matching {@link #reachedToday(String)}. A
+     * missing date has not been reached.
+     */
+    public boolean reached(LocalDate date) {
+        return date != null && !today().isBefore(date);
+    }
+
+    /**
+     * The date in the field is today or earlier.
+     */
+    public RangeQueryBuilder reachedToday(String dateField) {
+        return rangeQuery(data(dateField)).lte(today().toString());
+    }
+
+    /**
+     * The date in the field is before the business day.
+     */
+    public RangeQueryBuilder beforeBusinessDay(String dateField) {
+        return rangeQuery(data(dateField)).lt(businessDay().toString());
+    }
+
+    /**
+     * The date and time in the field is before the cutoff instant.
+     */
+    public RangeQueryBuilder passed(String dateTimeField) {
+        return rangeQuery(data(dateTimeField)).lt(now.format(ISO_LOCAL_DATE_TIME));
+    }
+
+    public QueryBuilder responseDeadlinePassed() {
+        return passed("generalAppNotificationDeadlineDate");
+    }
+
+    public QueryBuilder stayOrderExpired() {
+        return anyOf(
+            reachedToday(MAKE_AN_ORDER + "judgeApproveEditOptionDate"),
+            reachedToday("approveConsentOrder.consentOrderDateToEnd")
+        );
+    }
+
+    public QueryBuilder unlessOrderExpired() {
+        return boolQuery()
+            .must(reachedToday(MAKE_AN_ORDER + "judgeApproveEditOptionDateForUnlessOrder"))
+            .must(is(MAKE_AN_ORDER + "isOrderProcessedByUnlessScheduler", "No"));
+    }
+
+    /**
+     * Either party's written representations are due: both by the concurrent date, or the
+     * applicant and the respondent each by their own sequential date.
+     */
+    public QueryBuilder writtenRepresentationsExpired() {
+        return anyOf(
+            boolQuery()
+                .must(is(WRITTEN_REPRESENTATIONS + "writtenOption", CONCURRENT_REPRESENTATIONS.name()))
+                .must(reachedToday(WRITTEN_REPRESENTATIONS + "writtenConcurrentRepresentationsBy")),
+            boolQuery()
+                .must(is(WRITTEN_REPRESENTATIONS + "writtenOption", SEQUENTIAL_REPRESENTATIONS.name()))
+                .must(anyOf(
+                    reachedToday(WRITTEN_REPRESENTATIONS + "sequentialApplicantMustRespondWithin"),
+                    reachedToday(WRITTEN_REPRESENTATIONS + "writtenSequentailRepresentationsBy")
+                ))
+        );
+    }
+
+    public QueryBuilder directionsResponseDue() {
+        return boolQuery()
+            .must(is(MAKE_AN_ORDER + "makeAnOrder", GIVE_DIRECTIONS_WITHOUT_HEARING.name()))
+            .must(reachedToday(MAKE_AN_ORDER + "directionsResponseByDate"));
+    }
+
+    public QueryBuilder moreInformationDue() {
+        return reachedToday("judicialDecisionRequestMoreInfo.judgeRequestMoreInfoByDate");
+    }
+
+    private static QueryBuilder is(String field, String value) {
+        return matchQuery(data(field), value);
+    }
+
+    private static BoolQueryBuilder anyOf(QueryBuilder... clauses) {
+        BoolQueryBuilder query = boolQuery().minimumShouldMatch(1);
+        for (QueryBuilder clause : clauses) {
+            query.should(clause);
+        }
+        return query;
+    }
+
+    private static String data(String field) {
+        return "data." + field;
+    }
+}
@@ -1,62 +1,45 @@
 package uk.gov.hmcts.reform.civil.service.search;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
-import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.civil.enums.BusinessProcessStatus;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes;
 import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.DeadlinesCalculator;
 
-import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
 import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
-import static org.elasticsearch.index.query.QueryBuilders.rangeQuery;
 import static uk.gov.hmcts.reform.civil.enums.CaseState.AWAITING_RESPONDENT_RESPONSE;
 
 @Service
 public class DeleteExpiredResponseRespondentNotificationSearchService extends ElasticSearchService {
 
-    public static final LocalTime END_OF_BUSINESS_DAY = LocalTime.of(16, 0, 0);
+    public static final LocalTime END_OF_BUSINESS_DAY = DeadlinesCalculator.END_OF_BUSINESS_DAY;
 
-    public DeleteExpiredResponseRespondentNotificationSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public DeleteExpiredResponseRespondentNotificationSearchService(CoreCaseDataService coreCaseDataService,
+                                                                    SearchPageFetcher searchPageFetcher) {
+        super(coreCaseDataService, searchPageFetcher);
     }
 
     public Set<CaseDetails> getApplications() {
-
-        SearchResult searchResult = coreCaseDataService
-            .searchGeneralApplication(query(START_INDEX));
-
-        int pages = calculatePages(searchResult);
-        List<CaseDetails> caseDetails = new ArrayList<>(searchResult.getCases());
-
-        for (int i = 1; i < pages; i++) {
-            caseDetails.addAll(coreCaseDataService.searchGeneralApplication(query(i * ES_DEFAULT_SEARCH_LIMIT)).getCases());
-        }
-
-        return new HashSet<>(caseDetails);
+        return searchPageFetcher.fetchAll(this::query);
     }
 
     public Query query(int startIndex) {
-        LocalDate currentDate = LocalDate.now();
-        LocalTime currentTime = LocalDateTime.now().toLocalTime();
-        LocalDate targetDate = currentTime.isAfter(END_OF_BUSINESS_DAY) ? currentDate.plusDays(1) : currentDate;
+        DeadlineQueries deadlines = DeadlineQueries.at(LocalDateTime.now());
         return new Query(
             boolQuery()
                 .minimumShouldMatch(1)
                 .should(boolQuery()
-                            .must(rangeQuery("data.judicialDecisionRequestMoreInfo.judgeRequestMoreInfoByDate").lt(targetDate
-                                                                                              .toString()))
+                            .must(deadlines.beforeBusinessDay("judicialDecisionRequestMoreInfo.judgeRequestMoreInfoByDate"))
                             .mustNot(matchQuery("data.respondentResponseDeadlineChecked", "Yes"))
                             .must(beState(AWAITING_RESPONDENT_RESPONSE))),
             List.of("reference"),
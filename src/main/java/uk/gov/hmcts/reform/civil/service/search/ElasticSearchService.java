@@ -2,79 +2,76 @@ package uk.gov.hmcts.reform.civil.service.search;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-
+import org.elasticsearch.index.query.QueryBuilder;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
-import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.civil.enums.BusinessProcessStatus;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes;
 import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 
-import java.math.BigDecimal;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-
-import static java.math.RoundingMode.UP;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 @RequiredArgsConstructor
 @Slf4j
 public abstract class ElasticSearchService {
 
     protected final CoreCaseDataService coreCaseDataService;
-
-    protected static final int START_INDEX = 0;
-    protected static final int ES_DEFAULT_SEARCH_LIMIT = 10;
+    protected final SearchPageFetcher searchPageFetcher;
 
     public Set<CaseDetails> getGeneralApplications(CaseState caseState) {
-        SearchResult searchResult = coreCaseDataService.searchGeneralApplication(query(START_INDEX, caseState));
-        int pages = calculatePages(searchResult);
-        Set<CaseDetails> caseDetails = new HashSet<>(searchResult.getCases());
-
-        for (int i = 1; i < pages; i++) {
-            SearchResult result = coreCaseDataService
-                .searchGeneralApplication(query(i * ES_DEFAULT_SEARCH_LIMIT, caseState));
-            caseDetails.addAll(result.getCases());
-        }
-
-        List<Long> ids = caseDetails.stream().map(CaseDetails::getId).sorted().toList();
-        log.info("Found {} case(s) with ids {}", ids.size(), ids);
+        return fetchAll(startIndex -> query(startIndex, caseState));
+    }
 
-        return caseDetails;
+    /**
+     * Finds the cases in the given state that match the filter, such as a deadline from
+     * {@link DeadlineQueries}, returning only the listed {@code _source} fields of each,
+     * see {@link Query#dataFields(String...)}.
+     */
+    public Set<CaseDetails> getGeneralApplications(CaseState caseState, QueryBuilder filter, List<String> dataToReturn) {
+        return fetchAll(startIndex -> query(startIndex, caseState).filteredBy(filter).returning(dataToReturn));
     }
 
     public Set<CaseDetails> getOrderMadeGeneralApplications(CaseState caseState, GeneralApplicationTypes gaType) {
+        return fetchAll(startIndex -> queryForOrderMade(startIndex, caseState, gaType));
+    }
 
-        SearchResult searchResult = coreCaseDataService
-            .searchGeneralApplication(queryForOrderMade(START_INDEX, caseState, gaType));
-
-        int pages = calculatePages(searchResult);
-        Set<CaseDetails> caseDetails = new HashSet<>(searchResult.getCases());
+    /**
+     * Hands the matching cases to the consumer page by page as the search proceeds,
+     * instead of collecting them all first.
+     */
+    public SearchStatistics streamGeneralApplications(CaseState caseState, Consumer<List<CaseDetails>> pageConsumer) {
+        return searchPageFetcher.fetch(startIndex -> query(startIndex, caseState), pageConsumer);
+    }
 
-        for (int i = 1; i < pages; i++) {
-            SearchResult result = coreCaseDataService
-                .searchGeneralApplication(queryForOrderMade(i * ES_DEFAULT_SEARCH_LIMIT, caseState, gaType));
-            caseDetails.addAll(result.getCases());
-        }
+    public SearchStatistics streamGeneralApplications(CaseState caseState, QueryBuilder filter,
+                                                      Consumer<List<CaseDetails>> pageConsumer) {
+        return searchPageFetcher.fetch(startIndex -> query(startIndex, caseState).filteredBy(filter), pageConsumer);
+    }
 
-        List<Long> ids = caseDetails.stream().map(CaseDetails::getId).sorted().toList();
-        log.info("Found {} case(s) with ids {}", ids.size(), ids);
+    public SearchStatistics streamOrderMadeGeneralApplications(CaseState caseState, GeneralApplicationTypes gaType,
+                                                               Consumer<List<CaseDetails>> pageConsumer) {
+        return searchPageFetcher.fetch(startIndex -> queryForOrderMade(startIndex, caseState, gaType), pageConsumer);
+    }
 
-        return caseDetails;
+    public SearchStatistics streamOrderMadeGeneralApplications(CaseState caseState, GeneralApplicationTypes gaType,
+                                                               QueryBuilder filter, List<String> dataToReturn,
+                                                               Consumer<List<CaseDetails>> pageConsumer) {
+        return searchPageFetcher.fetch(
+            startIndex -> queryForOrderMade(startIndex, caseState, gaType).filteredBy(filter).returning(dataToReturn),
+            pageConsumer
+        );
     }
 
     public Set<CaseDetails> getGeneralApplicationsWithBusinessProcess(BusinessProcessStatus processStatus) {
-        SearchResult searchResult = coreCaseDataService
-            .searchGeneralApplication(queryForBusinessProcessStatus(START_INDEX, processStatus));
-        int pages = calculatePages(searchResult);
-        Set<CaseDetails> caseDetails = new HashSet<>(searchResult.getCases());
+        return fetchAll(startIndex -> queryForBusinessProcessStatus(startIndex, processStatus));
+    }
 
-        for (int i = 1; i < pages; i++) {
-            SearchResult result = coreCaseDataService
-                .searchGeneralApplication(queryForBusinessProcessStatus(i * ES_DEFAULT_SEARCH_LIMIT, processStatus));
-            caseDetails.addAll(result.getCases());
-        }
+    private Set<CaseDetails> fetchAll(IntFunction<Query> queryForStartIndex) {
+        Set<CaseDetails> caseDetails = searchPageFetcher.fetchAll(queryForStartIndex);
 
         List<Long> ids = caseDetails.stream().map(CaseDetails::getId).sorted().toList();
         log.info("Found {} case(s) with ids {}", ids.size(), ids);
@@ -88,8 +85,4 @@ public abstract class ElasticSearchService {
                                      GeneralApplicationTypes gaType);
 
     abstract Query queryForBusinessProcessStatus(int startIndex, BusinessProcessStatus processStatus);
-
-    protected int calculatePages(SearchResult searchResult) {
-        return new BigDecimal(searchResult.getTotal()).divide(new BigDecimal(ES_DEFAULT_SEARCH_LIMIT), UP).intValue();
-    }
 }
@@ -4,15 +4,12 @@ import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
 import static org.elasticsearch.index.query.QueryBuilders.rangeQuery;
 
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
-import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.civil.enums.BusinessProcessStatus;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes;
 import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -21,24 +18,13 @@ import org.springframework.stereotype.Service;
 @Service
 public class EvidenceUploadNotificationSearchService extends ElasticSearchService {
 
-    public EvidenceUploadNotificationSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public EvidenceUploadNotificationSearchService(CoreCaseDataService coreCaseDataService,
+                                                   SearchPageFetcher searchPageFetcher) {
+        super(coreCaseDataService, searchPageFetcher);
     }
 
     public Set<CaseDetails> getApplications() {
-
-        SearchResult searchResult = coreCaseDataService
-                .searchGeneralApplication(query(START_INDEX));
-
-        int pages = calculatePages(searchResult);
-        List<CaseDetails> caseDetails = new ArrayList<>(searchResult.getCases());
-
-        for (int i = 1; i < pages; i++) {
-            caseDetails.addAll(coreCaseDataService
-                                   .searchGeneralApplication(query(i * ES_DEFAULT_SEARCH_LIMIT)).getCases());
-        }
-
-        return new HashSet<>(caseDetails);
+        return searchPageFetcher.fetchAll(this::query);
     }
 
     public Query query(int startIndex) {
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.civil.service.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
+import uk.gov.hmcts.reform.civil.model.search.Query;
+import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Pages through the search sorted by case reference, asking each time for the hits after the sort
+ * values of the last hit seen. Unlike start index paging, cases leaving the result set mid-scan do not shift
+ * later pages, so no case is skipped. Each page depends on the previous one so pages are fetched
+ * one at a time.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SearchAfterPageFetcher implements SearchPageFetcher {
+
+    private final CoreCaseDataService coreCaseDataService;
+    private final int pageSize;
+
+    @Override
+    public SearchStatistics fetch(IntFunction<Query> queryForStartIndex, Consumer<List<CaseDetails>> pageConsumer) {
+        SearchStatistics statistics = SearchStatistics.empty();
+        List<Object> searchAfter = null;
+        List<CaseDetails> cases;
+        do {
+            long start = System.currentTimeMillis();
+            SearchResult result = coreCaseDataService.searchGeneralApplication(
+                queryForStartIndex.apply(0).withSize(pageSize).searchAfter(searchAfter));
+            cases = result.getCases();
+            statistics = statistics.addPage(cases.size(), System.currentTimeMillis() - start);
+            if (!cases.isEmpty()) {
+                pageConsumer.accept(cases);
+                searchAfter = Query.sortValues(cases.get(cases.size() - 1));
+            }
+        } while (cases.size() == pageSize);
+
+        log.info("Search fetched {} case(s) in {} page(s), total page latency {} ms, slowest page {} ms",
+                 statistics.cases(), statistics.pages(), statistics.totalLatencyMillis(),
+                 statistics.slowestPageMillis());
+        return statistics;
+    }
+}
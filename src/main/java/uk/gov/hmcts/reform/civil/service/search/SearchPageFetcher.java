@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.civil.service.search;
+
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.model.search.Query;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Pages through a CCD general application search.
+ * The query function builds the query for a given start index; fetchers decide the page size,
+ * how pages are addressed and how many are requested at once.
+ */
+public interface SearchPageFetcher {
+
+    /**
+     * Fetches every page of the search, handing each page to the consumer as it arrives.
+     * Pages are always handed over one at a time, in the order they are requested.
+     */
+    SearchStatistics fetch(IntFunction<Query> queryForStartIndex, Consumer<List<CaseDetails>> pageConsumer);
+
+    default Set<CaseDetails> fetchAll(IntFunction<Query> queryForStartIndex) {
+        Set<CaseDetails> caseDetails = new LinkedHashSet<>();
+        fetch(queryForStartIndex, caseDetails::addAll);
+        return caseDetails;
+    }
+}
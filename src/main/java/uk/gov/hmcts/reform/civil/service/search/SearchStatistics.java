@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.civil.service.search;
+
+/**
+ * Page and latency counts of a single search run.
+ */
+public record SearchStatistics(int pages, int cases, long totalLatencyMillis, long slowestPageMillis) {
+
+    public static SearchStatistics empty() {
+        return new SearchStatistics(0, 0, 0, 0);
+    }
+
+    public SearchStatistics addPage(int pageCases, long latencyMillis) {
+        return new SearchStatistics(
+            pages + 1,
+            cases + pageCases,
+            totalLatencyMillis + latencyMillis,
+            Math.max(slowestPageMillis, latencyMillis)
+        );
+    }
+}
@@ -14,8 +14,8 @@ public class ApplicationProcessCaseEventExternalTaskListener {
     @Autowired
     private ApplicationProcessCaseEventExternalTaskListener(
         ApplicationProcessCaseEventTaskHandler applicationProcessCaseEventTaskHandler,
-                                                            ExternalTaskClient client) {
+                                                            ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(applicationProcessCaseEventTaskHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, applicationProcessCaseEventTaskHandler)).open();
     }
 }
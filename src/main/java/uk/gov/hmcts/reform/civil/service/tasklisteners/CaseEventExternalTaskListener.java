@@ -12,8 +12,8 @@ public class CaseEventExternalTaskListener {
     private static final String TOPIC = "processCaseEventGASpec";
 
     @Autowired
-    private CaseEventExternalTaskListener(CaseEventTaskHandler caseEventTaskHandler, ExternalTaskClient client) {
+    private CaseEventExternalTaskListener(CaseEventTaskHandler caseEventTaskHandler, ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(caseEventTaskHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, caseEventTaskHandler)).open();
     }
 }
@@ -13,8 +13,8 @@ public class CreateApplicationExternalTaskListener {
 
     @Autowired
     private CreateApplicationExternalTaskListener(CreateApplicationTaskHandler createApplicationTaskHandler,
-                                                  ExternalTaskClient client) {
+                                                  ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(createApplicationTaskHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, createApplicationTaskHandler)).open();
     }
 }
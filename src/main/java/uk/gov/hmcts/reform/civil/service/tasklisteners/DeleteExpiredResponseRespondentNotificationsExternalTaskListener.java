@@ -13,8 +13,8 @@ public class DeleteExpiredResponseRespondentNotificationsExternalTaskListener {
 
     @Autowired
     private DeleteExpiredResponseRespondentNotificationsExternalTaskListener(DeleteExpiredResponseRespondentNotificationsHandler handler,
-                                                                             ExternalTaskClient client) {
+                                                                             ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(handler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, handler)).open();
     }
 }
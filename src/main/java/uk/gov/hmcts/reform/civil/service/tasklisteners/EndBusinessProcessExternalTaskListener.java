@@ -14,8 +14,8 @@ public class EndBusinessProcessExternalTaskListener {
     @Autowired
     private EndBusinessProcessExternalTaskListener(
             EndGeneralApplicationBusinessProcessTaskHandler handler,
-            ExternalTaskClient client) {
+            ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(handler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, handler)).open();
     }
 }
@@ -15,8 +15,8 @@ public class EndGaBusinessProcessExternalTaskListener {
     @Autowired
     private EndGaBusinessProcessExternalTaskListener(
         EndJudgeMakesDecisionBusinessProcessTaskHandler handler,
-        ExternalTaskClient client) {
+        ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(handler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, handler)).open();
     }
 }
@@ -14,8 +14,8 @@ public class EndHearingScheduledEventExternalTaskListener {
     @Autowired
     private EndHearingScheduledEventExternalTaskListener(
         EndHearingScheduledBusinessProcessTaskHandler endHearingScheduledBusinessProcessTaskHandler,
-        ExternalTaskClient client) {
+        ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(endHearingScheduledBusinessProcessTaskHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, endHearingScheduledBusinessProcessTaskHandler)).open();
     }
 }
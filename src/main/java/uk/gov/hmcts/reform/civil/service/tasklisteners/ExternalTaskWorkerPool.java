@@ -0,0 +1,229 @@
+package uk.gov.hmcts.reform.civil.service.tasklisteners;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.client.backoff.BackoffStrategy;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskHandler;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.config.ExternalTaskWorkerConfiguration;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs external task handlers on a bounded pool of workers instead of the thread that fetches
+ * the tasks, so one poll can lock several tasks and a slow task no longer holds up every other topic.
+ * Each topic runs at most its configured number of tasks at once and keeps a few more waiting;
+ * tasks fetched beyond that are unlocked straight away for another poll or instance to take, and
+ * the next poll is delayed. The locks of waiting and running tasks are extended on a schedule, so
+ * a task is not handed to another instance while this one is still working on it.
+ */
+@Slf4j
+@Component
+public class ExternalTaskWorkerPool implements BackoffStrategy {
+
+    static final String QUEUE_DEPTH_METRIC = "ga.external.task.queue.depth";
+    static final String RUNNING_METRIC = "ga.external.task.running";
+    static final String WAIT_METRIC = "ga.external.task.wait";
+    static final String HANDLER_METRIC = "ga.external.task.handler";
+    static final String REJECTED_METRIC = "ga.external.task.rejected";
+
+    private final ExternalTaskWorkerConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService lockExtender;
+    private final Map<String, TopicLane> lanes = new ConcurrentHashMap<>();
+    private final Map<ExternalTask, ExternalTaskService> held = new ConcurrentHashMap<>();
+    private volatile boolean rejectedSinceLastPoll;
+    private long backoffTime;
+
+    @Autowired
+    public ExternalTaskWorkerPool(ExternalTaskWorkerConfiguration configuration, MeterRegistry meterRegistry) {
+        this(
+            configuration,
+            meterRegistry,
+            Executors.newFixedThreadPool(configuration.getWorkers(), new CustomizableThreadFactory("external-task-worker-")),
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("external-task-lock-extender-"))
+        );
+    }
+
+    ExternalTaskWorkerPool(ExternalTaskWorkerConfiguration configuration,
+                           MeterRegistry meterRegistry,
+                           ExecutorService workers,
+                           ScheduledExecutorService lockExtender) {
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+        this.workers = workers;
+        this.lockExtender = lockExtender;
+        long interval = configuration.getLockExtendInterval().toMillis();
+        lockExtender.scheduleAtFixedRate(this::extendLocks, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Wraps the handler of a topic subscription so its tasks run on this pool.
+     */
+    public ExternalTaskHandler forTopic(String topic, ExternalTaskHandler handler) {
+        TopicLane lane = lanes.computeIfAbsent(topic, this::newLane);
+        return (externalTask, externalTaskService) -> lane.submit(handler, externalTask, externalTaskService);
+    }
+
+    @Override
+    public void reconfigure(List<ExternalTask> externalTasks) {
+        backoffTime = rejectedSinceLastPoll ? configuration.getRejectionBackoff().toMillis() : 0L;
+        rejectedSinceLastPoll = false;
+    }
+
+    @Override
+    public long calculateBackoffTime() {
+        return backoffTime;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lockExtender.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    void extendLocks() {
+        long lockDuration = configuration.getLockDuration().toMillis();
+        held.forEach((externalTask, externalTaskService) -> {
+            try {
+                externalTaskService.extendLock(externalTask, lockDuration);
+            } catch (RuntimeException e) {
+                log.warn("Could not extend the lock of external task {} on topic {}: {}",
+                         externalTask.getId(), externalTask.getTopicName(), e.getMessage());
+            }
+        });
+    }
+
+    private TopicLane newLane(String topic) {
+        TopicLane lane = new TopicLane(topic, configuration.concurrencyFor(topic));
+        Gauge.builder(QUEUE_DEPTH_METRIC, lane, TopicLane::waiting)
+            .description("External tasks fetched and waiting for a worker")
+            .tag("topic", topic)
+            .register(meterRegistry);
+        Gauge.builder(RUNNING_METRIC, lane, TopicLane::running)
+            .description("External tasks being handled on a worker thread")
+            .tag("topic", topic)
+            .register(meterRegistry);
+        return lane;
+    }
+
+    private class TopicLane {
+
+        private final String topic;
+        private final int concurrency;
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private final Timer waitTimer;
+        private final Timer handlerTimer;
+        private final Counter rejected;
+        // tasks handed to the workers, counted against the topic's concurrency until they finish
+        private int dispatched;
+        // of those, the tasks a worker thread has started on
+        private int running;
+
+        TopicLane(String topic, int concurrency) {
+            this.topic = topic;
+            this.concurrency = concurrency;
+            this.waitTimer = Timer.builder(WAIT_METRIC)
+                .description("Time from fetching an external task to a worker picking it up")
+                .tag("topic", topic)
+                .register(meterRegistry);
+            this.handlerTimer = Timer.builder(HANDLER_METRIC)
+                .description("Time spent handling an external task")
+                .tag("topic", topic)
+                .register(meterRegistry);
+            this.rejected = Counter.builder(REJECTED_METRIC)
+                .description("External tasks unlocked because their topic was at capacity")
+                .tag("topic", topic)
+                .register(meterRegistry);
+        }
+
+        void submit(ExternalTaskHandler handler, ExternalTask externalTask, ExternalTaskService externalTaskService) {
+            long fetchedAt = System.nanoTime();
+            Runnable job = () -> run(handler, externalTask, externalTaskService, fetchedAt);
+            boolean accepted;
+            synchronized (this) {
+                accepted = dispatched + waiting.size() < concurrency + configuration.getQueuedPerTopic();
+                if (accepted) {
+                    held.put(externalTask, externalTaskService);
+                    waiting.add(job);
+                }
+            }
+            if (accepted) {
+                drain();
+            } else {
+                reject(externalTask, externalTaskService);
+            }
+        }
+
+        synchronized int waiting() {
+            return waiting.size() + dispatched - running;
+        }
+
+        synchronized int running() {
+            return running;
+        }
+
+        private synchronized void drain() {
+            while (dispatched < concurrency && !waiting.isEmpty()) {
+                Runnable job = waiting.poll();
+                dispatched++;
+                try {
+                    workers.execute(job);
+                } catch (RuntimeException e) {
+                    dispatched--;
+                    log.error("Could not start an external task on topic {}: {}", topic, e.getMessage());
+                }
+            }
+        }
+
+        private void run(ExternalTaskHandler handler, ExternalTask externalTask,
+                         ExternalTaskService externalTaskService, long fetchedAt) {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - fetchedAt, TimeUnit.NANOSECONDS);
+            synchronized (this) {
+                running++;
+            }
+            try {
+                handler.execute(externalTask, externalTaskService);
+            } catch (RuntimeException e) {
+                log.error("External task {} on topic {} failed: {}", externalTask.getId(), topic, e.getMessage(), e);
+            } finally {
+                held.remove(externalTask);
+                synchronized (this) {
+                    running--;
+                    dispatched--;
+                }
+                handlerTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                drain();
+            }
+        }
+
+        private void reject(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+            rejected.increment();
+            rejectedSinceLastPoll = true;
+            try {
+                externalTaskService.unlock(externalTask);
+            } catch (RuntimeException e) {
+                log.warn("Could not unlock external task {} on topic {}, it will be fetched again once its lock expires: {}",
+                         externalTask.getId(), topic, e.getMessage());
+            }
+        }
+    }
+}
@@ -14,8 +14,8 @@ public class GADocUploadNotifySchedulerExternalTaskListener {
 
     @Autowired
     private GADocUploadNotifySchedulerExternalTaskListener(DocUploadNotifyTaskHandler taskHandler,
-                                                           ExternalTaskClient client) {
+                                                           ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(taskHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, taskHandler)).open();
     }
 }
@@ -15,8 +15,8 @@ public class GAOrderMadeSchedulerExternalTaskListener {
 
     @Autowired
     private GAOrderMadeSchedulerExternalTaskListener(CheckStayOrderDeadlineEndTaskHandler taskHandler,
-                                                     ExternalTaskClient client) {
+                                                     ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(taskHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, taskHandler)).open();
     }
 }
@@ -13,8 +13,8 @@ public class GASpecCaseEventExternalTaskListener {
 
     @Autowired
     private GASpecCaseEventExternalTaskListener(GaSpecExternalCaseEventTaskHandler
-                                                    caseEventTaskHandler, ExternalTaskClient client) {
+                                                    caseEventTaskHandler, ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(caseEventTaskHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, caseEventTaskHandler)).open();
     }
 }
@@ -13,8 +13,8 @@ public class GAUnlessOrderSchedulerExternalTaskListener {
 
     @Autowired
     private GAUnlessOrderSchedulerExternalTaskListener(CheckUnlessOrderDeadlineEndTaskHandler taskHandler,
-                                                       ExternalTaskClient client) {
+                                                       ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(taskHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, taskHandler)).open();
     }
 }
@@ -13,8 +13,8 @@ public class GeneralApplicationEventExternalTaskListener {
 
     @Autowired
     private GeneralApplicationEventExternalTaskListener(GeneralApplicationTaskHandler generalApplicationTaskHandler,
-                                                        ExternalTaskClient client) {
+                                                        ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(generalApplicationTaskHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, generalApplicationTaskHandler)).open();
     }
 }
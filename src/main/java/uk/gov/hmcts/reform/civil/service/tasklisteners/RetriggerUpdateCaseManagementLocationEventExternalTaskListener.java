@@ -14,8 +14,8 @@ public class RetriggerUpdateCaseManagementLocationEventExternalTaskListener {
     @Autowired
     private RetriggerUpdateCaseManagementLocationEventExternalTaskListener(
         RetriggerUpdateCaseMgmtLocationDataHandler retriggerUpdateCaseMgmtLocationDataHandler,
-                                                            ExternalTaskClient client) {
+                                                            ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(retriggerUpdateCaseMgmtLocationDataHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, retriggerUpdateCaseMgmtLocationDataHandler)).open();
     }
 }
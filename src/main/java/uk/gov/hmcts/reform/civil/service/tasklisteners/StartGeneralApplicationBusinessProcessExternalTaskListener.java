@@ -14,8 +14,8 @@ public class StartGeneralApplicationBusinessProcessExternalTaskListener {
     @Autowired
     private StartGeneralApplicationBusinessProcessExternalTaskListener(
             StartGeneralApplicationBusinessProcessTaskHandler startGeneralApplicationBusinessProcessTaskHandler,
-            ExternalTaskClient client) {
+            ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(startGeneralApplicationBusinessProcessTaskHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, startGeneralApplicationBusinessProcessTaskHandler)).open();
     }
 }
@@ -14,8 +14,8 @@ public class StartHearingScheduledEventExternalTaskListener {
     @Autowired
     private StartHearingScheduledEventExternalTaskListener(
         StartGeneralApplicationBusinessProcessTaskHandler startGeneralApplicationBusinessProcessTaskHandler,
-        ExternalTaskClient client) {
+        ExternalTaskClient client, ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(startGeneralApplicationBusinessProcessTaskHandler).open();
+        subscriptionBuilder.handler(workerPool.forTopic(TOPIC, startGeneralApplicationBusinessProcessTaskHandler)).open();
     }
 }
@@ -0,0 +1,311 @@
+package uk.gov.hmcts.reform.civil.service.tasklisteners;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.config.ExternalTaskWorkerConfiguration;
+import uk.gov.hmcts.reform.civil.config.TaskCompletionOutboxConfiguration;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Sends the outcome of external tasks to Camunda off the worker thread. Each outcome is written to
+ * a journal file, delivered straight away and retried with growing delays while Camunda cannot be
+ * reached. A worker hands over its outcome and moves on to the next task. Deliveries run on as many
+ * threads as there are task workers; a single timer thread only waits out the retry delays.
+ * The journal only outlives the pod when {@code taskCompletionOutbox.journalDirectory} is on a
+ * mounted volume. Without a directory, nothing is journaled and pending outcomes are lost on
+ * restart; their tasks are fetched again once their locks expire.
+ * Outcomes are delivered by task id, so those left in the journal by a previous run are delivered
+ * through the service the first task of this run hands over. They only succeed while the worker id
+ * is unchanged and the task's lock has not expired.
+ * While {@code capacity} outcomes are pending, further ones are delivered once on the calling
+ * thread instead. An outcome that fails every attempt is abandoned and its task is fetched again
+ * when its lock expires. A completion that fails every attempt is first turned into a failure with
+ * no retries left, as the retrying completion used to be.
+ */
+@Slf4j
+@Component
+public class TaskCompletionOutbox {
+
+    static final String PENDING_METRIC = "ga.task.completion.pending";
+    static final String DELIVERED_METRIC = "ga.task.completion.delivered";
+    static final String RETRIED_METRIC = "ga.task.completion.retried";
+    static final String ABANDONED_METRIC = "ga.task.completion.abandoned";
+    private static final String JOURNAL_SUFFIX = ".completion";
+
+    private final TaskCompletionOutboxConfiguration configuration;
+    private final ExecutorService deliveries;
+    private final ScheduledExecutorService scheduler;
+    private final Path journal;
+    private final Map<String, Completion> pending = new ConcurrentHashMap<>();
+    private final List<Completion> recovered = new ArrayList<>();
+    private final AtomicReference<ExternalTaskService> externalTaskService = new AtomicReference<>();
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter abandoned;
+
+    @Autowired
+    public TaskCompletionOutbox(TaskCompletionOutboxConfiguration configuration,
+                                ExternalTaskWorkerConfiguration workerConfiguration,
+                                MeterRegistry meterRegistry) {
+        this(configuration, meterRegistry,
+             Executors.newFixedThreadPool(workerConfiguration.getWorkers(), new CustomizableThreadFactory("task-completion-outbox-")),
+             Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("task-completion-retry-")));
+    }
+
+    TaskCompletionOutbox(TaskCompletionOutboxConfiguration configuration,
+                         MeterRegistry meterRegistry,
+                         ExecutorService deliveries,
+                         ScheduledExecutorService scheduler) {
+        this.configuration = configuration;
+        this.deliveries = deliveries;
+        this.scheduler = scheduler;
+        this.journal = configuration.getJournalDirectory().isBlank() ? null : Paths.get(configuration.getJournalDirectory());
+        Gauge.builder(PENDING_METRIC, pending, Map::size)
+            .description("External task outcomes waiting to be delivered to Camunda")
+            .register(meterRegistry);
+        this.delivered = Counter.builder(DELIVERED_METRIC)
+            .description("External task outcomes delivered to Camunda")
+            .register(meterRegistry);
+        this.retried = Counter.builder(RETRIED_METRIC)
+            .description("Failed deliveries of external task outcomes that were retried")
+            .register(meterRegistry);
+        this.abandoned = Counter.builder(ABANDONED_METRIC)
+            .description("External task outcomes given up on after every attempt failed")
+            .register(meterRegistry);
+        recoverJournal();
+    }
+
+    public void complete(ExternalTask externalTask, ExternalTaskService externalTaskService, Map<String, Object> variables) {
+        submit(externalTaskService, Completion.of(externalTask, Outcome.COMPLETE)
+            .withVariables(variables == null ? null : new HashMap<>(variables)));
+    }
+
+    public void handleFailure(ExternalTask externalTask, ExternalTaskService externalTaskService,
+                              String errorMessage, String errorDetails, int retries, long retryTimeout) {
+        submit(externalTaskService, Completion.of(externalTask, Outcome.FAILURE)
+            .withFailure(errorMessage, errorDetails, retries, retryTimeout));
+    }
+
+    public void handleBpmnError(ExternalTask externalTask, ExternalTaskService externalTaskService, String errorCode) {
+        submit(externalTaskService, Completion.of(externalTask, Outcome.BPMN_ERROR).withErrorCode(errorCode));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        deliveries.shutdownNow();
+    }
+
+    private void submit(ExternalTaskService service, Completion completion) {
+        deliverRecovered(service);
+        if (pending.size() >= configuration.getCapacity()) {
+            log.warn("Task completion outbox is full, delivering {} of external task {} on the worker thread",
+                     completion.outcome(), completion.externalTaskId());
+            try {
+                completion.outcome().deliver(service, completion);
+                delivered.increment();
+            } catch (RuntimeException e) {
+                abandoned.increment();
+                log.error("Delivering {} of external task '{}' with processInstanceId '{}' failed: {}",
+                          completion.outcome(), completion.topicName(), completion.processInstanceId(), e.getMessage());
+            }
+            return;
+        }
+        pending.put(completion.id(), completion);
+        writeJournal(completion);
+        schedule(completion, 1, 0L);
+    }
+
+    /**
+     * Starts delivering the outcomes recovered from the journal through the first service handed over.
+     */
+    private void deliverRecovered(ExternalTaskService service) {
+        if (externalTaskService.compareAndSet(null, service)) {
+            recovered.forEach(completion -> schedule(completion, 1, 0L));
+        }
+    }
+
+    private void schedule(Completion completion, int attempt, long delayMillis) {
+        if (delayMillis == 0L) {
+            deliveries.execute(() -> attempt(completion, attempt));
+            return;
+        }
+        scheduler.schedule(() -> deliveries.execute(() -> attempt(completion, attempt)), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void attempt(Completion completion, int attempt) {
+        try {
+            completion.outcome().deliver(externalTaskService.get(), completion);
+            delivered.increment();
+            log.info("External task '{}' {} delivered with processInstanceId '{}'",
+                     completion.topicName(), completion.outcome(), completion.processInstanceId());
+            remove(completion);
+        } catch (RuntimeException e) {
+            log.error("Delivering {} of external task '{}' with processInstanceId '{}' failed on attempt {}: {}",
+                      completion.outcome(), completion.topicName(), completion.processInstanceId(), attempt, e.getMessage());
+            if (attempt < configuration.getMaxAttempts()) {
+                retried.increment();
+                schedule(completion, attempt + 1, configuration.delayBeforeRetry(attempt).toMillis());
+                return;
+            }
+            abandoned.increment();
+            remove(completion);
+            if (completion.outcome() == Outcome.COMPLETE) {
+                Completion failure = completion.asFailure("Completing external task failed: " + e.getMessage());
+                pending.put(failure.id(), failure);
+                writeJournal(failure);
+                schedule(failure, 1, 0L);
+            }
+        }
+    }
+
+    private void remove(Completion completion) {
+        pending.remove(completion.id());
+        if (journal == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(journalFile(completion.id()));
+        } catch (IOException e) {
+            log.warn("Could not remove journal entry {}: {}", completion.id(), e.getMessage());
+        }
+    }
+
+    private void writeJournal(Completion completion) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(journal);
+            Path written = Files.createTempFile(journal, completion.id(), ".tmp");
+            try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(written))) {
+                out.writeObject(completion);
+            }
+            Files.move(written, journalFile(completion.id()), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not journal {} of external task {}, it will not survive a restart: {}",
+                     completion.outcome(), completion.externalTaskId(), e.getMessage());
+        }
+    }
+
+    private void recoverJournal() {
+        if (journal == null) {
+            log.warn("No task completion journal directory is set, undelivered external task outcomes will not survive a restart");
+            return;
+        }
+        if (!Files.isDirectory(journal)) {
+            return;
+        }
+        List<Path> entries;
+        try (Stream<Path> files = Files.list(journal)) {
+            entries = files.filter(file -> file.getFileName().toString().endsWith(JOURNAL_SUFFIX)).toList();
+        } catch (IOException e) {
+            log.error("Could not read the task completion journal in {}: {}", journal, e.getMessage());
+            return;
+        }
+        for (Path entry : entries) {
+            try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(entry))) {
+                Completion completion = (Completion) in.readObject();
+                pending.put(completion.id(), completion);
+                recovered.add(completion);
+            } catch (IOException | ClassNotFoundException | ClassCastException e) {
+                log.error("Discarding unreadable task completion journal entry {}: {}", entry, e.getMessage());
+                try {
+                    Files.deleteIfExists(entry);
+                } catch (IOException ignored) {
+                    // left for the next start to report
+                }
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.info("Recovered {} undelivered external task outcome(s) from {}, delivering them with the first task's outcome",
+                     pending.size(), journal);
+        }
+    }
+
+    private Path journalFile(String id) {
+        return journal.resolve(id + JOURNAL_SUFFIX);
+    }
+
+    enum Outcome {
+        COMPLETE {
+            @Override
+            void deliver(ExternalTaskService service, Completion completion) {
+                service.complete(completion.externalTaskId(), completion.variables(), null);
+            }
+        },
+        FAILURE {
+            @Override
+            void deliver(ExternalTaskService service, Completion completion) {
+                service.handleFailure(completion.externalTaskId(), completion.errorMessage(), completion.errorDetails(),
+                                      completion.retries(), completion.retryTimeout());
+            }
+        },
+        BPMN_ERROR {
+            @Override
+            void deliver(ExternalTaskService service, Completion completion) {
+                service.handleBpmnError(completion.externalTaskId(), completion.errorCode(), null, null);
+            }
+        };
+
+        abstract void deliver(ExternalTaskService service, Completion completion);
+    }
+
+    record Completion(String id, Outcome outcome, String externalTaskId, String topicName, String processInstanceId,
+                      Map<String, Object> variables, String errorMessage, String errorDetails, int retries,
+                      long retryTimeout, String errorCode) implements Serializable {
+
+        static Completion of(ExternalTask externalTask, Outcome outcome) {
+            return new Completion(UUID.randomUUID().toString(), outcome, externalTask.getId(), externalTask.getTopicName(),
+                                  externalTask.getProcessInstanceId(), null, null, null, 0, 0L, null);
+        }
+
+        Completion withVariables(Map<String, Object> variables) {
+            return new Completion(id, outcome, externalTaskId, topicName, processInstanceId, variables,
+                                  errorMessage, errorDetails, retries, retryTimeout, errorCode);
+        }
+
+        Completion withFailure(String errorMessage, String errorDetails, int retries, long retryTimeout) {
+            return new Completion(id, outcome, externalTaskId, topicName, processInstanceId, variables,
+                                  errorMessage, errorDetails, retries, retryTimeout, errorCode);
+        }
+
+        Completion withErrorCode(String errorCode) {
+            return new Completion(id, outcome, externalTaskId, topicName, processInstanceId, variables,
+                                  errorMessage, errorDetails, retries, retryTimeout, errorCode);
+        }
+
+        Completion asFailure(String errorMessage) {
+            return new Completion(UUID.randomUUID().toString(), Outcome.FAILURE, externalTaskId, topicName,
+                                  processInstanceId, null, errorMessage, null, 0, 1000L, null);
+        }
+    }
+}
@@ -20,15 +20,30 @@ public class StateFlow {
 
     private StateMachine<String, String> stateMachine;
 
+    private List<String> history;
+
+    private Map<String, Boolean> flags;
+
+    private boolean error;
+
     public StateFlow(StateMachine<String, String> stateMachine) {
         this.stateMachine = stateMachine;
     }
 
+    StateFlow(List<String> history, Map<String, Boolean> flags, boolean error) {
+        this.history = history;
+        this.flags = flags;
+        this.error = error;
+    }
+
     public StateMachine<String, String> asStateMachine() {
         return stateMachine;
     }
 
     public StateFlow evaluate(CaseData caseData) {
+        if (stateMachine == null) {
+            throw new StateFlowException("StateFlow evaluated from a StateFlowDefinition cannot be re-evaluated.");
+        }
         Map<Object, Object> variables = stateMachine.getExtendedState().getVariables();
         variables.put(EXTENDED_STATE_CASE_KEY, caseData);
         variables.put(EXTENDED_STATE_FLAGS_KEY, new HashMap<String, Boolean>());
@@ -37,6 +52,12 @@ public class StateFlow {
     }
 
     public State getState() {
+        if (stateMachine == null) {
+            if (error) {
+                throw new StateFlowException("The state machine is at error state.");
+            }
+            return State.from(history.get(history.size() - 1));
+        }
         if (stateMachine.hasStateMachineError()) {
             throw new StateFlowException("The state machine is at error state.");
         }
@@ -45,12 +66,18 @@ public class StateFlow {
 
     @SuppressWarnings("unchecked")
     public List<State> getStateHistory() {
+        if (stateMachine == null) {
+            return history.stream().map(State::from).toList();
+        }
         List<String> historyList = stateMachine.getExtendedState().get(EXTENDED_STATE_HISTORY_KEY, ArrayList.class);
         return historyList.stream().map(State::from).toList();
     }
 
     @SuppressWarnings("unchecked")
     public Map<String, Boolean> getFlags() {
+        if (stateMachine == null) {
+            return flags;
+        }
         return stateMachine.getExtendedState().get(EXTENDED_STATE_FLAGS_KEY, Map.class);
     }
 
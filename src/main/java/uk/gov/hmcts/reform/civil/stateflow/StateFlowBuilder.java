@@ -39,6 +39,8 @@ import static uk.gov.hmcts.reform.civil.stateflow.StateFlowContext.EXTENDED_STAT
  * Once created a StateFlow can:
  * - evaluate the current state of a Case
  * - return the internal state engine for further processing
+ * Alternatively the flow can be compiled into an immutable {@link StateFlowDefinition} which
+ * evaluates cases without building a state machine.
  */
 public class StateFlowBuilder<S> {
 
@@ -255,6 +257,11 @@ public class StateFlowBuilder<S> {
             return new StateFlow(stateMachine);
         }
 
+        @Override
+        public StateFlowDefinition compile() {
+            return new StateFlowDefinition(stateFlowContext);
+        }
+
         private String fullyQualified(S state) {
             return String.format("%s.%s", flowName, state.toString());
         }
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.civil.stateflow;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.civil.stateflow.model.Transition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, precompiled form of a flow described with {@link StateFlowBuilder}.
+ * It is built once and can be evaluated concurrently against any number of cases without
+ * creating a Spring State Machine. Evaluation mirrors the state machine semantics:
+ * - a transition is permitted when it has no condition or its condition holds for the case
+ * - when more than one transition is permitted the flow is flagged as being in error and,
+ * as the state machine does, the last configured permitted transition is followed
+ * - flags are applied by the transition that is followed, static flags before dynamic flags
+ */
+@Slf4j
+public class StateFlowDefinition {
+
+    private final String initialState;
+    private final Map<String, List<Transition>> transitionsBySource;
+    private final int maxSteps;
+
+    StateFlowDefinition(StateFlowContext stateFlowContext) {
+        this.initialState = stateFlowContext.getInitialState()
+            .orElseThrow(() -> new StateFlowException("Failed to compile StateFlow without an initial state."));
+
+        Map<String, List<Transition>> transitions = new LinkedHashMap<>();
+        for (Transition transition : stateFlowContext.getTransitions()) {
+            transitions.computeIfAbsent(transition.getSourceState(), source -> new ArrayList<>())
+                .add(copyOf(transition));
+        }
+        transitions.replaceAll((source, list) -> List.copyOf(list));
+        this.transitionsBySource = Map.copyOf(transitions);
+        this.maxSteps = stateFlowContext.getTransitions().size();
+    }
+
+    public StateFlow evaluate(CaseData caseData) {
+        List<String> history = new ArrayList<>();
+        Map<String, Boolean> flags = new HashMap<>();
+        boolean error = false;
+
+        String currentState = initialState;
+        history.add(currentState);
+        for (int step = 0; ; step++) {
+            List<Transition> permittedTransitions = findPermittedTransitions(currentState, caseData);
+            if (permittedTransitions.isEmpty()) {
+                break;
+            }
+            if (step >= maxSteps) {
+                throw new StateFlowException("StateFlow did not settle, transitions form a cycle.");
+            }
+            if (permittedTransitions.size() > 1) {
+                log.error(String.format(
+                    "Ambiguous transitions permitting state [%s] to move to more than one next states [%s].",
+                    currentState, String.join(",", toPermittedStates(permittedTransitions))
+                ));
+                error = true;
+            }
+
+            Transition transition = permittedTransitions.get(permittedTransitions.size() - 1);
+            if (transition.getFlags() != null) {
+                transition.getFlags().accept(flags);
+            }
+            if (transition.getDynamicFlags() != null) {
+                transition.getDynamicFlags().accept(caseData, flags);
+            }
+            currentState = transition.getTargetState();
+            history.add(currentState);
+        }
+
+        return new StateFlow(history, flags, error);
+    }
+
+    private List<Transition> findPermittedTransitions(String state, CaseData caseData) {
+        return transitionsBySource.getOrDefault(state, List.of()).stream()
+            .filter(transition -> transition.getCondition() == null || transition.getCondition().test(caseData))
+            .toList();
+    }
+
+    private static List<String> toPermittedStates(List<Transition> permittedTransitions) {
+        return permittedTransitions.stream()
+            .map(Transition::getTargetState)
+            .toList();
+    }
+
+    private static Transition copyOf(Transition transition) {
+        Transition copy = new Transition(
+            transition.getSourceState(),
+            transition.getTargetState(),
+            transition.getCondition(),
+            transition.getFlags()
+        );
+        copy.setDynamicFlags(transition.getDynamicFlags());
+        return copy;
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.civil.stateflow.grammar;
 
 import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlowDefinition;
 
 /**
  * Represents the BUILD clause.
@@ -8,4 +9,6 @@ import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
 public interface Build {
 
     StateFlow build();
+
+    StateFlowDefinition compile();
 }
@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.civil.stitch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessStreamCache.StreamCacheCreateFunction;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.pdfwriter.compress.CompressParameters;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One merge started by {@link PdfMergeEngine}. Documents are appended one at a time and read
+ * through random access, so a document spooled to a file is not loaded into memory. PDFBox may
+ * read the appended documents again when the merge is written, so they must stay open until then.
+ * A merge of a single document writes that document as it is.
+ */
+@Slf4j
+public final class PdfMerge implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final StreamCacheCreateFunction streamCache;
+    private final String loggingContext;
+    private final PDFMergerUtility pdfMergerUtility = new PDFMergerUtility();
+    private final List<Closeable> sources = new ArrayList<>();
+    private SpooledDocument first;
+    private PDDocument destination;
+    private int documents;
+
+    PdfMerge(StreamCacheCreateFunction streamCache, String loggingContext) {
+        this.streamCache = streamCache;
+        this.loggingContext = loggingContext;
+    }
+
+    public PdfMerge append(SpooledDocument document) {
+        try {
+            if (documents == 0) {
+                first = document;
+            } else {
+                if (destination == null) {
+                    destination = new PDDocument(streamCache);
+                    appendPages(first);
+                    first = null;
+                }
+                appendPages(document);
+            }
+            documents++;
+            return this;
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public int documents() {
+        return documents;
+    }
+
+    public void writeTo(OutputStream output) {
+        try {
+            if (first != null) {
+                try (InputStream document = first.openStream()) {
+                    document.transferTo(output);
+                }
+            } else if (destination != null) {
+                destination.save(output, CompressParameters.NO_COMPRESSION);
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void writeTo(Path file) {
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE)) {
+            writeTo(output);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (destination != null) {
+            sources.add(destination);
+        }
+        sources.forEach(PdfMerge::closeQuietly);
+        sources.clear();
+        destination = null;
+    }
+
+    private void appendPages(SpooledDocument document) throws IOException {
+        RandomAccessRead source = document.openRandomAccess();
+        PDDocument parsed;
+        try {
+            parsed = Loader.loadPDF(source, "", null, null, streamCache);
+        } catch (IOException e) {
+            closeQuietly(source);
+            throw e;
+        }
+        sources.add(parsed);
+        pdfMergerUtility.appendDocument(destination, parsed);
+    }
+
+    private PdfMergeException failure(IOException e) {
+        log.error("Exception occurred while merging PDF files for caseId {}", loggingContext, e);
+        return new PdfMergeException("Exception occurred while merging PDF files." + loggingContext, e);
+    }
+
+    private static void closeQuietly(Closeable source) {
+        try {
+            source.close();
+        } catch (IOException e) {
+            log.warn("Could not close PDF source: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.civil.stitch;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.config.PdfMergeConfiguration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Starts PDF merges that keep at most {@code pdfMerge.memoryBudget} of each document's stream data
+ * in memory and the rest in temporary files under {@code pdfMerge.tempDirectory}.
+ */
+@Component
+public class PdfMergeEngine {
+
+    private final MemoryUsageSetting memoryUsage;
+
+    @Autowired
+    public PdfMergeEngine(PdfMergeConfiguration configuration) {
+        this(MemoryUsageSetting.setupMixed(configuration.getMemoryBudget().toBytes())
+                 .setTempDir(createDirectory(Paths.get(configuration.getTempDirectory())).toFile()));
+    }
+
+    public PdfMergeEngine(MemoryUsageSetting memoryUsage) {
+        this.memoryUsage = memoryUsage;
+    }
+
+    public PdfMerge start(String loggingContext) {
+        return new PdfMerge(memoryUsage.streamCache, loggingContext);
+    }
+
+    private static Path createDirectory(Path directory) {
+        try {
+            return Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create PDF merge directory " + directory, e);
+        }
+    }
+}
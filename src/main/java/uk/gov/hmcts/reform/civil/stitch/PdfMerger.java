@@ -1,23 +1,20 @@
 package uk.gov.hmcts.reform.civil.stitch;
 
-import lombok.extern.slf4j.Slf4j;
-import org.apache.pdfbox.io.RandomAccessRead;
-import org.apache.pdfbox.io.RandomAccessReadBuffer;
-import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.List;
 
-import static java.util.stream.Collectors.toList;
-import static org.apache.pdfbox.io.MemoryUsageSetting.setupMainMemoryOnly;
-
 /**
- * Utility class to merge PDF documents.
+ * Utility class to merge PDF documents held in memory. Merges keep up to 16MB of working data in
+ * memory and the rest in temporary files. Use {@link PdfMergeEngine} to merge documents spooled to
+ * files or to write the result to a file.
  */
-@Slf4j
 public final class PdfMerger {
 
+    private static final PdfMergeEngine DEFAULT_ENGINE = new PdfMergeEngine(MemoryUsageSetting.setupMixed(16L * 1024 * 1024));
+
     /**
      * Utility class constructor.
      */
@@ -37,21 +34,10 @@ public final class PdfMerger {
         }
 
         ByteArrayOutputStream docOutputStream = new ByteArrayOutputStream();
-
-        List<RandomAccessRead> inputStreams = documents.stream()
-            .map(RandomAccessReadBuffer::new)
-            .collect(toList());
-
-        PDFMergerUtility pdfMergerUtility = new PDFMergerUtility();
-        pdfMergerUtility.addSources(inputStreams);
-        pdfMergerUtility.setDestinationStream(docOutputStream);
-
-        try {
-            pdfMergerUtility.mergeDocuments(setupMainMemoryOnly().streamCache);
-            return docOutputStream.toByteArray();
-        } catch (IOException e) {
-            log.error("Exception occurred while merging PDF files for caseId {}", loggingContext, e);
-            throw new PdfMergeException("Exception occurred while merging PDF files." + loggingContext, e);
+        try (PdfMerge merge = DEFAULT_ENGINE.start(loggingContext)) {
+            documents.forEach(document -> merge.append(SpooledDocument.of(document)));
+            merge.writeTo(docOutputStream);
         }
+        return docOutputStream.toByteArray();
     }
 }
@@ -8,9 +8,13 @@ import uk.gov.hmcts.reform.civil.model.documents.DocumentType;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentManagementService;
 import uk.gov.hmcts.reform.civil.model.documents.PDF;
 import uk.gov.hmcts.reform.civil.model.documents.DocumentMetaData;
-import uk.gov.hmcts.reform.civil.service.DocumentConversionService;
-import uk.gov.hmcts.reform.civil.stitch.PdfMerger;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentSpool;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
+import uk.gov.hmcts.reform.civil.stitch.PdfMerge;
+import uk.gov.hmcts.reform.civil.stitch.PdfMergeEngine;
+import uk.gov.hmcts.reform.civil.stitch.PdfMergeException;
 
+import java.io.IOException;
 import java.util.List;
 
 @Slf4j
@@ -19,7 +23,9 @@ import java.util.List;
 public class CivilStitchService {
 
     private final DocumentManagementService managementService;
-    private final DocumentConversionService conversionService;
+    private final StitchInputFetcher stitchInputFetcher;
+    private final DocumentSpool documentSpool;
+    private final PdfMergeEngine pdfMergeEngine;
 
     public CaseDocument generateStitchedCaseDocument(List<DocumentMetaData> documents,
                                                      String documentName,
@@ -28,12 +34,21 @@ public class CivilStitchService {
                                                      String authorisation) {
 
         log.info("Generating stitched case document for caseId {} with filename {}", caseId, documentName);
-        List<byte[]> docs = documents.stream()
-            .map(doc -> conversionService.convertDocumentToPdf(doc.getDocument(), caseId, authorisation)).toList();
-
-        byte[] bytes = PdfMerger.mergeDocuments(docs, String.valueOf(caseId));
-
-        return managementService.uploadDocument(authorisation, getPdf(bytes, documentName, documentType));
+        List<StitchInputFetcher.FetchedInput> inputs = stitchInputFetcher.fetch(documents, caseId, authorisation);
+
+        try (PdfMerge merge = pdfMergeEngine.start(String.valueOf(caseId));
+             SpooledDocument.Output merged = documentSpool.output()) {
+            inputs.forEach(input -> merge.append(input.content()));
+            merge.writeTo(merged);
+            try (SpooledDocument stitched = merged.toDocument()) {
+                return managementService.uploadDocument(authorisation, getPdf(stitched.toByteArray(), documentName, documentType));
+            }
+        } catch (IOException e) {
+            log.error("Exception occurred while spooling stitched document for caseId {}", caseId, e);
+            throw new PdfMergeException("Exception occurred while spooling stitched document." + caseId, e);
+        } finally {
+            inputs.forEach(StitchInputFetcher.FetchedInput::close);
+        }
     }
 
     private PDF getPdf(byte[] bytes, String documentName, DocumentType documentType) {
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.reform.civil.stitch.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.config.StitchingConfiguration;
+import uk.gov.hmcts.reform.civil.exceptions.DocumentConversionException;
+import uk.gov.hmcts.reform.civil.exceptions.DownstreamDeadlineExceededException;
+import uk.gov.hmcts.reform.civil.model.documents.DocumentMetaData;
+import uk.gov.hmcts.reform.civil.service.DocumentConversionService;
+import uk.gov.hmcts.reform.civil.service.calls.BoundedFanOut;
+import uk.gov.hmcts.reform.civil.service.calls.CallLedger;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentDownloadException;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Downloads the documents to stitch, converting them to PDF where needed, all at the same time.
+ * The first document is fetched on the calling thread and the rest on a {@link BoundedFanOut}.
+ * When the pool is busy a document is fetched on the calling thread instead. Each input is spooled
+ * to a temporary file once it is large, so a bundle is not held in memory whole. An input that
+ * fails is fetched again up to {@code stitching.attempts} times. Downloads and rejected conversions are not retried
+ * here, because the download retries on its own and Docmosis rejects the same document again.
+ * All inputs must be ready within {@code stitching.deadline}, or the time left on the callback's
+ * {@link CallLedger} if that is sooner. The time taken by each input is logged and recorded as
+ * {@code ga.stitch.input}.
+ */
+@Slf4j
+@Component
+public class StitchInputFetcher {
+
+    static final String INPUT_METRIC = "ga.stitch.input";
+
+    private final DocumentConversionService conversionService;
+    private final StitchingConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final BoundedFanOut fanOut;
+    private final RetryTemplate retryTemplate;
+
+    @Autowired
+    public StitchInputFetcher(DocumentConversionService conversionService,
+                              StitchingConfiguration configuration,
+                              MeterRegistry meterRegistry) {
+        this(conversionService, configuration, meterRegistry, new BoundedFanOut("stitch-inputs-", configuration.getWorkers()));
+    }
+
+    StitchInputFetcher(DocumentConversionService conversionService,
+                       StitchingConfiguration configuration,
+                       MeterRegistry meterRegistry,
+                       BoundedFanOut fanOut) {
+        this.conversionService = conversionService;
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+        this.fanOut = fanOut;
+        this.retryTemplate = RetryTemplate.builder()
+            .customPolicy(new SimpleRetryPolicy(configuration.getAttempts(), Map.<Class<? extends Throwable>, Boolean>of(
+                RuntimeException.class, true,
+                DocumentDownloadException.class, false,
+                DocumentConversionException.class, false,
+                DownstreamDeadlineExceededException.class, false
+            )))
+            .fixedBackoff(200L)
+            .build();
+    }
+
+    /**
+     * Returns the inputs as PDFs, in the order of the given documents. The caller must close them
+     * once they are stitched. Once the deadline passes or any input fails for good, the remaining
+     * ones are cancelled and those already fetched are closed.
+     */
+    public List<FetchedInput> fetch(List<DocumentMetaData> documents, Long caseId, String authorisation) {
+        BoundedFanOut.Batch batch = fanOut.start("stitch inputs", configuration.getDeadline());
+        List<Future<FetchedInput>> rest = new ArrayList<>(documents.size());
+        List<FetchedInput> inputs = new ArrayList<>(documents.size());
+        try {
+            for (int position = 1; position < documents.size(); position++) {
+                DocumentMetaData document = documents.get(position);
+                int inputPosition = position;
+                rest.add(batch.submit(() -> fetch(document, inputPosition, caseId, authorisation)));
+            }
+            if (!documents.isEmpty()) {
+                inputs.add(fetch(documents.get(0), 0, caseId, authorisation));
+            }
+            for (Future<FetchedInput> input : rest) {
+                inputs.add(batch.await(input));
+            }
+            log.info("Fetched {} stitch input(s) for caseId {}: {}", inputs.size(), caseId,
+                     inputs.stream().map(FetchedInput::summary).collect(Collectors.joining(", ")));
+            return inputs;
+        } catch (RuntimeException e) {
+            batch.cancel();
+            discard(inputs, rest);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdown();
+    }
+
+    private FetchedInput fetch(DocumentMetaData document, int position, Long caseId, String authorisation) {
+        long startedAt = System.nanoTime();
+        AtomicInteger attempts = new AtomicInteger();
+        String outcome = "failure";
+        try {
+            SpooledDocument content = retryTemplate.execute(context -> {
+                attempts.incrementAndGet();
+                return conversionService.convertDocumentToSpooledPdf(document.getDocument(), caseId, authorisation);
+            });
+            outcome = "success";
+            return new FetchedInput(position, content, attempts.get(), Duration.ofNanos(System.nanoTime() - startedAt));
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            Timer.builder(INPUT_METRIC)
+                .description("Time to download and convert one document to stitch")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+            if ("failure".equals(outcome)) {
+                log.warn("Stitch input #{} for caseId {} failed after {} attempt(s) in {}ms",
+                         position + 1, caseId, attempts.get(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+    }
+
+    private static void discard(List<FetchedInput> inputs, List<Future<FetchedInput>> rest) {
+        inputs.forEach(FetchedInput::close);
+        for (Future<FetchedInput> input : rest) {
+            if (input.isDone() && !input.isCancelled()) {
+                try {
+                    input.get().close();
+                } catch (ExecutionException e) {
+                    // nothing was spooled
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * One document ready to stitch, with its position in the bundle, the attempts it took and the
+     * time they took. Closing it deletes the spooled content.
+     */
+    public record FetchedInput(int position, SpooledDocument content, int attempts, Duration elapsed) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            content.close();
+        }
+
+        String summary() {
+            return "#" + (position + 1) + " " + elapsed.toMillis() + "ms" + (attempts > 1 ? " after " + attempts + " attempts" : "");
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import uk.gov.hmcts.reform.civil.callback.CallbackException;
+import uk.gov.hmcts.reform.civil.exceptions.DownstreamDeadlineExceededException;
 
 import java.util.function.Function;
 
@@ -29,6 +30,16 @@ class ResourceExceptionHandlerTest {
         );
     }
 
+    @Test
+    void shouldReturnGatewayTimeout_whenDownstreamDeadlineExceeded() {
+        testTemplate(
+            "expected exception for exceeded deadline",
+            DownstreamDeadlineExceededException::new,
+            handler::deadlineExceeded,
+            HttpStatus.GATEWAY_TIMEOUT
+        );
+    }
+
     private <E extends Exception> void testTemplate(
         String message,
         Function<String, E> exceptionBuilder,
@@ -16,6 +16,7 @@ import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.civil.callback.CallbackParams;
 import uk.gov.hmcts.reform.civil.callback.CallbackType;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
+import uk.gov.hmcts.reform.civil.config.FlowStateCacheConfiguration;
 import uk.gov.hmcts.reform.civil.enums.PaymentStatus;
 import uk.gov.hmcts.reform.civil.enums.dq.GAJudgeDecisionOption;
 import uk.gov.hmcts.reform.civil.enums.dq.GAJudgeMakeAnOrderOption;
@@ -53,6 +54,7 @@ import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.VARY_PA
 @SpringBootTest(classes = {
     EventAllowedAspect.class,
     FlowStateAllowedEventService.class,
+    FlowStateCacheConfiguration.class,
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class,
     StateFlowEngine.class})
@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.civil.callback;
 
 import com.google.common.collect.ImmutableMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
@@ -21,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 
 import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
@@ -50,6 +53,11 @@ class CallbackHandlerFactoryTest {
 
     @TestConfiguration
     public static class OverrideBean {
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
         @Bean
         public CallbackHandler createCaseCallbackHandler() {
 
@@ -125,6 +133,9 @@ class CallbackHandlerFactoryTest {
     @Autowired
     private CallbackHandlerFactory callbackHandlerFactory;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void shouldThrowCallbackException_whenUnknownEvent() {
         CallbackRequest callbackRequest = CallbackRequest
@@ -180,6 +191,11 @@ class CallbackHandlerFactoryTest {
         CallbackResponse callbackResponse = callbackHandlerFactory.dispatch(params);
 
         assertEquals(EVENT_HANDLED_RESPONSE, callbackResponse);
+        assertThat(meterRegistry.get(CallbackHandlerFactory.HANDLER_METRIC)
+                       .tag("event", CREATE_GENERAL_APPLICATION_CASE.name())
+                       .tag("type", ABOUT_TO_SUBMIT.getValue())
+                       .tag("outcome", "success")
+                       .timer().count()).isPositive();
     }
 
     @Test
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.civil.callback;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_START;
+import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
+import static uk.gov.hmcts.reform.civil.callback.CallbackType.MID;
+import static uk.gov.hmcts.reform.civil.callback.CallbackVersion.V_1;
+import static uk.gov.hmcts.reform.civil.callback.CallbackVersion.V_2;
+
+class CallbackRouteTest {
+
+    private static final String EVENT = "INITIATE_GENERAL_APPLICATION";
+
+    private final CallbackHandler handler = new CallbackHandler() {
+        @Override
+        protected Map<String, Callback> callbacks() {
+            return Map.of();
+        }
+
+        @Override
+        public List<CaseEvent> handledEvents() {
+            return List.of();
+        }
+    };
+
+    @Test
+    void shouldReadBackDefaultCallbackKey() {
+        assertThat(CallbackRoute.fromCallbackKey(EVENT, handler.callbackKey(ABOUT_TO_START)))
+            .contains(new CallbackRoute(EVENT, null, ABOUT_TO_START, null));
+    }
+
+    @Test
+    void shouldReadBackVersionedCallbackKey() {
+        assertThat(CallbackRoute.fromCallbackKey(EVENT, handler.callbackKey(V_2, ABOUT_TO_SUBMIT)))
+            .contains(new CallbackRoute(EVENT, V_2, ABOUT_TO_SUBMIT, null));
+    }
+
+    @Test
+    void shouldReadBackPageIdContainingHyphens() {
+        assertThat(CallbackRoute.fromCallbackKey(EVENT, handler.callbackKey(V_1, MID, "ga-validate-fee")))
+            .contains(new CallbackRoute(EVENT, V_1, MID, "ga-validate-fee"));
+    }
+
+    @Test
+    void shouldNotReadUnknownCallbackKey() {
+        assertThat(CallbackRoute.fromCallbackKey(EVENT, "before-submit")).isEmpty();
+    }
+}
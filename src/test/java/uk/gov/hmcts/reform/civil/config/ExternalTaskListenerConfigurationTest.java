@@ -1,9 +1,12 @@
 package uk.gov.hmcts.reform.civil.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.camunda.bpm.client.ExternalTaskClient;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.civil.service.tasklisteners.ExternalTaskWorkerPool;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -11,6 +14,8 @@ class ExternalTaskListenerConfigurationTest {
 
     ApplicationContextRunner context = new ApplicationContextRunner()
         .withUserConfiguration(TestAuthTokenGeneratorImpl.class)
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .withUserConfiguration(ExternalTaskWorkerConfiguration.class, ExternalTaskWorkerPool.class)
         .withUserConfiguration(ExternalTaskListenerConfiguration.class);
 
     @Test
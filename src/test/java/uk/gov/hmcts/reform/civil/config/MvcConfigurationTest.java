@@ -7,15 +7,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import uk.gov.hmcts.reform.civil.controllers.testingsupport.RequestInterceptor;
+import uk.gov.hmcts.reform.civil.service.calls.CallLedgerInterceptor;
+
+import java.time.Duration;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class MvcConfigurationTest {
 
-    MvcConfiguration mvcConfiguration = new MvcConfiguration();
+    CallLedgerInterceptor callLedgerInterceptor = new CallLedgerInterceptor(
+        new CallLedgerConfiguration(Duration.ofSeconds(55), Duration.ofSeconds(5)));
+
+    MvcConfiguration mvcConfiguration = new MvcConfiguration(callLedgerInterceptor);
 
     @Mock
     InterceptorRegistry interceptorRegistry;
@@ -26,8 +33,10 @@ class MvcConfigurationTest {
     @Test
     void shouldAddInterceptorForCcdCallback() {
         when(interceptorRegistry.addInterceptor(any(RequestInterceptor.class))).thenReturn(interceptorRegistration);
+        when(interceptorRegistry.addInterceptor(callLedgerInterceptor)).thenReturn(interceptorRegistration);
         mvcConfiguration.addInterceptors(interceptorRegistry);
         verify(interceptorRegistry).addInterceptor(any(RequestInterceptor.class));
-        verify(interceptorRegistration).addPathPatterns("/cases/callbacks/**");
+        verify(interceptorRegistry).addInterceptor(callLedgerInterceptor);
+        verify(interceptorRegistration, times(2)).addPathPatterns("/cases/callbacks/**");
     }
 }
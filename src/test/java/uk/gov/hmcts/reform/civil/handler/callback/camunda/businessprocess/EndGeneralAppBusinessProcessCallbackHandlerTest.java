@@ -176,7 +176,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
                 .claimantGaAppDetails(wrapElements(claimantCollection))
                 .build();
 
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(gaForLipService.isGaForLip(any())).thenReturn(true);
             when(caseDetailsConverter.toCaseData(getCallbackParamsGaForLipCaseData(NO).getRequest().getCaseDetails()))
                 .thenReturn(updatedCaseDate);
@@ -226,7 +226,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
                 .claimantGaAppDetails(wrapElements(claimantCollection))
                 .build();
 
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(gaForLipService.isGaForLip(any())).thenReturn(true);
             when(caseDetailsConverter.toCaseData(getCallbackParamsGaForLipCaseData(NO).getRequest().getCaseDetails()))
                 .thenReturn(updatedCaseDate);
@@ -277,7 +277,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
                 .claimantGaAppDetails(wrapElements(claimantCollection))
                 .build();
 
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(gaForLipService.isGaForLip(any())).thenReturn(true);
             when(caseDetailsConverter.toCaseData(getCallbackParamsGaForLipCaseData(NO).getRequest().getCaseDetails()))
                 .thenReturn(updatedCaseDate);
@@ -329,7 +329,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
                 .claimantGaAppDetails(wrapElements(claimantCollection))
                 .build();
 
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(gaForLipService.isGaForLip(any())).thenReturn(true);
             when(caseDetailsConverter.toCaseData(getCallbackParamsGaForLipCaseDataFullRemission().getRequest().getCaseDetails()))
                 .thenReturn(updatedCaseDate);
@@ -382,7 +382,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
                 .claimantGaAppDetails(wrapElements(claimantCollection))
                 .build();
 
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(gaForLipService.isGaForLip(any())).thenReturn(true);
             when(caseDetailsConverter.toCaseData(getCallbackParamsGaForLipCaseDataPartRemission().getRequest().getCaseDetails()))
                 .thenReturn(updatedCaseDate);
@@ -439,12 +439,12 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
                 .thenReturn(updatedCaseDate);
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse());
             when(caseDetailsConverter.toCaseData(getStartEventResponse().getCaseDetails())).thenReturn(parentCaseData);
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             handler.handle(getCallbackParamsGaForLipCaseData(NO));
             verify(coreCaseDataService, times(2))
                 .submitUpdate(parentCaseId.capture(), caseDataContent.capture());
             verify(coreCaseDataService, times(2))
-                .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+                .caseDataContentWithChanges(any(), mapCaptor.capture());
             assertThat(caseDataContent.getAllValues()).hasSize(2);
 
             Map<String, Object> map = objectMapper
@@ -566,7 +566,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
                 .build();
             respondentsResponses.add(element(respondent1Response));
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(YES, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParamsOfVary(YES, YES).getRequest().getCaseDetails()))
                 .thenReturn(getSampleGeneralApplicationCaseDataForVaryJudgement(YES, YES, respondentsResponses));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(YES, NO).getCaseDetails()))
@@ -617,7 +617,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
                 .build();
             respondentsResponses.add(element(respondent1Response));
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(NO, YES));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParamsOfVary(NO, YES).getRequest().getCaseDetails()))
                 .thenReturn(getSampleGeneralApplicationCaseDataForVaryJudgement(NO, YES, respondentsResponses).toBuilder().respondentsResponses(respondentsResponses).build());
             when(caseDetailsConverter.toCaseData(getStartEventResponse(NO, YES).getCaseDetails()))
@@ -685,7 +685,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
             respondentsResponses.add(element(respondent1Response));
             respondentsResponses.add(element(respondent2Response));
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(NO, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParamsMulti(NO, NO, respondentsResponses, respondentSols).getRequest().getCaseDetails()))
                 .thenReturn(getCaseMulti(respondentSols, respondentsResponses));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(NO, NO).getCaseDetails()))
@@ -699,7 +699,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
         @Test
         void shouldChangeStateToApplicationDismissedWhenCOSC() {
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(YES, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(YES, NO).getRequest().getCaseDetails()))
                 .thenReturn(getSampleGeneralApplicationCaseDataForCCJ(YES, NO));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(YES, NO).getCaseDetails()))
@@ -752,7 +752,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
         @Test
         void theEndOfProcessShouldUpdateTheStateOfGAAndAlsoUpdateStateOnParentCaseGADetails_NotToBeNotified() {
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(YES, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(YES, NO).getRequest().getCaseDetails()))
                     .thenReturn(getSampleGeneralApplicationCaseData(YES, NO));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(YES, NO).getCaseDetails()))
@@ -810,7 +810,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
         @Test
         void theEndOfProcessShouldNotUpdateTheStateOfGAAndAlsoOnParentCaseGADetailsForDirectionOrder() {
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(YES, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(YES, NO).getRequest().getCaseDetails()))
                 .thenReturn(getSampleGeneralApplicationCaseDataByState(YES, NO, AWAITING_DIRECTIONS_ORDER_DOCS));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(YES, NO).getCaseDetails()))
@@ -826,7 +826,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
         @Test
         void theEndOfProcessShouldNotUpdateTheStateOfGAAndAlsoOnParentCaseGADetailsForWrittenRep() {
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(YES, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(YES, NO).getRequest().getCaseDetails()))
                 .thenReturn(getSampleGeneralApplicationCaseDataByState(YES, NO, AWAITING_WRITTEN_REPRESENTATIONS));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(YES, NO).getCaseDetails()))
@@ -842,7 +842,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
         @Test
         void theEndOfProcessShouldNotUpdateTheStateOfGAAndAlsoOnParentCaseGADetailsForAddlInfo() {
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(YES, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(YES, NO).getRequest().getCaseDetails()))
                 .thenReturn(getSampleGeneralApplicationCaseDataByState(YES, NO, AWAITING_ADDITIONAL_INFORMATION));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(YES, NO).getCaseDetails()))
@@ -857,7 +857,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
         @Test
         void theEndOfProcessShouldUpdateTheStateOfGAAndAlsoOnParentCaseGADetailsForRespondResponseState() {
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(YES, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(YES, NO).getRequest().getCaseDetails()))
                 .thenReturn(getSampleGeneralApplicationCaseDataByState(YES, NO, AWAITING_RESPONDENT_RESPONSE));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(YES, NO).getCaseDetails()))
@@ -872,7 +872,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
         @Test
         void theEndOfProcessShouldUpdateTheStateOfGAAndAlsoUpdateStateOnParentCaseGADetails_ToBeNotified() {
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(NO, YES));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(NO, YES).getRequest().getCaseDetails()))
                     .thenReturn(getSampleGeneralApplicationCaseData(NO, YES));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(NO, YES).getCaseDetails()))
@@ -929,7 +929,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
         @Test
         void theEndOfProcessShouldUpdateTheStateOfGAAndAlsoUpdateStateOnParentCaseGADetailsAndCollection_ToBeNotified() {
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponseForCollection(NO, YES));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(NO, YES).getRequest().getCaseDetails()))
                 .thenReturn(getSampleGeneralApplicationCaseDataForCollection(NO, YES));
             when(caseDetailsConverter.toCaseData(getStartEventResponseForCollection(NO, YES).getCaseDetails()))
@@ -941,7 +941,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
                 .startUpdate("1645779506193000", UPDATE_CASE_WITH_GA_STATE);
 
             verify(coreCaseDataService, times(2))
-                .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+                .caseDataContentWithChanges(any(), mapCaptor.capture());
             verify(coreCaseDataService, times(2)).submitUpdate(parentCaseId.capture(), caseDataContent.capture());
 
             HashMap<?, ?> updatedCaseData = (HashMap<?, ?>) caseDataContent.getValue().getData();
@@ -964,7 +964,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
             respondentSols.add(element(respondent1));
 
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(NO, YES));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(NO, YES).getRequest().getCaseDetails()))
                 .thenReturn(getCase(respondentSols, respondentsResponses));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(NO, YES).getCaseDetails()))
@@ -1002,7 +1002,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
             respondentsResponses.add(element(respondent1Response));
             respondentsResponses.add(element(respondent2Response));
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(NO, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParamsMulti(NO, NO, respondentsResponses, respondentSols).getRequest().getCaseDetails()))
                 .thenReturn(getCaseMulti(respondentSols, respondentsResponses));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(NO, NO).getCaseDetails()))
@@ -1038,7 +1038,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
             respondentsResponses.add(element(respondent1Response));
             respondentsResponses.add(element(respondent2Response));
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(NO, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParamsMulti(NO, NO, respondentsResponses, respondentSols).getRequest().getCaseDetails()))
                     .thenReturn(getCaseMulti(respondentSols, respondentsResponses));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(NO, NO).getCaseDetails()))
@@ -1077,7 +1077,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
             respondentsResponses.add(element(respondent1Response));
             respondentsResponses.add(element(respondent2Response));
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(NO, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParamsMulti(NO, NO, respondentsResponses, respondentSols).getRequest().getCaseDetails()))
                 .thenReturn(getCaseMulti(respondentSols, respondentsResponses));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(NO, NO).getCaseDetails()))
@@ -1109,7 +1109,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
             respondentsResponses.add(element(respondent1Response));
 
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(NO, NO));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(NO, NO).getRequest().getCaseDetails()))
                 .thenReturn(getCase(respondentSols, respondentsResponses));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(NO, NO).getCaseDetails()))
@@ -1122,7 +1122,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
         @Test
         void shouldChangeTheStateToAwaitingApplicationPaymentBeforePayment() {
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(NO, YES));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(NO, YES).getRequest().getCaseDetails()))
                 .thenReturn(getSampleGeneralApplicationCaseDataBeforePayment(NO, YES));
             when(caseDetailsConverter.toCaseData(getStartEventResponse(NO, YES).getCaseDetails()))
@@ -1180,7 +1180,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
         @EnumSource(value = FinalOrderSelection.class)
         void shouldChangeTheStateToOrderMadeAfterFinalOrder(FinalOrderSelection selection) {
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(NO, YES));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(NO, YES).getRequest().getCaseDetails()))
                     .thenReturn(getSampleGeneralApplicationCaseDataAfterOrderMade(NO,
                             YES, selection, null));
@@ -1238,7 +1238,7 @@ public class EndGeneralAppBusinessProcessCallbackHandlerTest extends BaseCallbac
         @Test
         void shouldChangeTheStateToListingForAHearingAfterFinalOrder() {
             when(coreCaseDataService.startUpdate(any(), any())).thenReturn(getStartEventResponse(NO, YES));
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(any(), anyMap())).thenCallRealMethod();
+            when(coreCaseDataService.caseDataContentWithChanges(any(), anyMap())).thenCallRealMethod();
             when(caseDetailsConverter.toCaseData(getCallbackParams(NO, YES).getRequest().getCaseDetails()))
                     .thenReturn(getSampleGeneralApplicationCaseDataAfterOrderMade(NO,
                             YES, FinalOrderSelection.ASSISTED_ORDER,
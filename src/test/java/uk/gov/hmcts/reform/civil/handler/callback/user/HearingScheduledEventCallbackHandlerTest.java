@@ -35,7 +35,6 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_START;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
@@ -68,7 +67,7 @@ class HearingScheduledEventCallbackHandlerTest extends BaseCallbackHandlerTest {
                               .build());
             locations.add(LocationRefData.builder().siteName("Site Name 2").courtAddress("Address2").postcode("28000")
                               .build());
-            when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+            when(locationRefDataService.getCourtLocations()).thenReturn(locations);
             CaseData caseData = CaseDataBuilder.builder().ccdState(CaseState.LISTING_FOR_A_HEARING).build();
             CallbackParams params = callbackParamsOf(caseData, ABOUT_TO_START);
             var response = (AboutToStartOrSubmitCallbackResponse) handler.handle(params);
@@ -84,7 +83,7 @@ class HearingScheduledEventCallbackHandlerTest extends BaseCallbackHandlerTest {
                               .build());
             locations.add(LocationRefData.builder().siteName("Site Name 2").courtAddress("Address2").postcode("28000")
                               .build());
-            when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+            when(locationRefDataService.getCourtLocations()).thenReturn(locations);
             CaseData caseData = CaseDataBuilder.builder().ccdState(CaseState.ORDER_MADE).build();
             CallbackParams params = callbackParamsOf(caseData, ABOUT_TO_START);
             var response = (AboutToStartOrSubmitCallbackResponse) handler.handle(params);
@@ -102,7 +101,7 @@ class HearingScheduledEventCallbackHandlerTest extends BaseCallbackHandlerTest {
             DynamicListElement location1 = DynamicListElement.builder()
                     .code(String.valueOf(UUID.randomUUID())).label("Site Name 2 - Address2 - 28000").build();
 
-            when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+            when(locationRefDataService.getCourtLocations()).thenReturn(locations);
             GAJudgesHearingListGAspec gaJudgesHearingListGAspec =
                     GAJudgesHearingListGAspec.builder().hearingPreferredLocation(DynamicList.builder()
                     .listItems(List.of(location1))
@@ -128,7 +127,7 @@ class HearingScheduledEventCallbackHandlerTest extends BaseCallbackHandlerTest {
             DynamicListElement location1 = DynamicListElement.builder()
                 .code(String.valueOf(UUID.randomUUID())).label("Site Name 2 - Address2 - 28000").build();
 
-            when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+            when(locationRefDataService.getCourtLocations()).thenReturn(locations);
             GAJudgesHearingListGAspec gaJudgesHearingListGAspec =
                 GAJudgesHearingListGAspec.builder().hearingPreferredLocation(DynamicList.builder()
                                                                                  .listItems(List.of(location1))
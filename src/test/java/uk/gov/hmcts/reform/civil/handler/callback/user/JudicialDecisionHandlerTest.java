@@ -1484,7 +1484,7 @@ public class JudicialDecisionHandlerTest extends BaseCallbackHandlerTest {
             List<LocationRefData> locations = new ArrayList<>();
             locations.add(LocationRefData.builder().siteName("siteName").courtAddress("court Address")
                               .postcode("post code").courtName("Court Name").region("Region").build());
-            when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+            when(locationRefDataService.getCourtLocations()).thenReturn(locations);
 
             when(helper.isApplicantAndRespondentLocationPrefSame(any())).thenReturn(true);
 
@@ -180,7 +180,7 @@ class JudicialFinalDecisionHandlerTest extends BaseCallbackHandlerTest {
                           .build());
         locations.add(LocationRefData.builder().siteName("Site Name 2").courtAddress("Address2").postcode("28000")
                           .build());
-        when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+        when(locationRefDataService.getCourtLocations()).thenReturn(locations);
         CaseData caseData = CaseDataBuilder.builder().atStateClaimDraft()
             .build().toBuilder().locationName("County Court Money Centre")
             .claimant1PartyName("Mr. John Rambo")
@@ -245,7 +245,7 @@ class JudicialFinalDecisionHandlerTest extends BaseCallbackHandlerTest {
                           .build());
         locations.add(LocationRefData.builder().siteName("Site Name 2").courtAddress("Address2").postcode("28000")
                           .build());
-        when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+        when(locationRefDataService.getCourtLocations()).thenReturn(locations);
         CaseData caseData = CaseDataBuilder.builder().atStateClaimDraft()
             .build().toBuilder().locationName("County Court Money Centre")
             .claimant1PartyName("Mr. John Rambo")
@@ -309,7 +309,7 @@ public class RespondToApplicationHandlerTest extends BaseCallbackHandlerTest {
         List<LocationRefData> locations = new ArrayList<>();
         locations.add(LocationRefData.builder().siteName("siteName").courtAddress("court Address").postcode("post code")
                           .courtName("Court Name").region("Region").build());
-        when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+        when(locationRefDataService.getCourtLocations()).thenReturn(locations);
 
         CallbackParams params = callbackParamsOf(getCase(APPLICATION_SUBMITTED_AWAITING_JUDICIAL_DECISION),
                                                  CallbackType.ABOUT_TO_START);
@@ -326,7 +326,7 @@ public class RespondToApplicationHandlerTest extends BaseCallbackHandlerTest {
         List<LocationRefData> locations = new ArrayList<>();
         locations.add(LocationRefData.builder().siteName("siteName").courtAddress("court Address").postcode("post code")
                           .courtName("Court Name").region("Region").build());
-        when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+        when(locationRefDataService.getCourtLocations()).thenReturn(locations);
         when(gaForLipService.isLipResp(any())).thenReturn(true);
         CaseData.CaseDataBuilder caseData =
             CaseData.builder().ccdState(APPLICATION_SUBMITTED_AWAITING_JUDICIAL_DECISION).generalAppUrgencyRequirement(
@@ -351,7 +351,7 @@ public class RespondToApplicationHandlerTest extends BaseCallbackHandlerTest {
         List<LocationRefData> locations = new ArrayList<>();
         locations.add(LocationRefData.builder().siteName("siteName").courtAddress("court Address").postcode("post code")
                           .courtName("Court Name").region("Region").build());
-        when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+        when(locationRefDataService.getCourtLocations()).thenReturn(locations);
 
         CaseData caseData = getCaseWithRespondentResponse();
         CaseData.CaseDataBuilder updateCaseData = caseData.toBuilder();
@@ -376,7 +376,7 @@ public class RespondToApplicationHandlerTest extends BaseCallbackHandlerTest {
         List<LocationRefData> locations = new ArrayList<>();
         locations.add(LocationRefData.builder().siteName("siteName").courtAddress("court Address").postcode("post code")
                           .courtName("Court Name").region("Region").build());
-        when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+        when(locationRefDataService.getCourtLocations()).thenReturn(locations);
 
         CaseData caseData = getCaseWithRespondentResponse();
         CaseData.CaseDataBuilder updateCaseData = caseData.toBuilder();
@@ -401,7 +401,7 @@ public class RespondToApplicationHandlerTest extends BaseCallbackHandlerTest {
         List<LocationRefData> locations = new ArrayList<>();
         locations.add(LocationRefData.builder().siteName("siteName").courtAddress("court Address").postcode("post code")
                           .courtName("Court Name").region("Region").build());
-        when(locationRefDataService.getCourtLocations(any())).thenReturn(locations);
+        when(locationRefDataService.getCourtLocations()).thenReturn(locations);
 
         CallbackParams params = callbackParamsOf(getCase(AWAITING_RESPONDENT_RESPONSE),
                                                  CallbackType.ABOUT_TO_START);
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.civil.handler.tasks;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.ExternalTaskService;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +9,9 @@ import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.config.CaseEventDispatcherConfiguration;
+import uk.gov.hmcts.reform.civil.config.SchedulerPipelineConfiguration;
+import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.enums.YesOrNo;
 import uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
@@ -18,15 +20,21 @@ import uk.gov.hmcts.reform.civil.model.genapplication.GAApplicationType;
 import uk.gov.hmcts.reform.civil.model.genapplication.GAApproveConsentOrder;
 import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialMakeAnOrder;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.civil.service.CaseEventDispatcher;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.scheduler.CaseEventPipeline;
 import uk.gov.hmcts.reform.civil.service.search.CaseStateSearchService;
+import uk.gov.hmcts.reform.civil.service.search.SearchStatistics;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -40,6 +48,10 @@ import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.STAY_TH
 @SpringBootTest(classes = {
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class,
+    CaseEventPipeline.class,
+    SchedulerPipelineConfiguration.class,
+    CaseEventDispatcher.class,
+    CaseEventDispatcherConfiguration.class,
     CheckStayOrderDeadlineEndTaskHandler.class})
 class CheckStayOrderDeadlineEndTaskHandlerTest {
 
@@ -61,9 +73,6 @@ class CheckStayOrderDeadlineEndTaskHandlerTest {
     @Autowired
     private CheckStayOrderDeadlineEndTaskHandler gaOrderMadeTaskHandler;
 
-    @Autowired
-    private ObjectMapper mapper;
-
     private CaseDetails caseDetailsWithTodayDeadlineNotProcessed;
     private CaseDetails caseDetailsWithTodayDeadlineProcessed;
     private CaseDetails caseDetailsWithTodayDeadlineReliefFromSanctionOrder;
@@ -130,25 +139,25 @@ class CheckStayOrderDeadlineEndTaskHandlerTest {
 
     @Test
     void shouldNotSendMessageAndTriggerGaEvent_whenZeroCasesFound() {
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM)).thenReturn(Set.of());
+        givenCases(ORDER_MADE, STAY_THE_CLAIM, Set.of());
 
         gaOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM);
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(STAY_THE_CLAIM), any(), any(), any());
         verifyNoInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
     }
 
     @Test
     void shouldNotSendMessageAndTriggerGaEvent_whenCasesPastDeadlineFoundAndDifferentAppType() {
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM)).thenReturn(Set.of());
+        givenCases(ORDER_MADE, STAY_THE_CLAIM, Set.of());
         when(caseDetailsConverter.toCaseData(caseDetailsWithTodayDeadlineReliefFromSanctionOrder))
             .thenReturn(caseDataWithTodayDeadlineReliefFromSanctionOrder);
         when(caseDetailsConverter.toCaseData(caseDetailsWithDeadlineCrossedProcessed))
             .thenReturn(caseDataWithDeadlineCrossedProcessed);
         gaOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM);
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(STAY_THE_CLAIM), any(), any(), any());
         verifyNoInteractions(coreCaseDataService);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -157,7 +166,7 @@ class CheckStayOrderDeadlineEndTaskHandlerTest {
 
     @Test
     void shouldNotSendMessageAndTriggerGaEvent_whenCasesHaveFutureDeadLine() {
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM)).thenReturn(Set.of(
+        givenCases(ORDER_MADE, STAY_THE_CLAIM, Set.of(
             caseDetailsWithFutureDeadline
         ));
 
@@ -168,7 +177,7 @@ class CheckStayOrderDeadlineEndTaskHandlerTest {
 
         gaOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM);
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(STAY_THE_CLAIM), any(), any(), any());
         verifyNoInteractions(coreCaseDataService);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -181,15 +190,14 @@ class CheckStayOrderDeadlineEndTaskHandlerTest {
                                                                 YesOrNo.NO);
         CaseDetails consentOrderCaseDetails = getConsentOrderCaseDetails(1L, STAY_THE_CLAIM, deadlineInFuture,
                                                                          YesOrNo.NO);
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM)).thenReturn(
-            Set.of(consentOrderCaseDetails));
+        givenCases(ORDER_MADE, STAY_THE_CLAIM, Set.of(consentOrderCaseDetails));
 
         when(caseDetailsConverter.toCaseData(consentOrderCaseDetails))
             .thenReturn(consentOrderCaseData);
 
         gaOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM);
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(STAY_THE_CLAIM), any(), any(), any());
         verifyNoInteractions(coreCaseDataService);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -197,8 +205,7 @@ class CheckStayOrderDeadlineEndTaskHandlerTest {
 
     @Test
     void shouldEmitBusinessProcessEvent_onlyWhen_NotProcessedAndDeadlineReached() {
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM)).thenReturn(
-            Set.of(caseDetailsWithTodayDeadlineNotProcessed,
+        givenCases(ORDER_MADE, STAY_THE_CLAIM, Set.of(caseDetailsWithTodayDeadlineNotProcessed,
                 caseDetailsWithDeadlineCrossedNotProcessed,
                 caseDetailsWithFutureDeadline,
                 caseDetailsWithNoDeadline
@@ -219,13 +226,11 @@ class CheckStayOrderDeadlineEndTaskHandlerTest {
 
         gaOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM);
-        verify(coreCaseDataService).triggerGaEvent(1L, END_SCHEDULER_CHECK_STAY_ORDER_DEADLINE,
-                                                   getCaseData(1L, STAY_THE_CLAIM, deadLineToday,
-                                                               YesOrNo.YES).toMap(mapper));
-        verify(coreCaseDataService).triggerGaEvent(3L, END_SCHEDULER_CHECK_STAY_ORDER_DEADLINE,
-                                                   getCaseData(3L, STAY_THE_CLAIM, deadlineCrossed,
-                                                               YesOrNo.YES).toMap(mapper));
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(STAY_THE_CLAIM), any(), any(), any());
+        verify(coreCaseDataService).triggerGaEvent(1L, END_SCHEDULER_CHECK_STAY_ORDER_DEADLINE, Map.of(
+            "judicialDecisionMakeOrder", getCaseData(1L, STAY_THE_CLAIM, deadLineToday, YesOrNo.YES).getJudicialDecisionMakeOrder()));
+        verify(coreCaseDataService).triggerGaEvent(3L, END_SCHEDULER_CHECK_STAY_ORDER_DEADLINE, Map.of(
+            "judicialDecisionMakeOrder", getCaseData(3L, STAY_THE_CLAIM, deadlineCrossed, YesOrNo.YES).getJudicialDecisionMakeOrder()));
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
 
@@ -237,18 +242,16 @@ class CheckStayOrderDeadlineEndTaskHandlerTest {
                                                                 YesOrNo.NO);
         CaseDetails consentOrderCaseDetails = getConsentOrderCaseDetails(1L, STAY_THE_CLAIM, deadLineToday,
                                                              YesOrNo.NO);
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM)).thenReturn(
-            Set.of(consentOrderCaseDetails));
+        givenCases(ORDER_MADE, STAY_THE_CLAIM, Set.of(consentOrderCaseDetails));
 
         when(caseDetailsConverter.toCaseData(consentOrderCaseDetails))
             .thenReturn(consentOrderCaseData);
 
         gaOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM);
-        verify(coreCaseDataService).triggerGaEvent(1L, END_SCHEDULER_CHECK_STAY_ORDER_DEADLINE,
-                                                   getConsentOrderCaseData(1L, STAY_THE_CLAIM, deadLineToday,
-                                                                           YesOrNo.YES).toMap(mapper));
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(STAY_THE_CLAIM), any(), any(), any());
+        verify(coreCaseDataService).triggerGaEvent(1L, END_SCHEDULER_CHECK_STAY_ORDER_DEADLINE, Map.of(
+            "approveConsentOrder", getConsentOrderCaseData(1L, STAY_THE_CLAIM, deadLineToday, YesOrNo.YES).getApproveConsentOrder()));
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
 
@@ -256,15 +259,14 @@ class CheckStayOrderDeadlineEndTaskHandlerTest {
 
     @Test
     void shouldEmitBusinessProcessEvent_whenCasesFoundWithNullDeadlineDate() {
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM))
-            .thenReturn(Set.of(caseDetailsWithNoDeadline));
+        givenCases(ORDER_MADE, STAY_THE_CLAIM, Set.of(caseDetailsWithNoDeadline));
 
         when(caseDetailsConverter.toCaseData(caseDetailsWithNoDeadline))
             .thenReturn(caseDataWithNoDeadline);
 
         gaOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, STAY_THE_CLAIM);
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(STAY_THE_CLAIM), any(), any(), any());
         verifyNoInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
     }
@@ -325,4 +327,12 @@ class CheckStayOrderDeadlineEndTaskHandlerTest {
                            .build()))
             .state(ORDER_MADE.toString()).build();
     }
+
+    private void givenCases(CaseState caseState, GeneralApplicationTypes gaType, Set<CaseDetails> cases) {
+        doAnswer(invocation -> {
+            Consumer<List<CaseDetails>> pageConsumer = invocation.getArgument(4);
+            pageConsumer.accept(List.copyOf(cases));
+            return SearchStatistics.empty();
+        }).when(searchService).streamOrderMadeGeneralApplications(eq(caseState), eq(gaType), any(), any(), any());
+    }
 }
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.civil.handler.tasks;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.ExternalTaskService;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +9,9 @@ import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.config.CaseEventDispatcherConfiguration;
+import uk.gov.hmcts.reform.civil.config.SchedulerPipelineConfiguration;
+import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.enums.YesOrNo;
 import uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
@@ -17,15 +19,21 @@ import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.genapplication.GAApplicationType;
 import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialMakeAnOrder;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.civil.service.CaseEventDispatcher;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.scheduler.CaseEventPipeline;
 import uk.gov.hmcts.reform.civil.service.search.CaseStateSearchService;
+import uk.gov.hmcts.reform.civil.service.search.SearchStatistics;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -39,6 +47,10 @@ import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.UNLESS_
 @SpringBootTest(classes = {
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class,
+    CaseEventPipeline.class,
+    SchedulerPipelineConfiguration.class,
+    CaseEventDispatcher.class,
+    CaseEventDispatcherConfiguration.class,
     CheckUnlessOrderDeadlineEndTaskHandler.class})
 public class CheckUnlessOrderDeadlineEndTaskHandlerTest {
 
@@ -60,9 +72,6 @@ public class CheckUnlessOrderDeadlineEndTaskHandlerTest {
     @Autowired
     private CheckUnlessOrderDeadlineEndTaskHandler gaUnlessOrderMadeTaskHandler;
 
-    @Autowired
-    private ObjectMapper mapper;
-
     private CaseDetails caseDetailsWithTodayDeadlineNotProcessed;
     private CaseDetails caseDetailsWithTodayDeadlineProcessed;
     private CaseDetails caseDetailsWithTodayDeadlineReliefFromSanctionOrder;
@@ -129,18 +138,18 @@ public class CheckUnlessOrderDeadlineEndTaskHandlerTest {
 
     @Test
     void shouldNotSendMessageAndTriggerGaEvent_whenZeroCasesFound() {
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER)).thenReturn(Set.of());
+        givenCases(ORDER_MADE, UNLESS_ORDER, Set.of());
 
         gaUnlessOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER);
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(UNLESS_ORDER), any(), any(), any());
         verifyNoInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
     }
 
     @Test
     void shouldNotSendMessageAndTriggerGaEvent_whenCasesPastDeadlineFoundAndDifferentAppType() {
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER)).thenReturn(Set.of(
+        givenCases(ORDER_MADE, UNLESS_ORDER, Set.of(
             caseDetailsWithDeadlineCrossedProcessed
         ));
 
@@ -148,7 +157,7 @@ public class CheckUnlessOrderDeadlineEndTaskHandlerTest {
             .thenReturn(caseDataWithDeadlineCrossedProcessed);
         gaUnlessOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER);
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(UNLESS_ORDER), any(), any(), any());
         verifyNoInteractions(coreCaseDataService);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -157,7 +166,7 @@ public class CheckUnlessOrderDeadlineEndTaskHandlerTest {
 
     @Test
     void shouldNotSendMessageAndTriggerGaEvent_whenCasesHaveFutureDeadLine() {
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER)).thenReturn(Set.of(
+        givenCases(ORDER_MADE, UNLESS_ORDER, Set.of(
             caseDetailsWithFutureDeadline
         ));
 
@@ -166,7 +175,7 @@ public class CheckUnlessOrderDeadlineEndTaskHandlerTest {
 
         gaUnlessOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER);
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(UNLESS_ORDER), any(), any(), any());
         verifyNoInteractions(coreCaseDataService);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -175,8 +184,7 @@ public class CheckUnlessOrderDeadlineEndTaskHandlerTest {
 
     @Test
     void shouldNotTriggerBusinessProcessEventWhenIsOrderProcessedIsNull() {
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER)).thenReturn(
-            Set.of(caseDetailsWithTodayDeadlineNotProcessed,
+        givenCases(ORDER_MADE, UNLESS_ORDER, Set.of(caseDetailsWithTodayDeadlineNotProcessed,
                    caseDetailsWithTodayDeadLineWithOrderProcessedNull));
         when(caseDetailsConverter.toCaseData(caseDetailsWithTodayDeadlineNotProcessed))
             .thenReturn(caseDataWithTodayDeadlineNotProcessed);
@@ -186,18 +194,16 @@ public class CheckUnlessOrderDeadlineEndTaskHandlerTest {
 
         gaUnlessOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER);
-        verify(coreCaseDataService).triggerGaEvent(1L, END_SCHEDULER_CHECK_UNLESS_ORDER_DEADLINE,
-                                                   getCaseData(1L, UNLESS_ORDER, deadLineToday,
-                                                               YesOrNo.YES).toMap(mapper));
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(UNLESS_ORDER), any(), any(), any());
+        verify(coreCaseDataService).triggerGaEvent(1L, END_SCHEDULER_CHECK_UNLESS_ORDER_DEADLINE, Map.of(
+            "judicialDecisionMakeOrder", getCaseData(1L, UNLESS_ORDER, deadLineToday, YesOrNo.YES).getJudicialDecisionMakeOrder()));
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
     }
 
     @Test
     void shouldEmitBusinessProcessEvent_onlyWhen_NotProcessedAndDeadlineReached() {
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER)).thenReturn(
-            Set.of(caseDetailsWithTodayDeadlineNotProcessed,
+        givenCases(ORDER_MADE, UNLESS_ORDER, Set.of(caseDetailsWithTodayDeadlineNotProcessed,
                     caseDetailsWithDeadlineCrossedNotProcessed,
                     caseDetailsWithTodayDeadlineProcessed,
                     caseDetailsWithFutureDeadline,
@@ -218,13 +224,11 @@ public class CheckUnlessOrderDeadlineEndTaskHandlerTest {
 
         gaUnlessOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER);
-        verify(coreCaseDataService).triggerGaEvent(1L, END_SCHEDULER_CHECK_UNLESS_ORDER_DEADLINE,
-                                                   getCaseData(1L, UNLESS_ORDER, deadLineToday,
-                                                               YesOrNo.YES).toMap(mapper));
-        verify(coreCaseDataService).triggerGaEvent(3L, END_SCHEDULER_CHECK_UNLESS_ORDER_DEADLINE,
-                                                   getCaseData(3L, UNLESS_ORDER, deadlineCrossed,
-                                                               YesOrNo.YES).toMap(mapper));
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(UNLESS_ORDER), any(), any(), any());
+        verify(coreCaseDataService).triggerGaEvent(1L, END_SCHEDULER_CHECK_UNLESS_ORDER_DEADLINE, Map.of(
+            "judicialDecisionMakeOrder", getCaseData(1L, UNLESS_ORDER, deadLineToday, YesOrNo.YES).getJudicialDecisionMakeOrder()));
+        verify(coreCaseDataService).triggerGaEvent(3L, END_SCHEDULER_CHECK_UNLESS_ORDER_DEADLINE, Map.of(
+            "judicialDecisionMakeOrder", getCaseData(3L, UNLESS_ORDER, deadlineCrossed, YesOrNo.YES).getJudicialDecisionMakeOrder()));
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
 
@@ -232,15 +236,14 @@ public class CheckUnlessOrderDeadlineEndTaskHandlerTest {
 
     @Test
     void shouldEmitBusinessProcessEvent_whenCasesFoundWithNullDeadlineDate() {
-        when(searchService.getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER))
-            .thenReturn(Set.of(caseDetailsWithNoDeadline));
+        givenCases(ORDER_MADE, UNLESS_ORDER, Set.of(caseDetailsWithNoDeadline));
 
         when(caseDetailsConverter.toCaseData(caseDetailsWithNoDeadline))
             .thenReturn(caseDataWithNoDeadline);
 
         gaUnlessOrderMadeTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getOrderMadeGeneralApplications(ORDER_MADE, UNLESS_ORDER);
+        verify(searchService).streamOrderMadeGeneralApplications(eq(ORDER_MADE), eq(UNLESS_ORDER), any(), any(), any());
         verifyNoInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
     }
@@ -273,4 +276,12 @@ public class CheckUnlessOrderDeadlineEndTaskHandlerTest {
                        "generalAppType", GAApplicationType.builder().types(List.of(generalApplicationType)).build()))
             .state(ORDER_MADE.toString()).build();
     }
+
+    private void givenCases(CaseState caseState, GeneralApplicationTypes gaType, Set<CaseDetails> cases) {
+        doAnswer(invocation -> {
+            Consumer<List<CaseDetails>> pageConsumer = invocation.getArgument(4);
+            pageConsumer.accept(List.copyOf(cases));
+            return SearchStatistics.empty();
+        }).when(searchService).streamOrderMadeGeneralApplications(eq(caseState), eq(gaType), any(), any(), any());
+    }
 }
@@ -50,6 +50,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static java.time.LocalDate.EPOCH;
@@ -58,6 +59,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -478,7 +481,7 @@ public class CreateApplicationTaskHandlerTest {
             when(caseDetailsConverter.toCaseData(any()))
                 .thenReturn(caseData);
 
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(
+            when(coreCaseDataService.caseDataContentWithChanges(
                 any(StartEventResponse.class),
                 anyMap()
             )).thenReturn(caseDataContent);
@@ -507,6 +510,8 @@ public class CreateApplicationTaskHandlerTest {
 
             verify(coreCaseDataService).createGeneralAppCase(map);
 
+            verify(coreCaseDataService).caseDataContentWithChanges(eq(startEventResponse), argThat(changes -> changes.keySet().equals(Set.of(
+                "generalApplications", "claimantGaAppDetails", "respondentSolGaAppDetails", "respondentSolTwoGaAppDetails"))));
             verify(coreCaseDataService).submitUpdate(CASE_ID, caseDataContent);
 
             CaseData data = coreCaseDataService.submitUpdate(CASE_ID, caseDataContent);
@@ -651,7 +656,7 @@ public class CreateApplicationTaskHandlerTest {
             when(coreCaseDataService.startUpdate(anyString(), any(CaseEvent.class)))
                 .thenReturn(startEventResponse);
 
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(
+            when(coreCaseDataService.caseDataContentWithChanges(
                 any(StartEventResponse.class),
                 anyMap()
             )).thenReturn(caseDataContent);
@@ -689,7 +694,7 @@ public class CreateApplicationTaskHandlerTest {
             when(caseDetailsConverter.toCaseData(any()))
                 .thenReturn(caseData);
 
-            when(coreCaseDataService.caseDataContentFromStartEventResponse(
+            when(coreCaseDataService.caseDataContentWithChanges(
                 any(StartEventResponse.class),
                 anyMap()
             )).thenReturn(caseDataContent);
@@ -816,7 +821,7 @@ public class CreateApplicationTaskHandlerTest {
         when(caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails()))
             .thenReturn(caseData);
 
-        when(coreCaseDataService.caseDataContentFromStartEventResponse(
+        when(coreCaseDataService.caseDataContentWithChanges(
             any(StartEventResponse.class),
             anyMap()
         )).thenReturn(caseDataContent);
@@ -914,7 +919,7 @@ public class CreateApplicationTaskHandlerTest {
         when(caseDetailsConverter.toCaseData(any()))
             .thenReturn(caseData);
 
-        when(coreCaseDataService.caseDataContentFromStartEventResponse(
+        when(coreCaseDataService.caseDataContentWithChanges(
             any(StartEventResponse.class),
             anyMap()
         )).thenReturn(caseDataContent);
@@ -0,0 +1,300 @@
+package uk.gov.hmcts.reform.civil.handler.tasks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.MatchQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.RangeQueryBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.enums.YesOrNo;
+import uk.gov.hmcts.reform.civil.enums.dq.GAJudgeMakeAnOrderOption;
+import uk.gov.hmcts.reform.civil.enums.dq.GAJudgeWrittenRepresentationsOptions;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.genapplication.GAApproveConsentOrder;
+import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialMakeAnOrder;
+import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialRequestMoreInfo;
+import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialWrittenRepresentations;
+import uk.gov.hmcts.reform.civil.model.search.ResponseDeadlineView;
+import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.DocUploadDashboardNotificationService;
+import uk.gov.hmcts.reform.civil.service.GaForLipService;
+import uk.gov.hmcts.reform.civil.service.scheduler.CaseEventPipeline;
+import uk.gov.hmcts.reform.civil.service.search.CaseStateSearchService;
+import uk.gov.hmcts.reform.civil.service.search.DeadlineQueries;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.civil.enums.dq.GAJudgeMakeAnOrderOption.APPROVE_OR_EDIT;
+import static uk.gov.hmcts.reform.civil.enums.dq.GAJudgeMakeAnOrderOption.GIVE_DIRECTIONS_WITHOUT_HEARING;
+import static uk.gov.hmcts.reform.civil.enums.dq.GAJudgeWrittenRepresentationsOptions.CONCURRENT_REPRESENTATIONS;
+import static uk.gov.hmcts.reform.civil.enums.dq.GAJudgeWrittenRepresentationsOptions.SEQUENTIAL_REPRESENTATIONS;
+
+/**
+ * Checks that each deadline clause pushed down into the scheduler searches selects exactly the
+ * cases the scheduler's own in-memory check selects. The clauses are evaluated here against the
+ * case data the way Elasticsearch would, over every combination of missing, past, current and
+ * future deadline. An in-memory check that fails on a case counts as not selecting it, as it does
+ * in the scheduler.
+ */
+@SpringBootTest(classes = {
+    JacksonAutoConfiguration.class,
+    CaseDetailsConverter.class,
+    CheckStayOrderDeadlineEndTaskHandler.class,
+    CheckUnlessOrderDeadlineEndTaskHandler.class,
+    GAJudgeRevisitTaskHandler.class
+})
+class DeadlineQueriesEquivalenceTest {
+
+    @MockBean
+    private CaseStateSearchService caseStateSearchService;
+
+    @MockBean
+    private CoreCaseDataService coreCaseDataService;
+
+    @MockBean
+    private CaseEventPipeline caseEventPipeline;
+
+    @MockBean
+    private GaForLipService gaForLipService;
+
+    @MockBean
+    private DocUploadDashboardNotificationService dashboardNotificationService;
+
+    @MockBean
+    private FeatureToggleService featureToggleService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CaseDetailsConverter caseDetailsConverter;
+
+    @Autowired
+    private CheckStayOrderDeadlineEndTaskHandler stayOrderHandler;
+
+    @Autowired
+    private CheckUnlessOrderDeadlineEndTaskHandler unlessOrderHandler;
+
+    @Autowired
+    private GAJudgeRevisitTaskHandler judgeRevisitHandler;
+
+    private final DeadlineQueries deadlines = DeadlineQueries.at(LocalDateTime.now());
+    private final LocalDate today = deadlines.today();
+    private final List<LocalDate> dates = Arrays.asList(null, today.minusDays(1), today, today.plusDays(1));
+
+    @Test
+    void stayOrderExpired_shouldSelectTheCasesTheHandlerSelects() {
+        List<CaseData> cases = new ArrayList<>();
+        for (LocalDate judgeDate : dates) {
+            for (LocalDate consentDate : dates) {
+                cases.add(CaseData.builder()
+                              .judicialDecisionMakeOrder(GAJudicialMakeAnOrder.builder()
+                                                             .judgeApproveEditOptionDate(judgeDate)
+                                                             .isOrderProcessedByStayScheduler(YesOrNo.NO)
+                                                             .build())
+                              .approveConsentOrder(GAApproveConsentOrder.builder()
+                                                       .consentOrderDateToEnd(consentDate)
+                                                       .isOrderProcessedByStayScheduler(YesOrNo.NO)
+                                                       .build())
+                              .build());
+            }
+        }
+
+        assertEquivalent(deadlines.stayOrderExpired(), cases,
+                         caseDetails -> stayOrderHandler.isStayOrderDeadlineExpired(toCaseData(caseDetails), deadlines));
+    }
+
+    @Test
+    void unlessOrderExpired_shouldSelectTheCasesTheHandlerSelects() {
+        List<CaseData> cases = new ArrayList<>();
+        for (LocalDate unlessDate : dates) {
+            for (YesOrNo processed : Arrays.asList(null, YesOrNo.YES, YesOrNo.NO)) {
+                cases.add(CaseData.builder()
+                              .judicialDecisionMakeOrder(GAJudicialMakeAnOrder.builder()
+                                                             .judgeApproveEditOptionDateForUnlessOrder(unlessDate)
+                                                             .isOrderProcessedByUnlessScheduler(processed)
+                                                             .build())
+                              .build());
+            }
+        }
+
+        assertEquivalent(deadlines.unlessOrderExpired(), cases,
+                         caseDetails -> unlessOrderHandler.isUnlessOrderEndingToday(toCaseData(caseDetails), deadlines));
+    }
+
+    @Test
+    void writtenRepresentationsExpired_shouldSelectTheCasesTheHandlerSelects() {
+        List<CaseData> cases = new ArrayList<>();
+        for (GAJudgeWrittenRepresentationsOptions option : Arrays.asList(null, CONCURRENT_REPRESENTATIONS, SEQUENTIAL_REPRESENTATIONS)) {
+            for (LocalDate concurrentBy : dates) {
+                for (LocalDate applicantBy : dates) {
+                    for (LocalDate respondentBy : dates) {
+                        cases.add(CaseData.builder()
+                                      .judicialDecisionMakeAnOrderForWrittenRepresentations(
+                                          GAJudicialWrittenRepresentations.builder()
+                                              .writtenOption(option)
+                                              .writtenConcurrentRepresentationsBy(concurrentBy)
+                                              .sequentialApplicantMustRespondWithin(applicantBy)
+                                              .writtenSequentailRepresentationsBy(respondentBy)
+                                              .build())
+                                      .build());
+                    }
+                }
+            }
+        }
+
+        assertEquivalent(deadlines.writtenRepresentationsExpired(), cases,
+                         caseDetails -> judgeRevisitHandler.isClaimantWrittenRepExpired(caseDetails, deadlines)
+                             || judgeRevisitHandler.isDefendantWrittenRepExpired(caseDetails, deadlines));
+    }
+
+    @Test
+    void directionsResponseDue_shouldSelectTheCasesTheHandlerSelects() {
+        List<CaseData> cases = new ArrayList<>();
+        for (GAJudgeMakeAnOrderOption option : Arrays.asList(null, APPROVE_OR_EDIT, GIVE_DIRECTIONS_WITHOUT_HEARING)) {
+            for (LocalDate responseBy : dates) {
+                cases.add(CaseData.builder()
+                              .judicialDecisionMakeOrder(GAJudicialMakeAnOrder.builder()
+                                                             .makeAnOrder(option)
+                                                             .directionsResponseByDate(responseBy)
+                                                             .build())
+                              .build());
+            }
+        }
+
+        assertEquivalent(deadlines.directionsResponseDue(), cases,
+                         caseDetails -> judgeRevisitHandler.isDirectionOrderReadyToJudgeRevisit(caseDetails, deadlines));
+    }
+
+    @Test
+    void moreInformationDue_shouldSelectTheCasesTheHandlerSelects() {
+        List<CaseData> cases = new ArrayList<>();
+        for (LocalDate requestBy : dates) {
+            cases.add(CaseData.builder()
+                          .judicialDecisionRequestMoreInfo(GAJudicialRequestMoreInfo.builder()
+                                                               .judgeRequestMoreInfoByDate(requestBy)
+                                                               .build())
+                          .build());
+        }
+
+        assertEquivalent(deadlines.moreInformationDue(), cases,
+                         caseDetails -> judgeRevisitHandler.isRequestForInformationReadyToJudgeRevisit(caseDetails, deadlines));
+    }
+
+    @Test
+    void responseDeadlinePassed_shouldSelectTheCasesTheHandlerSelects() {
+        LocalDateTime now = deadlines.now();
+        List<CaseData> cases = new ArrayList<>();
+        for (LocalDateTime deadline : Arrays.asList(null, now.minusHours(1), now.minusNanos(1_000_000), now,
+                                                    now.plusNanos(1_000_000), now.plusHours(1))) {
+            cases.add(CaseData.builder().generalAppNotificationDeadlineDate(deadline).build());
+        }
+
+        assertEquivalent(deadlines.responseDeadlinePassed(), cases,
+                         caseDetails -> caseDetailsConverter.toView(caseDetails, ResponseDeadlineView.class)
+                             .isPastDeadline(now));
+    }
+
+    @Test
+    void businessDay_shouldMoveToNextDay_afterBusinessCloses() {
+        LocalDate day = LocalDate.of(2024, 3, 4);
+
+        assertThat(DeadlineQueries.at(day.atTime(16, 0)).businessDay()).isEqualTo(day);
+        assertThat(DeadlineQueries.at(day.atTime(16, 0, 1)).businessDay()).isEqualTo(day.plusDays(1));
+    }
+
+    private CaseData toCaseData(CaseDetails caseDetails) {
+        return caseDetailsConverter.toCaseData(caseDetails);
+    }
+
+    private void assertEquivalent(QueryBuilder clause, List<CaseData> cases, Predicate<CaseDetails> inMemoryCheck) {
+        int selected = 0;
+        for (CaseData caseData : cases) {
+            Map<String, Object> data = caseData.toMap(objectMapper);
+            CaseDetails caseDetails = CaseDetails.builder().id(1L).data(data).build();
+            boolean expected = test(inMemoryCheck, caseDetails);
+
+            assertThat(matches(clause, Map.of("data", data)))
+                .as("clause %s on %s", clause, data)
+                .isEqualTo(expected);
+            selected += expected ? 1 : 0;
+        }
+        assertThat(selected).as("cases selected").isPositive().isLessThan(cases.size());
+    }
+
+    private static boolean test(Predicate<CaseDetails> inMemoryCheck, CaseDetails caseDetails) {
+        try {
+            return inMemoryCheck.test(caseDetails);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Evaluates the bool, range and match clauses the deadline queries are made of. Dates compare
+     * by value; a missing field matches no range or match clause.
+     */
+    private static boolean matches(QueryBuilder clause, Map<String, Object> document) {
+        if (clause instanceof BoolQueryBuilder bool) {
+            boolean required = bool.must().stream().allMatch(must -> matches(must, document))
+                && bool.filter().stream().allMatch(filter -> matches(filter, document))
+                && bool.mustNot().stream().noneMatch(mustNot -> matches(mustNot, document));
+            long should = bool.should().stream().filter(option -> matches(option, document)).count();
+            int minimumShouldMatch = bool.minimumShouldMatch() != null
+                ? Integer.parseInt(bool.minimumShouldMatch())
+                : (bool.must().isEmpty() && bool.filter().isEmpty() && !bool.should().isEmpty() ? 1 : 0);
+            return required && should >= minimumShouldMatch;
+        }
+        if (clause instanceof RangeQueryBuilder range) {
+            Object value = field(document, range.fieldName());
+            if (value == null) {
+                return false;
+            }
+            boolean aboveFrom = range.from() == null
+                || compare(value.toString(), range.from().toString()) > (range.includeLower() ? -1 : 0);
+            boolean belowTo = range.to() == null
+                || compare(value.toString(), range.to().toString()) < (range.includeUpper() ? 1 : 0);
+            return aboveFrom && belowTo;
+        }
+        if (clause instanceof MatchQueryBuilder match) {
+            Object value = field(document, match.fieldName());
+            Collection<?> values = value instanceof Collection<?> collection ? collection : Arrays.asList(value);
+            return values.stream().anyMatch(candidate -> candidate != null
+                && candidate.toString().equals(match.value().toString()));
+        }
+        throw new IllegalArgumentException("Unsupported clause " + clause.getName());
+    }
+
+    private static int compare(String value, String bound) {
+        if (bound.length() == 10) {
+            return LocalDate.parse(value.substring(0, 10)).compareTo(LocalDate.parse(bound));
+        }
+        return LocalDateTime.parse(value).compareTo(LocalDateTime.parse(bound));
+    }
+
+    private static Object field(Map<String, Object> document, String path) {
+        Object value = document;
+        for (String name : path.split("\\.")) {
+            if (!(value instanceof Map<?, ?> map)) {
+                return null;
+            }
+            value = map.get(name);
+        }
+        return value;
+    }
+}
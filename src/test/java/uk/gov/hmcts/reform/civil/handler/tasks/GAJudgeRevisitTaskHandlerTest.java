@@ -17,6 +17,9 @@ import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.config.CaseEventDispatcherConfiguration;
+import uk.gov.hmcts.reform.civil.config.SchedulerPipelineConfiguration;
+import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
@@ -24,15 +27,21 @@ import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialDecision;
 import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialMakeAnOrder;
 import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialRequestMoreInfo;
 import uk.gov.hmcts.reform.civil.model.genapplication.GAJudicialWrittenRepresentations;
+import uk.gov.hmcts.reform.civil.service.CaseEventDispatcher;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 import uk.gov.hmcts.reform.civil.service.DocUploadDashboardNotificationService;
 import uk.gov.hmcts.reform.civil.service.GaForLipService;
+import uk.gov.hmcts.reform.civil.service.scheduler.CaseEventPipeline;
 import uk.gov.hmcts.reform.civil.service.search.CaseStateSearchService;
+import uk.gov.hmcts.reform.civil.service.search.DeadlineQueries;
+import uk.gov.hmcts.reform.civil.service.search.SearchStatistics;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static feign.Request.HttpMethod.GET;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -41,6 +50,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -64,6 +74,10 @@ import static uk.gov.hmcts.reform.civil.enums.dq.GAJudgeWrittenRepresentationsOp
 @SpringBootTest(classes = {
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class,
+    CaseEventPipeline.class,
+    SchedulerPipelineConfiguration.class,
+    CaseEventDispatcher.class,
+    CaseEventDispatcherConfiguration.class,
     GAJudgeRevisitTaskHandler.class
 })
 class GAJudgeRevisitTaskHandlerTest {
@@ -132,20 +146,31 @@ class GAJudgeRevisitTaskHandlerTest {
     }
 
     @Test
-    void throwException_whenUnprocessableEntityIsFound() {
-        listAppender.start();
-        logger.addAppender(listAppender);
+    void shouldReportFailedEvent_andCarryOn_whenUnprocessableEntityIsFound() {
+        Logger dispatcherLogger = (Logger) LoggerFactory.getLogger(CaseEventDispatcher.class);
+        ListAppender<ILoggingEvent> dispatcherAppender = new ListAppender<>();
+        dispatcherAppender.start();
+        dispatcherLogger.addAppender(dispatcherAppender);
+        when(featureToggleService.isGaForLipsEnabled()).thenReturn(true);
+        when(gaForLipService.isGaForLip(any(CaseData.class))).thenReturn(true);
         doThrow(buildFeignExceptionWithUnprocessableEntity()).when(coreCaseDataService)
-            .triggerEvent(any(), any());
-        CaseDetails caseDetailRequestForInformation = CaseDetails.builder().id(1L).data(
-            Map.of("generalAppConsentOrder", "Yes")).state(AWAITING_ADDITIONAL_INFORMATION.toString()).build();
-        gaJudgeRevisitTaskHandler.fireEventForStateChange(caseDetailRequestForInformation);
+            .triggerEvent(1L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
+        givenCases(AWAITING_DIRECTIONS_ORDER_DOCS, Set.of(caseDetailsDirectionOrder));
+        givenCases(AWAITING_ADDITIONAL_INFORMATION, Set.of(caseDetailRequestForInformation));
 
-        List<ILoggingEvent> logsList = listAppender.list;
-        assertEquals("Error in GAJudgeRevisitTaskHandler::fireEventForStateChange: "
-                         + "feign.FeignException$FeignClientException: Unprocessable Entity found",
-                     logsList.get(1).getMessage());
-        assertEquals(Level.ERROR, logsList.get(1).getLevel());
+        gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
+
+        verify(coreCaseDataService).triggerEvent(1L, UPDATE_CLAIMANT_TASK_LIST_GA);
+        verify(coreCaseDataService).triggerEvent(1L, UPDATE_RESPONDENT_TASK_LIST_GA);
+        verify(coreCaseDataService).triggerEvent(4L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
+        verify(dashboardNotificationService, times(1))
+            .createResponseDashboardNotification(any(), eq("APPLICANT"), anyString());
+        verify(externalTaskService).complete(any(), any());
+        assertThat(firstError(dispatcherAppender.list).getFormattedMessage())
+            .contains("failed on case(s) [1]")
+            .contains("CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED")
+            .contains("feign.FeignException$FeignClientException: Unprocessable Entity found");
+        dispatcherLogger.detachAppender(dispatcherAppender);
     }
 
     @Test
@@ -155,10 +180,8 @@ class GAJudgeRevisitTaskHandlerTest {
         CaseDetails caseDetailRequestForInformation = caseDetailsDirectionOrder.toBuilder().data(
             Map.of("generalAppConsentOrder", "maybe")).state(AWAITING_ADDITIONAL_INFORMATION.toString()).build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION))
-            .thenReturn(Set.of(caseDetailRequestForInformation));
-
-        gaJudgeRevisitTaskHandler.getRequestForInformationCaseReadyToJudgeRevisit();
+        assertThat(gaJudgeRevisitTaskHandler.isRequestForInformationReadyToJudgeRevisit(caseDetailRequestForInformation, DeadlineQueries.at(LocalDateTime.now())))
+            .isFalse();
 
         List<ILoggingEvent> logsList = listAppender.list;
         assertEquals("GAJudgeRevisitTaskHandler failed: java.lang.IllegalArgumentException: "
@@ -180,7 +203,7 @@ class GAJudgeRevisitTaskHandlerTest {
             Map.of("generalAppConsentOrder", "maybe")).state(AWAITING_WRITTEN_REPRESENTATIONS.toString())
             .build();
 
-        gaJudgeRevisitTaskHandler.filterForClaimantWrittenRepExpired(Set.of(caseDetailsWrittenRepresentation));
+        assertThat(gaJudgeRevisitTaskHandler.isClaimantWrittenRepExpired(caseDetailsWrittenRepresentation, DeadlineQueries.at(LocalDateTime.now()))).isFalse();
 
         List<ILoggingEvent> logsList = listAppender.list;
         assertEquals("Error GAJudgeRevisitTaskHandler::getWrittenRepCaseReadyToJudgeRevisit : "
@@ -203,8 +226,7 @@ class GAJudgeRevisitTaskHandlerTest {
             .build();
 
         when(featureToggleService.isGaForLipsEnabled()).thenReturn(true);
-        when(caseStateSearchService.getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS))
-            .thenReturn(Set.of(caseDetailsWrittenRepresentation, caseDetailsWrittenRepresentationC));
+        givenCases(AWAITING_WRITTEN_REPRESENTATIONS, Set.of(caseDetailsWrittenRepresentation, caseDetailsWrittenRepresentationC));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
@@ -215,10 +237,9 @@ class GAJudgeRevisitTaskHandlerTest {
                          + "not one of the values accepted for Enum class: [No, Yes]\n"
                          + " at [Source: UNKNOWN; byte offset: #UNKNOWN] (through reference chain: "
                          + "uk.gov.hmcts.reform.civil.model.CaseData[\"generalAppConsentOrder\"])",
-                     logsList.get(0).getMessage());
-        assertEquals(Level.ERROR, logsList.get(0).getLevel());
+                     firstError(logsList).getMessage());
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_WRITTEN_REPRESENTATIONS), any(), any());
         verify(coreCaseDataService).triggerEvent(2L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verify(coreCaseDataService).triggerEvent(2L, DELETE_CLAIMANT_WRITTEN_REPS_NOTIFICATION);
         verify(coreCaseDataService).triggerEvent(2L, DELETE_DEFENDANT_WRITTEN_REPS_NOTIFICATION);
@@ -236,10 +257,7 @@ class GAJudgeRevisitTaskHandlerTest {
                 Map.of("generalAppConsentOrder", "maybe")).state(AWAITING_DIRECTIONS_ORDER_DOCS.toString())
             .build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS))
-            .thenReturn(Set.of(caseDetailsDirectionOrderCase));
-
-        gaJudgeRevisitTaskHandler.getDirectionOrderCaseReadyToJudgeRevisit();
+        assertThat(gaJudgeRevisitTaskHandler.isDirectionOrderReadyToJudgeRevisit(caseDetailsDirectionOrderCase, DeadlineQueries.at(LocalDateTime.now()))).isFalse();
 
         List<ILoggingEvent> logsList = listAppender.list;
         assertEquals("Error GAJudgeRevisitTaskHandler::getDirectionOrderCaseReadyToJudgeRevisit : "
@@ -261,8 +279,7 @@ class GAJudgeRevisitTaskHandlerTest {
                 Map.of("generalAppConsentOrder", "maybe")).state(AWAITING_DIRECTIONS_ORDER_DOCS.toString())
             .build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS))
-            .thenReturn(Set.of(caseDetailsDirectionOrderCase, caseDetailsDirectionOrder));
+        givenCases(AWAITING_DIRECTIONS_ORDER_DOCS, Set.of(caseDetailsDirectionOrderCase, caseDetailsDirectionOrder));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
@@ -273,10 +290,9 @@ class GAJudgeRevisitTaskHandlerTest {
                          + "not one of the values accepted for Enum class: [No, Yes]\n"
                          + " at [Source: UNKNOWN; byte offset: #UNKNOWN] (through reference chain: "
                          + "uk.gov.hmcts.reform.civil.model.CaseData[\"generalAppConsentOrder\"])",
-                     logsList.get(2).getMessage());
-        assertEquals(Level.ERROR, logsList.get(2).getLevel());
+                     firstError(logsList).getMessage());
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_DIRECTIONS_ORDER_DOCS), any(), any());
         verify(coreCaseDataService).triggerEvent(1L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -290,8 +306,7 @@ class GAJudgeRevisitTaskHandlerTest {
         CaseDetails requestForInformation = caseDetailsDirectionOrder.toBuilder().data(
             Map.of("generalAppConsentOrder", "maybe")).state(AWAITING_ADDITIONAL_INFORMATION.toString()).build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION))
-            .thenReturn(Set.of(caseDetailRequestForInformation, requestForInformation));
+        givenCases(AWAITING_ADDITIONAL_INFORMATION, Set.of(caseDetailRequestForInformation, requestForInformation));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
@@ -302,10 +317,9 @@ class GAJudgeRevisitTaskHandlerTest {
                          + " at [Source: UNKNOWN; byte offset: #UNKNOWN] "
                          + "(through reference chain: "
                          + "uk.gov.hmcts.reform.civil.model.CaseData[\"generalAppConsentOrder\"])",
-                     logsList.get(3).getMessage());
-        assertEquals(Level.ERROR, logsList.get(3).getLevel());
+                     firstError(logsList).getMessage());
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_ADDITIONAL_INFORMATION), any(), any());
         verify(coreCaseDataService, times(1)).triggerEvent(any(), any());
         verify(coreCaseDataService).triggerEvent(4L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(coreCaseDataService);
@@ -329,23 +343,22 @@ class GAJudgeRevisitTaskHandlerTest {
 
     @Test
     void shouldNotSendMessageAndTriggerEvent_whenZeroCasesFound() {
-        when(caseStateSearchService.getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS)).thenReturn(Set.of());
+        givenCases(AWAITING_DIRECTIONS_ORDER_DOCS, Set.of());
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_DIRECTIONS_ORDER_DOCS), any(), any());
         verifyNoInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
     }
 
     @Test
     void shouldEmitBusinessProcessEvent_whenDirectionOrderDateIsToday() {
-        when(caseStateSearchService.getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS))
-            .thenReturn(Set.of(caseDetailsDirectionOrder));
+        givenCases(AWAITING_DIRECTIONS_ORDER_DOCS, Set.of(caseDetailsDirectionOrder));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_DIRECTIONS_ORDER_DOCS), any(), any());
         verify(coreCaseDataService).triggerEvent(1L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -362,12 +375,11 @@ class GAJudgeRevisitTaskHandlerTest {
                 .directionsResponseByDate(LocalDate.now().minusDays(2))
                 .build())).state(AWAITING_DIRECTIONS_ORDER_DOCS.toString()).build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS))
-            .thenReturn(Set.of(caseDetailsDirectionOrderWithPastDate));
+        givenCases(AWAITING_DIRECTIONS_ORDER_DOCS, Set.of(caseDetailsDirectionOrderWithPastDate));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_DIRECTIONS_ORDER_DOCS), any(), any());
         verify(coreCaseDataService).triggerEvent(1L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -385,12 +397,11 @@ class GAJudgeRevisitTaskHandlerTest {
                 .directionsResponseByDate(LocalDate.now().plusDays(2))
                 .build())).state(AWAITING_DIRECTIONS_ORDER_DOCS.toString()).build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS))
-            .thenReturn(Set.of(caseDetailsDirectionOrderWithPastDate));
+        givenCases(AWAITING_DIRECTIONS_ORDER_DOCS, Set.of(caseDetailsDirectionOrderWithPastDate));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_DIRECTIONS_ORDER_DOCS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_DIRECTIONS_ORDER_DOCS), any(), any());
         verify(coreCaseDataService, times(0)).triggerEvent(1L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -400,12 +411,11 @@ class GAJudgeRevisitTaskHandlerTest {
     @Test
     void shouldEmitBusinessProcessEvent_whenWrittenRepConcurrentDateIsToday() {
         when(featureToggleService.isGaForLipsEnabled()).thenReturn(true);
-        when(caseStateSearchService.getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS))
-            .thenReturn(Set.of(caseDetailsWrittenRepresentationC));
+        givenCases(AWAITING_WRITTEN_REPRESENTATIONS, Set.of(caseDetailsWrittenRepresentationC));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_WRITTEN_REPRESENTATIONS), any(), any());
         verify(coreCaseDataService).triggerEvent(2L, DELETE_CLAIMANT_WRITTEN_REPS_NOTIFICATION);
         verify(coreCaseDataService).triggerEvent(2L, DELETE_DEFENDANT_WRITTEN_REPS_NOTIFICATION);
         verify(coreCaseDataService).triggerEvent(2L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
@@ -424,12 +434,11 @@ class GAJudgeRevisitTaskHandlerTest {
                 .build())).state(AWAITING_WRITTEN_REPRESENTATIONS.toString()).build();
 
         when(featureToggleService.isGaForLipsEnabled()).thenReturn(true);
-        when(caseStateSearchService.getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS))
-            .thenReturn(Set.of(caseDetailsWrittenRepresentationConWithPastDate));
+        givenCases(AWAITING_WRITTEN_REPRESENTATIONS, Set.of(caseDetailsWrittenRepresentationConWithPastDate));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_WRITTEN_REPRESENTATIONS), any(), any());
         verify(coreCaseDataService).triggerEvent(2L, DELETE_CLAIMANT_WRITTEN_REPS_NOTIFICATION);
         verify(coreCaseDataService).triggerEvent(2L, DELETE_DEFENDANT_WRITTEN_REPS_NOTIFICATION);
         verify(coreCaseDataService).triggerEvent(2L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
@@ -447,12 +456,11 @@ class GAJudgeRevisitTaskHandlerTest {
                 .writtenConcurrentRepresentationsBy(LocalDate.now().plusDays(1))
                 .build())).state(AWAITING_WRITTEN_REPRESENTATIONS.toString()).build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS))
-            .thenReturn(Set.of(caseDetailsWrittenRepresentationConWithPastDate));
+        givenCases(AWAITING_WRITTEN_REPRESENTATIONS, Set.of(caseDetailsWrittenRepresentationConWithPastDate));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_WRITTEN_REPRESENTATIONS), any(), any());
         verify(coreCaseDataService, times(0)).triggerEvent(2L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -462,14 +470,13 @@ class GAJudgeRevisitTaskHandlerTest {
     @Test
     void shouldEmitBusinessProcessEvent_whenWrittenRepSequentialDateIsToday_LipCase() {
         when(featureToggleService.isGaForLipsEnabled()).thenReturn(true);
-        when(caseStateSearchService.getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS))
-            .thenReturn(Set.of(caseDetailsWrittenRepresentationS));
+        givenCases(AWAITING_WRITTEN_REPRESENTATIONS, Set.of(caseDetailsWrittenRepresentationS));
         when(gaForLipService.isGaForLip(any(CaseData.class))).thenReturn(true);
         when(coreCaseDataService.getSystemUpdateUserToken()).thenReturn("userToken");
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_WRITTEN_REPRESENTATIONS), any(), any());
         verify(coreCaseDataService)
             .triggerEvent(3L, DELETE_CLAIMANT_WRITTEN_REPS_NOTIFICATION);
         verify(coreCaseDataService)
@@ -487,14 +494,13 @@ class GAJudgeRevisitTaskHandlerTest {
 
     @Test
     void shouldEmitBusinessProcessEvent_whenWrittenRepSequentialDateIsToday() {
-        when(caseStateSearchService.getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS))
-            .thenReturn(Set.of(caseDetailsWrittenRepresentationS));
+        givenCases(AWAITING_WRITTEN_REPRESENTATIONS, Set.of(caseDetailsWrittenRepresentationS));
         when(gaForLipService.isGaForLip(any(CaseData.class))).thenReturn(false);
         when(coreCaseDataService.getSystemUpdateUserToken()).thenReturn("userToken");
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_WRITTEN_REPRESENTATIONS), any(), any());
         verify(coreCaseDataService)
             .triggerEvent(3L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(dashboardNotificationService);
@@ -518,12 +524,11 @@ class GAJudgeRevisitTaskHandlerTest {
             .state(AWAITING_WRITTEN_REPRESENTATIONS.toString())
             .build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS))
-            .thenReturn(Set.of(caseDetailsWrittenRepresentationSeqWithPastDate));
+        givenCases(AWAITING_WRITTEN_REPRESENTATIONS, Set.of(caseDetailsWrittenRepresentationSeqWithPastDate));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_WRITTEN_REPRESENTATIONS), any(), any());
         verify(coreCaseDataService)
             .triggerEvent(3L, DELETE_CLAIMANT_WRITTEN_REPS_NOTIFICATION);
         verify(coreCaseDataService)
@@ -547,12 +552,11 @@ class GAJudgeRevisitTaskHandlerTest {
                 .sequentialApplicantMustRespondWithin(LocalDate.now().plusDays(1))
                 .build())).state(AWAITING_WRITTEN_REPRESENTATIONS.toString()).build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS))
-            .thenReturn(Set.of(caseDetailsWrittenRepresentationSeqWithPastDate));
+        givenCases(AWAITING_WRITTEN_REPRESENTATIONS, Set.of(caseDetailsWrittenRepresentationSeqWithPastDate));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_WRITTEN_REPRESENTATIONS), any(), any());
         verify(coreCaseDataService, times(0))
             .triggerEvent(3L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(coreCaseDataService);
@@ -561,12 +565,11 @@ class GAJudgeRevisitTaskHandlerTest {
 
     @Test
     void shouldEmitBusinessProcessEvent_whenRequestForInformationDateIsToday() {
-        when(caseStateSearchService.getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION))
-            .thenReturn(Set.of(caseDetailRequestForInformation));
+        givenCases(AWAITING_ADDITIONAL_INFORMATION, Set.of(caseDetailRequestForInformation));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_ADDITIONAL_INFORMATION), any(), any());
         verify(coreCaseDataService).triggerEvent(4L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -586,12 +589,11 @@ class GAJudgeRevisitTaskHandlerTest {
                        .judgeRequestMoreInfoText("test").build()
             )).state(AWAITING_ADDITIONAL_INFORMATION.toString()).build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION))
-            .thenReturn(Set.of(caseDetailRequestForInformationWithPastDate));
+        givenCases(AWAITING_ADDITIONAL_INFORMATION, Set.of(caseDetailRequestForInformationWithPastDate));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_ADDITIONAL_INFORMATION), any(), any());
         verify(coreCaseDataService).triggerEvent(4L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(dashboardNotificationService);
         verify(externalTaskService).complete(any(), any());
@@ -613,12 +615,11 @@ class GAJudgeRevisitTaskHandlerTest {
                    "isGaApplicantLip", "Yes"
             )).state(AWAITING_ADDITIONAL_INFORMATION.toString()).build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION))
-            .thenReturn(Set.of(caseDetailRequestForInformationWithPastDate));
+        givenCases(AWAITING_ADDITIONAL_INFORMATION, Set.of(caseDetailRequestForInformationWithPastDate));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_ADDITIONAL_INFORMATION), any(), any());
         verify(coreCaseDataService).triggerEvent(4L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verify(coreCaseDataService)
             .getSystemUpdateUserToken();
@@ -640,12 +641,11 @@ class GAJudgeRevisitTaskHandlerTest {
                        .judgeRequestMoreInfoText("test").build()
             )).state(AWAITING_ADDITIONAL_INFORMATION.toString()).build();
 
-        when(caseStateSearchService.getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION))
-            .thenReturn(Set.of(caseDetailRequestForInformationWithPastDate));
+        givenCases(AWAITING_ADDITIONAL_INFORMATION, Set.of(caseDetailRequestForInformationWithPastDate));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_ADDITIONAL_INFORMATION);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_ADDITIONAL_INFORMATION), any(), any());
         verify(coreCaseDataService, times(0)).triggerEvent(4L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
@@ -655,12 +655,11 @@ class GAJudgeRevisitTaskHandlerTest {
     @Test
     void shouldNotEmitNotificationEvents_whenGAForLipsDisabled() {
         when(featureToggleService.isGaForLipsEnabled()).thenReturn(false);
-        when(caseStateSearchService.getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS))
-            .thenReturn(Set.of(caseDetailsWrittenRepresentationS));
+        givenCases(AWAITING_WRITTEN_REPRESENTATIONS, Set.of(caseDetailsWrittenRepresentationS));
 
         gaJudgeRevisitTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseStateSearchService).getGeneralApplications(AWAITING_WRITTEN_REPRESENTATIONS);
+        verify(caseStateSearchService).streamGeneralApplications(eq(AWAITING_WRITTEN_REPRESENTATIONS), any(), any());
         verify(coreCaseDataService)
             .triggerEvent(3L, CHANGE_STATE_TO_ADDITIONAL_RESPONSE_TIME_EXPIRED);
         verifyNoMoreInteractions(coreCaseDataService);
@@ -671,4 +670,19 @@ class GAJudgeRevisitTaskHandlerTest {
     void getMaxAttemptsShouldAlwaysReturn1() {
         assertThat(gaJudgeRevisitTaskHandler.getMaxAttempts()).isEqualTo(1);
     }
+
+    private ILoggingEvent firstError(List<ILoggingEvent> logsList) {
+        return logsList.stream()
+            .filter(event -> event.getLevel() == Level.ERROR)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private void givenCases(CaseState caseState, Set<CaseDetails> cases) {
+        doAnswer(invocation -> {
+            Consumer<List<CaseDetails>> pageConsumer = invocation.getArgument(2);
+            pageConsumer.accept(List.copyOf(cases));
+            return SearchStatistics.empty();
+        }).when(caseStateSearchService).streamGeneralApplications(eq(caseState), any(), any());
+    }
 }
@@ -18,6 +18,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.enums.YesOrNo;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.model.search.ResponseDeadlineView;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 import uk.gov.hmcts.reform.civil.service.search.CaseStateSearchService;
 
@@ -33,6 +34,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -98,7 +100,7 @@ class GAResponseDeadlineTaskHandlerTest {
         doThrow(buildFeignExceptionWithUnprocessableEntity()).when(coreCaseDataService)
             .triggerEvent(any(), any());
 
-        when(caseSearchService.getGeneralApplications(AWAITING_RESPONDENT_RESPONSE))
+        when(caseSearchService.getGeneralApplications(eq(AWAITING_RESPONDENT_RESPONSE), any(), eq(ResponseDeadlineView.FIELDS)))
             .thenReturn(Set.of(caseDetails1, caseDetails2, caseDetails3));
 
         assertThrows(FeignException.class, () -> coreCaseDataService
@@ -121,20 +123,19 @@ class GAResponseDeadlineTaskHandlerTest {
         logger.addAppender(listAppender);
 
         CaseDetails caseDetailsRespondentResponse = CaseDetails.builder().id(6L).data(
-            Map.of("generalAppConsentOrder", "maybe")).build();
+            Map.of("isGaApplicantLip", "maybe")).build();
 
-        when(caseSearchService.getGeneralApplications(any()))
+        when(caseSearchService.getGeneralApplications(any(), any(), any()))
             .thenReturn(Set.of(caseDetailsRespondentResponse));
 
         gaResponseDeadlineTaskHandler.getAwaitingResponseCasesThatArePastDueDate();
 
         List<ILoggingEvent> logsList = listAppender.list;
-        assertEquals("GAResponseDeadlineTaskHandler failed: java.lang.IllegalArgumentException: "
-                         + "Cannot deserialize value of type `uk.gov.hmcts.reform.civil.enums.YesOrNo` "
-                         + "from String \"maybe\": not one of the values accepted for Enum class: [No, Yes]\n"
-                         + " at [Source: UNKNOWN; byte offset: #UNKNOWN] (through reference chain: "
-                         + "uk.gov.hmcts.reform.civil.model.CaseData[\"generalAppConsentOrder\"])",
-                     logsList.get(0).getMessage());
+        assertThat(logsList.get(0).getMessage())
+            .startsWith("GAResponseDeadlineTaskHandler failed: java.lang.IllegalArgumentException: "
+                            + "Cannot deserialize value of type `uk.gov.hmcts.reform.civil.enums.YesOrNo` "
+                            + "from String \"maybe\": not one of the values accepted for Enum class: [No, Yes]")
+            .contains("ResponseDeadlineView[\"isGaApplicantLip\"]");
         assertEquals(Level.ERROR, logsList.get(0).getLevel());
         listAppender.stop();
     }
@@ -146,22 +147,21 @@ class GAResponseDeadlineTaskHandlerTest {
         logger.addAppender(listAppender);
 
         CaseDetails caseDetailsRespondentResponse = CaseDetails.builder().id(6L).data(
-            Map.of("generalAppConsentOrder", "maybe")).build();
+            Map.of("isGaApplicantLip", "maybe")).build();
 
-        when(caseSearchService.getGeneralApplications(any()))
+        when(caseSearchService.getGeneralApplications(any(), any(), any()))
             .thenReturn(Set.of(caseDetailsRespondentResponse, caseDetails1));
 
         gaResponseDeadlineTaskHandler.execute(externalTask, externalTaskService);
 
         List<ILoggingEvent> logsList = listAppender.list;
-        assertEquals("GAResponseDeadlineTaskHandler failed: java.lang.IllegalArgumentException: "
-                         + "Cannot deserialize value of type `uk.gov.hmcts.reform.civil.enums.YesOrNo` "
-                         + "from String \"maybe\": not one of the values accepted for Enum class: [No, Yes]\n"
-                         + " at [Source: UNKNOWN; byte offset: #UNKNOWN] (through reference chain: "
-                         + "uk.gov.hmcts.reform.civil.model.CaseData[\"generalAppConsentOrder\"])",
-                     logsList.get(0).getMessage());
+        assertThat(logsList.get(0).getMessage())
+            .startsWith("GAResponseDeadlineTaskHandler failed: java.lang.IllegalArgumentException: "
+                            + "Cannot deserialize value of type `uk.gov.hmcts.reform.civil.enums.YesOrNo` "
+                            + "from String \"maybe\": not one of the values accepted for Enum class: [No, Yes]")
+            .contains("ResponseDeadlineView[\"isGaApplicantLip\"]");
         assertEquals(Level.ERROR, logsList.get(0).getLevel());
-        verify(caseSearchService).getGeneralApplications(AWAITING_RESPONDENT_RESPONSE);
+        verify(caseSearchService).getGeneralApplications(eq(AWAITING_RESPONDENT_RESPONSE), any(), eq(ResponseDeadlineView.FIELDS));
         verify(coreCaseDataService).triggerEvent(1L, CHANGE_STATE_TO_AWAITING_JUDICIAL_DECISION);
     }
 
@@ -181,23 +181,23 @@ class GAResponseDeadlineTaskHandlerTest {
 
     @Test
     void shouldNotSendMessageAndTriggerEvent_whenZeroCasesFound() {
-        when(caseSearchService.getGeneralApplications(AWAITING_RESPONDENT_RESPONSE)).thenReturn(Set.of());
+        when(caseSearchService.getGeneralApplications(eq(AWAITING_RESPONDENT_RESPONSE), any(), eq(ResponseDeadlineView.FIELDS))).thenReturn(Set.of());
 
         gaResponseDeadlineTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseSearchService).getGeneralApplications(AWAITING_RESPONDENT_RESPONSE);
+        verify(caseSearchService).getGeneralApplications(eq(AWAITING_RESPONDENT_RESPONSE), any(), eq(ResponseDeadlineView.FIELDS));
         verifyNoInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
     }
 
     @Test
     void shouldEmitBusinessProcessEvent_whenCasesPastDeadlineFound() {
-        when(caseSearchService.getGeneralApplications(AWAITING_RESPONDENT_RESPONSE))
+        when(caseSearchService.getGeneralApplications(eq(AWAITING_RESPONDENT_RESPONSE), any(), eq(ResponseDeadlineView.FIELDS)))
             .thenReturn(Set.of(caseDetails1, caseDetails2, caseDetails3));
 
         gaResponseDeadlineTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseSearchService).getGeneralApplications(AWAITING_RESPONDENT_RESPONSE);
+        verify(caseSearchService).getGeneralApplications(eq(AWAITING_RESPONDENT_RESPONSE), any(), eq(ResponseDeadlineView.FIELDS));
         verify(coreCaseDataService).triggerEvent(1L, CHANGE_STATE_TO_AWAITING_JUDICIAL_DECISION);
         verify(coreCaseDataService).triggerEvent(2L, CHANGE_STATE_TO_AWAITING_JUDICIAL_DECISION);
         verifyNoMoreInteractions(coreCaseDataService);
@@ -216,12 +216,12 @@ class GAResponseDeadlineTaskHandlerTest {
         CaseDetails caseDetails8 = CaseDetails.builder().id(3L).data(
             Map.of("generalAppNotificationDeadlineDate", deadlineInFuture.toString(),
                    "isGaApplicantLip",  YesOrNo.YES)).build();
-        when(caseSearchService.getGeneralApplications(APPLICATION_SUBMITTED_AWAITING_JUDICIAL_DECISION))
+        when(caseSearchService.getGeneralApplications(eq(APPLICATION_SUBMITTED_AWAITING_JUDICIAL_DECISION), any(), eq(ResponseDeadlineView.FIELDS)))
             .thenReturn(Set.of(caseDetails6, caseDetails7, caseDetails8));
 
         gaResponseDeadlineTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseSearchService).getGeneralApplications(APPLICATION_SUBMITTED_AWAITING_JUDICIAL_DECISION);
+        verify(caseSearchService).getGeneralApplications(eq(APPLICATION_SUBMITTED_AWAITING_JUDICIAL_DECISION), any(), eq(ResponseDeadlineView.FIELDS));
         verify(coreCaseDataService).triggerEvent(1L, RESPONDENT_RESPONSE_DEADLINE_CHECK);
         verify(coreCaseDataService).triggerEvent(2L, RESPONDENT_RESPONSE_DEADLINE_CHECK);
         verifyNoMoreInteractions(coreCaseDataService);
@@ -230,26 +230,41 @@ class GAResponseDeadlineTaskHandlerTest {
 
     @Test
     void shouldEmitBusinessProcessEvent_whenCasesPastDeadlineNotFound() {
-        when(caseSearchService.getGeneralApplications(AWAITING_RESPONDENT_RESPONSE)).thenReturn(Set.of(caseDetails3));
+        when(caseSearchService.getGeneralApplications(eq(AWAITING_RESPONDENT_RESPONSE), any(), eq(ResponseDeadlineView.FIELDS))).thenReturn(Set.of(caseDetails3));
 
         gaResponseDeadlineTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseSearchService).getGeneralApplications(AWAITING_RESPONDENT_RESPONSE);
+        verify(caseSearchService).getGeneralApplications(eq(AWAITING_RESPONDENT_RESPONSE), any(), eq(ResponseDeadlineView.FIELDS));
         verifyNoInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
     }
 
     @Test
     void shouldEmitBusinessProcessEvent_whenCasesFoundWithNullDeadlineDate() {
-        when(caseSearchService.getGeneralApplications(AWAITING_RESPONDENT_RESPONSE)).thenReturn(Set.of(caseDetails4));
+        when(caseSearchService.getGeneralApplications(eq(AWAITING_RESPONDENT_RESPONSE), any(), eq(ResponseDeadlineView.FIELDS))).thenReturn(Set.of(caseDetails4));
 
         gaResponseDeadlineTaskHandler.execute(externalTask, externalTaskService);
 
-        verify(caseSearchService).getGeneralApplications(AWAITING_RESPONDENT_RESPONSE);
+        verify(caseSearchService).getGeneralApplications(eq(AWAITING_RESPONDENT_RESPONSE), any(), eq(ResponseDeadlineView.FIELDS));
         verifyNoInteractions(coreCaseDataService);
         verify(externalTaskService).complete(any(), any());
     }
 
+    @Test
+    void shouldIgnoreFieldsOutsideTheView_whenCasesPastDeadlineFound() {
+        CaseDetails caseDetails = CaseDetails.builder().id(5L).data(
+            Map.of("generalAppNotificationDeadlineDate", deadlineCrossed.toString(),
+                   "generalAppConsentOrder", "maybe")).build();
+        when(caseSearchService.getGeneralApplications(eq(AWAITING_RESPONDENT_RESPONSE), any(), eq(ResponseDeadlineView.FIELDS)))
+            .thenReturn(Set.of(caseDetails));
+
+        gaResponseDeadlineTaskHandler.execute(externalTask, externalTaskService);
+
+        verify(coreCaseDataService).triggerEvent(5L, CHANGE_STATE_TO_AWAITING_JUDICIAL_DECISION);
+        verifyNoMoreInteractions(coreCaseDataService);
+        verify(externalTaskService).complete(any(), any());
+    }
+
     @Test
     void getMaxAttemptsShouldAlwaysReturn1() {
         assertThat(gaResponseDeadlineTaskHandler.getMaxAttempts()).isEqualTo(1);
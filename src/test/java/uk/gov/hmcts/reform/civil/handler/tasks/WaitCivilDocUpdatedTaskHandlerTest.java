@@ -3,8 +3,11 @@ package uk.gov.hmcts.reform.civil.handler.tasks;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -84,7 +87,7 @@ public class WaitCivilDocUpdatedTaskHandlerTest {
     private CaseData civilCaseDataEmpty;
     private CaseData civilCaseDataOld;
     private CaseData civilCaseDataNow;
-    private static final String CASE_ID = "1644495739087775L";
+    private static final String CASE_ID = "1644495739087775";
 
     @BeforeEach
     void init() {
@@ -120,11 +123,9 @@ public class WaitCivilDocUpdatedTaskHandlerTest {
                 .caseEvent(WAIT_GA_DRAFT).build();
         when(mapper.convertValue(any(), eq(ExternalTaskInput.class))).thenReturn(externalTaskInput);
         CaseDetails caseDetails = CaseDetailsBuilder.builder().id(1L).data(gaCaseData).build();
-        StartEventResponse startEventResponse = StartEventResponse.builder().caseDetails(caseDetails).build();
 
-        when(coreCaseDataService.startGaUpdate("1L", WAIT_GA_DRAFT))
-            .thenReturn(startEventResponse);
-        when(caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails())).thenReturn(gaCaseData);
+        when(coreCaseDataService.getCase(1L)).thenReturn(caseDetails);
+        when(caseDetailsConverter.toCaseData(caseDetails)).thenReturn(gaCaseData);
         CaseDetails civil = CaseDetails.builder().id(123L).build();
         when(coreCaseDataService.getCase(123L)).thenReturn(civil);
         when(caseDetailsConverter.toCaseData(civil)).thenReturn(civilCaseDataOld);
@@ -133,7 +134,53 @@ public class WaitCivilDocUpdatedTaskHandlerTest {
         waitCivilDocUpdatedTaskHandler.execute(externalTask, externalTaskService);
         WaitCivilDocUpdatedTaskHandler.maxWait = 10;
         WaitCivilDocUpdatedTaskHandler.waitGap = 6;
-        verify(coreCaseDataService, times(1)).startGaUpdate(any(), any());
+        verify(coreCaseDataService, never()).startGaUpdate(any(), any());
+    }
+
+    @Test
+    void should_hand_task_back_with_retry_timeout_when_civil_doc_not_updated() {
+        ExternalTaskInput externalTaskInput = ExternalTaskInput.builder().caseId("1")
+                .caseEvent(WAIT_GA_DRAFT).build();
+        when(mapper.convertValue(any(), eq(ExternalTaskInput.class))).thenReturn(externalTaskInput);
+        CaseDetails caseDetails = CaseDetailsBuilder.builder().id(1L).data(gaCaseData).build();
+        when(coreCaseDataService.getCase(1L)).thenReturn(caseDetails);
+        when(caseDetailsConverter.toCaseData(caseDetails)).thenReturn(gaCaseData);
+        CaseDetails civil = CaseDetails.builder().id(123L).build();
+        when(coreCaseDataService.getCase(123L)).thenReturn(civil);
+        when(caseDetailsConverter.toCaseData(civil)).thenReturn(civilCaseDataOld);
+        when(mockTask.getRetries()).thenReturn(null);
+
+        waitCivilDocUpdatedTaskHandler.execute(mockTask, externalTaskService);
+
+        verify(coreCaseDataService, times(1)).getCase(123L);
+        verify(coreCaseDataService, never()).startGaUpdate(any(), any());
+        verify(externalTaskService).handleFailure(
+            eq(mockTask), anyString(), isNull(),
+            eq(WaitCivilDocUpdatedTaskHandler.maxWait - 1),
+            eq(WaitCivilDocUpdatedTaskHandler.waitGap * 1000L)
+        );
+        verify(externalTaskService, never()).complete(any(), any());
+        verify(externalTaskService, never()).handleBpmnError(any(ExternalTask.class), anyString());
+    }
+
+    @Test
+    void should_abort_when_last_attempt_finds_civil_doc_not_updated() {
+        ExternalTaskInput externalTaskInput = ExternalTaskInput.builder().caseId("1")
+                .caseEvent(WAIT_GA_DRAFT).build();
+        when(mapper.convertValue(any(), eq(ExternalTaskInput.class))).thenReturn(externalTaskInput);
+        CaseDetails caseDetails = CaseDetailsBuilder.builder().id(1L).data(gaCaseData).build();
+        when(coreCaseDataService.getCase(1L)).thenReturn(caseDetails);
+        when(caseDetailsConverter.toCaseData(caseDetails)).thenReturn(gaCaseData);
+        CaseDetails civil = CaseDetails.builder().id(123L).build();
+        when(coreCaseDataService.getCase(123L)).thenReturn(civil);
+        when(caseDetailsConverter.toCaseData(civil)).thenReturn(civilCaseDataOld);
+        when(mockTask.getRetries()).thenReturn(1);
+
+        waitCivilDocUpdatedTaskHandler.execute(mockTask, externalTaskService);
+
+        verify(externalTaskService).handleBpmnError(mockTask, "ABORT");
+        verify(externalTaskService, never()).handleFailure(
+            any(ExternalTask.class), anyString(), any(), anyInt(), anyLong());
     }
 
     @Test
@@ -170,13 +217,10 @@ public class WaitCivilDocUpdatedTaskHandlerTest {
                 .caseEvent(WAIT_GA_DRAFT).build();
         when(mapper.convertValue(any(), eq(ExternalTaskInput.class))).thenReturn(externalTaskInput);
         CaseDetails ga = CaseDetails.builder().id(1L).build();
-        StartEventResponse startEventResponse = StartEventResponse.builder().caseDetails(ga).build();
 
-        when(coreCaseDataService.startGaUpdate("1L", WAIT_GA_DRAFT))
-            .thenReturn(startEventResponse);
-        when(caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails())).thenReturn(gaCaseData);
+        when(coreCaseDataService.getCase(1L)).thenReturn(ga);
         when(mockTask.getRetries()).thenReturn(null);
-        when(caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails()))
+        when(caseDetailsConverter.toCaseData(ga))
                 .thenAnswer(invocation -> {
                     throw FeignException.errorStatus(errorMessage, Response.builder()
                             .request(
@@ -216,6 +260,7 @@ public class WaitCivilDocUpdatedTaskHandlerTest {
         CaseDetails caseDetails = CaseDetailsBuilder.builder().data(caseData).build();
         StartEventResponse startEventResponse = StartEventResponse.builder().caseDetails(caseDetails).build();
 
+        when(coreCaseDataService.getCase(Long.valueOf(CASE_ID))).thenReturn(caseDetails);
         when(coreCaseDataService.startGaUpdate(CASE_ID, WAIT_GA_DRAFT))
             .thenReturn(startEventResponse);
         when(caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails())).thenReturn(caseData);
@@ -245,16 +290,13 @@ public class WaitCivilDocUpdatedTaskHandlerTest {
                 Element.<CaseDocument>builder().id(UUID.fromString(uid1))
                     .value(pdfDocument).build())).build();
         CaseDetails caseDetails = CaseDetailsBuilder.builder().data(updatedCaseData).build();
-        StartEventResponse startEventResponse = StartEventResponse.builder().caseDetails(caseDetails).build();
 
-        when(coreCaseDataService.startGaUpdate(CASE_ID, WAIT_GA_DRAFT))
-            .thenReturn(startEventResponse);
-        when(caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails())).thenReturn(caseData);
+        when(coreCaseDataService.getCase(Long.valueOf(CASE_ID))).thenReturn(caseDetails);
+        when(caseDetailsConverter.toCaseData(caseDetails)).thenReturn(caseData);
 
         waitCivilDocUpdatedTaskHandler.execute(mockTask, externalTaskService);
 
-        verify(coreCaseDataService).startGaUpdate(CASE_ID, WAIT_GA_DRAFT);
-        verify(coreCaseDataService, times(1)).startGaUpdate(any(), any());
+        verify(coreCaseDataService).getCase(Long.valueOf(CASE_ID));
         verifyNoMoreInteractions(coreCaseDataService);
     }
 
@@ -336,13 +378,14 @@ public class WaitCivilDocUpdatedTaskHandlerTest {
 
         StartEventResponse startEventResponse = StartEventResponse.builder().caseDetails(caseDetails).build();
         when(gaLipCaseData.toMap(mapper)).thenReturn(mockOutputMap);
+        when(coreCaseDataService.getCase(Long.valueOf(CASE_ID))).thenReturn(caseDetails);
         when(coreCaseDataService.startGaUpdate(anyString(), eq(WAIT_GA_DRAFT))).thenReturn(startEventResponse);
         when(caseDetailsConverter.toCaseData(any())).thenReturn(gaLipCaseData);
 
         waitCivilDocUpdatedTaskHandler.execute(mockTask, externalTaskService);
 
         verify(coreCaseDataService).startGaUpdate(anyString(), eq(WAIT_GA_DRAFT));
-        verify(caseDetailsConverter).toCaseData(any());
+        verify(caseDetailsConverter, times(2)).toCaseData(any());
     }
 
     public final CaseDocument pdfDocument = CaseDocument.builder()
@@ -0,0 +1,191 @@
+package uk.gov.hmcts.reform.civil.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.enums.CaseState;
+import uk.gov.hmcts.reform.civil.enums.YesOrNo;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.search.ResponseDeadlineView;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDetailsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.civil.enums.CaseState.AWAITING_APPLICATION_PAYMENT;
+import static uk.gov.hmcts.reform.civil.enums.CaseState.AWAITING_RESPONDENT_RESPONSE;
+import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.EXTEND_TIME;
+import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.STAY_THE_CLAIM;
+
+@SpringBootTest(classes = {
+    CaseDetailsConverter.class,
+    JacksonAutoConfiguration.class
+})
+class CaseDetailsConverterTest {
+
+    @Autowired
+    private CaseDetailsConverter caseDetailsConverter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private CaseData convertValue(CaseDetails caseDetails) {
+        Map<String, Object> data = new HashMap<>(caseDetails.getData());
+        data.put("ccdCaseReference", caseDetails.getId());
+        if (caseDetails.getState() != null) {
+            data.put("ccdState", CaseState.valueOf(caseDetails.getState()));
+        }
+        if (caseDetails.getCreatedDate() != null) {
+            data.put("createdDate", caseDetails.getCreatedDate());
+        }
+        return objectMapper.convertValue(data, CaseData.class);
+    }
+
+    @Nested
+    class Conversion {
+
+        @Test
+        void shouldConvertSameAsConvertValue_forSampleApplications() {
+            List<CaseData> samples = List.of(
+                CaseDataBuilder.builder().build(),
+                CaseDataBuilder.builder().withNoticeCaseData(),
+                CaseDataBuilder.builder().buildMakePaymentsCaseData(),
+                CaseDataBuilder.builder().judgeFinalOrderApplication().build(),
+                CaseDataBuilder.builder().writtenRepresentationSequentialApplication().build(),
+                CaseDataBuilder.builder().requestForInformationApplication().build()
+            );
+
+            for (CaseData sample : samples) {
+                CaseDetails caseDetails = CaseDetailsBuilder.builder()
+                    .data(sample)
+                    .id(1234L)
+                    .state(AWAITING_APPLICATION_PAYMENT)
+                    .createdDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                    .build();
+
+                assertThat(caseDetailsConverter.toCaseData(caseDetails)).isEqualTo(convertValue(caseDetails));
+            }
+        }
+
+        @Test
+        void shouldDropEmptyValues_andOverrideCaseDetailsFields() {
+            Map<String, Object> data = new HashMap<>();
+            data.put("legacyCaseReference", "");
+            data.put("ccdState", AWAITING_RESPONDENT_RESPONSE.name());
+            data.put("generalAppType", Map.of());
+            data.put("ccdCaseReference", 1L);
+            CaseDetails caseDetails = CaseDetails.builder().data(data).id(5678L).state(AWAITING_APPLICATION_PAYMENT.name()).build();
+
+            CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
+
+            assertThat(caseData).isEqualTo(convertValue(caseDetails));
+            assertThat(caseData.getLegacyCaseReference()).isNull();
+            assertThat(caseData.getCcdCaseReference()).isEqualTo(5678L);
+            assertThat(caseData.getCcdState()).isEqualTo(AWAITING_APPLICATION_PAYMENT);
+        }
+    }
+
+    @Nested
+    class View {
+
+        @Test
+        void shouldReadOnlyTheViewFields_andIgnoreTheRest() {
+            LocalDateTime deadline = LocalDateTime.of(2024, 1, 1, 16, 0);
+            CaseDetails caseDetails = CaseDetails.builder().id(5678L).data(Map.of(
+                "generalAppNotificationDeadlineDate", deadline.toString(),
+                "isGaRespondentOneLip", "Yes",
+                "generalAppConsentOrder", "not read"
+            )).build();
+
+            ResponseDeadlineView view = caseDetailsConverter.toView(caseDetails, ResponseDeadlineView.class);
+
+            assertThat(view).isEqualTo(new ResponseDeadlineView(5678L, deadline, null, YesOrNo.YES));
+        }
+    }
+
+    @Nested
+    class RequestMemo {
+
+        private final CaseDetails caseDetails = CaseDetailsBuilder.builder()
+            .data(CaseDataBuilder.builder().build())
+            .id(1234L)
+            .state(AWAITING_APPLICATION_PAYMENT)
+            .build();
+
+        @Test
+        void shouldReuseConversion_withinRequest() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+            CaseData first = caseDetailsConverter.toCaseData(caseDetails);
+            first.setGeneralAppAddlnInfoText("changed by caller");
+            CaseData second = caseDetailsConverter.toCaseData(caseDetails);
+
+            assertThat(second).isNotSameAs(first);
+            assertThat(second).isEqualTo(convertValue(caseDetails));
+        }
+
+        @Test
+        void shouldNotShareNestedValues_betweenCallers() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            Map<String, Object> data = new HashMap<>();
+            data.put("generalAppType", Map.of("types", List.of(STAY_THE_CLAIM.name())));
+            CaseDetails details = CaseDetails.builder().data(data).id(1234L).build();
+
+            caseDetailsConverter.toCaseData(details).getGeneralAppType().getTypes().add(EXTEND_TIME);
+
+            assertThat(caseDetailsConverter.toCaseData(details).getGeneralAppType().getTypes())
+                .containsExactly(STAY_THE_CLAIM);
+        }
+
+        @Test
+        void shouldConvertAgain_whenNestedValueIsEditedInPlace() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            List<String> types = new ArrayList<>(List.of(STAY_THE_CLAIM.name()));
+            Map<String, Object> data = new HashMap<>();
+            data.put("generalAppType", new HashMap<>(Map.of("types", types)));
+            CaseDetails details = CaseDetails.builder().data(data).id(1234L).build();
+            caseDetailsConverter.toCaseData(details);
+
+            types.add(EXTEND_TIME.name());
+
+            assertThat(caseDetailsConverter.toCaseData(details).getGeneralAppType().getTypes())
+                .containsExactly(STAY_THE_CLAIM, EXTEND_TIME);
+        }
+
+        @Test
+        void shouldConvertAgain_whenCaseDetailsChange() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            caseDetailsConverter.toCaseData(caseDetails);
+
+            caseDetails.setState(AWAITING_RESPONDENT_RESPONSE.name());
+
+            assertThat(caseDetailsConverter.toCaseData(caseDetails).getCcdState()).isEqualTo(AWAITING_RESPONDENT_RESPONSE);
+        }
+
+        @Test
+        void shouldConvertEveryTime_outsideRequest() {
+            CaseData first = caseDetailsConverter.toCaseData(caseDetails);
+            CaseData second = caseDetailsConverter.toCaseData(caseDetails);
+
+            assertThat(second).isNotSameAs(first).isEqualTo(first);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.elasticsearch.index.query.QueryBuilders;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 
 import java.util.List;
 
@@ -41,4 +42,35 @@ class QueryTest {
 
         JSONAssert.assertEquals(EXPECTED_QUERY, query.toString(), true);
     }
+
+    @Test
+    void shouldIncludeSizeSortAndSearchAfter_whenPagingBySearchAfter() throws JSONException {
+        Query query = new Query(matchAllQuery(), List.of("reference"), 20).withSize(50)
+            .searchAfter(Query.sortValues(CaseDetails.builder().id(1234L).build()));
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\"], \"from\": 0, "
+                + "\"size\": 50, \"sort\": [{\"reference.keyword\": \"asc\"}], \"search_after\": [\"1234\"]}",
+            query.toString(), true
+        );
+    }
+
+    @Test
+    void shouldReturnCaseMetadataAndPrefixedDataFields_whenProjected() throws JSONException {
+        Query query = new Query(matchAllQuery(), List.of(), 0)
+            .returning(Query.dataFields("generalAppNotificationDeadlineDate", "isGaApplicantLip"));
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\",\"state\","
+                + "\"data.generalAppNotificationDeadlineDate\",\"data.isGaApplicantLip\"], \"from\": 0}",
+            query.toString(), true
+        );
+    }
+
+    @Test
+    void shouldThrowException_WhenSizeLessThan1() {
+        Query query = new Query(matchAllQuery(), List.of(), 0);
+
+        assertThrows(IllegalArgumentException.class, () -> query.withSize(0));
+    }
 }
@@ -2,17 +2,23 @@ package uk.gov.hmcts.reform.civil.service;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 import uk.gov.hmcts.reform.sendletter.api.LetterWithPdfsRequest;
 import uk.gov.hmcts.reform.sendletter.api.SendLetterApi;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.mockito.ArgumentMatchers.refEq;
 import static org.mockito.BDDMockito.given;
@@ -56,4 +62,21 @@ class BulkPrintServiceTest {
         bulkPrintService.printLetter(letterTemplate, claimId, claimId, letterType, recipients);
         verify(sendLetterApi).sendLetter(refEq(authentication), refEq(letter));
     }
+
+    @Test
+    void shouldSendSpooledLetterToBulkPrintSuccessfully(@TempDir Path tempDir) throws IOException {
+        byte[] letterContent = new byte[1000];
+        new Random(7).nextBytes(letterContent);
+        LetterWithPdfsRequest spooledLetter =
+            new LetterWithPdfsRequest(List.of(Base64.getEncoder().encodeToString(letterContent)),
+                                      XEROX_TYPE_PARAMETER, additionalInformation
+            );
+        given(authTokenGenerator.generate()).willReturn(authentication);
+
+        try (SpooledDocument document = SpooledDocument.spool(new ByteArrayInputStream(letterContent), 100, tempDir)) {
+            bulkPrintService.printLetter(document, claimId, claimId, letterType, recipients);
+        }
+
+        verify(sendLetterApi).sendLetter(refEq(authentication), refEq(spooledLetter));
+    }
 }
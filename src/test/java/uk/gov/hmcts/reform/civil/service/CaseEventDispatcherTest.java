@@ -0,0 +1,134 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.config.CaseEventDispatcherConfiguration;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.civil.service.Downstream.CCD;
+import static uk.gov.hmcts.reform.civil.service.Downstream.DASHBOARD;
+
+class CaseEventDispatcherTest {
+
+    private final CaseEventDispatcher dispatcher = new CaseEventDispatcher(
+        new CaseEventDispatcherConfiguration(4, 4, 4, 1));
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void shouldKeepEventsForOneCaseInOrder() {
+        Map<Long, List<String>> fired = new ConcurrentHashMap<>();
+        CaseEventDispatcher.Dispatch dispatch = dispatcher.start("job", null);
+
+        for (long caseId = 1; caseId <= 5; caseId++) {
+            Long id = caseId;
+            List<String> events = Collections.synchronizedList(new ArrayList<>());
+            fired.put(id, events);
+            dispatch.submit(CaseEventSequence.forCase(id)
+                                .step("FIRST", CCD, () -> {
+                                    pause();
+                                    events.add("FIRST");
+                                })
+                                .step("SECOND", CCD, () -> events.add("SECOND"))
+                                .step("THIRD", DASHBOARD, () -> events.add("THIRD")));
+        }
+        DispatchSummary summary = dispatch.awaitCompletion();
+
+        assertThat(summary.cases()).isEqualTo(5);
+        assertThat(summary.completedCases()).isEqualTo(5);
+        fired.values().forEach(events -> assertThat(events).containsExactly("FIRST", "SECOND", "THIRD"));
+    }
+
+    @Test
+    void shouldRunCasesInParallel_withinDownstreamLimit() {
+        AtomicInteger ccdInFlight = new AtomicInteger();
+        AtomicInteger maxCcdInFlight = new AtomicInteger();
+        AtomicInteger dashboardInFlight = new AtomicInteger();
+        AtomicInteger maxDashboardInFlight = new AtomicInteger();
+        CaseEventDispatcher.Dispatch dispatch = dispatcher.start("job", null);
+
+        for (long caseId = 1; caseId <= 12; caseId++) {
+            dispatch.submit(CaseEventSequence.forCase(caseId)
+                                .step("CCD", CCD, () -> {
+                                    maxCcdInFlight.accumulateAndGet(ccdInFlight.incrementAndGet(), Math::max);
+                                    pause();
+                                    ccdInFlight.decrementAndGet();
+                                })
+                                .step("DASHBOARD", DASHBOARD, () -> {
+                                    maxDashboardInFlight.accumulateAndGet(dashboardInFlight.incrementAndGet(), Math::max);
+                                    pause();
+                                    dashboardInFlight.decrementAndGet();
+                                }));
+        }
+        dispatch.awaitCompletion();
+
+        assertThat(maxCcdInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+        assertThat(maxDashboardInFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGatherFailuresPerCase_andSkipDependentSteps() {
+        List<String> fired = Collections.synchronizedList(new ArrayList<>());
+        CaseEventDispatcher.Dispatch dispatch = dispatcher.start("job", null);
+
+        dispatch.submit(CaseEventSequence.forCase(1L)
+                            .step("STATE_CHANGE", CCD, () -> {
+                                throw new IllegalStateException("state change failed");
+                            })
+                            .dependentStep("NOTIFICATION", DASHBOARD, () -> fired.add("NOTIFICATION"))
+                            .step("TASK_LIST", CCD, () -> fired.add("TASK_LIST")));
+        dispatch.submit(CaseEventSequence.forCase(2L).step("STATE_CHANGE", CCD, () -> fired.add("OTHER_CASE")));
+        DispatchSummary summary = dispatch.awaitCompletion();
+
+        assertThat(fired).containsExactlyInAnyOrder("TASK_LIST", "OTHER_CASE");
+        assertThat(summary.completedCases()).isEqualTo(1);
+        assertThat(summary.failedCases()).isEqualTo(1);
+        assertThat(summary.skippedSteps()).isEqualTo(1);
+        assertThat(summary.failedCaseIds()).containsExactly(1L);
+        assertThat(summary.failures()).singleElement()
+            .satisfies(failure -> {
+                assertThat(failure.step()).isEqualTo("STATE_CHANGE");
+                assertThat(failure.exception()).hasMessage("state change failed");
+            });
+    }
+
+    @Test
+    void shouldSkipCases_whenPastStopBy() {
+        List<String> fired = Collections.synchronizedList(new ArrayList<>());
+        CaseEventDispatcher.Dispatch dispatch = dispatcher.start("job", Instant.now().minusSeconds(1));
+
+        dispatch.submit(CaseEventSequence.forCase(1L).step("EVENT", CCD, () -> fired.add("EVENT")));
+        DispatchSummary summary = dispatch.awaitCompletion();
+
+        assertThat(fired).isEmpty();
+        assertThat(summary.skippedCases()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreEmptySequences() {
+        CaseEventDispatcher.Dispatch dispatch = dispatcher.start("job", null);
+
+        dispatch.submit(CaseEventSequence.forCase(1L));
+
+        assertThat(dispatch.awaitCompletion().cases()).isZero();
+    }
+}
@@ -0,0 +1,155 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.civil.config.ConversionCacheConfiguration;
+import uk.gov.hmcts.reform.civil.exceptions.DocumentConversionException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConvertedDocumentCacheTest {
+
+    private static final byte[] CONVERTED = "converted".getBytes();
+
+    @TempDir
+    Path tempDir;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger conversions = new AtomicInteger();
+    private ConvertedDocumentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConvertedDocumentCache(new ConversionCacheConfiguration(DataSize.ofBytes(100), tempDir.toString()), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    private Supplier<byte[]> conversion(byte[] result) {
+        return () -> {
+            conversions.incrementAndGet();
+            return result;
+        };
+    }
+
+    private long cachedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(cache.directory())) {
+            return files.count();
+        }
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", ConvertedDocumentCache.CACHE_NAME).tag("result", result)
+            .functionCounter().count();
+    }
+
+    @Test
+    void shouldConvertOnce_whenSameKeyIsRequestedAgain() throws IOException {
+        assertThat(cache.get("hash:1", conversion(CONVERTED))).containsExactly(CONVERTED);
+        assertThat(cache.get("hash:1", conversion(CONVERTED))).containsExactly(CONVERTED);
+
+        assertThat(conversions).hasValue(1);
+        assertThat(cachedFiles()).isEqualTo(1);
+        assertThat(cacheGets("hit")).isEqualTo(1.0);
+        assertThat(cacheGets("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldShareConversion_whenSameKeyIsRequestedConcurrently() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<byte[]> first = executor.submit(() -> cache.get("hash:1", () -> {
+                started.countDown();
+                try {
+                    assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return conversion(CONVERTED).get();
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<byte[]> second = executor.submit(() -> cache.get("hash:1", conversion(CONVERTED)));
+            eventually(() -> meterRegistry.counter(ConvertedDocumentCache.SHARED_METRIC).count() == 1.0);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(CONVERTED);
+            assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly(CONVERTED);
+            assertThat(conversions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotKeepFailedConversion() {
+        assertThatThrownBy(() -> cache.get("hash:1", () -> {
+            throw new DocumentConversionException("Error converting document to pdf for caseId 1", null);
+        })).isInstanceOf(DocumentConversionException.class);
+
+        assertThat(cache.get("hash:1", conversion(CONVERTED))).containsExactly(CONVERTED);
+        assertThat(conversions).hasValue(1);
+    }
+
+    @Test
+    void shouldDeleteLeastUsedFiles_whenMaximumSizeIsPassed() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            cache.get("hash:" + i, conversion(new byte[40]));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+        assertThat(cachedFiles()).isEqualTo(cache.size());
+    }
+
+    @Test
+    void shouldConvertAgain_whenCachedFileIsMissing() throws IOException {
+        cache.get("hash:1", conversion(CONVERTED));
+        try (Stream<Path> files = Files.list(cache.directory())) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        assertThat(cache.get("hash:1", conversion(CONVERTED))).containsExactly(CONVERTED);
+        assertThat(conversions).hasValue(2);
+    }
+
+    @Test
+    void shouldRemoveDirectory_onShutdown() {
+        cache.get("hash:1", conversion(CONVERTED));
+
+        cache.shutdown();
+
+        assertThat(cache.directory()).doesNotExist();
+    }
+
+    private static void eventually(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -10,9 +10,11 @@ import static uk.gov.hmcts.reform.civil.enums.YesOrNo.YES;
 import static uk.gov.hmcts.reform.civil.utils.ElementUtils.element;
 import static uk.gov.hmcts.reform.civil.utils.EmailFooterUtils.RAISE_QUERY_LR;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import uk.gov.hmcts.reform.ccd.model.Organisation;
 import uk.gov.hmcts.reform.ccd.model.OrganisationPolicy;
 import uk.gov.hmcts.reform.civil.config.NotificationsSignatureConfiguration;
+import uk.gov.hmcts.reform.civil.config.ParentCaseCacheConfiguration;
 import uk.gov.hmcts.reform.civil.config.properties.notification.NotificationsProperties;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.enums.YesOrNo;
@@ -47,6 +49,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 
 @SpringBootTest(classes = {
     DocUploadNotificationService.class,
+    ParentCaseSnapshotCache.class,
+    ParentCaseCacheConfiguration.class,
+    SimpleMeterRegistry.class,
     JacksonAutoConfiguration.class
 })
 public class DocUploadNotificationServiceTest {
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.common.Element;
+import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.civil.model.documents.Document;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDocumentBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.civil.utils.ElementUtils.wrapElements;
+
+class DocumentCollectionRegistryTest {
+
+    private final DocumentCollectionRegistry registry = new DocumentCollectionRegistry(
+        List.of("directionOrder", "gaAddl", "gaEvidence"),
+        List.of("Claimant", "Staff")
+    );
+
+    @Test
+    void shouldReadGaAndCivilCollections() {
+        List<Element<CaseDocument>> orders = wrapElements(CaseDocumentBuilder.builder().documentName("order.pdf").build());
+        List<Element<CaseDocument>> additional = wrapElements(CaseDocumentBuilder.builder().documentName("addl.pdf").build());
+        List<Element<Document>> evidence = wrapElements(Document.builder().documentUrl("url").build());
+        CaseData caseData = CaseData.builder()
+            .directionOrderDocument(orders)
+            .directionOrderDocStaff(orders)
+            .gaAddlDoc(additional)
+            .generalAppEvidenceDocument(evidence)
+            .gaEvidenceDocClaimant(evidence)
+            .build();
+
+        assertThat(registry.ga("directionOrder").get(caseData)).isSameAs(orders);
+        assertThat(registry.ga("gaAddl").get(caseData)).isSameAs(additional);
+        assertThat(registry.ga("gaEvidence").get(caseData)).isSameAs(evidence);
+        assertThat(registry.civil("directionOrder", "Staff").name()).isEqualTo("directionOrderDocStaff");
+        assertThat(registry.civil("directionOrder", "Staff").get(caseData)).isSameAs(orders);
+        assertThat(registry.civil("gaEvidence", "Claimant").get(caseData)).isSameAs(evidence);
+    }
+
+    @Test
+    void shouldReturnNoDocuments_whenCollectionIsNotRegistered() {
+        DocumentCollectionRegistry.DocumentCollection collection = registry.civil("directionOrder", "Unknown");
+
+        assertThat(collection.name()).isEqualTo("directionOrderDocUnknown");
+        assertThat(collection.get(CaseData.builder().build())).isNull();
+    }
+
+    @Test
+    void shouldFailFast_whenGetterIsMissing() {
+        assertThatThrownBy(() -> new DocumentCollectionRegistry(List.of("renamedOrder"), List.of("Staff")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("getRenamedOrderDocument")
+            .hasMessageContaining("getRenamedOrderDocStaff");
+    }
+}
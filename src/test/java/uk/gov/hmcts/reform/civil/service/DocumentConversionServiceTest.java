@@ -1,23 +1,39 @@
 package uk.gov.hmcts.reform.civil.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.tika.Tika;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.civil.config.ConversionCacheConfiguration;
 import uk.gov.hmcts.reform.civil.config.DocmosisConfiguration;
+import uk.gov.hmcts.reform.civil.config.DocumentStreamingConfiguration;
 import uk.gov.hmcts.reform.civil.exceptions.DocumentConversionException;
 import uk.gov.hmcts.reform.civil.model.documents.Document;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentManagementService;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentSpool;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -36,8 +52,8 @@ class DocumentConversionServiceTest {
     private static final String PDF_MIME_TYPE = "application/pdf";
     private static final String WORD_MIME_TYPE = "application/msword";
 
-    @InjectMocks
     private DocumentConversionService documentConversionService;
+    private ConvertedDocumentCache convertedDocumentCache;
     @Mock
     private RestTemplate restTemplate;
     @Mock
@@ -49,8 +65,17 @@ class DocumentConversionServiceTest {
 
     private Document documentToConvert;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     public void setUp() {
+        convertedDocumentCache = new ConvertedDocumentCache(
+            new ConversionCacheConfiguration(DataSize.ofMegabytes(1), tempDir.toString()),
+            new SimpleMeterRegistry()
+        );
+        DocumentSpool documentSpool = new DocumentSpool(new DocumentStreamingConfiguration(DataSize.ofKilobytes(1), tempDir.toString()));
+        documentConversionService = new DocumentConversionService(docmosisConfiguration, tika, restTemplate, service, convertedDocumentCache, documentSpool);
         documentToConvert = Document.builder()
             .documentFileName("file.docx")
             .documentUrl("docUrl.com")
@@ -58,6 +83,11 @@ class DocumentConversionServiceTest {
             .build();
     }
 
+    @AfterEach
+    public void tearDown() {
+        convertedDocumentCache.shutdown();
+    }
+
     @Test
     void testConvertDocumentToPdf_ConvertSuccessfullyWhenDocumentIsNotPdf() {
         when(service.downloadDocument(AUTH, documentToConvert.getDocumentUrl())).thenReturn("bytes".getBytes());
@@ -87,6 +117,27 @@ class DocumentConversionServiceTest {
         verifyNoInteractions(restTemplate);
     }
 
+    @Test
+    void convertDocumentToSpooledPdf_ShouldStreamDocumentThatIsAlreadyPdf() {
+        SpooledDocument content = SpooledDocument.of("bytes".getBytes());
+        when(service.downloadDocumentContent(AUTH, documentToConvert.getDocumentUrl())).thenReturn(content);
+        when(tika.detect(documentToConvert.getDocumentFileName())).thenReturn(PDF_MIME_TYPE);
+
+        assertSame(content, documentConversionService.convertDocumentToSpooledPdf(documentToConvert, CASE_ID, AUTH));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void convertDocumentToSpooledPdf_ShouldSpoolConvertedDocument() throws IOException {
+        when(service.downloadDocument(AUTH, documentToConvert.getDocumentUrl())).thenReturn("bytes".getBytes());
+        when(tika.detect(documentToConvert.getDocumentFileName())).thenReturn(WORD_MIME_TYPE);
+        when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(byte[].class))).thenReturn(CONVERTED_BINARY);
+
+        try (SpooledDocument result = documentConversionService.convertDocumentToSpooledPdf(documentToConvert, CASE_ID, AUTH)) {
+            assertArrayEquals(CONVERTED_BINARY, result.toByteArray());
+        }
+    }
+
     @Test
     void convertDocumentToPdf_ThrowsExceptionOnClientError() {
 
@@ -104,4 +155,63 @@ class DocumentConversionServiceTest {
         verify(service, times(1)).downloadDocument(AUTH, documentToConvert.getDocumentUrl());
         verify(restTemplate, times(1)).postForObject(anyString(), any(HttpEntity.class), eq(byte[].class));
     }
+
+    @Test
+    void convertDocumentToPdf_ShouldReuseConversion_whenSameDocumentIsConvertedAgain() {
+        when(service.downloadDocument(AUTH, documentToConvert.getDocumentUrl())).thenReturn("bytes".getBytes());
+        when(tika.detect(documentToConvert.getDocumentFileName())).thenReturn(WORD_MIME_TYPE);
+        when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(byte[].class))).thenReturn(CONVERTED_BINARY);
+
+        documentConversionService.convertDocumentToPdf(documentToConvert, CASE_ID, AUTH);
+        byte[] result = documentConversionService.convertDocumentToPdf(documentToConvert.toBuilder().build(), 2L, AUTH);
+
+        assertArrayEquals(CONVERTED_BINARY, result);
+        verify(service, times(1)).downloadDocument(AUTH, documentToConvert.getDocumentUrl());
+        verify(restTemplate, times(1)).postForObject(anyString(), any(HttpEntity.class), eq(byte[].class));
+    }
+
+    @Test
+    void convertDocumentToPdf_ShouldConvertEveryTime_whenDocumentCannotBeIdentified() {
+        Document anonymous = documentToConvert.toBuilder().documentBinaryUrl(null).build();
+        when(service.downloadDocument(AUTH, anonymous.getDocumentUrl())).thenReturn("bytes".getBytes());
+        when(tika.detect(anonymous.getDocumentFileName())).thenReturn(WORD_MIME_TYPE);
+        when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(byte[].class))).thenReturn(CONVERTED_BINARY);
+
+        documentConversionService.convertDocumentToPdf(anonymous, CASE_ID, AUTH);
+        documentConversionService.convertDocumentToPdf(anonymous, CASE_ID, AUTH);
+
+        verify(restTemplate, times(2)).postForObject(anyString(), any(HttpEntity.class), eq(byte[].class));
+    }
+
+    @Test
+    void convertDocumentToPdf_ShouldSendSourceUnderConvertedFilename() {
+        when(service.downloadDocument(AUTH, documentToConvert.getDocumentUrl())).thenReturn("bytes".getBytes());
+        when(tika.detect(documentToConvert.getDocumentFileName())).thenReturn(WORD_MIME_TYPE);
+        when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(byte[].class))).thenReturn(CONVERTED_BINARY);
+
+        documentConversionService.convertDocumentToPdf(documentToConvert, CASE_ID, AUTH);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<HttpEntity<MultiValueMap<String, Object>>> request = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate).postForObject(anyString(), request.capture(), eq(byte[].class));
+        Resource file = (Resource) request.getValue().getBody().getFirst("file");
+        assertEquals("file.pdf", file.getFilename());
+        assertFalse(new File("file.pdf").exists());
+    }
+
+    @Test
+    void convertDocumentToPdf_ShouldNotKeepFailedConversion() {
+        when(tika.detect(documentToConvert.getDocumentFileName())).thenReturn(WORD_MIME_TYPE);
+        when(service.downloadDocument(AUTH, documentToConvert.getDocumentUrl())).thenReturn("bytes".getBytes());
+        when(restTemplate.postForObject(anyString(), any(HttpEntity.class), eq(byte[].class)))
+            .thenThrow(new HttpClientErrorException(org.springframework.http.HttpStatus.BAD_REQUEST))
+            .thenReturn(CONVERTED_BINARY);
+
+        assertThrows(DocumentConversionException.class, () ->
+            documentConversionService.convertDocumentToPdf(documentToConvert, CASE_ID, AUTH));
+        byte[] result = documentConversionService.convertDocumentToPdf(documentToConvert, CASE_ID, AUTH);
+
+        assertArrayEquals(CONVERTED_BINARY, result);
+        verify(restTemplate, times(2)).postForObject(anyString(), any(HttpEntity.class), eq(byte[].class));
+    }
 }
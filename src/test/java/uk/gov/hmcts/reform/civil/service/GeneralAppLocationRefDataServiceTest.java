@@ -1,10 +1,10 @@
 package uk.gov.hmcts.reform.civil.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpEntity;
@@ -14,23 +14,31 @@ import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.civil.client.LocationReferenceDataApiClient;
 import uk.gov.hmcts.reform.civil.config.GeneralAppFeesConfiguration;
 import uk.gov.hmcts.reform.civil.config.GeneralAppLRDConfiguration;
+import uk.gov.hmcts.reform.civil.config.LocationIndexConfiguration;
+import uk.gov.hmcts.reform.civil.config.SystemUpdateUserConfiguration;
 import uk.gov.hmcts.reform.civil.model.LocationRefData;
 import uk.gov.hmcts.reform.civil.model.common.DynamicList;
 import uk.gov.hmcts.reform.civil.model.common.DynamicListElement;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.civil.model.common.DynamicList.fromList;
 
 @SpringBootTest(classes = {GeneralAppFeesConfiguration.class})
 class GeneralAppLocationRefDataServiceTest {
 
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(30);
+
     @Captor
     private ArgumentCaptor<URI> uriCaptor;
 
@@ -49,13 +57,30 @@ class GeneralAppLocationRefDataServiceTest {
     @Mock
     private AuthTokenGenerator authTokenGenerator;
 
-    @InjectMocks
+    @Mock
+    private UserService userService;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private GeneralAppLocationRefDataService refDataService;
 
     @BeforeEach
     void setUp() {
         when(lrdConfiguration.getUrl()).thenReturn("dummy_url");
         when(lrdConfiguration.getEndpoint()).thenReturn("/fees-register/fees/lookup");
+        when(userService.getAccessToken("system_user", "password")).thenReturn("system_token");
+        refDataService = new GeneralAppLocationRefDataService(
+            locationReferenceDataApiClient,
+            authTokenGenerator,
+            userService,
+            new SystemUpdateUserConfiguration("system_user", "password"),
+            meterRegistry,
+            new LocationIndexConfiguration(REFRESH_AFTER),
+            nanos::get,
+            Runnable::run
+        );
     }
 
     private List<LocationRefData> getAllLocationsRefDataResponse() {
@@ -221,7 +246,7 @@ class GeneralAppLocationRefDataServiceTest {
             .thenReturn(getAllLocationsRefDataResponse());
 
         List<LocationRefData> courtLocations = refDataService
-            .getCourtLocations("user_token");
+            .getCourtLocations();
 
         DynamicList courtLocationString = getLocationsFromList(courtLocations);
 
@@ -255,7 +280,7 @@ class GeneralAppLocationRefDataServiceTest {
             .thenReturn(new ArrayList<>());
 
         List<LocationRefData> courtLocations = refDataService
-            .getCourtLocations("user_token");
+            .getCourtLocations();
 
         assertThat(courtLocations).isEmpty();
     }
@@ -272,7 +297,7 @@ class GeneralAppLocationRefDataServiceTest {
         ))
             .thenReturn(getOnlyScotlandLocationsRefDataResponse());
 
-        List<LocationRefData> courtLocations = refDataService.getCourtLocations("user_token");
+        List<LocationRefData> courtLocations = refDataService.getCourtLocations();
 
         assertThat(courtLocations.size()).isEqualTo(0);
     }
@@ -289,7 +314,7 @@ class GeneralAppLocationRefDataServiceTest {
         ))
             .thenReturn(getNonScotlandLocationsRefDataResponse());
 
-        List<LocationRefData> courtLocations = refDataService.getCourtLocations("user_token");
+        List<LocationRefData> courtLocations = refDataService.getCourtLocations();
 
         DynamicList courtLocationString = getLocationsFromList(courtLocations);
 
@@ -323,7 +348,7 @@ class GeneralAppLocationRefDataServiceTest {
             .thenThrow(new RestClientException("403"));
 
         List<LocationRefData> courtLocations = refDataService
-            .getCourtLocations("user_token");
+            .getCourtLocations();
 
         assertThat(courtLocations.size()).isEqualTo(0);
     }
@@ -363,7 +388,7 @@ class GeneralAppLocationRefDataServiceTest {
             .thenReturn(getLocationRefDataResponseForCcmcc());
 
         List<LocationRefData> courtLocations = refDataService
-            .getCcmccLocation("user_token");
+            .getCcmccLocation();
 
         DynamicList courtLocationString = getLocationsFromList(courtLocations);
 
@@ -386,7 +411,7 @@ class GeneralAppLocationRefDataServiceTest {
             .thenReturn(getLocationRefDataResponseForCnbc());
 
         List<LocationRefData> courtLocations = refDataService
-            .getCnbcLocation("user_token");
+            .getCnbcLocation();
 
         DynamicList courtLocationString = getLocationsFromList(courtLocations);
 
@@ -397,4 +422,111 @@ class GeneralAppLocationRefDataServiceTest {
 
         assertThat(courtLocations).hasSize(1);
     }
+
+    @Test
+    void shouldLookUpIndexedLocations_byEpimmsIdAndRegion() {
+        when(authTokenGenerator.generate()).thenReturn("service_token");
+        List<LocationRefData> locations = new ArrayList<>(getNonScotlandLocationsRefDataResponse());
+        locations.add(LocationRefData.builder().epimmsId("111").siteName("site_name_13").region("Wales").build());
+        when(locationReferenceDataApiClient.getCourtVenue(anyString(), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(locations);
+
+        assertThat(refDataService.getCourtLocation("111"))
+            .hasValueSatisfying(location -> assertThat(location.getSiteName()).isEqualTo("site_name_13"));
+        assertThat(refDataService.getCourtLocation("222")).isEmpty();
+        assertThat(refDataService.getCourtLocationsByRegion("Wales"))
+            .extracting(LocationRefData::getSiteName)
+            .containsExactly("site_name_09", "site_name_12", "site_name_13");
+        assertThat(refDataService.getCourtLocationsByRegion("Scotland")).isEmpty();
+        verify(locationReferenceDataApiClient, times(1))
+            .getCourtVenue(anyString(), anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldReturnNoLocation_whenEpimmsIdOrRegionIsMissing() {
+        when(authTokenGenerator.generate()).thenReturn("service_token");
+        when(locationReferenceDataApiClient.getCourtVenue(anyString(), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(getNonScotlandLocationsRefDataResponse());
+        when(locationReferenceDataApiClient.getCourtVenueByName(anyString(), anyString(), anyString()))
+            .thenReturn(List.of(LocationRefData.builder().epimmsId("420219").siteName("pineapple").build()));
+
+        assertThat(refDataService.getCourtLocation(null)).isEmpty();
+        assertThat(refDataService.getCnbcLocation(null)).isEmpty();
+        assertThat(refDataService.getCourtLocationsByRegion(null)).isEmpty();
+    }
+
+    @Test
+    void shouldLookUpCnbcLocation_byEpimmsId() {
+        when(authTokenGenerator.generate()).thenReturn("service_token");
+        when(locationReferenceDataApiClient.getCourtVenueByName(anyString(), anyString(), anyString()))
+            .thenReturn(List.of(LocationRefData.builder().epimmsId("420219").siteName("pineapple").build()));
+
+        assertThat(refDataService.getCnbcLocation("420219"))
+            .hasValueSatisfying(location -> assertThat(location.getSiteName()).isEqualTo("pineapple"));
+        assertThat(refDataService.getCnbcLocation()).hasSize(1);
+        verify(locationReferenceDataApiClient, times(1))
+            .getCourtVenueByName("service_token", "system_token", GeneralAppLocationRefDataService.CIVIL_NATIONAL_BUSINESS_CENTRE);
+    }
+
+    @Test
+    void shouldRefreshIndex_afterRefreshPeriod_withSystemUserToken() {
+        when(authTokenGenerator.generate()).thenReturn("service_token");
+        when(locationReferenceDataApiClient.getCourtVenue(anyString(), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(getAllLocationsRefDataResponse(), getNonScotlandLocationsRefDataResponse());
+
+        assertThat(refDataService.getCourtLocations()).hasSize(10);
+        nanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+
+        refDataService.getCourtLocations();
+
+        assertThat(refDataService.getCourtLocations()).hasSize(12);
+        verify(locationReferenceDataApiClient, times(2))
+            .getCourtVenue("service_token", "system_token", "Y", "10", "Court");
+    }
+
+    @Test
+    void shouldServeStaleIndex_whenRefreshFails() {
+        when(authTokenGenerator.generate()).thenReturn("service_token");
+        when(locationReferenceDataApiClient.getCourtVenue(anyString(), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(getAllLocationsRefDataResponse())
+            .thenThrow(new RestClientException("503"));
+
+        refDataService.getCourtLocations();
+        nanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+
+        assertThat(refDataService.getCourtLocations()).hasSize(10);
+        assertThat(refDataService.getCourtLocations()).hasSize(10);
+    }
+
+    @Test
+    void shouldReportIndexAge() {
+        when(authTokenGenerator.generate()).thenReturn("service_token");
+        when(locationReferenceDataApiClient.getCourtVenue(anyString(), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(getAllLocationsRefDataResponse());
+
+        refDataService.getCourtLocations();
+        nanos.addAndGet(Duration.ofSeconds(90).toNanos());
+
+        assertThat(meterRegistry.get(GeneralAppLocationRefDataService.INDEX_AGE_METRIC)
+                       .tag("venues", GeneralAppLocationRefDataService.HEARING_COURTS)
+                       .gauge().value())
+            .isEqualTo(90.0);
+    }
+
+    @Test
+    void shouldRegisterIndexAgeOnce_acrossRefreshes() {
+        when(authTokenGenerator.generate()).thenReturn("service_token");
+        when(locationReferenceDataApiClient.getCourtVenue(anyString(), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(getAllLocationsRefDataResponse());
+
+        refDataService.getCourtLocations();
+        nanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+        refDataService.getCourtLocations();
+
+        assertThat(meterRegistry.find(GeneralAppLocationRefDataService.INDEX_AGE_METRIC).gauges()).hasSize(3);
+        assertThat(meterRegistry.get(GeneralAppLocationRefDataService.INDEX_AGE_METRIC)
+                       .tag("venues", GeneralAppLocationRefDataService.HEARING_COURTS)
+                       .gauge().value())
+            .isZero();
+    }
 }
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import uk.gov.hmcts.reform.ccd.model.Organisation;
 import uk.gov.hmcts.reform.ccd.model.OrganisationPolicy;
 import uk.gov.hmcts.reform.civil.config.NotificationsSignatureConfiguration;
+import uk.gov.hmcts.reform.civil.config.ParentCaseCacheConfiguration;
 import uk.gov.hmcts.reform.civil.config.properties.notification.NotificationsProperties;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.enums.PaymentStatus;
@@ -57,6 +59,9 @@ import static uk.gov.hmcts.reform.civil.utils.EmailFooterUtils.RAISE_QUERY_LR;
 
 @SpringBootTest(classes = {
     GeneralApplicationCreationNotificationService.class,
+    ParentCaseSnapshotCache.class,
+    ParentCaseCacheConfiguration.class,
+    SimpleMeterRegistry.class,
     GaForLipService.class,
     JacksonAutoConfiguration.class
 })
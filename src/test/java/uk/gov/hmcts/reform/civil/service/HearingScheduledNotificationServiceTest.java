@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +8,7 @@ import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import uk.gov.hmcts.reform.civil.config.NotificationsSignatureConfiguration;
+import uk.gov.hmcts.reform.civil.config.ParentCaseCacheConfiguration;
 import uk.gov.hmcts.reform.civil.config.properties.notification.NotificationsProperties;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.enums.YesOrNo;
@@ -40,6 +42,9 @@ import static uk.gov.hmcts.reform.civil.utils.EmailFooterUtils.RAISE_QUERY_LR;
 
 @SpringBootTest(classes = {
     HearingScheduledNotificationService.class,
+    ParentCaseSnapshotCache.class,
+    ParentCaseCacheConfiguration.class,
+    SimpleMeterRegistry.class,
     JacksonAutoConfiguration.class
 })
 public class HearingScheduledNotificationServiceTest {
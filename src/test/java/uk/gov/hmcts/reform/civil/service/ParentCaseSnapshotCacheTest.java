@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.config.ParentCaseCacheConfiguration;
+import uk.gov.hmcts.reform.civil.event.ParentCaseUpdatedEvent;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.GeneralAppParentCaseLink;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParentCaseSnapshotCacheTest {
+
+    private static final Long CASE_ID = 1234L;
+
+    private final CoreCaseDataService coreCaseDataService = mock(CoreCaseDataService.class);
+    private final CaseDetailsConverter caseDetailsConverter = mock(CaseDetailsConverter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final ParentCaseSnapshotCache cache = new ParentCaseSnapshotCache(
+        coreCaseDataService,
+        caseDetailsConverter,
+        new ParentCaseCacheConfiguration(Duration.ofSeconds(30), 100),
+        meterRegistry,
+        nanos::get
+    );
+
+    private static CaseDetails caseDetails(Integer version) {
+        return CaseDetails.builder().id(CASE_ID).version(version).build();
+    }
+
+    private void givenParentCase(Integer version, CaseData caseData) {
+        CaseDetails caseDetails = caseDetails(version);
+        when(coreCaseDataService.getCase(CASE_ID)).thenReturn(caseDetails);
+        when(caseDetailsConverter.toCaseData(caseDetails)).thenAnswer(invocation -> caseData.toBuilder().build());
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    void shouldFetchOnce_andConvertForEveryCaller_whileSnapshotIsFresh() {
+        givenParentCase(3, CaseData.builder().ccdCaseReference(CASE_ID).build());
+        CaseData generalApplication = CaseData.builder()
+            .generalAppParentCaseLink(GeneralAppParentCaseLink.builder().caseReference(CASE_ID.toString()).build())
+            .build();
+
+        CaseData first = cache.getParentCaseData(generalApplication);
+        CaseData second = cache.getParentCaseData(generalApplication);
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        verify(coreCaseDataService).getCase(CASE_ID);
+        verify(caseDetailsConverter, times(2)).toCaseData(any());
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFetchAgain_afterTimeToLive() {
+        givenParentCase(3, CaseData.builder().ccdCaseReference(CASE_ID).build());
+
+        cache.getCaseData(CASE_ID);
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.getCaseData(CASE_ID);
+
+        verify(coreCaseDataService, times(2)).getCase(CASE_ID);
+    }
+
+    @Test
+    void shouldNotKeepCaseDetails_withoutVersion() {
+        givenParentCase(null, CaseData.builder().ccdCaseReference(CASE_ID).build());
+
+        assertThat(cache.getCaseData(CASE_ID)).isNotNull();
+        cache.getCaseData(CASE_ID);
+
+        verify(coreCaseDataService, times(2)).getCase(CASE_ID);
+    }
+
+    @Test
+    void shouldDropSnapshot_whenParentCaseIsUpdated() {
+        givenParentCase(3, CaseData.builder().ccdCaseReference(CASE_ID).build());
+        cache.getCaseData(CASE_ID);
+
+        cache.onParentCaseUpdated(new ParentCaseUpdatedEvent(CASE_ID, 4));
+        givenParentCase(4, CaseData.builder().ccdCaseReference(CASE_ID).legacyCaseReference("updated").build());
+
+        assertThat(cache.getCaseData(CASE_ID).getLegacyCaseReference()).isEqualTo("updated");
+        cache.getCaseData(CASE_ID);
+        verify(coreCaseDataService, times(2)).getCase(CASE_ID);
+    }
+
+    @Test
+    void shouldNotReadSnapshot_ofEarlierVersion_afterParentCaseIsUpdated() {
+        givenParentCase(3, CaseData.builder().ccdCaseReference(CASE_ID).build());
+        cache.getCaseData(CASE_ID);
+        cache.onParentCaseUpdated(new ParentCaseUpdatedEvent(CASE_ID, 4));
+
+        cache.getCaseData(CASE_ID);
+
+        verify(coreCaseDataService, times(2)).getCase(CASE_ID);
+        assertThat(gets("hit")).isZero();
+    }
+
+    @Test
+    void shouldNotKeepSnapshot_olderThanSubmittedVersion() {
+        cache.onParentCaseUpdated(new ParentCaseUpdatedEvent(CASE_ID, 5));
+        givenParentCase(4, CaseData.builder().ccdCaseReference(CASE_ID).build());
+
+        cache.getCaseData(CASE_ID);
+        cache.getCaseData(CASE_ID);
+
+        verify(coreCaseDataService, times(2)).getCase(CASE_ID);
+    }
+}
@@ -291,7 +291,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateParentWithGAState(gaCase, AWAITING_RESPONDENT_RESPONSE.toString());
         verify(coreCaseDataService, times(1))
-                .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+                .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("gaEvidenceDocRespondentSolTwo")).isNotNull();
         assertThat(mapCaptor.getValue().get("gaEvidenceDocStaff")).isNotNull();
         assertThat(mapCaptor.getValue().get("gaEvidenceDocRespondentSol")).isNotNull();
@@ -310,7 +310,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateParentWithGAState(gaCase, AWAITING_APPLICATION_PAYMENT.toString());
         verify(coreCaseDataService, times(1))
-                .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+                .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("gaAddlDocRespondentSol")).isNotNull();
     }
 
@@ -326,7 +326,7 @@ class ParentCaseUpdateHelperTest {
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
 
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("respondentSolTwoGaAppDetails")).isNotNull();
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
@@ -347,7 +347,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("respondentSolTwoGaAppDetails")).isNotNull();
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
@@ -368,7 +368,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("respondentSolTwoGaAppDetails")).isNotNull();
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
@@ -389,7 +389,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("respondentSolTwoGaAppDetails")).isEqualTo(newArrayList());
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
@@ -406,7 +406,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("respondentSolTwoGaAppDetails")).isEqualTo(newArrayList());
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
@@ -422,7 +422,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("respondentSolTwoGaAppDetails")).isNotNull();
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
@@ -438,7 +438,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("respondentSolTwoGaAppDetails")).isNotNull();
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
@@ -454,7 +454,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
         assertThat(mapCaptor.getValue().get("claimantGaAppDetails")).isNotNull();
@@ -469,7 +469,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotSameAs(mapCaptor.getValue().get("claimantGaAppDetails"));
         assertThat(mapCaptor.getValue().get("claimantGaAppDetails")).isNotNull();
@@ -484,7 +484,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
         assertThat(mapCaptor.getValue().get("claimantGaAppDetails")).isNotSameAs(mapCaptor.getValue().get("respondentSolGaAppDetails"));
@@ -499,7 +499,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails"))
             .isNotEqualTo(mapCaptor.getValue().get("respondentSolTwoGaAppDetails"));
@@ -515,7 +515,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("respondentSolTwoGaAppDetails")).isNotNull();
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
@@ -531,7 +531,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
         assertThat(mapCaptor.getValue().get("claimantGaAppDetails")).isNotNull();
@@ -546,7 +546,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateMasterCollectionForHwf(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("gaDetailsMasterCollection")).isNotNull();
         assertThat(mapCaptor.getValue().get("respondentSolGaAppDetails")).isNotNull();
         assertThat(mapCaptor.getValue().get("claimantGaAppDetails")).isNotNull();
@@ -560,7 +560,7 @@ class ParentCaseUpdateHelperTest {
         when(caseDetailsConverter.toCaseData(any())).thenReturn(civilCase);
         parentCaseUpdateHelper.updateParentWithGAState(gaCase, AWAITING_APPLICATION_PAYMENT.toString());
         verify(coreCaseDataService, times(1))
-                .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+                .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("gaEvidenceDocStaff")).isNull();
     }
 
@@ -580,7 +580,7 @@ class ParentCaseUpdateHelperTest {
         CaseData gaCase = getGaVaryCaseDataForCollection("Claimant", AWAITING_APPLICATION_PAYMENT, NO, YES, NO);
         parentCaseUpdateHelper.updateCollectionForWelshApplication(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("gaDetailsTranslationCollection")).isNotNull();
     }
 
@@ -599,7 +599,7 @@ class ParentCaseUpdateHelperTest {
         CaseData gaCase = getGaVaryCaseDataForCollection("RespondentSol", AWAITING_APPLICATION_PAYMENT, NO, YES, NO);
         parentCaseUpdateHelper.updateCollectionForWelshApplication(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue().get("gaDetailsTranslationCollection")).isNotNull();
     }
 
@@ -620,7 +620,7 @@ class ParentCaseUpdateHelperTest {
         CaseData gaCase = getGaVaryCaseDataForCollection("Claimant", AWAITING_APPLICATION_PAYMENT, NO, YES, NO);
         parentCaseUpdateHelper.updateJudgeAndRespondentCollectionAfterPayment(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
         assertThat(mapCaptor.getValue())
             .extracting("gaDetailsTranslationCollection")
             .isEqualTo(" ");
@@ -645,7 +645,7 @@ class ParentCaseUpdateHelperTest {
         CaseData gaCase = getGaVaryCaseDataForCollection("RespondentSol", AWAITING_APPLICATION_PAYMENT, NO, YES, NO);
         parentCaseUpdateHelper.updateMasterCollectionForHwf(gaCase);
         verify(coreCaseDataService, times(1))
-            .caseDataContentFromStartEventResponse(any(), mapCaptor.capture());
+            .caseDataContentWithChanges(any(), mapCaptor.capture());
 
         assertThat(mapCaptor.getValue())
             .extracting("gaDetailsTranslationCollection")
@@ -19,11 +19,14 @@ import uk.gov.hmcts.reform.ccd.document.am.feign.CaseDocumentClientApi;
 import uk.gov.hmcts.reform.ccd.document.am.model.Document;
 import uk.gov.hmcts.reform.ccd.document.am.model.DocumentUploadRequest;
 import uk.gov.hmcts.reform.ccd.document.am.model.UploadResponse;
+import uk.gov.hmcts.reform.civil.client.CaseDocumentBinaryApiClient;
 import uk.gov.hmcts.reform.civil.config.DocumentManagementConfiguration;
+import uk.gov.hmcts.reform.civil.config.DocumentStreamingConfiguration;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
 import uk.gov.hmcts.reform.civil.model.documents.DownloadedDocumentResponse;
 import uk.gov.hmcts.reform.civil.model.documents.PDF;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentDownloadException;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentSpool;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentUploadException;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.SecuredDocumentManagementService;
 import uk.gov.hmcts.reform.civil.utils.ResourceReader;
@@ -50,6 +53,8 @@ import static uk.gov.hmcts.reform.civil.service.documentmanagement.SecuredDocume
 
 @SpringBootTest(classes = {
     SecuredDocumentManagementService.class,
+    DocumentSpool.class,
+    DocumentStreamingConfiguration.class,
     JacksonAutoConfiguration.class,
     DocumentManagementConfiguration.class})
 public class SecuredDocumentManagementServiceTest {
@@ -62,6 +67,8 @@ public class SecuredDocumentManagementServiceTest {
     @MockBean
     private DocumentDownloadClientApi documentDownloadClient;
     @MockBean
+    private CaseDocumentBinaryApiClient caseDocumentBinaryApiClient;
+    @MockBean
     private AuthTokenGenerator authTokenGenerator;
     @MockBean
     private UserService userService;
@@ -5,12 +5,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.test.util.ReflectionTestUtils;
-import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
 import uk.gov.hmcts.reform.civil.enums.YesOrNo;
-import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.Address;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.GeneralAppParentCaseLink;
@@ -19,10 +16,10 @@ import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.PostOrderCoverLetter;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
 import uk.gov.hmcts.reform.civil.model.documents.Document;
-import uk.gov.hmcts.reform.civil.model.documents.DownloadedDocumentResponse;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentDownloadService;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentManagementService;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 import uk.gov.hmcts.reform.civil.service.flowstate.FlowFlag;
 import uk.gov.hmcts.reform.civil.stitch.service.CivilStitchService;
 
@@ -45,9 +42,7 @@ class SendFinalOrderPrintServiceTest {
     @Mock
     private DocumentGeneratorService documentGeneratorService;
     @Mock
-    private CaseDetailsConverter caseDetailsConverter;
-    @Mock
-    private CoreCaseDataService coreCaseDataService;
+    private ParentCaseSnapshotCache parentCaseSnapshotCache;
     @Mock
     private CivilStitchService civilStitchService;
 
@@ -61,6 +56,7 @@ class SendFinalOrderPrintServiceTest {
     private static final String TRANSLATED_ORDER_PACK_LETTER_TYPE = "translated-order-document-pack";
     private static final byte[] LETTER_CONTENT = new byte[]{37, 80, 68, 70, 45, 49, 46, 53, 10, 37, -61, -92};
     private static final String BEARER_TOKEN = "BEARER_TOKEN";
+    private final SpooledDocument letter = SpooledDocument.of(LETTER_CONTENT);
 
     private CaseData buildCaseData() {
         return CaseData.builder()
@@ -113,8 +109,7 @@ class SendFinalOrderPrintServiceTest {
 
         CaseData caseData = buildCaseData();
         CaseData civilCaseData = buildCivilCaseData();
-        given(documentDownloadService.downloadDocument(any(), any()))
-            .willReturn(new DownloadedDocumentResponse(new ByteArrayResource(LETTER_CONTENT), "test", "test"));
+        given(documentDownloadService.downloadDocumentContent(any(), any())).willReturn(letter);
 
         // when
         sendFinalOrderPrintService.sendJudgeFinalOrderToPrintForLIP(BEARER_TOKEN, document, caseData, civilCaseData, FlowFlag.POST_JUDGE_ORDER_LIP_APPLICANT);
@@ -140,8 +135,7 @@ class SendFinalOrderPrintServiceTest {
 
         CaseData caseData = buildCaseData();
         CaseData civilCaseData = buildCivilCaseData();
-        given(documentDownloadService.downloadDocument(any(), any()))
-            .willReturn(new DownloadedDocumentResponse(new ByteArrayResource(LETTER_CONTENT), "test", "test"));
+        given(documentDownloadService.downloadDocumentContent(any(), any())).willReturn(letter);
 
         // when
         sendFinalOrderPrintService.sendJudgeFinalOrderToPrintForLIP(BEARER_TOKEN, document, caseData, civilCaseData, FlowFlag.POST_JUDGE_ORDER_LIP_RESPONDENT);
@@ -154,8 +148,7 @@ class SendFinalOrderPrintServiceTest {
     void shouldNotStitchAndPrintTranslatedLetterWhenStitchingNotEnabled() {
         // given
         CaseData civilCaseData = buildCivilCaseData();
-        given(coreCaseDataService.getCase(any())).willReturn(CaseDetails.builder().build());
-        given(caseDetailsConverter.toCaseData(any())).willReturn(civilCaseData);
+        given(parentCaseSnapshotCache.getParentCaseData(any())).willReturn(civilCaseData);
         given(documentGeneratorService.generateDocmosisDocument(any(PostOrderCoverLetter.class), eq(POST_ORDER_COVER_LETTER_LIP))).willReturn(
             DocmosisDocument.builder().build());
         given(documentManagementService.uploadDocument(any(), any())).willReturn(CaseDocument.builder().build());
@@ -173,16 +166,14 @@ class SendFinalOrderPrintServiceTest {
     void shouldStitchAndPrintTranslatedLetterSuccessfullyRespondentWhenClaimantIsApplicant() {
         // given
         CaseData civilCaseData = buildCivilCaseData();
-        given(coreCaseDataService.getCase(any())).willReturn(CaseDetails.builder().build());
-        given(caseDetailsConverter.toCaseData(any())).willReturn(civilCaseData);
+        given(parentCaseSnapshotCache.getParentCaseData(any())).willReturn(civilCaseData);
         given(documentGeneratorService.generateDocmosisDocument(any(PostOrderCoverLetter.class), eq(POST_ORDER_COVER_LETTER_LIP))).willReturn(
             DocmosisDocument.builder().build());
         given(documentManagementService.uploadDocument(any(), any())).willReturn(CaseDocument.builder().build());
         given(civilStitchService.generateStitchedCaseDocument(any(), any(), any(), any(), any())).willReturn(CaseDocument.builder()
                                                                                                       .documentLink(Document.builder()
                                                                                                                         .documentUrl("/test").build()).build());
-        given(documentDownloadService.downloadDocument(any(), any()))
-            .willReturn(new DownloadedDocumentResponse(new ByteArrayResource(LETTER_CONTENT), "test", "test"));
+        given(documentDownloadService.downloadDocumentContent(any(), any())).willReturn(letter);
         Document document = Document.builder().documentUrl("url").documentFileName("filename").documentHash("hash")
             .documentBinaryUrl("binaryUrl").build();
         CaseData caseData = buildCaseData();
@@ -200,16 +191,14 @@ class SendFinalOrderPrintServiceTest {
     void shouldStitchAndPrintTranslatedLetterSuccessfullyApplicantWhenClaimantIsApplicant() {
         // given
         CaseData civilCaseData = buildCivilCaseData();
-        given(coreCaseDataService.getCase(any())).willReturn(CaseDetails.builder().build());
-        given(caseDetailsConverter.toCaseData(any())).willReturn(civilCaseData);
+        given(parentCaseSnapshotCache.getParentCaseData(any())).willReturn(civilCaseData);
         given(documentGeneratorService.generateDocmosisDocument(any(PostOrderCoverLetter.class), eq(POST_ORDER_COVER_LETTER_LIP))).willReturn(
             DocmosisDocument.builder().build());
         given(documentManagementService.uploadDocument(any(), any())).willReturn(CaseDocument.builder().build());
         given(civilStitchService.generateStitchedCaseDocument(any(), any(), any(), any(), any())).willReturn(CaseDocument.builder()
                                                                                                       .documentLink(Document.builder()
                                                                                                                         .documentUrl("/test").build()).build());
-        given(documentDownloadService.downloadDocument(any(), any()))
-            .willReturn(new DownloadedDocumentResponse(new ByteArrayResource(LETTER_CONTENT), "test", "test"));
+        given(documentDownloadService.downloadDocumentContent(any(), any())).willReturn(letter);
         Document document = Document.builder().documentUrl("url").documentFileName("filename").documentHash("hash")
             .documentBinaryUrl("binaryUrl").build();
         CaseData caseData = buildCaseData();
@@ -228,16 +217,14 @@ class SendFinalOrderPrintServiceTest {
     void shouldStitchAndPrintTranslatedLetterSuccessfullyRespondentWhenClaimantIsRespondent() {
         // given
         CaseData civilCaseData = buildCivilCaseData();
-        given(coreCaseDataService.getCase(any())).willReturn(CaseDetails.builder().build());
-        given(caseDetailsConverter.toCaseData(any())).willReturn(civilCaseData);
+        given(parentCaseSnapshotCache.getParentCaseData(any())).willReturn(civilCaseData);
         given(documentGeneratorService.generateDocmosisDocument(any(PostOrderCoverLetter.class), eq(POST_ORDER_COVER_LETTER_LIP))).willReturn(
             DocmosisDocument.builder().build());
         given(documentManagementService.uploadDocument(any(), any())).willReturn(CaseDocument.builder().build());
         given(civilStitchService.generateStitchedCaseDocument(any(), any(), any(), any(), any())).willReturn(CaseDocument.builder()
                                                                                                       .documentLink(Document.builder()
                                                                                                                         .documentUrl("/test").build()).build());
-        given(documentDownloadService.downloadDocument(any(), any()))
-            .willReturn(new DownloadedDocumentResponse(new ByteArrayResource(LETTER_CONTENT), "test", "test"));
+        given(documentDownloadService.downloadDocumentContent(any(), any())).willReturn(letter);
         Document document = Document.builder().documentUrl("url").documentFileName("filename").documentHash("hash")
             .documentBinaryUrl("binaryUrl").build();
         CaseData caseData = buildCaseData();
@@ -256,16 +243,14 @@ class SendFinalOrderPrintServiceTest {
     void shouldStitchAndPrintTranslatedLetterSuccessfullyApplicantWhenClaimantIsRespondent() {
         // given
         CaseData civilCaseData = buildCivilCaseData();
-        given(coreCaseDataService.getCase(any())).willReturn(CaseDetails.builder().build());
-        given(caseDetailsConverter.toCaseData(any())).willReturn(civilCaseData);
+        given(parentCaseSnapshotCache.getParentCaseData(any())).willReturn(civilCaseData);
         given(documentGeneratorService.generateDocmosisDocument(any(PostOrderCoverLetter.class), eq(POST_ORDER_COVER_LETTER_LIP))).willReturn(
             DocmosisDocument.builder().build());
         given(documentManagementService.uploadDocument(any(), any())).willReturn(CaseDocument.builder().build());
         given(civilStitchService.generateStitchedCaseDocument(any(), any(), any(), any(), any())).willReturn(CaseDocument.builder()
                                                                                                       .documentLink(Document.builder()
                                                                                                                         .documentUrl("/test").build()).build());
-        given(documentDownloadService.downloadDocument(any(), any()))
-            .willReturn(new DownloadedDocumentResponse(new ByteArrayResource(LETTER_CONTENT), "test", "test"));
+        given(documentDownloadService.downloadDocumentContent(any(), any())).willReturn(letter);
         Document document = Document.builder().documentUrl("url").documentFileName("filename").documentHash("hash")
             .documentBinaryUrl("binaryUrl").build();
         CaseData caseData = buildCaseData();
@@ -283,7 +268,7 @@ class SendFinalOrderPrintServiceTest {
 
     private void verifyPrintLetter(CaseData civilCaseData, CaseData caseData, Party party) {
         verify(bulkPrintService).printLetter(
-            LETTER_CONTENT,
+            letter,
             caseData.getGeneralAppParentCaseLink().getCaseReference(),
             civilCaseData.getLegacyCaseReference(),
             FINAL_ORDER_PACK_LETTER_TYPE,
@@ -293,7 +278,7 @@ class SendFinalOrderPrintServiceTest {
 
     private void verifyPrintTranslatedLetter(CaseData civilCaseData, CaseData caseData, Party party) {
         verify(bulkPrintService).printLetter(
-            LETTER_CONTENT,
+            letter,
             caseData.getGeneralAppParentCaseLink().getCaseReference(),
             civilCaseData.getLegacyCaseReference(),
             TRANSLATED_ORDER_PACK_LETTER_TYPE,
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.civil.service.calls;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.exceptions.DownstreamDeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedFanOutTest {
+
+    private final BoundedFanOut fanOut = new BoundedFanOut("fan-out-", 2);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        fanOut.shutdown();
+        CallLedger.close();
+    }
+
+    private String blocked() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "late";
+    }
+
+    @Test
+    void shouldRunTasksOnPool_withCallbackLedger() {
+        CallLedger ledger = CallLedger.open(Duration.ofSeconds(5));
+        BoundedFanOut.Batch batch = fanOut.start("names", Duration.ofSeconds(5));
+
+        Future<String> name = batch.submit(() -> {
+            assertThat(CallLedger.current()).contains(ledger);
+            return Thread.currentThread().getName();
+        });
+
+        assertThat(batch.await(name)).startsWith("fan-out-");
+        assertThat(batch.await(batch.submit(null))).isNull();
+    }
+
+    @Test
+    void shouldStopWaiting_atConfiguredDeadline_whenNoLedgerIsOpen() {
+        BoundedFanOut.Batch batch = fanOut.start("names", Duration.ofMillis(50));
+        Future<String> name = batch.submit(this::blocked);
+
+        assertThatThrownBy(() -> batch.await(name))
+            .isInstanceOf(DownstreamDeadlineExceededException.class)
+            .hasMessage("Names were not ready within the deadline");
+    }
+
+    @Test
+    void shouldStopWaiting_whenLedgerHasLessTimeLeft() {
+        CallLedger.open(Duration.ofMillis(50));
+        BoundedFanOut.Batch batch = fanOut.start("names", Duration.ofSeconds(5));
+        Future<String> name = batch.submit(this::blocked);
+
+        assertThatThrownBy(() -> batch.await(name)).isInstanceOf(DownstreamDeadlineExceededException.class);
+        batch.cancel();
+        assertThat(name.isCancelled()).isTrue();
+    }
+
+    @Test
+    void shouldRethrowTaskFailure() {
+        BoundedFanOut.Batch batch = fanOut.start("names", Duration.ofSeconds(5));
+        Future<String> name = batch.submit(() -> {
+            throw new IllegalArgumentException("no name");
+        });
+
+        assertThatThrownBy(() -> batch.await(name))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("no name");
+    }
+}
@@ -0,0 +1,113 @@
+package uk.gov.hmcts.reform.civil.service.calls;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import uk.gov.hmcts.reform.civil.exceptions.DownstreamDeadlineExceededException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallLedgerFeignCapabilityTest {
+
+    private static final Request.Options OPTIONS = new Request.Options(
+        10, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true);
+
+    private final Client delegate = mock(Client.class);
+    private final Client client = new CallLedgerFeignCapability().enrich(delegate);
+
+    @AfterEach
+    void tearDown() {
+        CallLedger.close();
+    }
+
+    private static Request request() {
+        MethodMetadata metadata = mock(MethodMetadata.class);
+        when(metadata.configKey()).thenReturn("CoreCaseDataApi#getCase(String,String)");
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(Object.class, "core-case-data", "http://ccd"));
+        template.methodMetadata(metadata);
+        return Request.create(Request.HttpMethod.GET, "http://ccd/cases/1", Map.of(), null,
+                              StandardCharsets.UTF_8, template);
+    }
+
+    private static Response response(Request request, int status, String body) {
+        return Response.builder()
+            .request(request)
+            .status(status)
+            .headers(Map.of())
+            .body(body, StandardCharsets.UTF_8)
+            .build();
+    }
+
+    @Test
+    void shouldPassThrough_whenNoLedgerIsOpen() throws IOException {
+        Request request = request();
+        when(delegate.execute(request, OPTIONS)).thenReturn(response(request, 200, "{}"));
+
+        assertThat(client.execute(request, OPTIONS).status()).isEqualTo(200);
+
+        verify(delegate).execute(request, OPTIONS);
+    }
+
+    @Test
+    void shouldRecordCall_andBoundReadTimeoutByDeadline() throws IOException {
+        CallLedger ledger = CallLedger.open(Duration.ofSeconds(5));
+        Request request = request();
+        when(delegate.execute(eq(request), any())).thenReturn(response(request, 200, "{\"id\":1}"));
+
+        client.execute(request, OPTIONS);
+
+        ArgumentCaptor<Request.Options> options = ArgumentCaptor.forClass(Request.Options.class);
+        verify(delegate).execute(eq(request), options.capture());
+        assertThat(options.getValue().readTimeoutMillis()).isPositive().isLessThanOrEqualTo(5000);
+        assertThat(options.getValue().connectTimeoutMillis()).isEqualTo(10000);
+        assertThat(ledger.calls()).singleElement().satisfies(call -> {
+            assertThat(call.client()).isEqualTo("core-case-data");
+            assertThat(call.method()).isEqualTo("CoreCaseDataApi#getCase(String,String)");
+            assertThat(call.status()).isEqualTo(200);
+            assertThat(call.bytes()).isEqualTo(8);
+        });
+    }
+
+    @Test
+    void shouldRecordFailedCall() throws IOException {
+        CallLedger ledger = CallLedger.open(Duration.ofSeconds(5));
+        Request request = request();
+        when(delegate.execute(eq(request), any())).thenThrow(new IOException("connection reset"));
+
+        assertThatThrownBy(() -> client.execute(request, OPTIONS)).isInstanceOf(IOException.class);
+
+        assertThat(ledger.calls()).singleElement().extracting(CallLedger.Call::status).isEqualTo(0);
+    }
+
+    @Test
+    void shouldFailWithoutCalling_whenDeadlinePassed() throws IOException {
+        CallLedger.open(Duration.ZERO);
+        Request request = request();
+
+        assertThatThrownBy(() -> client.execute(request, OPTIONS))
+            .isInstanceOf(DownstreamDeadlineExceededException.class)
+            .hasMessageContaining("core-case-data");
+
+        verify(delegate, never()).execute(any(), any());
+    }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.civil.service.calls;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.exceptions.DownstreamDeadlineExceededException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CallLedgerTest {
+
+    @AfterEach
+    void tearDown() {
+        CallLedger.close();
+    }
+
+    @Test
+    void shouldBeAbsent_whenNotOpened() {
+        assertThat(CallLedger.current()).isEmpty();
+    }
+
+    @Test
+    void shouldSummariseCallsPerClient_slowestFirst() {
+        CallLedger ledger = CallLedger.open(Duration.ofMinutes(1));
+        ledger.record("idam", "GET /o/userinfo", 200, Duration.ofMillis(20), 100);
+        ledger.record("core-case-data", "POST /cases", 201, Duration.ofMillis(300), 2048);
+        ledger.record("idam", "GET /o/userinfo", 200, Duration.ofMillis(30), 100);
+
+        assertThat(CallLedger.current()).contains(ledger);
+        assertThat(ledger.calls()).hasSize(3);
+        assertThat(ledger.summary()).endsWith("3 call(s): core-case-data 1x 300ms, idam 2x 50ms");
+    }
+
+    @Test
+    void shouldFailBeforeCalling_whenDeadlinePassed() {
+        CallLedger ledger = CallLedger.open(Duration.ZERO);
+        ledger.record("idam", "GET /o/userinfo", 200, Duration.ofMillis(20), 100);
+
+        assertThatThrownBy(() -> ledger.checkDeadline("core-case-data"))
+            .isInstanceOf(DownstreamDeadlineExceededException.class)
+            .hasMessageContaining("core-case-data")
+            .hasMessageContaining("idam 1x 20ms");
+    }
+
+    @Test
+    void shouldAllowCalls_whileTimeRemains() {
+        CallLedger ledger = CallLedger.open(Duration.ofMinutes(1));
+
+        ledger.checkDeadline("idam");
+
+        assertThat(ledger.remaining()).isPositive();
+    }
+}
@@ -18,6 +18,7 @@ import uk.gov.hmcts.reform.civil.service.GeneralAppLocationRefDataService;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -41,9 +42,13 @@ public class DocmosisServiceTest {
                 LocationRefData.builder().epimmsId("3").venueName("Manchester").build(),
                 LocationRefData.builder().epimmsId("420219").venueName("CNBC").build());
 
+    private static Optional<LocationRefData> findLocation(String epimmsId) {
+        return locationRefData.stream().filter(location -> location.getEpimmsId().equals(epimmsId)).findFirst();
+    }
+
     @Test
     void shouldReturnLocationRefData() {
-        when(generalAppLocationRefDataService.getCourtLocations(any())).thenReturn(locationRefData);
+        when(generalAppLocationRefDataService.getCourtLocation(any())).thenAnswer(invocation -> findLocation(invocation.getArgument(0)));
 
         CaseData caseData = CaseData.builder()
             .caseManagementLocation(GACaseLocation.builder().baseLocation("2").build()).build();
@@ -54,7 +59,7 @@ public class DocmosisServiceTest {
 
     @Test
     void shouldReturnLocationRefData_whenSpecAndCnbc() {
-        when(generalAppLocationRefDataService.getCnbcLocation(any())).thenReturn(locationRefData);
+        when(generalAppLocationRefDataService.getCnbcLocation(any())).thenAnswer(invocation -> findLocation(invocation.getArgument(0)));
 
         CaseData caseData = CaseData.builder()
             .caseAccessCategory(CaseCategory.SPEC_CLAIM)
@@ -66,7 +71,7 @@ public class DocmosisServiceTest {
 
     @Test
     void shouldReturnLocationRefData_whenUspecAndCnbc() {
-        when(generalAppLocationRefDataService.getCnbcLocation(any())).thenReturn(locationRefData);
+        when(generalAppLocationRefDataService.getCnbcLocation(any())).thenAnswer(invocation -> findLocation(invocation.getArgument(0)));
 
         CaseData caseData = CaseData.builder()
             .caseAccessCategory(CaseCategory.UNSPEC_CLAIM)
@@ -78,7 +83,7 @@ public class DocmosisServiceTest {
 
     @Test
     void shouldThrowExceptionWhenNoLocationMatch() {
-        when(generalAppLocationRefDataService.getCourtLocations(any())).thenReturn(locationRefData);
+        when(generalAppLocationRefDataService.getCourtLocation(any())).thenAnswer(invocation -> findLocation(invocation.getArgument(0)));
 
         CaseData caseData = CaseData.builder()
             .caseManagementLocation(GACaseLocation.builder().baseLocation("8").build()).build();
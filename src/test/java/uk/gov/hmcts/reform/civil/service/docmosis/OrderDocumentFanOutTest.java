@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.civil.service.docmosis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.config.OrderDocumentConfiguration;
+import uk.gov.hmcts.reform.civil.exceptions.DownstreamDeadlineExceededException;
+import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.civil.service.calls.CallLedger;
+import uk.gov.hmcts.reform.civil.service.docmosis.OrderDocumentFanOut.OrderDocuments;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderDocumentFanOutTest {
+
+    private final OrderDocumentFanOut fanOut = new OrderDocumentFanOut(new OrderDocumentConfiguration(4, Duration.ofSeconds(5)));
+
+    @AfterEach
+    void tearDown() {
+        fanOut.shutdown();
+        CallLedger.close();
+    }
+
+    private static CaseDocument document(String name) {
+        return CaseDocument.builder().documentName(name).build();
+    }
+
+    @Test
+    void shouldGenerateDocumentsConcurrently() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Supplier<CaseDocument> job = () -> {
+            allStarted.countDown();
+            try {
+                assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return document(Thread.currentThread().getName());
+        };
+
+        OrderDocuments documents = fanOut.generate(job, job, job);
+
+        assertThat(documents.decision().getDocumentName()).isEqualTo(Thread.currentThread().getName());
+        assertThat(documents.postToLipApplicant().getDocumentName()).startsWith("order-documents-");
+        assertThat(documents.postToLipRespondent().getDocumentName()).startsWith("order-documents-");
+    }
+
+    @Test
+    void shouldLeaveCopiesEmpty_whenNotNeeded() {
+        OrderDocuments documents = fanOut.generate(() -> document("decision"), null, null);
+
+        assertThat(documents.decision().getDocumentName()).isEqualTo("decision");
+        assertThat(documents.postToLipApplicant()).isNull();
+        assertThat(documents.postToLipRespondent()).isNull();
+    }
+
+    @Test
+    void shouldRethrowFailure_fromCopy() {
+        assertThatThrownBy(() -> fanOut.generate(
+            () -> document("decision"),
+            () -> {
+                throw new IllegalArgumentException("Court Name is not found in location data");
+            },
+            null
+        )).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Court Name is not found in location data");
+    }
+
+    @Test
+    void shouldCancelCopies_whenCallbackDeadlinePasses() {
+        CallLedger.open(Duration.ofMillis(50));
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch finished = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> fanOut.generate(
+            () -> document("decision"),
+            () -> {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                } finally {
+                    finished.countDown();
+                }
+                return document("copy");
+            },
+            null
+        )).isInstanceOf(DownstreamDeadlineExceededException.class);
+        try {
+            assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test
+    void shouldRecordCopyCalls_onCallbackLedger() {
+        CallLedger ledger = CallLedger.open(Duration.ofSeconds(5));
+
+        fanOut.generate(
+            () -> document("decision"),
+            () -> {
+                CallLedger.current().ifPresent(current -> current.record("docmosis", "render", 200, Duration.ZERO, 0L));
+                return document("copy");
+            },
+            null
+        );
+
+        assertThat(ledger.calls()).extracting(CallLedger.Call::client).containsExactly("docmosis");
+    }
+}
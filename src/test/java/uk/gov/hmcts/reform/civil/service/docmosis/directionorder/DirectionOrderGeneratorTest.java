@@ -84,7 +84,7 @@ class DirectionOrderGeneratorTest {
     @BeforeEach
     public void setUp() {
 
-        when(generalAppLocationRefDataService.getCourtLocations(any())).thenReturn(locationRefData);
+        when(generalAppLocationRefDataService.getCourtLocations()).thenReturn(locationRefData);
     }
 
     @Test
@@ -2,6 +2,8 @@ package uk.gov.hmcts.reform.civil.service.documentmanagement;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,15 +20,20 @@ import uk.gov.hmcts.reform.ccd.document.am.feign.CaseDocumentClientApi;
 import uk.gov.hmcts.reform.ccd.document.am.model.Document;
 import uk.gov.hmcts.reform.ccd.document.am.model.DocumentUploadRequest;
 import uk.gov.hmcts.reform.ccd.document.am.model.UploadResponse;
+import uk.gov.hmcts.reform.civil.client.CaseDocumentBinaryApiClient;
 import uk.gov.hmcts.reform.civil.config.DocumentManagementConfiguration;
+import uk.gov.hmcts.reform.civil.config.DocumentStreamingConfiguration;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
 import uk.gov.hmcts.reform.civil.model.documents.PDF;
 import uk.gov.hmcts.reform.civil.service.UserService;
 import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static java.lang.String.format;
@@ -46,6 +53,8 @@ import static uk.gov.hmcts.reform.civil.utils.ResourceReader.readString;
 
 @SpringBootTest(classes = {
     SecuredDocumentManagementService.class,
+    DocumentSpool.class,
+    DocumentStreamingConfiguration.class,
     JacksonAutoConfiguration.class,
     DocumentManagementConfiguration.class})
 class SecuredDocumentManagementServiceTest {
@@ -58,6 +67,8 @@ class SecuredDocumentManagementServiceTest {
     @MockBean
     private DocumentDownloadClientApi documentDownloadClient;
     @MockBean
+    private CaseDocumentBinaryApiClient caseDocumentBinaryApiClient;
+    @MockBean
     private AuthTokenGenerator authTokenGenerator;
     @MockBean
     private UserService userService;
@@ -242,6 +253,45 @@ class SecuredDocumentManagementServiceTest {
         }
     }
 
+    @Nested
+    class DownloadDocumentContent {
+
+        private Response binaryResponse(int status, byte[] body) {
+            return Response.builder()
+                .status(status)
+                .request(Request.create(Request.HttpMethod.GET, "/cases/documents/binary", Map.of(), null, StandardCharsets.UTF_8, null))
+                .body(body)
+                .build();
+        }
+
+        @Test
+        void shouldStreamDocumentContent() throws IOException {
+            String documentPath = "/documents/85d97996-22a5-40d7-882e-3a382c8ae1b4";
+            UUID documentId = getDocumentIdFromSelfHref(documentPath);
+            when(caseDocumentBinaryApiClient.getDocumentBinary(anyString(), anyString(), eq(documentId)))
+                .thenReturn(binaryResponse(200, "test".getBytes()));
+
+            try (SpooledDocument content = documentManagementService.downloadDocumentContent(BEARER_TOKEN, documentPath)) {
+                assertArrayEquals("test".getBytes(), content.toByteArray());
+            }
+        }
+
+        @Test
+        void shouldThrow_whenBinaryRequestFails() {
+            String documentPath = "/documents/85d97996-22a5-40d7-882e-3a382c8ae1b4";
+            UUID documentId = getDocumentIdFromSelfHref(documentPath);
+            when(caseDocumentBinaryApiClient.getDocumentBinary(anyString(), anyString(), eq(documentId)))
+                .thenReturn(binaryResponse(404, new byte[0]));
+
+            DocumentDownloadException exception = assertThrows(
+                DocumentDownloadException.class,
+                () -> documentManagementService.downloadDocumentContent(BEARER_TOKEN, documentPath)
+            );
+
+            assertEquals(format(MESSAGE_TEMPLATE, documentPath), exception.getMessage());
+        }
+    }
+
     @Nested
     class DocumentMetaData {
         @Test
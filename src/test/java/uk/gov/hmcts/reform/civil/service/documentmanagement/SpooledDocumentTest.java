@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.civil.service.documentmanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpooledDocumentTest {
+
+    private static final byte[] CONTENT = "%PDF-1.7 spooled document content".getBytes();
+
+    @TempDir
+    Path tempDir;
+
+    private long filesInTempDir() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void shouldKeepContentInMemory_whenWithinThreshold() throws IOException {
+        try (SpooledDocument document = SpooledDocument.spool(new ByteArrayInputStream(CONTENT), CONTENT.length, tempDir)) {
+            assertThat(document.isInMemory()).isTrue();
+            assertThat(document.size()).isEqualTo(CONTENT.length);
+            assertThat(document.toByteArray()).containsExactly(CONTENT);
+            assertThat(filesInTempDir()).isZero();
+        }
+    }
+
+    @Test
+    void shouldSpillToFile_whenThresholdIsPassed() throws IOException {
+        try (SpooledDocument document = SpooledDocument.spool(new ByteArrayInputStream(CONTENT), 8, tempDir)) {
+            assertThat(document.isInMemory()).isFalse();
+            assertThat(document.size()).isEqualTo(CONTENT.length);
+            try (InputStream content = document.openStream()) {
+                assertThat(content).hasBinaryContent(CONTENT);
+            }
+            assertThat(filesInTempDir()).isEqualTo(1);
+        }
+        assertThat(filesInTempDir()).isZero();
+    }
+
+    @Test
+    void shouldSpillWrittenContent_whenWrittenByteByByte() throws IOException {
+        try (SpooledDocument.Output output = SpooledDocument.output(8, tempDir)) {
+            for (byte b : CONTENT) {
+                output.write(b);
+            }
+            try (SpooledDocument document = output.toDocument()) {
+                assertThat(document.isInMemory()).isFalse();
+                assertThat(document.toByteArray()).containsExactly(CONTENT);
+            }
+        }
+        assertThat(filesInTempDir()).isZero();
+    }
+
+    @Test
+    void shouldDeleteFile_whenOutputIsClosedWithoutDocument() throws IOException {
+        try (SpooledDocument.Output output = SpooledDocument.output(8, tempDir)) {
+            output.write(CONTENT);
+            assertThat(filesInTempDir()).isEqualTo(1);
+        }
+        assertThat(filesInTempDir()).isZero();
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.civil.service.flowstate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.config.FlowStateCacheConfiguration;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
+import uk.gov.hmcts.reform.civil.stateflow.model.State;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.civil.callback.CaseEvent.INITIATE_GENERAL_APPLICATION;
+import static uk.gov.hmcts.reform.civil.callback.CaseEvent.MAKE_DECISION;
+import static uk.gov.hmcts.reform.civil.service.flowstate.FlowState.Main.DRAFT;
+
+class FlowStateAllowedEventServiceTest {
+
+    private final StateFlowEngine stateFlowEngine = mock(StateFlowEngine.class);
+    private final FlowStateAllowedEventService service = new FlowStateAllowedEventService(
+        stateFlowEngine, mock(CaseDetailsConverter.class), new FlowStateCacheConfiguration(Duration.ofMinutes(5), 100));
+
+    @BeforeEach
+    void setUp() {
+        StateFlow stateFlow = mock(StateFlow.class);
+        when(stateFlow.getState()).thenReturn(State.from(DRAFT.fullName()));
+        when(stateFlow.getFlags()).thenReturn(Map.of("WELSH_ENABLED", false));
+        when(stateFlowEngine.evaluate(any(CaseDetails.class))).thenReturn(stateFlow);
+        when(stateFlowEngine.featureToggles()).thenReturn(List.of(false));
+    }
+
+    private static CaseDetails caseDetails(Long id, Integer version) {
+        return CaseDetails.builder().id(id).version(version).data(Map.of()).build();
+    }
+
+    @Test
+    void shouldEvaluateOnce_whenSameVersionIsCheckedAgain() {
+        assertThat(service.isAllowed(caseDetails(1L, 3), INITIATE_GENERAL_APPLICATION)).isTrue();
+        assertThat(service.isAllowed(caseDetails(1L, 3), MAKE_DECISION)).isFalse();
+
+        verify(stateFlowEngine, times(1)).evaluate(any(CaseDetails.class));
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenVersionChanges() {
+        service.isAllowed(caseDetails(1L, 3), INITIATE_GENERAL_APPLICATION);
+        service.isAllowed(caseDetails(1L, 4), INITIATE_GENERAL_APPLICATION);
+
+        verify(stateFlowEngine, times(2)).evaluate(any(CaseDetails.class));
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenFeatureTogglesChange() {
+        service.isAllowed(caseDetails(1L, 3), INITIATE_GENERAL_APPLICATION);
+        when(stateFlowEngine.featureToggles()).thenReturn(List.of(true));
+        service.isAllowed(caseDetails(1L, 3), INITIATE_GENERAL_APPLICATION);
+
+        verify(stateFlowEngine, times(2)).evaluate(any(CaseDetails.class));
+    }
+
+    @Test
+    void shouldEvaluateEveryTime_whenCaseDetailsAreNotVersioned() {
+        service.isAllowed(caseDetails(1L, null), INITIATE_GENERAL_APPLICATION);
+        service.isAllowed(caseDetails(null, 3), INITIATE_GENERAL_APPLICATION);
+
+        verify(stateFlowEngine, times(2)).evaluate(any(CaseDetails.class));
+    }
+
+    @Test
+    void shouldReturnStateAndFlags() {
+        FlowStateAllowedEventService.FlowStateSnapshot snapshot = service.getFlowStateSnapshot(caseDetails(1L, 3));
+
+        assertThat(snapshot.state()).isEqualTo(DRAFT.fullName());
+        assertThat(snapshot.flags()).containsEntry("WELSH_ENABLED", false);
+    }
+}
@@ -0,0 +1,143 @@
+package uk.gov.hmcts.reform.civil.service.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.config.CaseEventDispatcherConfiguration;
+import uk.gov.hmcts.reform.civil.config.SchedulerPipelineConfiguration;
+import uk.gov.hmcts.reform.civil.service.CaseEventDispatcher;
+import uk.gov.hmcts.reform.civil.service.CaseEventSequence;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.civil.service.Downstream.CCD;
+
+class CaseEventPipelineTest {
+
+    private final CaseEventDispatcher dispatcher = new CaseEventDispatcher(
+        new CaseEventDispatcherConfiguration(2, 1, 2, 1));
+    private final CaseEventPipeline pipeline = new CaseEventPipeline(new SchedulerPipelineConfiguration(60), dispatcher);
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private static List<CaseDetails> page(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+            .mapToObj(id -> CaseDetails.builder().id(id).build())
+            .toList();
+    }
+
+    private static CaseEventSequence event(CaseDetails caseDetails, Runnable call) {
+        return CaseEventSequence.forCase(caseDetails.getId()).step("EVENT", CCD, call);
+    }
+
+    @Test
+    void shouldProcessMatchingCasesFromEveryPage() {
+        Set<Long> processed = ConcurrentHashMap.newKeySet();
+
+        PipelineReport report = pipeline.run(
+            "job", null,
+            pageConsumer -> {
+                pageConsumer.accept(page(1, 5));
+                pageConsumer.accept(page(6, 10));
+            },
+            Function.identity(),
+            caseDetails -> caseDetails.getId() % 2 == 0,
+            caseDetails -> event(caseDetails, () -> processed.add(caseDetails.getId()))
+        );
+
+        assertThat(processed).containsExactlyInAnyOrder(2L, 4L, 6L, 8L, 10L);
+        assertThat(report.fetched()).isEqualTo(10);
+        assertThat(report.matched()).isEqualTo(5);
+        assertThat(report.dispatch().completedCases()).isEqualTo(5);
+        assertThat(report.dispatch().failedCases()).isZero();
+        assertThat(report.stopped()).isFalse();
+        assertThat(report.firstFailure()).isNull();
+    }
+
+    @Test
+    void shouldStartProcessingBeforeLaterPagesAreFetched() {
+        CountDownLatch firstCaseProcessed = new CountDownLatch(1);
+        AtomicInteger processedBeforeSecondPage = new AtomicInteger(-1);
+
+        pipeline.run(
+            "job", null,
+            pageConsumer -> {
+                pageConsumer.accept(page(1, 1));
+                try {
+                    firstCaseProcessed.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                processedBeforeSecondPage.set((int) (1 - firstCaseProcessed.getCount()));
+                pageConsumer.accept(page(2, 2));
+            },
+            Function.identity(),
+            caseDetails -> true,
+            caseDetails -> event(caseDetails, firstCaseProcessed::countDown)
+        );
+
+        assertThat(processedBeforeSecondPage.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportMappingAndEventFailures() {
+        PipelineReport report = pipeline.run(
+            "job", null,
+            pageConsumer -> pageConsumer.accept(page(1, 3)),
+            caseDetails -> {
+                if (caseDetails.getId() == 1L) {
+                    throw new IllegalArgumentException("cannot map");
+                }
+                return caseDetails;
+            },
+            caseDetails -> true,
+            caseDetails -> event(caseDetails, () -> {
+                if (caseDetails.getId() == 2L) {
+                    throw new IllegalStateException("failed");
+                }
+            })
+        );
+
+        assertThat(report.mappingFailures()).isEqualTo(1);
+        assertThat(report.dispatch().failedCaseIds()).containsExactly(2L);
+        assertThat(report.dispatch().completedCases()).isEqualTo(1);
+        assertThat(report.firstFailure()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldStopTakingCases_whenLockIsAboutToExpire() {
+        Set<Long> processed = ConcurrentHashMap.newKeySet();
+        AtomicInteger pagesRequested = new AtomicInteger();
+
+        PipelineReport report = pipeline.run(
+            "job", Date.from(Instant.now().plusSeconds(30)),
+            pageConsumer -> {
+                pagesRequested.incrementAndGet();
+                pageConsumer.accept(page(1, 5));
+                pagesRequested.incrementAndGet();
+                pageConsumer.accept(page(6, 10));
+            },
+            Function.identity(),
+            caseDetails -> true,
+            caseDetails -> event(caseDetails, () -> processed.add(caseDetails.getId()))
+        );
+
+        assertThat(processed).isEmpty();
+        assertThat(pagesRequested.get()).isEqualTo(1);
+        assertThat(report.stopped()).isTrue();
+        assertThat(report.fetched()).isEqualTo(5);
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.civil.service.search;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.MatchQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import uk.gov.hmcts.reform.civil.enums.BusinessProcessStatus;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
@@ -10,6 +11,8 @@ import uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes;
 import uk.gov.hmcts.reform.civil.model.search.Query;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.util.Collections.emptyList;
 import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
@@ -18,9 +21,17 @@ import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.UNLESS_
 
 public class CaseStateSearchServiceTest extends ElasticSearchServiceTest {
 
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
     @BeforeEach
     void setup() {
-        searchService = new CaseStateSearchService(coreCaseDataService);
+        searchService = new CaseStateSearchService(
+            coreCaseDataService, new ConcurrentSearchPageFetcher(coreCaseDataService, PAGE_SIZE, 1, executor));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
     }
 
     @Override
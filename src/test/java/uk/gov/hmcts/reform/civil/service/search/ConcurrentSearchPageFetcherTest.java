@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.civil.service.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
+import uk.gov.hmcts.reform.civil.model.search.Query;
+import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.elasticsearch.index.query.QueryBuilders.matchAllQuery;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrentSearchPageFetcherTest {
+
+    @Mock
+    private CoreCaseDataService coreCaseDataService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Query query(int startIndex) {
+        return new Query(matchAllQuery(), List.of(), startIndex);
+    }
+
+    private static SearchResult page(int total, long... ids) {
+        List<CaseDetails> cases = new ArrayList<>();
+        for (long id : ids) {
+            cases.add(CaseDetails.builder().id(id).build());
+        }
+        return SearchResult.builder().total(total).cases(cases).build();
+    }
+
+    @Test
+    void shouldFetchRemainingPagesAndHandThemOverInOrder() {
+        when(coreCaseDataService.searchGeneralApplication(any())).thenAnswer(invocation -> {
+            String query = invocation.getArgument(0).toString();
+            if (query.contains("\"from\": 0")) {
+                return page(5, 1L, 2L);
+            }
+            return query.contains("\"from\": 2") ? page(5, 3L, 4L) : page(5, 5L);
+        });
+        List<List<CaseDetails>> pages = new ArrayList<>();
+
+        SearchStatistics statistics = new ConcurrentSearchPageFetcher(coreCaseDataService, 2, 3, executor)
+            .fetch(ConcurrentSearchPageFetcherTest::query, pages::add);
+
+        assertThat(pages).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(pages.get(2).get(0).getId()).isEqualTo(5L);
+        assertThat(statistics.pages()).isEqualTo(3);
+        assertThat(statistics.cases()).isEqualTo(5);
+        verify(coreCaseDataService, times(3))
+            .searchGeneralApplication(argThat(query -> query.toString().contains("\"size\": 2")));
+    }
+
+    @Test
+    void shouldFetchFirstPageOnly_whenAllHitsFitInOnePage() {
+        when(coreCaseDataService.searchGeneralApplication(any())).thenReturn(page(1, 1L));
+
+        assertThat(new ConcurrentSearchPageFetcher(coreCaseDataService, 10, 4, executor)
+                       .fetchAll(ConcurrentSearchPageFetcherTest::query))
+            .extracting(CaseDetails::getId).containsExactly(1L);
+        verify(coreCaseDataService).searchGeneralApplication(any());
+    }
+
+    @Test
+    void shouldPropagateFailure_whenLaterPageFails() {
+        when(coreCaseDataService.searchGeneralApplication(any()))
+            .thenReturn(page(3, 1L))
+            .thenThrow(new IllegalStateException("search failed"));
+
+        ConcurrentSearchPageFetcher fetcher = new ConcurrentSearchPageFetcher(coreCaseDataService, 1, 1, executor);
+
+        assertThatThrownBy(() -> fetcher.fetchAll(ConcurrentSearchPageFetcherTest::query))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("search failed");
+    }
+
+    @Test
+    void shouldReuseSharedExecutor_acrossFetches() {
+        when(coreCaseDataService.searchGeneralApplication(any())).thenReturn(page(2, 1L));
+        ConcurrentSearchPageFetcher fetcher = new ConcurrentSearchPageFetcher(coreCaseDataService, 1, 2, executor);
+
+        fetcher.fetchAll(ConcurrentSearchPageFetcherTest::query);
+        fetcher.fetchAll(ConcurrentSearchPageFetcherTest::query);
+
+        assertThat(executor.isShutdown()).isFalse();
+        verify(coreCaseDataService, times(4)).searchGeneralApplication(any());
+    }
+}
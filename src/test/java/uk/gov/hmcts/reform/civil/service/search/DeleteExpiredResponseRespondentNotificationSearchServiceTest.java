@@ -21,7 +21,10 @@ import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,9 +46,17 @@ public class DeleteExpiredResponseRespondentNotificationSearchServiceTest {
 
     protected DeleteExpiredResponseRespondentNotificationSearchService searchService;
 
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
     @BeforeEach
     void setup() {
-        searchService = new DeleteExpiredResponseRespondentNotificationSearchService(coreCaseDataService);
+        searchService = new DeleteExpiredResponseRespondentNotificationSearchService(
+            coreCaseDataService, new ConcurrentSearchPageFetcher(coreCaseDataService, 10, 1, executor));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
     }
 
     @Test
@@ -57,7 +68,7 @@ public class DeleteExpiredResponseRespondentNotificationSearchServiceTest {
         assertThat(searchService.getApplications()).isEmpty();
         verify(coreCaseDataService).searchGeneralApplication(queryCaptor.capture());
         assertThat(queryCaptor.getValue()).usingRecursiveComparison()
-            .isEqualTo(query(0));
+            .isEqualTo(query(0).withSize(10));
     }
 
     private Query query(int startIndex) {
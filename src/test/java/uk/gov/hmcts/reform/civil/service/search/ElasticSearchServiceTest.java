@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.service.search;
 
+import org.elasticsearch.index.query.QueryBuilder;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -14,6 +15,7 @@ import uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes;
 import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
@@ -27,6 +29,8 @@ import static uk.gov.hmcts.reform.civil.enums.dq.GeneralApplicationTypes.STAY_TH
 @ExtendWith(SpringExtension.class)
 abstract class ElasticSearchServiceTest {
 
+    protected static final int PAGE_SIZE = 10;
+
     @Captor
     protected ArgumentCaptor<Query> queryCaptor;
 
@@ -45,7 +49,23 @@ abstract class ElasticSearchServiceTest {
 
         verify(coreCaseDataService).searchGeneralApplication(queryCaptor.capture());
         assertThat(queryCaptor.getValue()).usingRecursiveComparison()
-            .isEqualTo(buildQuery(0, CaseState.AWAITING_WRITTEN_REPRESENTATIONS));
+            .isEqualTo(buildQuery(0, CaseState.AWAITING_WRITTEN_REPRESENTATIONS).withSize(PAGE_SIZE));
+    }
+
+    @Test
+    void shouldFilterAndReturnOnlyRequestedFields_WhenGiven() {
+        SearchResult searchResult = buildSearchResultWithTotalCases(1);
+        List<String> fields = Query.dataFields("generalAppNotificationDeadlineDate");
+        QueryBuilder deadline = DeadlineQueries.at(LocalDateTime.now()).responseDeadlinePassed();
+
+        when(coreCaseDataService.searchGeneralApplication(any())).thenReturn(searchResult);
+
+        searchService.getGeneralApplications(CaseState.AWAITING_RESPONDENT_RESPONSE, deadline, fields);
+
+        verify(coreCaseDataService).searchGeneralApplication(queryCaptor.capture());
+        assertThat(queryCaptor.getValue()).usingRecursiveComparison()
+            .isEqualTo(buildQuery(0, CaseState.AWAITING_RESPONDENT_RESPONSE)
+                           .filteredBy(deadline).returning(fields).withSize(PAGE_SIZE));
     }
 
     @Test
@@ -57,7 +77,7 @@ abstract class ElasticSearchServiceTest {
         assertThat(searchService.getOrderMadeGeneralApplications(CaseState.ORDER_MADE, STAY_THE_CLAIM)).isEmpty();
         verify(coreCaseDataService).searchGeneralApplication(queryCaptor.capture());
         assertThat(queryCaptor.getValue()).usingRecursiveComparison()
-            .isEqualTo(queryForOrderMade(0, CaseState.ORDER_MADE, STAY_THE_CLAIM));
+            .isEqualTo(queryForOrderMade(0, CaseState.ORDER_MADE, STAY_THE_CLAIM).withSize(PAGE_SIZE));
     }
 
     @Test
@@ -69,7 +89,7 @@ abstract class ElasticSearchServiceTest {
         assertThat(searchService.getGeneralApplications(CaseState.AWAITING_RESPONDENT_RESPONSE)).hasSize(1);
         verify(coreCaseDataService).searchGeneralApplication(queryCaptor.capture());
         assertThat(queryCaptor.getValue()).usingRecursiveComparison()
-            .isEqualTo(buildQuery(0, CaseState.AWAITING_RESPONDENT_RESPONSE));
+            .isEqualTo(buildQuery(0, CaseState.AWAITING_RESPONDENT_RESPONSE).withSize(PAGE_SIZE));
     }
 
     @Test
@@ -83,9 +103,9 @@ abstract class ElasticSearchServiceTest {
 
         List<Query> capturedQueries = queryCaptor.getAllValues();
         assertThat(capturedQueries.get(0)).usingRecursiveComparison()
-            .isEqualTo(queryForOrderMade(0, CaseState.ORDER_MADE, STAY_THE_CLAIM));
+            .isEqualTo(queryForOrderMade(0, CaseState.ORDER_MADE, STAY_THE_CLAIM).withSize(PAGE_SIZE));
         assertThat(capturedQueries.get(1)).usingRecursiveComparison()
-            .isEqualTo(queryForOrderMade(10, CaseState.ORDER_MADE, STAY_THE_CLAIM));
+            .isEqualTo(queryForOrderMade(10, CaseState.ORDER_MADE, STAY_THE_CLAIM).withSize(PAGE_SIZE));
     }
 
     @Test
@@ -97,7 +117,7 @@ abstract class ElasticSearchServiceTest {
         assertThat(searchService.getGeneralApplicationsWithBusinessProcess(BusinessProcessStatus.STARTED)).isEmpty();
         verify(coreCaseDataService).searchGeneralApplication(queryCaptor.capture());
         assertThat(queryCaptor.getValue()).usingRecursiveComparison()
-            .isEqualTo(queryForBusinessProcessStatus(0, BusinessProcessStatus.STARTED));
+            .isEqualTo(queryForBusinessProcessStatus(0, BusinessProcessStatus.STARTED).withSize(PAGE_SIZE));
     }
 
     @Test
@@ -112,9 +132,9 @@ abstract class ElasticSearchServiceTest {
 
         List<Query> capturedQueries = queryCaptor.getAllValues();
         assertThat(capturedQueries.get(0)).usingRecursiveComparison()
-            .isEqualTo(queryForBusinessProcessStatus(0, BusinessProcessStatus.STARTED));
+            .isEqualTo(queryForBusinessProcessStatus(0, BusinessProcessStatus.STARTED).withSize(PAGE_SIZE));
         assertThat(capturedQueries.get(1)).usingRecursiveComparison()
-            .isEqualTo(queryForBusinessProcessStatus(10, BusinessProcessStatus.STARTED));
+            .isEqualTo(queryForBusinessProcessStatus(10, BusinessProcessStatus.STARTED).withSize(PAGE_SIZE));
     }
 
     protected SearchResult buildSearchResultWithTotalCases(int i) {
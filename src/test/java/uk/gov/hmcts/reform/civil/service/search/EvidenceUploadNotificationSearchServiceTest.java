@@ -14,7 +14,10 @@ import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,9 +37,17 @@ public class EvidenceUploadNotificationSearchServiceTest {
 
     protected EvidenceUploadNotificationSearchService searchService;
 
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
     @BeforeEach
     void setup() {
-        searchService = new EvidenceUploadNotificationSearchService(coreCaseDataService);
+        searchService = new EvidenceUploadNotificationSearchService(
+            coreCaseDataService, new ConcurrentSearchPageFetcher(coreCaseDataService, 10, 1, executor));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
     }
 
     @Test
@@ -48,7 +59,7 @@ public class EvidenceUploadNotificationSearchServiceTest {
         assertThat(searchService.getApplications()).isEmpty();
         verify(coreCaseDataService).searchGeneralApplication(queryCaptor.capture());
         assertThat(queryCaptor.getValue()).usingRecursiveComparison()
-                .isEqualTo(query(0));
+                .isEqualTo(query(0).withSize(10));
     }
 
     private Query query(int startIndex) {
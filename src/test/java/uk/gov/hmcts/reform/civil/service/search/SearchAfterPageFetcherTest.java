@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.civil.service.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
+import uk.gov.hmcts.reform.civil.model.search.Query;
+import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.elasticsearch.index.query.QueryBuilders.matchAllQuery;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchAfterPageFetcherTest {
+
+    @Mock
+    private CoreCaseDataService coreCaseDataService;
+
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+
+    private static SearchResult page(Long... ids) {
+        return SearchResult.builder()
+            .total(5)
+            .cases(Arrays.stream(ids).map(id -> CaseDetails.builder().id(id).build()).toList())
+            .build();
+    }
+
+    @Test
+    void shouldPageAfterLastReference_untilPageIsNotFull() {
+        when(coreCaseDataService.searchGeneralApplication(any()))
+            .thenReturn(page(1L, 2L), page(3L, 4L), page(5L));
+
+        SearchStatistics statistics = new SearchAfterPageFetcher(coreCaseDataService, 2)
+            .fetch(startIndex -> new Query(matchAllQuery(), List.of(), startIndex), cases -> { });
+
+        verify(coreCaseDataService, times(3)).searchGeneralApplication(queryCaptor.capture());
+        List<Query> queries = queryCaptor.getAllValues();
+        assertThat(queries.get(0).toString()).contains("\"sort\"").doesNotContain("search_after");
+        assertThat(queries.get(1).toString()).contains("\"search_after\": [\"2\"]");
+        assertThat(queries.get(2).toString()).contains("\"search_after\": [\"4\"]");
+        assertThat(statistics.pages()).isEqualTo(3);
+        assertThat(statistics.cases()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,168 @@
+package uk.gov.hmcts.reform.civil.service.tasklisteners;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskHandler;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.config.ExternalTaskWorkerConfiguration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ExternalTaskWorkerPoolTest {
+
+    private static final String HEAVY = "GAJudgeRevisitProcessor";
+    private static final String LIGHT = "createApplicationEventGASpec";
+
+    private final ExternalTaskWorkerConfiguration configuration = new ExternalTaskWorkerConfiguration(
+        "worker", 4, 4, 2, HEAVY + "=1", 2, Duration.ofMinutes(33), Duration.ofMinutes(10), Duration.ofSeconds(1));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExternalTaskService externalTaskService = mock(ExternalTaskService.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExternalTaskWorkerPool pool = new ExternalTaskWorkerPool(
+        configuration, meterRegistry, Executors.newFixedThreadPool(4), mock(ScheduledExecutorService.class));
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.shutdown();
+    }
+
+    private ExternalTaskHandler blockingHandler() {
+        return (externalTask, service) -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private static void eventually(Runnable assertion) {
+        long giveUpAt = System.currentTimeMillis() + 5000;
+        while (true) {
+            try {
+                assertion.run();
+                return;
+            } catch (AssertionError e) {
+                if (System.currentTimeMillis() > giveUpAt) {
+                    throw e;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private double gauge(String name, String topic) {
+        return meterRegistry.get(name).tag("topic", topic).gauge().value();
+    }
+
+    @Test
+    void shouldRunHeavyTopicWithinItsLimit_withoutHoldingUpOtherTopics() throws InterruptedException {
+        ExternalTaskHandler heavy = pool.forTopic(HEAVY, blockingHandler());
+        CountDownLatch lightDone = new CountDownLatch(1);
+        ExternalTaskHandler light = pool.forTopic(LIGHT, (externalTask, service) -> lightDone.countDown());
+
+        heavy.execute(mock(ExternalTask.class), externalTaskService);
+        heavy.execute(mock(ExternalTask.class), externalTaskService);
+        light.execute(mock(ExternalTask.class), externalTaskService);
+
+        assertThat(lightDone.await(5, TimeUnit.SECONDS)).isTrue();
+        eventually(() -> assertThat(gauge(ExternalTaskWorkerPool.RUNNING_METRIC, HEAVY)).isEqualTo(1));
+        assertThat(gauge(ExternalTaskWorkerPool.QUEUE_DEPTH_METRIC, HEAVY)).isEqualTo(1);
+
+        release.countDown();
+        eventually(() -> assertThat(
+            meterRegistry.get(ExternalTaskWorkerPool.HANDLER_METRIC).tag("topic", HEAVY).timer().count()).isEqualTo(2));
+        assertThat(gauge(ExternalTaskWorkerPool.RUNNING_METRIC, HEAVY)).isZero();
+        assertThat(gauge(ExternalTaskWorkerPool.QUEUE_DEPTH_METRIC, HEAVY)).isZero();
+    }
+
+    @Test
+    void shouldCountTasksWaitingForAWorkerThread_asQueuedNotRunning() {
+        ExternalTaskWorkerPool singleWorker = new ExternalTaskWorkerPool(
+            configuration, meterRegistry, Executors.newFixedThreadPool(1), mock(ScheduledExecutorService.class));
+        try {
+            ExternalTaskHandler light = singleWorker.forTopic(LIGHT, blockingHandler());
+
+            light.execute(mock(ExternalTask.class), externalTaskService);
+            light.execute(mock(ExternalTask.class), externalTaskService);
+
+            eventually(() -> assertThat(gauge(ExternalTaskWorkerPool.RUNNING_METRIC, LIGHT)).isEqualTo(1));
+            assertThat(gauge(ExternalTaskWorkerPool.QUEUE_DEPTH_METRIC, LIGHT)).isEqualTo(1);
+        } finally {
+            singleWorker.shutdown();
+        }
+    }
+
+    @Test
+    void shouldUnlockTasksBeyondTopicCapacity_andBackOffOnce() {
+        ExternalTaskHandler heavy = pool.forTopic(HEAVY, blockingHandler());
+        ExternalTask turnedAway = mock(ExternalTask.class);
+
+        for (int i = 0; i < 3; i++) {
+            heavy.execute(mock(ExternalTask.class), externalTaskService);
+        }
+        pool.reconfigure(List.of());
+        assertThat(pool.calculateBackoffTime()).isZero();
+
+        heavy.execute(turnedAway, externalTaskService);
+
+        verify(externalTaskService).unlock(turnedAway);
+        assertThat(meterRegistry.get(ExternalTaskWorkerPool.REJECTED_METRIC).tag("topic", HEAVY).counter().count())
+            .isEqualTo(1);
+        pool.reconfigure(List.of());
+        assertThat(pool.calculateBackoffTime()).isEqualTo(1000L);
+        pool.reconfigure(List.of());
+        assertThat(pool.calculateBackoffTime()).isZero();
+    }
+
+    @Test
+    void shouldExtendLocksOfHeldTasks_untilTheyFinish() {
+        ExternalTask running = mock(ExternalTask.class);
+        ExternalTask waiting = mock(ExternalTask.class);
+        ExternalTaskHandler heavy = pool.forTopic(HEAVY, blockingHandler());
+        heavy.execute(running, externalTaskService);
+        heavy.execute(waiting, externalTaskService);
+
+        pool.extendLocks();
+
+        verify(externalTaskService).extendLock(running, Duration.ofMinutes(33).toMillis());
+        verify(externalTaskService).extendLock(waiting, Duration.ofMinutes(33).toMillis());
+
+        release.countDown();
+        eventually(() -> assertThat(
+            meterRegistry.get(ExternalTaskWorkerPool.HANDLER_METRIC).tag("topic", HEAVY).timer().count()).isEqualTo(2));
+        clearInvocations(externalTaskService);
+        pool.extendLocks();
+        verify(externalTaskService, never()).extendLock(any(), anyLong());
+    }
+
+    @Test
+    void shouldKeepWorking_whenHandlerThrows() {
+        ExternalTaskHandler failing = pool.forTopic(HEAVY, (externalTask, service) -> {
+            throw new IllegalStateException("boom");
+        });
+
+        failing.execute(mock(ExternalTask.class), externalTaskService);
+        failing.execute(mock(ExternalTask.class), externalTaskService);
+
+        eventually(() -> assertThat(
+            meterRegistry.get(ExternalTaskWorkerPool.HANDLER_METRIC).tag("topic", HEAVY).timer().count()).isEqualTo(2));
+        assertThat(gauge(ExternalTaskWorkerPool.RUNNING_METRIC, HEAVY)).isZero();
+    }
+}
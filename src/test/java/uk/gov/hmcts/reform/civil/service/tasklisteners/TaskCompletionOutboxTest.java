@@ -0,0 +1,200 @@
+package uk.gov.hmcts.reform.civil.service.tasklisteners;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.reform.civil.config.TaskCompletionOutboxConfiguration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskCompletionOutboxTest {
+
+    @TempDir
+    Path journal;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExternalTaskService externalTaskService = mock(ExternalTaskService.class);
+    private final List<TaskCompletionOutbox> outboxes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        outboxes.forEach(TaskCompletionOutbox::shutdown);
+    }
+
+    private TaskCompletionOutbox outbox(int capacity, int maxAttempts, ExecutorService deliveries) {
+        TaskCompletionOutboxConfiguration configuration = new TaskCompletionOutboxConfiguration(
+            capacity, journal.toString(), maxAttempts, Duration.ofMillis(1), 2, Duration.ofMillis(10));
+        TaskCompletionOutbox outbox = new TaskCompletionOutbox(configuration, meterRegistry, deliveries,
+                                                               Executors.newSingleThreadScheduledExecutor());
+        outboxes.add(outbox);
+        return outbox;
+    }
+
+    private TaskCompletionOutbox outbox(int capacity, int maxAttempts) {
+        return outbox(capacity, maxAttempts, Executors.newFixedThreadPool(2));
+    }
+
+    private static ExternalTask task(String id) {
+        ExternalTask externalTask = mock(ExternalTask.class);
+        when(externalTask.getId()).thenReturn(id);
+        when(externalTask.getTopicName()).thenReturn("topic");
+        return externalTask;
+    }
+
+    private long journalEntries() throws IOException {
+        try (Stream<Path> files = Files.list(journal)) {
+            return files.filter(file -> file.toString().endsWith(".completion")).count();
+        }
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private static void eventually(Runnable assertion) {
+        long giveUpAt = System.currentTimeMillis() + 5000;
+        while (true) {
+            try {
+                assertion.run();
+                return;
+            } catch (AssertionError e) {
+                if (System.currentTimeMillis() > giveUpAt) {
+                    throw e;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Test
+    void shouldCompleteTaskById_andClearJournal() throws IOException {
+        TaskCompletionOutbox outbox = outbox(10, 3);
+
+        outbox.complete(task("task-1"), externalTaskService, Map.of("flowState", "MAIN.DRAFT"));
+
+        verify(externalTaskService, timeout(5000)).complete("task-1", Map.of("flowState", "MAIN.DRAFT"), null);
+        eventually(() -> assertThat(counter(TaskCompletionOutbox.DELIVERED_METRIC)).isEqualTo(1));
+        assertThat(meterRegistry.get(TaskCompletionOutbox.PENDING_METRIC).gauge().value()).isZero();
+        assertThat(journalEntries()).isZero();
+    }
+
+    @Test
+    void shouldRetryDelivery_untilCamundaAccepts() {
+        doThrow(new RuntimeException("engine down"))
+            .doThrow(new RuntimeException("engine down"))
+            .doNothing()
+            .when(externalTaskService).handleBpmnError("task-1", "ABORT", null, null);
+        TaskCompletionOutbox outbox = outbox(10, 5);
+
+        outbox.handleBpmnError(task("task-1"), externalTaskService, "ABORT");
+
+        verify(externalTaskService, timeout(5000).times(3)).handleBpmnError("task-1", "ABORT", null, null);
+        eventually(() -> assertThat(counter(TaskCompletionOutbox.DELIVERED_METRIC)).isEqualTo(1));
+        assertThat(counter(TaskCompletionOutbox.RETRIED_METRIC)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepDelivering_whileOneDeliveryIsSlow() {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+            .when(externalTaskService).handleBpmnError("task-1", "ABORT", null, null);
+        TaskCompletionOutbox outbox = outbox(10, 3);
+
+        outbox.handleBpmnError(task("task-1"), externalTaskService, "ABORT");
+        outbox.handleBpmnError(task("task-2"), externalTaskService, "ABORT");
+
+        verify(externalTaskService, timeout(5000)).handleBpmnError("task-2", "ABORT", null, null);
+        release.countDown();
+        eventually(() -> assertThat(counter(TaskCompletionOutbox.DELIVERED_METRIC)).isEqualTo(2));
+    }
+
+    @Test
+    void shouldFailTaskWithoutRetries_whenCompletionKeepsFailing() {
+        doThrow(new RuntimeException("engine down"))
+            .when(externalTaskService).complete(eq("task-1"), any(), isNull());
+        TaskCompletionOutbox outbox = outbox(10, 2);
+
+        outbox.complete(task("task-1"), externalTaskService, null);
+
+        verify(externalTaskService, timeout(5000))
+            .handleFailure(eq("task-1"), anyString(), isNull(), eq(0), eq(1000L));
+        verify(externalTaskService, times(2)).complete(eq("task-1"), any(), isNull());
+        eventually(() -> assertThat(counter(TaskCompletionOutbox.ABANDONED_METRIC)).isEqualTo(1));
+    }
+
+    @Test
+    void shouldDeliverJournaledOutcomes_afterRestart() throws IOException {
+        outbox(10, 3, mock(ExecutorService.class))
+            .handleFailure(task("task-1"), externalTaskService, "boom", "details", 2, 300L);
+        assertThat(journalEntries()).isEqualTo(1);
+
+        TaskCompletionOutbox restarted = outbox(10, 3);
+        restarted.handleBpmnError(task("task-2"), externalTaskService, "ABORT");
+
+        verify(externalTaskService, timeout(5000)).handleFailure("task-1", "boom", "details", 2, 300L);
+        verify(externalTaskService, timeout(5000)).handleBpmnError("task-2", "ABORT", null, null);
+        eventually(() -> assertThat(journalEntriesUnchecked()).isZero());
+    }
+
+    @Test
+    void shouldDeliverWithoutJournal_whenNoDirectoryIsSet() {
+        TaskCompletionOutbox outbox = new TaskCompletionOutbox(
+            new TaskCompletionOutboxConfiguration(10, "", 3, Duration.ofMillis(1), 2, Duration.ofMillis(10)),
+            meterRegistry, Executors.newFixedThreadPool(2), Executors.newSingleThreadScheduledExecutor());
+        outboxes.add(outbox);
+
+        outbox.handleBpmnError(task("task-1"), externalTaskService, "ABORT");
+
+        verify(externalTaskService, timeout(5000)).handleBpmnError("task-1", "ABORT", null, null);
+        eventually(() -> assertThat(counter(TaskCompletionOutbox.DELIVERED_METRIC)).isEqualTo(1));
+    }
+
+    @Test
+    void shouldDeliverOnCallingThread_whenFull() {
+        doNothing().when(externalTaskService).handleBpmnError("task-2", "ABORT", null, null);
+        TaskCompletionOutbox outbox = outbox(1, 3, mock(ExecutorService.class));
+
+        outbox.handleBpmnError(task("task-1"), externalTaskService, "ABORT");
+        outbox.handleBpmnError(task("task-2"), externalTaskService, "ABORT");
+
+        verify(externalTaskService).handleBpmnError("task-2", "ABORT", null, null);
+        verify(externalTaskService, times(0)).handleBpmnError("task-1", "ABORT", null, null);
+        assertThat(meterRegistry.get(TaskCompletionOutbox.PENDING_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    private long journalEntriesUnchecked() {
+        try {
+            return journalEntries();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
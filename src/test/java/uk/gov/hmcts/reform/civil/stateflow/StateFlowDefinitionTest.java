@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.civil.stateflow;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.civil.stateflow.grammar.Build;
+import uk.gov.hmcts.reform.civil.stateflow.model.State;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StateFlowDefinitionTest {
+
+    enum FlowState {
+        STATE_1,
+        STATE_2,
+        STATE_3
+    }
+
+    private void assertSameAsStateMachine(Build flow, CaseData caseData) {
+        StateFlow expected = flow.build().evaluate(caseData);
+        StateFlow actual = flow.compile().evaluate(caseData);
+
+        assertThat(actual.getStateHistory()).isEqualTo(expected.getStateHistory());
+        assertThat(actual.getFlags()).isEqualTo(expected.getFlags());
+        if (expected.asStateMachine().hasStateMachineError()) {
+            assertThrows(StateFlowException.class, actual::getState);
+        } else {
+            assertThat(actual.getState()).isEqualTo(expected.getState());
+        }
+    }
+
+    @Test
+    void shouldEvaluateStateHistoryAndFlags() {
+        CaseData caseData = CaseData.builder().build();
+        Build flow = StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2)
+                .onlyIf(c -> true)
+                .set(flags -> flags.put("FIRST_FLAG", true))
+            .state(FlowState.STATE_2)
+                .transitionTo(FlowState.STATE_3)
+                .onlyIf(c -> false)
+                .set(flags -> flags.put("SECOND_FLAG", true))
+            .state(FlowState.STATE_3);
+
+        StateFlow stateFlow = flow.compile().evaluate(caseData);
+
+        assertThat(stateFlow.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_2");
+        assertThat(stateFlow.getStateHistory())
+            .extracting(State::getName)
+            .containsExactly("FLOW.STATE_1", "FLOW.STATE_2");
+        assertThat(stateFlow.getFlags()).containsExactly(entry("FIRST_FLAG", true));
+        assertThat(stateFlow.asStateMachine()).isNull();
+        assertSameAsStateMachine(flow, caseData);
+    }
+
+    @Test
+    void shouldEvaluateDynamicFlags() {
+        CaseData caseData = CaseData.builder().legacyCaseReference("ref").build();
+        Build flow = StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2)
+                .set((c, flags) -> flags.put("HAS_REFERENCE", c.getLegacyCaseReference() != null))
+            .state(FlowState.STATE_2);
+
+        assertThat(flow.compile().evaluate(caseData).getFlags()).containsExactly(entry("HAS_REFERENCE", true));
+        assertSameAsStateMachine(flow, caseData);
+    }
+
+    @Test
+    void shouldBeInErrorState_whenAmbiguousTransitions() {
+        CaseData caseData = CaseData.builder().build();
+        Build flow = StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+            .transitionTo(FlowState.STATE_2)
+            .transitionTo(FlowState.STATE_3)
+            .state(FlowState.STATE_2)
+            .state(FlowState.STATE_3);
+
+        StateFlow stateFlow = flow.compile().evaluate(caseData);
+
+        assertThrows(StateFlowException.class, stateFlow::getState);
+        assertThat(stateFlow.getStateHistory())
+            .extracting(State::getName)
+            .containsExactly("FLOW.STATE_1", "FLOW.STATE_3");
+        assertSameAsStateMachine(flow, caseData);
+    }
+
+    @Test
+    void shouldBeReusableAcrossEvaluations() {
+        StateFlowDefinition definition = StateFlowBuilder.<FlowState>flow("FLOW")
+            .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2)
+                .onlyIf(c -> c.getLegacyCaseReference() != null)
+            .state(FlowState.STATE_2)
+            .compile();
+
+        assertThat(definition.evaluate(CaseData.builder().legacyCaseReference("ref").build()).getState())
+            .extracting(State::getName).isEqualTo("FLOW.STATE_2");
+        assertThat(definition.evaluate(CaseData.builder().build()).getState())
+            .extracting(State::getName).isEqualTo("FLOW.STATE_1");
+    }
+}
@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.civil.stateflow;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -24,6 +26,8 @@ import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
 import uk.gov.hmcts.reform.civil.stateflow.model.State;
 
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.civil.enums.YesOrNo.NO;
@@ -619,4 +623,53 @@ public class StateFlowEngineTest {
             .containsExactly(DRAFT.fullName(), APPLICATION_SUBMITTED.fullName(),
                              PROCEED_GENERAL_APPLICATION.fullName());
     }
+
+    static Stream<CaseData> differentialCases() {
+        return Stream.of(
+            CaseData.builder().build(),
+            CaseDataBuilder.builder().withNoticeDraftAppCaseData(),
+            CaseDataBuilder.builder().buildPaymentFailureCaseData(),
+            CaseDataBuilder.builder().withNoticeCaseData(),
+            CaseDataBuilder.builder().withoutNoticeCaseData(),
+            CaseDataBuilder.builder().buildPaymentSuccessfulCaseData(),
+            CaseDataBuilder.builder().buildPaymentSuccessfulCaseData().toBuilder()
+                .judicialDecision(GAJudicialDecision.builder().decision(REQUEST_MORE_INFO).build())
+                .judicialDecisionRequestMoreInfo(GAJudicialRequestMoreInfo.builder().requestMoreInfoOption(
+                    GAJudgeRequestMoreInfoOption.REQUEST_MORE_INFORMATION).build())
+                .isGaApplicantLip(YES)
+                .isGaRespondentOneLip(YES)
+                .respondentBilingualLanguagePreference(YES)
+                .build(),
+            CaseDataBuilder.builder().buildPaymentSuccessfulCaseData().toBuilder()
+                .judicialDecision(GAJudicialDecision.builder().decision(LIST_FOR_A_HEARING).build())
+                .judicialListForHearing(GAJudgesHearingListGAspec.builder().build())
+                .build(),
+            CaseDataBuilder.builder().generalOrderApplication()
+                .generalAppPBADetails(GAPbaDetails.builder()
+                                          .paymentDetails(PaymentDetails.builder()
+                                                              .status(PaymentStatus.SUCCESS).build()).build())
+                .generalAppInformOtherParty(GAInformOtherParty.builder().isWithNotice(YES).build())
+                .parentClaimantIsApplicant(NO)
+                .build(),
+            CaseDataBuilder.builder().buildPaymentSuccessfulCaseData().toBuilder()
+                .judicialDecision(GAJudicialDecision.builder().decision(MAKE_AN_ORDER).build())
+                .judicialDecisionMakeOrder(GAJudicialMakeAnOrder.builder()
+                                               .makeAnOrder(GAJudgeMakeAnOrderOption.GIVE_DIRECTIONS_WITHOUT_HEARING)
+                                               .build())
+                .build()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("differentialCases")
+    void shouldEvaluateSameAsStateMachine_whenUsingPrecompiledDefinition(CaseData caseData) {
+        when(featureToggleService.isGaForWelshEnabled()).thenReturn(true);
+
+        StateFlow expected = stateFlowEngine.build().evaluate(caseData);
+        StateFlow actual = stateFlowEngine.evaluate(caseData);
+
+        assertThat(actual.getState()).isEqualTo(expected.getState());
+        assertThat(actual.getStateHistory()).isEqualTo(expected.getStateHistory());
+        assertThat(actual.getFlags()).isEqualTo(expected.getFlags());
+    }
 }
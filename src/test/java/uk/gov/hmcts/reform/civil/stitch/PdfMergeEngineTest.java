@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.civil.stitch;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.civil.config.PdfMergeConfiguration;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PdfMergeEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PdfMergeEngine engine() {
+        return new PdfMergeEngine(new PdfMergeConfiguration(DataSize.ofKilobytes(1), tempDir.resolve("merge").toString()));
+    }
+
+    @Test
+    void shouldMergeSpooledDocumentsAppendedOneAtATime_intoFile() throws Exception {
+        byte[] test1Pdf = loadResource("stitch-documents/test1.pdf");
+        byte[] test2Pdf = loadResource("stitch-documents/test2.pdf");
+        byte[] expectedMergedPdf = loadResource("stitch-documents/merged.pdf");
+        Path mergedFile = tempDir.resolve("merged.pdf");
+
+        try (
+            SpooledDocument test1 = SpooledDocument.spool(new ByteArrayInputStream(test1Pdf), 1024, tempDir);
+            SpooledDocument test2 = SpooledDocument.of(test2Pdf);
+            PdfMerge merge = engine().start("test_service")
+        ) {
+            assertThat(test1.isInMemory()).isFalse();
+            merge.append(test1).append(test2);
+            merge.writeTo(mergedFile);
+            assertThat(merge.documents()).isEqualTo(2);
+        }
+
+        byte[] actualMergedPdf = Files.readAllBytes(mergedFile);
+        try (
+            InputStream actualPdfPage1 = getPdfPageContents(actualMergedPdf, 0);
+            InputStream actualPdfPage2 = getPdfPageContents(actualMergedPdf, 1);
+
+            InputStream expectedPdfPage1 = getPdfPageContents(expectedMergedPdf, 0);
+            InputStream expectedPdfPage2 = getPdfPageContents(expectedMergedPdf, 1)
+        ) {
+            assertThat(actualPdfPage1).hasSameContentAs(expectedPdfPage1);
+            assertThat(actualPdfPage2).hasSameContentAs(expectedPdfPage2);
+        }
+    }
+
+    @Test
+    void shouldWriteSingleDocumentAsItIs_toStream() {
+        byte[] document = "not merged".getBytes();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (PdfMerge merge = engine().start("civil_service")) {
+            merge.append(SpooledDocument.of(document));
+            merge.writeTo(output);
+        }
+
+        assertThat(output.toByteArray()).containsExactly(document);
+    }
+
+    @Test
+    void shouldThrowPdfMergeException_whenDocumentIsNotPdf() {
+        try (PdfMerge merge = engine().start("civil_service")) {
+            merge.append(SpooledDocument.of("test1".getBytes()));
+
+            assertThatThrownBy(() -> merge.append(SpooledDocument.of("test2".getBytes())))
+                .isInstanceOf(PdfMergeException.class);
+        }
+    }
+
+    private byte[] loadResource(final String filePath) throws Exception {
+        URL url = ResourceLoader.class.getClassLoader().getResource(filePath);
+
+        if (url == null) {
+            throw new IllegalArgumentException(String.format("Could not find resource in path %s", filePath));
+        }
+
+        return Files.readAllBytes(Paths.get(url.toURI()));
+    }
+
+    private InputStream getPdfPageContents(byte[] pdf, int pageNumber) throws IOException {
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            return document.getPage(pageNumber).getContents();
+        }
+    }
+}
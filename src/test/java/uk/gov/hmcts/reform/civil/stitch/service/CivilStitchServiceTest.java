@@ -2,31 +2,41 @@ package uk.gov.hmcts.reform.civil.stitch.service;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
 import uk.gov.hmcts.reform.civil.model.documents.Document;
 import uk.gov.hmcts.reform.civil.model.documents.DocumentMetaData;
 import uk.gov.hmcts.reform.civil.model.documents.PDF;
-import uk.gov.hmcts.reform.civil.service.DocumentConversionService;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentManagementService;
-import uk.gov.hmcts.reform.civil.stitch.PdfMerger;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentSpool;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
+import uk.gov.hmcts.reform.civil.stitch.PdfMerge;
+import uk.gov.hmcts.reform.civil.stitch.PdfMergeEngine;
 import uk.gov.hmcts.reform.civil.model.documents.DocumentType;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.civil.model.documents.DocumentType.GENERAL_ORDER;
 
@@ -41,17 +51,31 @@ class CivilStitchServiceTest {
     @Mock
     private DocumentManagementService managementService;
     @Mock
-    private DocumentConversionService conversionService;
+    private StitchInputFetcher stitchInputFetcher;
+    @Mock
+    private DocumentSpool documentSpool;
+    @Mock
+    private PdfMergeEngine pdfMergeEngine;
+    @Mock
+    private PdfMerge pdfMerge;
 
-    MockedStatic<PdfMerger> pdfMergerMockedStatic;
+    @TempDir
+    Path tempDir;
 
     @Test
-    void shouldReturnStitchedDocuments() {
+    void shouldReturnStitchedDocuments() throws IOException {
         byte[] docArray = {3, 5, 2, 4, 1};
-        when(conversionService.convertDocumentToPdf(any(Document.class), anyLong(), anyString())).thenReturn(docArray);
+        when(stitchInputFetcher.fetch(documents, 1L, BEARER_TOKEN)).thenReturn(List.of(
+            new StitchInputFetcher.FetchedInput(0, spooledToFile(docArray), 1, Duration.ofMillis(5)),
+            new StitchInputFetcher.FetchedInput(1, spooledToFile(docArray), 1, Duration.ofMillis(5))
+        ));
         when(managementService.uploadDocument(anyString(), any(PDF.class))).thenReturn(STITCHED_DOC);
-        pdfMergerMockedStatic = Mockito.mockStatic(PdfMerger.class);
-        pdfMergerMockedStatic.when(() -> PdfMerger.mergeDocuments(anyList(), anyString())).thenReturn(docArray);
+        when(documentSpool.output()).thenReturn(SpooledDocument.output(1024, tempDir));
+        when(pdfMergeEngine.start("1")).thenReturn(pdfMerge);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write(docArray);
+            return null;
+        }).when(pdfMerge).writeTo(any(OutputStream.class));
 
         CaseDocument caseDocument = civilStitchService.generateStitchedCaseDocument(documents,
                                                                                     "stitched-order-000-DC-123.pdf",
@@ -59,7 +83,18 @@ class CivilStitchServiceTest {
                                                                                     DocumentType.GENERAL_ORDER,
                                                                                     BEARER_TOKEN);
         assertThat(caseDocument).isEqualTo(STITCHED_DOC);
-        pdfMergerMockedStatic.close();
+        ArgumentCaptor<PDF> uploaded = ArgumentCaptor.forClass(PDF.class);
+        verify(managementService).uploadDocument(anyString(), uploaded.capture());
+        assertThat(uploaded.getValue().getBytes()).containsExactly(docArray);
+        verify(pdfMerge, times(2)).append(any(SpooledDocument.class));
+        verify(pdfMerge).close();
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private SpooledDocument spooledToFile(byte[] content) throws IOException {
+        return SpooledDocument.spool(new ByteArrayInputStream(content), 0, tempDir);
     }
 
     private final List<DocumentMetaData> documents = Arrays.asList(
@@ -0,0 +1,165 @@
+package uk.gov.hmcts.reform.civil.stitch.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.ResourceAccessException;
+import uk.gov.hmcts.reform.civil.config.StitchingConfiguration;
+import uk.gov.hmcts.reform.civil.exceptions.DocumentConversionException;
+import uk.gov.hmcts.reform.civil.exceptions.DownstreamDeadlineExceededException;
+import uk.gov.hmcts.reform.civil.model.documents.Document;
+import uk.gov.hmcts.reform.civil.model.documents.DocumentMetaData;
+import uk.gov.hmcts.reform.civil.service.DocumentConversionService;
+import uk.gov.hmcts.reform.civil.service.calls.CallLedger;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
+import uk.gov.hmcts.reform.civil.stitch.service.StitchInputFetcher.FetchedInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StitchInputFetcherTest {
+
+    private static final String AUTH = "auth";
+    private static final Long CASE_ID = 1L;
+
+    @TempDir
+    Path tempDir;
+
+    private final DocumentConversionService conversionService = mock(DocumentConversionService.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StitchInputFetcher fetcher = new StitchInputFetcher(
+        conversionService, new StitchingConfiguration("stitchingUrl", 4, 3, Duration.ofSeconds(5)), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        fetcher.shutdown();
+        CallLedger.close();
+    }
+
+    private static List<DocumentMetaData> documents(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new DocumentMetaData(
+                Document.builder().documentUrl("url-" + i).documentFileName("file-" + i + ".pdf").build(),
+                "Document " + i,
+                LocalDate.now().toString()
+            ))
+            .toList();
+    }
+
+    private static String text(FetchedInput input) {
+        try {
+            return new String(input.content().toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void shouldFetchInputsConcurrently_andKeepTheirOrder() {
+        List<DocumentMetaData> documents = documents(3);
+        CountDownLatch allStarted = new CountDownLatch(3);
+        when(conversionService.convertDocumentToSpooledPdf(any(Document.class), eq(CASE_ID), eq(AUTH))).thenAnswer(invocation -> {
+            allStarted.countDown();
+            assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return SpooledDocument.of(invocation.getArgument(0, Document.class).getDocumentUrl().getBytes());
+        });
+
+        List<FetchedInput> inputs = fetcher.fetch(documents, CASE_ID, AUTH);
+
+        assertThat(inputs).extracting(StitchInputFetcherTest::text).containsExactly("url-0", "url-1", "url-2");
+        assertThat(inputs).extracting(FetchedInput::position).containsExactly(0, 1, 2);
+        assertThat(meterRegistry.get(StitchInputFetcher.INPUT_METRIC).tag("outcome", "success").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRetryInput_whenFetchFailsOnce() {
+        List<DocumentMetaData> documents = documents(2);
+        when(conversionService.convertDocumentToSpooledPdf(documents.get(1).getDocument(), CASE_ID, AUTH))
+            .thenThrow(new ResourceAccessException("Connection reset"))
+            .thenReturn(SpooledDocument.of("converted".getBytes()));
+        when(conversionService.convertDocumentToSpooledPdf(documents.get(0).getDocument(), CASE_ID, AUTH)).thenReturn(SpooledDocument.of("pdf".getBytes()));
+
+        List<FetchedInput> inputs = fetcher.fetch(documents, CASE_ID, AUTH);
+
+        assertThat(inputs).extracting(FetchedInput::attempts).containsExactly(1, 2);
+        assertThat(text(inputs.get(1))).isEqualTo("converted");
+    }
+
+    @Test
+    void shouldNotRetryInput_whenDocmosisRejectsIt() {
+        List<DocumentMetaData> documents = documents(1);
+        when(conversionService.convertDocumentToSpooledPdf(documents.get(0).getDocument(), CASE_ID, AUTH))
+            .thenThrow(new DocumentConversionException("Error converting document to pdf for caseId 1", null));
+
+        assertThatThrownBy(() -> fetcher.fetch(documents, CASE_ID, AUTH))
+            .isInstanceOf(DocumentConversionException.class);
+        verify(conversionService, times(1)).convertDocumentToSpooledPdf(documents.get(0).getDocument(), CASE_ID, AUTH);
+        assertThat(meterRegistry.get(StitchInputFetcher.INPUT_METRIC).tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCancelInputs_whenCallbackDeadlinePasses() throws InterruptedException {
+        List<DocumentMetaData> documents = documents(2);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch finished = new CountDownLatch(1);
+        when(conversionService.convertDocumentToSpooledPdf(documents.get(0).getDocument(), CASE_ID, AUTH)).thenReturn(SpooledDocument.of("pdf".getBytes()));
+        when(conversionService.convertDocumentToSpooledPdf(documents.get(1).getDocument(), CASE_ID, AUTH)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            } finally {
+                finished.countDown();
+            }
+            return SpooledDocument.of("converted".getBytes());
+        });
+        CallLedger.open(Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> fetcher.fetch(documents, CASE_ID, AUTH))
+            .isInstanceOf(DownstreamDeadlineExceededException.class);
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test
+    void shouldDeleteSpooledInputs_whenAnotherInputFails() throws IOException {
+        List<DocumentMetaData> documents = documents(2);
+        when(conversionService.convertDocumentToSpooledPdf(documents.get(0).getDocument(), CASE_ID, AUTH))
+            .thenReturn(SpooledDocument.spool(new ByteArrayInputStream("pdf".getBytes()), 0, tempDir));
+        when(conversionService.convertDocumentToSpooledPdf(documents.get(1).getDocument(), CASE_ID, AUTH))
+            .thenThrow(new DocumentConversionException("Error converting document to pdf for caseId 1", null));
+
+        assertThatThrownBy(() -> fetcher.fetch(documents, CASE_ID, AUTH))
+            .isInstanceOf(DocumentConversionException.class);
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldReturnNothing_whenThereAreNoDocuments() {
+        assertThat(fetcher.fetch(List.of(), CASE_ID, AUTH)).isEmpty();
+    }
+}